@@ -0,0 +1,80 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.asic.cades.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticData;
+import eu.europa.esig.dss.diagnostic.SignatureWrapper;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import eu.europa.esig.dss.validation.reports.Reports;
+
+public class ASiCEParallelSignatureValidationTest {
+
+	@Test
+	public void test() {
+		DSSDocument document = new FileDocument("src/test/resources/validation/twoSignaturesOneTimeOneSigner.asice");
+
+		DiagnosticData sequential = validate(document, null);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		DiagnosticData parallel = null;
+		try {
+			parallel = validate(document, executorService);
+		} finally {
+			executorService.shutdown();
+		}
+
+		List<String> signatureIdList = sequential.getSignatureIdList();
+		assertEquals(2, signatureIdList.size());
+		assertEquals(signatureIdList, parallel.getSignatureIdList());
+
+		for (String signatureId : signatureIdList) {
+			SignatureWrapper expected = sequential.getSignatureById(signatureId);
+			SignatureWrapper actual = parallel.getSignatureById(signatureId);
+			assertNotNull(actual);
+			assertEquals(expected.isSignatureIntact(), actual.isSignatureIntact());
+			assertEquals(expected.isSignatureValid(), actual.isSignatureValid());
+			assertEquals(expected.isBLevelTechnicallyValid(), actual.isBLevelTechnicallyValid());
+			assertEquals(expected.isSigningCertificateIdentified(), actual.isSigningCertificateIdentified());
+		}
+	}
+
+	private DiagnosticData validate(DSSDocument document, ExecutorService executorService) {
+		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(document);
+		validator.setCertificateVerifier(new CommonCertificateVerifier());
+		validator.setExecutorService(executorService);
+		Reports reports = validator.validateDocument();
+		assertNotNull(reports);
+		return reports.getDiagnosticData();
+	}
+
+}
@@ -20,13 +20,15 @@
  */
 package eu.europa.esig.dss.asic.common;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.validation.ManifestFile;
 
-public class ASiCExtractResult {
+public class ASiCExtractResult implements Closeable {
 
 	private String zipComment;
 	private DSSDocument mimeTypeDocument;
@@ -38,6 +40,7 @@ public class ASiCExtractResult {
 	private List<DSSDocument> signedDocuments = new ArrayList<DSSDocument>();
 	private List<DSSDocument> unsupportedDocuments = new ArrayList<DSSDocument>();
 	private List<DSSDocument> containerDocuments = new ArrayList<DSSDocument>(); // for ASiC signatures
+	private Closeable containerResource; // the opened container for a streaming extraction
 
 	public String getZipComment() {
 		return zipComment;
@@ -138,4 +141,27 @@ public class ASiCExtractResult {
 		return timestampedDocuments;
 	}
 
+	/**
+	 * Sets the resource to be released once the extracted documents are not used
+	 * anymore (the opened container for a streaming extraction)
+	 * 
+	 * @param containerResource
+	 *                          the {@link Closeable} resource
+	 */
+	public void setContainerResource(Closeable containerResource) {
+		this.containerResource = containerResource;
+	}
+
+	/**
+	 * Releases the opened container of a streaming extraction : the
+	 * {@link ZipEntryDocument}s cannot be read anymore. Does nothing for an in
+	 * memory extraction.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (containerResource != null) {
+			containerResource.close();
+		}
+	}
+
 }
@@ -51,12 +51,12 @@ public final class ASiCUtils {
     /**
      * Minimum file size to be analized on zip bombing
      */
-	private static final long ZIP_ENTRY_THRESHOLD = 1000000; // 1 MB
+	static final long ZIP_ENTRY_THRESHOLD = 1000000; // 1 MB
 	
     /**
      * Maximum compression ratio.
      */
-	private static final long ZIP_ENTRY_RATIO = 50;
+	static final long ZIP_ENTRY_RATIO = 50;
 	
     /**
 	 * Max iteration over the zip entries
@@ -20,10 +20,21 @@
  */
 package eu.europa.esig.dss.asic.common;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 import org.slf4j.Logger;
@@ -31,6 +42,7 @@ import org.slf4j.LoggerFactory;
 
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 
@@ -46,46 +58,70 @@ public abstract class AbstractASiCContainerExtractor {
 	 */
 	private static final int MAXIMAL_ALLOWED_FILE_AMOUNT = 1024;
 
+	/**
+	 * Discards the entries read to check the local file headers
+	 */
+	private static final OutputStream NULL_OUTPUT_STREAM = new OutputStream() {
+
+		@Override
+		public void write(int b) {
+			// discarded
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			// discarded
+		}
+
+	};
+
 	private final DSSDocument asicContainer;
 
+	private boolean streamingExtraction = false;
+
 	protected AbstractASiCContainerExtractor(DSSDocument asicContainer) {
 		this.asicContainer = asicContainer;
 	}
 
+	/**
+	 * Defines if the entries have to be read from the central directory of the
+	 * container stored on disk instead of being extracted in memory (default :
+	 * false). When enabled, the entries are returned as {@link ZipEntryDocument}s
+	 * which inflate their content on each access, so the heap usage does not depend
+	 * on the container size. The container stays opened until the
+	 * {@link ASiCExtractResult} is closed. A container which is not a
+	 * {@link FileDocument} is first copied into a temporary file (deleted once the
+	 * container is opened).
+	 * 
+	 * The entries are checked against the local file headers : a container with
+	 * duplicate entry names or with a central directory which does not match the
+	 * local file headers is rejected.
+	 * 
+	 * @param streamingExtraction
+	 *                            true if the entries have to be read lazily from
+	 *                            the disk
+	 */
+	public void setStreamingExtraction(boolean streamingExtraction) {
+		this.streamingExtraction = streamingExtraction;
+	}
+
 	public ASiCExtractResult extract() {
+		if (streamingExtraction) {
+			return extractFromZipFile();
+		}
+
 		ASiCExtractResult result = new ASiCExtractResult();
 		
 		long containerSize = DSSUtils.getFileByteSize(asicContainer);
 		List<String> fileNames = ASiCUtils.getFileNames(asicContainer);
-		if (Utils.isCollectionEmpty(fileNames)) {
-			throw new DSSException("The provided file does not contain documents inside. Probably file has an unsupported format or has been corrupted. "
-					+ "The signature validation is not possible");
-		} else if (fileNames.size() > MAXIMAL_ALLOWED_FILE_AMOUNT) {
-			throw new DSSException("Too many files detected. Cannot extract ASiC content");
-		}
+		checkFileAmount(fileNames.size());
 
 		try (InputStream is = asicContainer.openStream(); ZipInputStream asicInputStream = new ZipInputStream(is)) {	
 			ZipEntry entry;
 			while ((entry = ASiCUtils.getNextValidEntry(asicInputStream)) != null) {
 				String entryName = entry.getName();
-				if (isMetaInfFolder(entryName)) {
-					if (isAllowedSignature(entryName)) {
-						result.getSignatureDocuments().add(ASiCUtils.getCurrentDocument(entryName, asicInputStream, containerSize));
-					} else if (isAllowedManifest(entryName)) {
-						result.getManifestDocuments().add(ASiCUtils.getCurrentDocument(entryName, asicInputStream, containerSize));
-					} else if (isAllowedArchiveManifest(entryName)) {
-						result.getArchiveManifestDocuments().add(ASiCUtils.getCurrentDocument(entryName, asicInputStream, containerSize));
-					} else if (isAllowedTimestamp(entryName)) {
-						result.getTimestampDocuments().add(ASiCUtils.getCurrentDocument(entryName, asicInputStream, containerSize));
-					} else if (!isFolder(entryName)) {
-						result.getUnsupportedDocuments().add(ASiCUtils.getCurrentDocument(entryName, asicInputStream, containerSize));
-					}
-				} else if (!isFolder(entryName)) {
-					if (isMimetype(entryName)) {
-						result.setMimeTypeDocument(ASiCUtils.getCurrentDocument(entryName, asicInputStream, containerSize));
-					} else {
-						result.getSignedDocuments().add(ASiCUtils.getCurrentDocument(entryName, asicInputStream, containerSize));
-					}
+				if (!isFolder(entryName)) {
+					addEntry(result, ASiCUtils.getCurrentDocument(entryName, asicInputStream, containerSize));
 				}
 			}
 
@@ -102,6 +138,192 @@ public abstract class AbstractASiCContainerExtractor {
 		return result;
 	}
 
+	private ASiCExtractResult extractFromZipFile() {
+		ASiCExtractResult result = new ASiCExtractResult();
+
+		final boolean temporaryFile = !(asicContainer instanceof FileDocument);
+		final File file = getContainerFile();
+		long containerSize = file.length();
+		ZipFile zipFile = null;
+		boolean success = false;
+		try {
+			zipFile = new ZipFile(file);
+			checkFileAmount(zipFile.size());
+
+			Map<String, ZipEntry> entries = getCentralDirectoryEntries(zipFile);
+			checkLocalHeaders(file, entries, containerSize);
+
+			for (ZipEntry entry : entries.values()) {
+				if (!isFolder(entry.getName())) {
+					addEntry(result, new ZipEntryDocument(zipFile, entry, containerSize));
+				}
+			}
+
+			if (Utils.isCollectionNotEmpty(result.getUnsupportedDocuments())) {
+				LOG.warn("Unsupported files : {}", result.getUnsupportedDocuments());
+			}
+
+			result.setZipComment(zipFile.getComment());
+			result.setContainerResource(new StreamingContainerResource(zipFile, temporaryFile ? file : null));
+			success = true;
+			return result;
+
+		} catch (IOException e) {
+			throw new DSSException("Unable to parse the container", e);
+		} finally {
+			if (!success) {
+				closeQuietly(zipFile);
+				if (temporaryFile) {
+					deleteTemporaryFile(file, true);
+				}
+			} else if (temporaryFile) {
+				// the opened ZipFile keeps reading the deleted file (POSIX), else
+				// the copy is deleted when the container is closed
+				deleteTemporaryFile(file, false);
+			}
+		}
+	}
+
+	/**
+	 * Returns the entries of the central directory, a duplicate name is rejected
+	 * (only one of them would be reachable by its name)
+	 */
+	private Map<String, ZipEntry> getCentralDirectoryEntries(ZipFile zipFile) {
+		Map<String, ZipEntry> entries = new LinkedHashMap<String, ZipEntry>();
+		Enumeration<? extends ZipEntry> enumeration = zipFile.entries();
+		while (enumeration.hasMoreElements()) {
+			ZipEntry entry = enumeration.nextElement();
+			if (entries.put(entry.getName(), entry) != null) {
+				throw new DSSException(String.format("The container contains several entries with the name [%s]", entry.getName()));
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Checks that the local file headers describe the same entries with the same
+	 * content as the central directory : the in memory extraction (based on the
+	 * local file headers) and the streaming one cannot return different documents
+	 */
+	private void checkLocalHeaders(File file, Map<String, ZipEntry> centralEntries, long containerSize) throws IOException {
+		Set<String> localNames = new HashSet<String>();
+		try (InputStream is = new FileInputStream(file); ZipInputStream zis = new ZipInputStream(is)) {
+			ZipEntry localEntry;
+			while ((localEntry = ASiCUtils.getNextValidEntry(zis)) != null) {
+				String entryName = localEntry.getName();
+				ZipEntry centralEntry = centralEntries.get(entryName);
+				if (!localNames.add(entryName) || centralEntry == null) {
+					throw new DSSException(String.format("The local file header of the entry [%s] does not match the central directory", entryName));
+				}
+				// the size and the CRC are known and checked once the entry is read
+				ASiCUtils.secureCopy(zis, NULL_OUTPUT_STREAM, containerSize);
+				if (localEntry.getCrc() != centralEntry.getCrc() || localEntry.getSize() != centralEntry.getSize()) {
+					throw new DSSException(String.format("The content of the entry [%s] does not match the central directory", entryName));
+				}
+			}
+		}
+		if (localNames.size() != centralEntries.size()) {
+			throw new DSSException("The local file headers do not match the central directory");
+		}
+	}
+
+	private File getContainerFile() {
+		if (asicContainer instanceof FileDocument) {
+			return new File(asicContainer.getAbsolutePath());
+		}
+		File tempFile = null;
+		try {
+			tempFile = File.createTempFile("dss-asic-", ".zip");
+			asicContainer.save(tempFile.getAbsolutePath());
+			return tempFile;
+		} catch (IOException e) {
+			if (tempFile != null) {
+				deleteTemporaryFile(tempFile, true);
+			}
+			throw new DSSException("Unable to copy the container into a temporary file", e);
+		}
+	}
+
+	private static void deleteTemporaryFile(File file, boolean deleteOnExit) {
+		try {
+			Files.deleteIfExists(file.toPath());
+		} catch (IOException e) {
+			// an opened file cannot be deleted on some platforms
+			LOG.debug("Unable to delete the temporary file '{}' : {}", file.getAbsolutePath(), e.getMessage());
+			if (deleteOnExit) {
+				file.deleteOnExit();
+			}
+		}
+	}
+
+	private static void closeQuietly(ZipFile zipFile) {
+		if (zipFile != null) {
+			try {
+				zipFile.close();
+			} catch (IOException e) {
+				LOG.warn("Unable to close the container : {}", e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * The opened container of a streaming extraction with its temporary copy (if
+	 * any), both are released when the extracted documents are not used anymore
+	 */
+	private static class StreamingContainerResource implements Closeable {
+
+		private final ZipFile zipFile;
+
+		private final File temporaryFile;
+
+		StreamingContainerResource(ZipFile zipFile, File temporaryFile) {
+			this.zipFile = zipFile;
+			this.temporaryFile = temporaryFile;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				zipFile.close();
+			} finally {
+				if (temporaryFile != null) {
+					deleteTemporaryFile(temporaryFile, true);
+				}
+			}
+		}
+
+	}
+
+	private void checkFileAmount(int fileAmount) {
+		if (fileAmount == 0) {
+			throw new DSSException("The provided file does not contain documents inside. Probably file has an unsupported format or has been corrupted. "
+					+ "The signature validation is not possible");
+		} else if (fileAmount > MAXIMAL_ALLOWED_FILE_AMOUNT) {
+			throw new DSSException("Too many files detected. Cannot extract ASiC content");
+		}
+	}
+
+	private void addEntry(ASiCExtractResult result, DSSDocument document) {
+		String entryName = document.getName();
+		if (isMetaInfFolder(entryName)) {
+			if (isAllowedSignature(entryName)) {
+				result.getSignatureDocuments().add(document);
+			} else if (isAllowedManifest(entryName)) {
+				result.getManifestDocuments().add(document);
+			} else if (isAllowedArchiveManifest(entryName)) {
+				result.getArchiveManifestDocuments().add(document);
+			} else if (isAllowedTimestamp(entryName)) {
+				result.getTimestampDocuments().add(document);
+			} else {
+				result.getUnsupportedDocuments().add(document);
+			}
+		} else if (isMimetype(entryName)) {
+			result.setMimeTypeDocument(document);
+		} else {
+			result.getSignedDocuments().add(document);
+		}
+	}
+
 	public String getZipComment() {
 		try (InputStream is = asicContainer.openStream()) {
 			byte[] buffer = Utils.toByteArray(is);
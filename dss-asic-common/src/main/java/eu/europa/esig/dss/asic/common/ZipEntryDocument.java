@@ -0,0 +1,138 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.asic.common;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import eu.europa.esig.dss.model.CommonDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.MimeType;
+
+/**
+ * This class represents an entry of a ZIP container stored on disk. The
+ * content is never kept in memory : every call to {@link #openStream()}
+ * inflates the entry on the fly from the shared {@code ZipFile} (the entry is
+ * located thanks to the central directory). The {@code ZipFile} stays open
+ * until the related {@link ASiCExtractResult} is closed.
+ * 
+ * The returned streams are protected against "ZipBombing" with the same rules
+ * as {@link ASiCUtils#secureCopy(InputStream, java.io.OutputStream, long)}.
+ */
+public class ZipEntryDocument extends CommonDocument {
+
+	private final transient ZipFile zipFile;
+
+	private final transient ZipEntry zipEntry;
+
+	private final long containerSize;
+
+	/**
+	 * The default constructor
+	 * 
+	 * @param zipFile
+	 *                      the opened ZIP container (shared between the entries)
+	 * @param zipEntry
+	 *                      the entry inside the container
+	 * @param containerSize
+	 *                      the byte size of the container (used for the
+	 *                      ZipBombing detection)
+	 */
+	public ZipEntryDocument(final ZipFile zipFile, final ZipEntry zipEntry, final long containerSize) {
+		this.zipFile = zipFile;
+		this.zipEntry = zipEntry;
+		this.containerSize = containerSize;
+		this.name = zipEntry.getName();
+		this.mimeType = MimeType.fromFileName(name);
+	}
+
+	@Override
+	public InputStream openStream() {
+		try {
+			return new ZipEntryInputStream(zipFile.getInputStream(zipEntry), containerSize);
+		} catch (IOException | IllegalStateException e) {
+			throw new DSSException(String.format("Unable to read the entry [%s]", name), e);
+		}
+	}
+
+	/**
+	 * Returns the name of the entry inside the container
+	 * 
+	 * @return the entry name
+	 */
+	public String getEntryName() {
+		return name;
+	}
+
+	/**
+	 * Counts the inflated bytes
+	 */
+	private static final class ZipEntryInputStream extends FilterInputStream {
+
+		private final long allowedSize;
+
+		private long byteCounter;
+
+		private ZipEntryInputStream(InputStream in, long containerSize) {
+			super(in);
+			this.allowedSize = containerSize * ASiCUtils.ZIP_ENTRY_RATIO;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				count(1);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int nRead = super.read(b, off, len);
+			if (nRead > 0) {
+				count(nRead);
+			}
+			return nRead;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			if (skipped > 0) {
+				count(skipped);
+			}
+			return skipped;
+		}
+
+		private void count(long nRead) {
+			byteCounter += nRead;
+			if (byteCounter > ASiCUtils.ZIP_ENTRY_THRESHOLD && byteCounter > allowedSize) {
+				throw new DSSException("Zip Bomb detected in the ZIP container. Validation is interrupted.");
+			}
+		}
+
+	}
+
+}
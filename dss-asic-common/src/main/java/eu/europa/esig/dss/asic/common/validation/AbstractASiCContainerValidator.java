@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.asic.common.validation;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
@@ -45,7 +46,14 @@ import eu.europa.esig.dss.validation.SignedDocumentValidator;
 import eu.europa.esig.dss.validation.ValidationContext;
 import eu.europa.esig.dss.validation.timestamp.TimestampToken;
 
-public abstract class AbstractASiCContainerValidator extends SignedDocumentValidator {
+/**
+ * The validator of the ASiC containers. A validator created with a streaming
+ * extraction keeps the container opened (and its temporary copy for a document
+ * which is not a {@link eu.europa.esig.dss.model.FileDocument}) as long as the
+ * extracted documents are read : it must be closed once the validation and the
+ * reading of the original documents are done.
+ */
+public abstract class AbstractASiCContainerValidator extends SignedDocumentValidator implements Closeable {
 
 	protected List<DocumentValidator> validators;
 
@@ -53,21 +61,39 @@ public abstract class AbstractASiCContainerValidator extends SignedDocumentValid
 
 	private ASiCContainerType containerType;
 
+	private final boolean streamingExtraction;
+
 	/**
 	 * Default constructor used with reflexion (see SignedDocumentValidator)
 	 */
 	private AbstractASiCContainerValidator() {
-		super(null);
-		this.document = null;
+		this(null, false);
 	}
 
 	protected AbstractASiCContainerValidator(final DSSDocument document) {
+		this(document, false);
+	}
+
+	/**
+	 * The constructor allowing to choose the way to read the container entries
+	 * 
+	 * @param document
+	 *                            the ASiC container to validate
+	 * @param streamingExtraction
+	 *                            true if the entries have to be read lazily from
+	 *                            the disk instead of being extracted in memory
+	 * @see AbstractASiCContainerExtractor#setStreamingExtraction(boolean)
+	 * @see #close()
+	 */
+	protected AbstractASiCContainerValidator(final DSSDocument document, final boolean streamingExtraction) {
 		super(null);
 		this.document = document;
+		this.streamingExtraction = streamingExtraction;
 	}
 
 	protected void analyseEntries() {
 		AbstractASiCContainerExtractor extractor = getArchiveExtractor();
+		extractor.setStreamingExtraction(streamingExtraction);
 		extractResult = extractor.extract();
 		containerType = ASiCUtils.getContainerType(document, extractResult.getMimeTypeDocument(), extractResult.getZipComment(),
 				extractResult.getSignedDocuments());
@@ -80,6 +106,18 @@ public abstract class AbstractASiCContainerValidator extends SignedDocumentValid
 
 	protected abstract AbstractASiCContainerExtractor getArchiveExtractor();
 
+	/**
+	 * Releases the container opened by a streaming extraction and deletes its
+	 * temporary copy (if any) : the extracted documents cannot be read anymore.
+	 * Does nothing for an in memory extraction.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (extractResult != null) {
+			extractResult.close();
+		}
+	}
+
 	public ASiCContainerType getContainerType() {
 		return containerType;
 	}
@@ -52,6 +52,23 @@ public class ASiCContainerWithXAdESValidator extends AbstractASiCContainerValida
 		analyseEntries();
 	}
 
+	/**
+	 * Creates a validator which reads the container entries lazily from the disk
+	 * when {@code streamingExtraction} is true, the heap usage does not depend on
+	 * the size of the signed data objects
+	 * 
+	 * @param asicContainer
+	 *                            the ASiC container to validate
+	 * @param streamingExtraction
+	 *                            true if the entries must not be extracted in
+	 *                            memory
+	 * @see #close()
+	 */
+	public ASiCContainerWithXAdESValidator(final DSSDocument asicContainer, final boolean streamingExtraction) {
+		super(asicContainer, streamingExtraction);
+		analyseEntries();
+	}
+
 	@Override
 	public boolean isSupported(DSSDocument dssDocument) {
 		return ASiCUtils.isASiCContainer(dssDocument) && ASiCUtils.isArchiveContainsCorrectSignatureFileWithExtension(dssDocument, ".xml");
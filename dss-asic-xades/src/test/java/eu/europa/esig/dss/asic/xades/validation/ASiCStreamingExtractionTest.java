@@ -0,0 +1,219 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.asic.xades.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Test;
+
+import eu.europa.esig.dss.asic.common.ASiCExtractResult;
+import eu.europa.esig.dss.asic.common.ZipEntryDocument;
+import eu.europa.esig.dss.asic.xades.ASiCWithXAdESContainerExtractor;
+import eu.europa.esig.dss.diagnostic.DiagnosticData;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.validation.reports.Reports;
+
+public class ASiCStreamingExtractionTest {
+
+	@Test
+	public void sameResultAsInMemoryExtraction() throws IOException {
+		DSSDocument asicContainer = new FileDocument("src/test/resources/validation/multifiles-ok.asice");
+
+		ASiCExtractResult inMemory = new ASiCWithXAdESContainerExtractor(asicContainer).extract();
+
+		ASiCWithXAdESContainerExtractor extractor = new ASiCWithXAdESContainerExtractor(asicContainer);
+		extractor.setStreamingExtraction(true);
+		try (ASiCExtractResult streamed = extractor.extract()) {
+			compare(inMemory.getSignedDocuments(), streamed.getSignedDocuments());
+			compare(inMemory.getSignatureDocuments(), streamed.getSignatureDocuments());
+			compare(inMemory.getManifestDocuments(), streamed.getManifestDocuments());
+			compare(inMemory.getUnsupportedDocuments(), streamed.getUnsupportedDocuments());
+			assertEquals(inMemory.getMimeTypeDocument().getDigest(DigestAlgorithm.SHA256),
+					streamed.getMimeTypeDocument().getDigest(DigestAlgorithm.SHA256));
+		}
+	}
+
+	@Test
+	public void notAFileDocument() throws IOException {
+		DSSDocument asicContainer = new InMemoryDocument(DSSUtils.toByteArray(new FileDocument("src/test/resources/validation/test-zip-comment.asice")));
+
+		ASiCWithXAdESContainerExtractor extractor = new ASiCWithXAdESContainerExtractor(asicContainer);
+		extractor.setStreamingExtraction(true);
+		Set<String> tempFiles = getTemporaryContainers();
+		DSSDocument signatureDocument;
+		try (ASiCExtractResult result = extractor.extract()) {
+			// the temporary copy is deleted once opened
+			assertEquals(tempFiles, getTemporaryContainers());
+
+			assertEquals(new ASiCWithXAdESContainerExtractor(asicContainer).getZipComment(), result.getZipComment());
+			assertEquals(1, result.getSignatureDocuments().size());
+			signatureDocument = result.getSignatureDocuments().get(0);
+			assertTrue(signatureDocument instanceof ZipEntryDocument);
+			assertNotNull(signatureDocument.getDigest(DigestAlgorithm.SHA256));
+		}
+		assertEquals(tempFiles, getTemporaryContainers());
+
+		try {
+			signatureDocument.openStream();
+			fail("The container is closed");
+		} catch (DSSException e) {
+			assertTrue(e.getMessage().contains(signatureDocument.getName()));
+		}
+	}
+
+	@Test
+	public void duplicateEntryNames() throws IOException {
+		byte[] zip = createZip("first", "second");
+		replaceAll(zip, "b.txt", "a.txt");
+		assertRejected(zip, "several entries");
+	}
+
+	@Test
+	public void centralDirectoryNameMismatch() throws IOException {
+		byte[] zip = createZip("first", "second");
+		replaceLast(zip, "b.txt", "c.txt");
+		assertRejected(zip, "does not match the central directory");
+	}
+
+	@Test
+	public void centralDirectoryContentMismatch() throws IOException {
+		byte[] zip = createZip("first", "second");
+		// the central directory entries point to the content of each other
+		int centralA = lastIndexOf(zip, "a.txt");
+		int centralB = lastIndexOf(zip, "b.txt");
+		write(zip, centralA, "b.txt");
+		write(zip, centralB, "a.txt");
+		assertRejected(zip, "The content of the entry");
+
+		// the in memory extraction reads the local headers
+		ASiCExtractResult inMemory = new ASiCWithXAdESContainerExtractor(new InMemoryDocument(zip)).extract();
+		assertEquals(2, inMemory.getSignedDocuments().size());
+	}
+
+	@Test
+	public void validation() throws IOException {
+		DSSDocument asicContainer = new InMemoryDocument(DSSUtils.toByteArray(new FileDocument("src/test/resources/validation/test-zip-comment.asice")));
+
+		Set<String> tempFiles = getTemporaryContainers();
+		Reports reports;
+		try (ASiCContainerWithXAdESValidator validator = new ASiCContainerWithXAdESValidator(asicContainer, true)) {
+			validator.setCertificateVerifier(new CommonCertificateVerifier());
+			reports = validator.validateDocument();
+		}
+		assertNotNull(reports);
+		assertEquals(tempFiles, getTemporaryContainers());
+
+		DiagnosticData diagnosticData = reports.getDiagnosticData();
+		assertEquals(1, diagnosticData.getSignatureIdList().size());
+		assertTrue(diagnosticData.getZipComment().startsWith("LIB DigiDoc4j/DEV"));
+		assertTrue(diagnosticData.getSignatureById(diagnosticData.getFirstSignatureId()).isSignatureIntact());
+	}
+
+	private void assertRejected(byte[] zip, String message) {
+		ASiCWithXAdESContainerExtractor extractor = new ASiCWithXAdESContainerExtractor(new InMemoryDocument(zip));
+		extractor.setStreamingExtraction(true);
+		try {
+			extractor.extract();
+			fail("The container must be rejected");
+		} catch (DSSException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains(message));
+		}
+	}
+
+	private byte[] createZip(String contentA, String contentB) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ZipOutputStream zos = new ZipOutputStream(baos)) {
+			zos.putNextEntry(new ZipEntry("a.txt"));
+			zos.write(contentA.getBytes(StandardCharsets.UTF_8));
+			zos.closeEntry();
+			zos.putNextEntry(new ZipEntry("b.txt"));
+			zos.write(contentB.getBytes(StandardCharsets.UTF_8));
+			zos.closeEntry();
+		}
+		return baos.toByteArray();
+	}
+
+	private void replaceAll(byte[] zip, String name, String newName) {
+		int index;
+		while ((index = lastIndexOf(zip, name)) != -1) {
+			write(zip, index, newName);
+		}
+	}
+
+	private void replaceLast(byte[] zip, String name, String newName) {
+		write(zip, lastIndexOf(zip, name), newName);
+	}
+
+	private int lastIndexOf(byte[] zip, String name) {
+		return new String(zip, StandardCharsets.ISO_8859_1).lastIndexOf(name);
+	}
+
+	private void write(byte[] zip, int index, String name) {
+		byte[] bytes = name.getBytes(StandardCharsets.ISO_8859_1);
+		System.arraycopy(bytes, 0, zip, index, bytes.length);
+	}
+
+	private Set<String> getTemporaryContainers() {
+		Set<String> names = new HashSet<String>();
+		File[] files = new File(System.getProperty("java.io.tmpdir")).listFiles();
+		if (files != null) {
+			for (File file : files) {
+				if (file.getName().startsWith("dss-asic-")) {
+					names.add(file.getName());
+				}
+			}
+		}
+		return names;
+	}
+
+	private void compare(List<DSSDocument> expected, List<DSSDocument> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			DSSDocument expectedDoc = expected.get(i);
+			DSSDocument actualDoc = actual.get(i);
+			assertTrue(actualDoc instanceof ZipEntryDocument);
+			assertEquals(expectedDoc.getName(), actualDoc.getName());
+			assertEquals(expectedDoc.getMimeType(), actualDoc.getMimeType());
+			assertEquals(expectedDoc.getDigests(DigestAlgorithm.SHA256, DigestAlgorithm.SHA512),
+					actualDoc.getDigests(DigestAlgorithm.SHA256, DigestAlgorithm.SHA512));
+		}
+	}
+
+}
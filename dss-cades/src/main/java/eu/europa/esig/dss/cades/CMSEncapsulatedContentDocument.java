@@ -0,0 +1,221 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.cades;
+
+import static eu.europa.esig.dss.spi.OID.id_aa_ets_archiveTimestampV2;
+import static eu.europa.esig.dss.spi.OID.id_aa_ets_archiveTimestampV3;
+import static org.bouncycastle.asn1.cms.CMSObjectIdentifiers.id_ri_ocsp_response;
+import static org.bouncycastle.asn1.ocsp.OCSPObjectIdentifiers.id_pkix_ocsp_basic;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
+import org.bouncycastle.cms.CMSAbsentContent;
+import org.bouncycastle.cms.CMSException;
+import org.bouncycastle.cms.CMSSignedData;
+import org.bouncycastle.cms.CMSSignedDataGenerator;
+import org.bouncycastle.cms.CMSSignedDataParser;
+import org.bouncycastle.cms.CMSTypedStream;
+import org.bouncycastle.cms.SignerInformation;
+import org.bouncycastle.operator.DigestCalculator;
+import org.bouncycastle.operator.DigestCalculatorProvider;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.CommonDocument;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+
+/**
+ * The encapsulated content of a CMS signed data document, read by streaming (for huge enveloping signatures).
+ * 
+ * {@link #getSignedDataWithoutContent()} parses the CMS document in one pass : only the SignerInfos, the certificates
+ * and the revocation data are kept in memory and the content is digested on the fly with the digest algorithms
+ * declared in the SignedData. The signatures can then be processed as detached signatures of this document, which
+ * opens the CMS document again to stream its content.
+ */
+@SuppressWarnings("serial")
+public class CMSEncapsulatedContentDocument extends CommonDocument {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CMSEncapsulatedContentDocument.class);
+
+	/**
+	 * The content is digested by this class (with all the algorithms at once) and not by the parser
+	 */
+	private static final DigestCalculatorProvider NO_DIGEST_PROVIDER = new DigestCalculatorProvider() {
+
+		@Override
+		public DigestCalculator get(AlgorithmIdentifier digestAlgorithmIdentifier) throws OperatorCreationException {
+			throw new OperatorCreationException("The content is digested outside the parser");
+		}
+
+	};
+
+	/**
+	 * The CMS signed data document
+	 */
+	private final DSSDocument cmsDocument;
+
+	/**
+	 * The SignedData without the encapsulated content (lazily parsed)
+	 */
+	private CMSSignedData signedDataWithoutContent;
+
+	/**
+	 * True if the CMS document contains an encapsulated content
+	 */
+	private boolean contentPresent;
+
+	/**
+	 * The default constructor
+	 *
+	 * @param cmsDocument
+	 *            the CMS signed data document
+	 */
+	public CMSEncapsulatedContentDocument(final DSSDocument cmsDocument) {
+		this.cmsDocument = cmsDocument;
+	}
+
+	/**
+	 * Returns the SignedData of the CMS document without its encapsulated content (as a detached signature). The
+	 * digests of the content are computed during the parsing.
+	 *
+	 * @return the {@code CMSSignedData} without the encapsulated content
+	 */
+	public synchronized CMSSignedData getSignedDataWithoutContent() {
+		if (signedDataWithoutContent == null) {
+			signedDataWithoutContent = parse();
+		}
+		return signedDataWithoutContent;
+	}
+
+	/**
+	 * @return true if the CMS document contains an encapsulated content (enveloping signature)
+	 */
+	public boolean isContentPresent() {
+		getSignedDataWithoutContent();
+		return contentPresent;
+	}
+
+	/**
+	 * @return true if one of the signatures contains an archive timestamp (computed on the complete CMS encoding)
+	 */
+	public boolean isArchiveTimestampPresent() {
+		for (SignerInformation signerInformation : getSignedDataWithoutContent().getSignerInfos()) {
+			if (CMSUtils.getUnsignedAttribute(signerInformation, id_aa_ets_archiveTimestampV2) != null
+					|| CMSUtils.getUnsignedAttribute(signerInformation, id_aa_ets_archiveTimestampV3) != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private CMSSignedData parse() {
+		final Map<DigestAlgorithm, MessageDigest> messageDigests = new EnumMap<DigestAlgorithm, MessageDigest>(DigestAlgorithm.class);
+		try (InputStream is = new BufferedInputStream(cmsDocument.openStream())) {
+			final CMSSignedDataParser parser = new CMSSignedDataParser(NO_DIGEST_PROVIDER, is);
+			final ASN1ObjectIdentifier contentType = new ASN1ObjectIdentifier(parser.getSignedContentTypeOID());
+			final CMSTypedStream signedContent = parser.getSignedContent();
+			contentPresent = signedContent != null;
+			if (contentPresent) {
+				for (AlgorithmIdentifier digestAlgorithmID : parser.getDigestAlgorithmIDs()) {
+					try {
+						final DigestAlgorithm digestAlgorithm = DigestAlgorithm.forOID(digestAlgorithmID.getAlgorithm().getId());
+						messageDigests.put(digestAlgorithm, digestAlgorithm.getMessageDigest());
+					} catch (Exception e) {
+						LOG.warn("Unsupported digest algorithm {} : {}", digestAlgorithmID.getAlgorithm().getId(), e.getMessage());
+					}
+				}
+				final InputStream contentStream = signedContent.getContentStream();
+				final byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+				int count = 0;
+				while ((count = contentStream.read(buffer)) > 0) {
+					for (MessageDigest messageDigest : messageDigests.values()) {
+						messageDigest.update(buffer, 0, count);
+					}
+				}
+			}
+
+			final CMSSignedDataGenerator generator = new CMSSignedDataGenerator();
+			generator.addSigners(parser.getSignerInfos());
+			generator.addCertificates(parser.getCertificates());
+			generator.addAttributeCertificates(parser.getAttributeCertificates());
+			generator.addCRLs(parser.getCRLs());
+			generator.addOtherRevocationInfo(id_pkix_ocsp_basic, parser.getOtherRevocationInfo(id_pkix_ocsp_basic));
+			generator.addOtherRevocationInfo(id_ri_ocsp_response, parser.getOtherRevocationInfo(id_ri_ocsp_response));
+			final CMSSignedData result = generator.generate(new CMSAbsentContent(contentType), false);
+
+			for (Entry<DigestAlgorithm, MessageDigest> entry : messageDigests.entrySet()) {
+				base64EncodeDigestMap.put(entry.getKey(), Base64.getEncoder().encodeToString(entry.getValue().digest()));
+			}
+			return result;
+		} catch (IOException | CMSException e) {
+			throw new DSSException("Unable to parse the CMS document", e);
+		}
+	}
+
+	@Override
+	public InputStream openStream() {
+		final InputStream is = new BufferedInputStream(cmsDocument.openStream());
+		try {
+			final CMSSignedDataParser parser = new CMSSignedDataParser(NO_DIGEST_PROVIDER, is);
+			final CMSTypedStream signedContent = parser.getSignedContent();
+			if (signedContent == null) {
+				throw new DSSException("The CMS document does not contain an encapsulated content");
+			}
+			return new FilterInputStream(signedContent.getContentStream()) {
+
+				@Override
+				public void close() throws IOException {
+					try {
+						super.close();
+					} finally {
+						is.close();
+					}
+				}
+
+			};
+		} catch (CMSException | DSSException e) {
+			closeQuietly(is);
+			throw (e instanceof DSSException) ? (DSSException) e : new DSSException("Unable to parse the CMS document", e);
+		}
+	}
+
+	private static void closeQuietly(InputStream is) {
+		try {
+			is.close();
+		} catch (IOException e) {
+			LOG.warn("Unable to close the CMS document : {}", e.getMessage());
+		}
+	}
+
+}
@@ -26,19 +26,28 @@ import static org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers.id_aa_signingCert
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.List;
 
+import org.bouncycastle.asn1.ASN1Encodable;
 import org.bouncycastle.asn1.ASN1EncodableVector;
 import org.bouncycastle.asn1.ASN1InputStream;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
 import org.bouncycastle.asn1.ASN1Primitive;
+import org.bouncycastle.asn1.ASN1Sequence;
 import org.bouncycastle.asn1.ASN1Set;
+import org.bouncycastle.asn1.BEROctetStringGenerator;
+import org.bouncycastle.asn1.BERSequenceGenerator;
 import org.bouncycastle.asn1.DERSet;
 import org.bouncycastle.asn1.DERTaggedObject;
 import org.bouncycastle.asn1.DLSet;
 import org.bouncycastle.asn1.cms.Attribute;
 import org.bouncycastle.asn1.cms.AttributeTable;
+import org.bouncycastle.asn1.cms.CMSObjectIdentifiers;
+import org.bouncycastle.asn1.cms.ContentInfo;
+import org.bouncycastle.asn1.cms.SignedData;
 import org.bouncycastle.asn1.ess.ESSCertID;
 import org.bouncycastle.asn1.ess.ESSCertIDv2;
 import org.bouncycastle.asn1.ess.SigningCertificate;
@@ -67,6 +76,11 @@ import eu.europa.esig.dss.utils.Utils;
 public final class CMSUtils {
 
 	private static final Logger LOG = LoggerFactory.getLogger(CMSUtils.class);
+
+	/**
+	 * Size of the buffer used to stream the encapsulated content
+	 */
+	private static final int STREAM_BUFFER_SIZE = 65536;
 	
 	public static final DigestAlgorithm DEFAULT_ARCHIVE_TIMESTAMP_HASH_ALGO = DigestAlgorithm.SHA256;
 
@@ -299,4 +313,83 @@ public final class CMSUtils {
 		return content;
 	}
 
+	/**
+	 * Returns the content to be signed without loading it in memory : the document is read when the signed data is
+	 * generated (to compute the message-digest). The content must not be encapsulated by the generator (see
+	 * {@link #writeCMSSignedData(CMSSignedData, DSSDocument, OutputStream)}).
+	 *
+	 * @param toSignData
+	 *            the document to be signed
+	 * @return the {@code CMSTypedData} which streams the document
+	 */
+	public static CMSTypedData getStreamedContentToBeSign(final DSSDocument toSignData) {
+		if (toSignData instanceof DigestDocument) {
+			return new CMSAbsentContent();
+		}
+		return new CMSTypedData() {
+
+			@Override
+			public void write(OutputStream out) throws IOException, CMSException {
+				try (InputStream is = toSignData.openStream()) {
+					Utils.copy(is, out);
+				}
+			}
+
+			@Override
+			public Object getContent() {
+				return toSignData;
+			}
+
+			@Override
+			public ASN1ObjectIdentifier getContentType() {
+				return CMSObjectIdentifiers.data;
+			}
+
+		};
+	}
+
+	/**
+	 * Writes the given SignedData with the content as encapsulated content. The content is streamed from the document
+	 * to the output (BER encoding with indefinite length), it is never loaded in memory.
+	 *
+	 * @param signedDataWithoutContent
+	 *            the {@code CMSSignedData} to be written (its encapsulated content, if any, is ignored)
+	 * @param content
+	 *            the document to be encapsulated or null for a detached signature
+	 * @param out
+	 *            the {@code OutputStream} to write to
+	 */
+	public static void writeCMSSignedData(final CMSSignedData signedDataWithoutContent, final DSSDocument content, final OutputStream out) {
+		try {
+			final ContentInfo contentInfo = signedDataWithoutContent.toASN1Structure();
+			if (content == null) {
+				out.write(contentInfo.getEncoded());
+				return;
+			}
+			final SignedData signedData = SignedData.getInstance(contentInfo.getContent());
+
+			final BERSequenceGenerator contentInfoGenerator = new BERSequenceGenerator(out);
+			contentInfoGenerator.addObject(CMSObjectIdentifiers.signedData);
+			final BERSequenceGenerator signedDataGenerator = new BERSequenceGenerator(contentInfoGenerator.getRawOutputStream(), 0, true);
+			for (ASN1Encodable element : ASN1Sequence.getInstance(signedData.toASN1Primitive())) {
+				if (element.equals(signedData.getEncapContentInfo())) {
+					final BERSequenceGenerator encapContentInfoGenerator = new BERSequenceGenerator(signedDataGenerator.getRawOutputStream());
+					encapContentInfoGenerator.addObject(signedData.getEncapContentInfo().getContentType());
+					final BEROctetStringGenerator octetStringGenerator = new BEROctetStringGenerator(encapContentInfoGenerator.getRawOutputStream(), 0,
+							true);
+					try (InputStream is = content.openStream(); OutputStream os = octetStringGenerator.getOctetOutputStream(new byte[STREAM_BUFFER_SIZE])) {
+						Utils.copy(is, os);
+					}
+					encapContentInfoGenerator.close();
+				} else {
+					signedDataGenerator.getRawOutputStream().write(element.toASN1Primitive().getEncoded());
+				}
+			}
+			signedDataGenerator.close();
+			contentInfoGenerator.close();
+		} catch (IOException e) {
+			throw new DSSException("Unable to write the CMS signed data", e);
+		}
+	}
+
 }
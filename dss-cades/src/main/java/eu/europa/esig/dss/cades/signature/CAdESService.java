@@ -20,6 +20,11 @@
  */
 package eu.europa.esig.dss.cades.signature;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.List;
 
@@ -36,6 +41,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import eu.europa.esig.dss.cades.CAdESSignatureParameters;
+import eu.europa.esig.dss.cades.CMSEncapsulatedContentDocument;
 import eu.europa.esig.dss.cades.CMSUtils;
 import eu.europa.esig.dss.cades.validation.PrecomputedDigestCalculatorProvider;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
@@ -46,7 +52,9 @@ import eu.europa.esig.dss.enumerations.TimestampType;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.DigestDocument;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.MimeType;
 import eu.europa.esig.dss.model.SignatureValue;
 import eu.europa.esig.dss.model.ToBeSigned;
 import eu.europa.esig.dss.signature.AbstractSignatureService;
@@ -67,6 +75,11 @@ public class CAdESService extends AbstractSignatureService<CAdESSignatureParamet
 
 	private final CMSSignedDataBuilder cmsSignedDataBuilder;
 
+	/**
+	 * The directory of the temporary files of the streaming mode (null = in memory)
+	 */
+	private File tempFileDirectory;
+
 	/**
 	 * This is the constructor to create an instance of the {@code CAdESService}. A certificate verifier must be
 	 * provided.
@@ -81,6 +94,20 @@ public class CAdESService extends AbstractSignatureService<CAdESSignatureParamet
 		LOG.debug("+ CAdESService created");
 	}
 
+	/**
+	 * Enables the streaming mode for huge documents : the document to be signed (or the content of the signature to
+	 * be counter-signed in parallel) is never loaded in memory, it is digested on the fly and the signature is written
+	 * to a temporary file of the given directory (the signed document is a {@code FileDocument}). The
+	 * CAdES-BASELINE-LTA level is not supported in this mode (the archive timestamp is computed on the complete
+	 * encoding).
+	 *
+	 * @param tempFileDirectory
+	 *            the directory of the temporary files or null to process the documents in memory (default)
+	 */
+	public void setTempFileDirectory(File tempFileDirectory) {
+		this.tempFileDirectory = tempFileDirectory;
+	}
+
 	@Override
 	public TimestampToken getContentTimestamp(DSSDocument toSignDocument, CAdESSignatureParameters parameters) {
 		if (tspSource == null) {
@@ -102,6 +129,10 @@ public class CAdESService extends AbstractSignatureService<CAdESSignatureParamet
 		final DigestCalculatorProvider dcp = getDigestCalculatorProvider(toSignDocument, parameters);
 
 		final SignerInfoGeneratorBuilder signerInfoGeneratorBuilder = cmsSignedDataBuilder.getSignerInfoGeneratorBuilder(dcp, parameters, false);
+		if (tempFileDirectory != null) {
+			generateStreamedCMSSignedData(toSignDocument, parameters, customContentSigner, signerInfoGeneratorBuilder);
+			return new ToBeSigned(customContentSigner.getOutputStream().toByteArray());
+		}
 		final CMSSignedData originalCmsSignedData = getCmsSignedData(toSignDocument, parameters);
 
 		final CMSSignedDataGenerator cmsSignedDataGenerator = cmsSignedDataBuilder.createCMSSignedDataGenerator(parameters, customContentSigner,
@@ -127,6 +158,9 @@ public class CAdESService extends AbstractSignatureService<CAdESSignatureParamet
 		final CustomContentSigner customContentSigner = new CustomContentSigner(signatureAlgorithm.getJCEId(), signatureValue.getValue());
 		final DigestCalculatorProvider dcp = getDigestCalculatorProvider(toSignDocument, parameters);
 		final SignerInfoGeneratorBuilder signerInfoGeneratorBuilder = cmsSignedDataBuilder.getSignerInfoGeneratorBuilder(dcp, parameters, true);
+		if (tempFileDirectory != null) {
+			return signStreamedDocument(toSignDocument, parameters, customContentSigner, signerInfoGeneratorBuilder);
+		}
 		final CMSSignedData originalCmsSignedData = getCmsSignedData(toSignDocument, parameters);
 		if ((originalCmsSignedData == null) && SignaturePackaging.DETACHED.equals(packaging) && Utils.isCollectionEmpty(parameters.getDetachedContents())) {
 			parameters.setDetachedContents(Arrays.asList(toSignDocument));
@@ -153,6 +187,110 @@ public class CAdESService extends AbstractSignatureService<CAdESSignatureParamet
 		return signature;
 	}
 
+	private DSSDocument signStreamedDocument(final DSSDocument toSignDocument, final CAdESSignatureParameters parameters,
+			final CustomContentSigner customContentSigner, final SignerInfoGeneratorBuilder signerInfoGeneratorBuilder) {
+		final StreamedSignedData streamedSignedData = generateStreamedCMSSignedData(toSignDocument, parameters, customContentSigner,
+				signerInfoGeneratorBuilder);
+		CMSSignedData cmsSignedData = streamedSignedData.cmsSignedData;
+
+		if (!SignatureLevel.CAdES_BASELINE_B.equals(parameters.getSignatureLevel())) {
+			// true: Only the last signature will be extended
+			final CAdESSignatureExtension extension = (CAdESSignatureExtension) getExtensionProfile(parameters, true);
+			final List<DSSDocument> detachedContents = parameters.getDetachedContents();
+			try {
+				// the signature is extended as a detached one
+				parameters.setDetachedContents(Arrays.asList(streamedSignedData.toSignData));
+				cmsSignedData = extension.extendCMSSignatures(cmsSignedData, parameters);
+			} finally {
+				parameters.setDetachedContents(detachedContents);
+			}
+		}
+
+		final boolean encapsulate = SignaturePackaging.ENVELOPING.equals(parameters.getSignaturePackaging())
+				&& !(streamedSignedData.toSignData instanceof DigestDocument);
+		File file = null;
+		try {
+			file = File.createTempFile("dss-cades-", ".p7m", tempFileDirectory);
+			try (OutputStream os = new BufferedOutputStream(new FileOutputStream(file))) {
+				CMSUtils.writeCMSSignedData(cmsSignedData, encapsulate ? streamedSignedData.toSignData : null, os);
+			}
+		} catch (IOException | DSSException e) {
+			if (file != null && !file.delete()) {
+				LOG.warn("Unable to delete the temporary file {}", file.getAbsolutePath());
+			}
+			throw new DSSException("Unable to write the signed document", e);
+		}
+
+		final FileDocument signature = new FileDocument(file);
+		signature.setMimeType(MimeType.PKCS7);
+		signature.setName(getFinalFileName(toSignDocument, SigningOperation.SIGN, parameters.getSignatureLevel()));
+		parameters.reinitDeterministicId();
+		return signature;
+	}
+
+	/**
+	 * Generates the signed data without the content : the data to be signed is streamed to compute the
+	 * message-digest.
+	 */
+	private StreamedSignedData generateStreamedCMSSignedData(final DSSDocument toSignDocument, final CAdESSignatureParameters parameters,
+			final CustomContentSigner customContentSigner, final SignerInfoGeneratorBuilder signerInfoGeneratorBuilder) {
+		if (SignatureLevel.CAdES_BASELINE_LTA.equals(parameters.getSignatureLevel())) {
+			throw new DSSException("The signature level " + parameters.getSignatureLevel() + " is not supported in the streaming mode");
+		}
+
+		final CMSEncapsulatedContentDocument originalCmsDocument = getOriginalCmsDocument(toSignDocument, parameters);
+		final CMSSignedData originalCmsSignedData = (originalCmsDocument != null) ? originalCmsDocument.getSignedDataWithoutContent() : null;
+		if ((originalCmsSignedData == null) && SignaturePackaging.DETACHED.equals(parameters.getSignaturePackaging())
+				&& Utils.isCollectionEmpty(parameters.getDetachedContents())) {
+			parameters.setDetachedContents(Arrays.asList(toSignDocument));
+		}
+
+		final CMSSignedDataGenerator cmsSignedDataGenerator = cmsSignedDataBuilder.createCMSSignedDataGenerator(parameters, customContentSigner,
+				signerInfoGeneratorBuilder, originalCmsSignedData);
+
+		DSSDocument toSignData;
+		if ((originalCmsDocument != null) && originalCmsDocument.isContentPresent()) {
+			toSignData = originalCmsDocument;
+		} else {
+			toSignData = getToSignData(toSignDocument, parameters, null);
+		}
+		final CMSTypedData content = CMSUtils.getStreamedContentToBeSign(toSignData);
+		final CMSSignedData cmsSignedData = CMSUtils.generateCMSSignedData(cmsSignedDataGenerator, content, false);
+		return new StreamedSignedData(cmsSignedData, toSignData);
+	}
+
+	/**
+	 * In the streaming mode, returns the CMS signed message (without loading its content) or null if the document is
+	 * not a CMS signed message (or an enveloping signature without content).
+	 */
+	private CMSEncapsulatedContentDocument getOriginalCmsDocument(final DSSDocument dssDocument, final CAdESSignatureParameters parameters) {
+		if (!(dssDocument instanceof DigestDocument) && DSSASN1Utils.isASN1SequenceTag(DSSUtils.readFirstByte(dssDocument))) {
+			try {
+				final CMSEncapsulatedContentDocument cmsDocument = new CMSEncapsulatedContentDocument(dssDocument);
+				if (SignaturePackaging.ENVELOPING == parameters.getSignaturePackaging() && !cmsDocument.isContentPresent()) {
+					return null;
+				}
+				return cmsDocument;
+			} catch (Exception e) {
+				// not a parallel signature
+			}
+		}
+		return null;
+	}
+
+	private static final class StreamedSignedData {
+
+		private final CMSSignedData cmsSignedData;
+
+		private final DSSDocument toSignData;
+
+		private StreamedSignedData(CMSSignedData cmsSignedData, DSSDocument toSignData) {
+			this.cmsSignedData = cmsSignedData;
+			this.toSignData = toSignData;
+		}
+
+	}
+
 	private DigestCalculatorProvider getDigestCalculatorProvider(DSSDocument toSignDocument, CAdESSignatureParameters parameters) {
 		DigestAlgorithm referenceDigestAlgorithm = parameters.getReferenceDigestAlgorithm();
 		if (referenceDigestAlgorithm != null) {
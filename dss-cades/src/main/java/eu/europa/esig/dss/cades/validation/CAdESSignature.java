@@ -83,6 +83,7 @@ import org.bouncycastle.operator.bc.BcDigestCalculatorProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import eu.europa.esig.dss.cades.CMSEncapsulatedContentDocument;
 import eu.europa.esig.dss.cades.CMSUtils;
 import eu.europa.esig.dss.cades.SignerAttributeV2;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
@@ -983,8 +984,9 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 
 		final DSSDocument dssDocument = detachedContents.get(0); // only one element for CAdES Signature
 		CMSSignedDataParser cmsSignedDataParser = null;
-		if (dssDocument instanceof DigestDocument) {
-			cmsSignedDataParser = new CMSSignedDataParser(new PrecomputedDigestCalculatorProvider((DigestDocument) dssDocument), cmsSignedData.getEncoded());
+		if (dssDocument instanceof DigestDocument || dssDocument instanceof CMSEncapsulatedContentDocument) {
+			// the digests are known (no need to read the content again)
+			cmsSignedDataParser = new CMSSignedDataParser(new PrecomputedDigestCalculatorProvider(dssDocument), cmsSignedData.getEncoded());
 		} else {
 			try (InputStream inputStream = dssDocument.openStream()) {
 				final CMSTypedStream signedContent = new CMSTypedStream(inputStream);
@@ -30,6 +30,7 @@ import org.bouncycastle.cms.SignerInformation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import eu.europa.esig.dss.cades.CMSEncapsulatedContentDocument;
 import eu.europa.esig.dss.cades.validation.scope.CAdESSignatureScopeFinder;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
@@ -50,6 +51,11 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 
 	protected CMSSignedData cmsSignedData;
 
+	/**
+	 * The encapsulated content read by streaming (null if the CMS document is loaded in memory)
+	 */
+	private CMSEncapsulatedContentDocument encapsulatedContent;
+
 	CMSDocumentValidator() {
 		this(new CAdESSignatureScopeFinder());
 	}
@@ -81,6 +87,31 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 		this.cmsSignedData = DSSUtils.toCMSSignedData(document);
 	}
 	
+	/**
+	 * The constructor for {@code CMSDocumentValidator} with an optional streaming mode for huge enveloping
+	 * signatures : the encapsulated content is not loaded in memory, it is digested on the fly and only the
+	 * SignerInfos, certificates and revocation data are kept. The documents with an archive timestamp are loaded in
+	 * memory (the archive timestamp covers the complete encoding).
+	 *
+	 * @param document
+	 *            document to validate (with the signature(s))
+	 * @param streaming
+	 *            true to read the encapsulated content by streaming
+	 */
+	public CMSDocumentValidator(final DSSDocument document, final boolean streaming) {
+		this();
+		this.document = document;
+		if (streaming) {
+			final CMSEncapsulatedContentDocument cmsDocument = new CMSEncapsulatedContentDocument(document);
+			if (cmsDocument.isContentPresent() && !cmsDocument.isArchiveTimestampPresent()) {
+				this.encapsulatedContent = cmsDocument;
+				this.cmsSignedData = cmsDocument.getSignedDataWithoutContent();
+				return;
+			}
+		}
+		this.cmsSignedData = DSSUtils.toCMSSignedData(document);
+	}
+
 	protected CMSDocumentValidator(final DSSDocument document, SignatureScopeFinder<CAdESSignature> signatureScopeFinder) {
 		this(signatureScopeFinder);
 		this.document = document;
@@ -104,7 +135,7 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 				if (document != null) {
 					cadesSignature.setSignatureFilename(document.getName());
 				}
-				cadesSignature.setDetachedContents(detachedContents);
+				cadesSignature.setDetachedContents(getSignedContents());
 				cadesSignature.setContainerContents(containerContents);
 				cadesSignature.setManifestFiles(manifestFiles);
 				cadesSignature.setProvidedSigningCertificateToken(providedSigningCertificateToken);
@@ -126,7 +157,7 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 			final SignerInformation signerInformation = (SignerInformation) signerInformationObject;
 			final CAdESSignature cadesSignature = new CAdESSignature(cmsSignedData, signerInformation, validationCertPool);
 			cadesSignature.setSignatureFilename(document.getName());
-			cadesSignature.setDetachedContents(detachedContents);
+			cadesSignature.setDetachedContents(getSignedContents());
 			cadesSignature.setProvidedSigningCertificateToken(providedSigningCertificateToken);
 			if (Utils.areStringsEqual(cadesSignature.getId(), signatureId)) {
 				results.add(cadesSignature.getOriginalDocument());
@@ -135,6 +166,14 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 		return results;
 	}
 
+	private List<DSSDocument> getSignedContents() {
+		if (encapsulatedContent != null) {
+			// the signatures are processed as detached signatures of the streamed content
+			return Arrays.<DSSDocument> asList(encapsulatedContent);
+		}
+		return detachedContents;
+	}
+
 	@Override
 	public List<DSSDocument> getOriginalDocuments(final AdvancedSignature advancedSignature) throws DSSException {
 		final CAdESSignature cadesSignature = (CAdESSignature) advancedSignature;
@@ -31,21 +31,27 @@ import org.bouncycastle.operator.DigestCalculatorProvider;
 import org.bouncycastle.operator.OperatorCreationException;
 
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.utils.Utils;
 
 /**
- * This class allows to provide digest values without original document
+ * This class allows to provide digest values without original document (or with the digests already computed by the
+ * document)
  */
 public class PrecomputedDigestCalculatorProvider implements DigestCalculatorProvider {
 
-	private final DigestDocument digestDocument;
+	private final DSSDocument digestDocument;
 
 	public PrecomputedDigestCalculatorProvider(DigestDocument digestDocument) {
 		this.digestDocument = digestDocument;
 	}
 
+	public PrecomputedDigestCalculatorProvider(DSSDocument document) {
+		this.digestDocument = document;
+	}
+
 	@Override
 	public DigestCalculator get(final AlgorithmIdentifier digestAlgorithmIdentifier) throws OperatorCreationException {
 
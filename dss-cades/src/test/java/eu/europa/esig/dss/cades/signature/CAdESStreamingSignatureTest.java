@@ -0,0 +1,167 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.cades.signature;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import eu.europa.esig.dss.cades.CAdESSignatureParameters;
+import eu.europa.esig.dss.cades.validation.CAdESSignature;
+import eu.europa.esig.dss.cades.validation.CMSDocumentValidator;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.SignaturePackaging;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.validation.AdvancedSignature;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+
+public class CAdESStreamingSignatureTest {
+
+	private static KeyPair keyPair;
+
+	private static CertificateToken certificate;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@BeforeClass
+	public static void init() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		keyPair = keyPairGenerator.generateKeyPair();
+
+		long now = System.currentTimeMillis();
+		X500Name subject = new X500Name("CN=Streaming signer");
+		JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(subject, BigInteger.ONE, new Date(now - 86400000L),
+				new Date(now + 86400000L), subject, keyPair.getPublic());
+		byte[] encoded = builder.build(new JcaContentSignerBuilder("SHA256withRSA").build(keyPair.getPrivate())).getEncoded();
+		certificate = DSSUtils.loadCertificate(encoded);
+	}
+
+	@Test
+	public void envelopingSignature() throws Exception {
+		byte[] content = getContent();
+		DSSDocument signedDocument = sign(new InMemoryDocument(content, "content.bin"), SignaturePackaging.ENVELOPING, null);
+		assertTrue(signedDocument instanceof FileDocument);
+
+		checkSignatures(signedDocument, true, content, 1);
+		checkSignatures(signedDocument, false, content, 1);
+	}
+
+	@Test
+	public void parallelSignature() throws Exception {
+		byte[] content = getContent();
+		DSSDocument signedDocument = sign(new InMemoryDocument(content, "content.bin"), SignaturePackaging.ENVELOPING, null);
+		DSSDocument doubleSignedDocument = sign(signedDocument, SignaturePackaging.ENVELOPING, null);
+
+		checkSignatures(doubleSignedDocument, true, content, 2);
+		checkSignatures(doubleSignedDocument, false, content, 2);
+	}
+
+	@Test
+	public void detachedSignature() throws Exception {
+		byte[] content = getContent();
+		DSSDocument toSignDocument = new InMemoryDocument(content, "content.bin");
+		DSSDocument signedDocument = sign(toSignDocument, SignaturePackaging.DETACHED, null);
+
+		CMSDocumentValidator validator = new CMSDocumentValidator(signedDocument);
+		validator.setCertificateVerifier(new CommonCertificateVerifier());
+		validator.setDetachedContents(Arrays.asList(toSignDocument));
+		List<AdvancedSignature> signatures = validator.getSignatures();
+		assertEquals(1, signatures.size());
+		CAdESSignature signature = (CAdESSignature) signatures.get(0);
+		signature.checkSignatureIntegrity();
+		assertTrue(signature.getSignatureCryptographicVerification().isSignatureIntact());
+	}
+
+	@Test(expected = DSSException.class)
+	public void archiveTimestampNotSupported() throws Exception {
+		sign(new InMemoryDocument(getContent()), SignaturePackaging.ENVELOPING, SignatureLevel.CAdES_BASELINE_LTA);
+	}
+
+	private DSSDocument sign(DSSDocument toSignDocument, SignaturePackaging packaging, SignatureLevel level) throws Exception {
+		CAdESSignatureParameters parameters = new CAdESSignatureParameters();
+		parameters.setSignatureLevel(level == null ? SignatureLevel.CAdES_BASELINE_B : level);
+		parameters.setSignaturePackaging(packaging);
+		parameters.setDigestAlgorithm(DigestAlgorithm.SHA256);
+		parameters.setSigningCertificate(certificate);
+
+		CAdESService service = new CAdESService(new CommonCertificateVerifier());
+		service.setTempFileDirectory(folder.getRoot());
+
+		ToBeSigned dataToSign = service.getDataToSign(toSignDocument, parameters);
+		Signature signature = Signature.getInstance("SHA256withRSA");
+		signature.initSign(keyPair.getPrivate());
+		signature.update(dataToSign.getBytes());
+		SignatureValue signatureValue = new SignatureValue(SignatureAlgorithm.RSA_SHA256, signature.sign());
+		return service.signDocument(toSignDocument, parameters, signatureValue);
+	}
+
+	private void checkSignatures(DSSDocument signedDocument, boolean streaming, byte[] content, int expectedSignatures) {
+		CMSDocumentValidator validator = new CMSDocumentValidator(signedDocument, streaming);
+		validator.setCertificateVerifier(new CommonCertificateVerifier());
+		List<AdvancedSignature> signatures = validator.getSignatures();
+		assertEquals(expectedSignatures, signatures.size());
+		for (AdvancedSignature advancedSignature : signatures) {
+			CAdESSignature signature = (CAdESSignature) advancedSignature;
+			signature.checkSignatureIntegrity();
+			assertTrue(signature.getSignatureCryptographicVerification().isSignatureIntact());
+			assertFalse(validator.getOriginalDocuments(signature).isEmpty());
+			assertArrayEquals(content, DSSUtils.toByteArray(validator.getOriginalDocuments(signature).get(0)));
+		}
+	}
+
+	private byte[] getContent() {
+		// a few MB, larger than the stream buffers
+		byte[] content = new byte[3 * 1024 * 1024 + 17];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) (i % 251);
+		}
+		return content;
+	}
+
+}
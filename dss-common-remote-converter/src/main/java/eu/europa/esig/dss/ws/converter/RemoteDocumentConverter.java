@@ -20,12 +20,18 @@
  */
 package eu.europa.esig.dss.ws.converter;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.DigestDocument;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
@@ -64,6 +70,51 @@ public class RemoteDocumentConverter {
 		}
 	}
 
+	/**
+	 * Spools the given stream to a temporary file and returns a file backed document. This allows the streaming
+	 * transports to handle huge documents without materializing their content in memory. The caller is responsible
+	 * for deleting the file (see {@link #deleteTemporaryFile(FileDocument)}) once the document is no longer used.
+	 * 
+	 * @param inputStream
+	 *                    the content of the document (not closed by this method)
+	 * @param name
+	 *                    the name of the document (can be null)
+	 * @return a {@code FileDocument} backed by a temporary file
+	 */
+	public static FileDocument toFileDocument(InputStream inputStream, String name) {
+		if (inputStream == null) {
+			throw new DSSRemoteServiceException("The document stream is not defined");
+		}
+		File tempFile = null;
+		try {
+			tempFile = File.createTempFile("dss-remote-", ".tmp");
+			Files.copy(inputStream, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			FileDocument fileDocument = new FileDocument(tempFile);
+			fileDocument.setName(name);
+			return fileDocument;
+		} catch (IOException e) {
+			if (tempFile != null && !tempFile.delete()) {
+				tempFile.deleteOnExit();
+			}
+			throw new DSSRemoteServiceException(String.format("Unable to spool the document : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Deletes the temporary file behind a document created with {@link #toFileDocument(InputStream, String)}
+	 * 
+	 * @param fileDocument
+	 *                     the document to be released (can be null)
+	 */
+	public static void deleteTemporaryFile(FileDocument fileDocument) {
+		if (fileDocument != null) {
+			File file = new File(fileDocument.getAbsolutePath());
+			if (file.exists() && !file.delete()) {
+				file.deleteOnExit();
+			}
+		}
+	}
+
 	public static List<RemoteDocument> toRemoteDocuments(List<DSSDocument> originalDocuments) {
 		List<RemoteDocument> results = new ArrayList<RemoteDocument>();
 		for (DSSDocument originalDocument : originalDocuments) {
@@ -87,6 +138,10 @@ public class RemoteDocumentConverter {
 			}
 			return new RemoteDocument(digest.getValue(), digest.getAlgorithm(), originalDocument.getName());
 		}
+		if (originalDocument instanceof InMemoryDocument) {
+			// the array is shared (not copied) with the remote document
+			return new RemoteDocument(((InMemoryDocument) originalDocument).getBytes(), originalDocument.getName());
+		}
 		return new RemoteDocument(DSSUtils.toByteArray(originalDocument), originalDocument.getName());
 	}
 
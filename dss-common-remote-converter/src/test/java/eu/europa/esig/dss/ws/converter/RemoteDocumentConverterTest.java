@@ -1,7 +1,15 @@
 package eu.europa.esig.dss.ws.converter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -11,11 +19,13 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.DigestDocument;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.model.MimeType;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
 
 public class RemoteDocumentConverterTest {
 	
@@ -56,6 +66,44 @@ public class RemoteDocumentConverterTest {
 		assertEquals(remoteDocument.getName(), dssDocument.getName());
 	}
 	
+	@Test
+	public void inMemoryDocumentIsNotCopiedTest() {
+		InMemoryDocument dssDocument = new InMemoryDocument(new byte[] {'1','2','3'}, "dssDocument");
+		RemoteDocument remoteDocument = RemoteDocumentConverter.toRemoteDocument(dssDocument);
+		assertSame(dssDocument.getBytes(), remoteDocument.getBytes());
+	}
+	
+	@Test
+	public void toFileDocumentTest() {
+		byte[] content = new byte[] {'1','2','3'};
+		FileDocument fileDocument = RemoteDocumentConverter.toFileDocument(new ByteArrayInputStream(content), "streamedDocument");
+		File file = new File(fileDocument.getAbsolutePath());
+		assertTrue(file.exists());
+		assertEquals("streamedDocument", fileDocument.getName());
+		assertEquals(Utils.toBase64(DSSUtils.digest(DigestAlgorithm.SHA256, content)), fileDocument.getDigest(DigestAlgorithm.SHA256));
+		
+		RemoteDocumentConverter.deleteTemporaryFile(fileDocument);
+		assertFalse(file.exists());
+	}
+
+	@Test
+	public void toFileDocumentErrorTest() {
+		final IOException error = new IOException("Connection reset");
+		try {
+			RemoteDocumentConverter.toFileDocument(new InputStream() {
+
+				@Override
+				public int read() throws IOException {
+					throw error;
+				}
+
+			}, "streamedDocument");
+			fail("The stream cannot be read");
+		} catch (DSSRemoteServiceException e) {
+			assertSame(error, e.getCause());
+		}
+	}
+	
 	@Test
 	public void digestDocumentToRemoteDocumentTest() {
 		DSSDocument dssDocument = new DigestDocument(DigestAlgorithm.SHA256, "332b7ce3b5e8f8c6132f0e09264db9da6d1c9fd6e37b73a35e68f78f4e590f90");
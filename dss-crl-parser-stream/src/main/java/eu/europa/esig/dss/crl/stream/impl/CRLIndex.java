@@ -0,0 +1,199 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.crl.stream.impl;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.cert.X509CRLEntry;
+import java.util.Arrays;
+
+import org.bouncycastle.asn1.ASN1Primitive;
+import org.bouncycastle.asn1.ASN1Sequence;
+import org.bouncycastle.asn1.x509.TBSCertList.CRLEntry;
+import org.bouncycastle.jce.provider.X509CRLEntryObject;
+
+/**
+ * This class indexes the revokedCertificates sequence of a DER encoded CRL. The
+ * entries are referenced by their offset in the CRL and sorted by serial
+ * number, which allows to retrieve the revocation data of a certificate with a
+ * binary search instead of a full scan of the CRL.
+ */
+class CRLIndex {
+
+	private final byte[] derContent;
+
+	/* Offsets of the revokedCertificates entries, sorted by serial number */
+	private final int[] entryOffsets;
+
+	/**
+	 * The constructor
+	 * 
+	 * @param derContent
+	 *            the DER encoded CRL
+	 * @param entryOffsets
+	 *            the offsets of the revokedCertificates entries (in the CRL
+	 *            order)
+	 */
+	CRLIndex(byte[] derContent, int[] entryOffsets) {
+		this.derContent = derContent;
+		this.entryOffsets = sort(entryOffsets);
+	}
+
+	/**
+	 * Returns the number of indexed entries
+	 * 
+	 * @return the number of revoked certificates in the CRL
+	 */
+	int size() {
+		return entryOffsets.length;
+	}
+
+	/**
+	 * This method returns the revocation data for a given serial number
+	 * 
+	 * @param serialNumber
+	 *            the certificate's serial number
+	 * @return the X509CRLEntry with the revocation date, the reason,... or null
+	 *         if the serial number is not present in the CRL
+	 * @throws IOException
+	 */
+	X509CRLEntry getRevocationInfo(BigInteger serialNumber) throws IOException {
+		byte[] expected = serialNumber.toByteArray();
+		int low = 0;
+		int high = entryOffsets.length - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int comparison = compareSerialNumber(entryOffsets[middle], expected);
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				// returns the first occurrence, as a scan of the CRL does
+				while (middle > 0 && compareSerialNumber(entryOffsets[middle - 1], expected) == 0) {
+					middle--;
+				}
+				return getEntry(entryOffsets[middle]);
+			}
+		}
+		return null;
+	}
+
+	private X509CRLEntry getEntry(int entryOffset) throws IOException {
+		int end = getContentOffset(entryOffset) + getContentLength(entryOffset);
+		ASN1Sequence asn1Sequence = ASN1Sequence.getInstance(ASN1Primitive.fromByteArray(Arrays.copyOfRange(derContent, entryOffset, end)));
+		return new X509CRLEntryObject(CRLEntry.getInstance(asn1Sequence));
+	}
+
+	private int[] sort(int[] offsets) {
+		boolean sorted = true;
+		for (int i = 1; i < offsets.length && sorted; i++) {
+			sorted = compareSerialNumbers(offsets[i - 1], offsets[i]) <= 0;
+		}
+		if (sorted) {
+			return offsets;
+		}
+
+		Integer[] boxedOffsets = new Integer[offsets.length];
+		for (int i = 0; i < offsets.length; i++) {
+			boxedOffsets[i] = offsets[i];
+		}
+		Arrays.sort(boxedOffsets, this::compareSerialNumbers);
+		int[] result = new int[offsets.length];
+		for (int i = 0; i < offsets.length; i++) {
+			result[i] = boxedOffsets[i];
+		}
+		return result;
+	}
+
+	private int compareSerialNumbers(int entryOffset1, int entryOffset2) {
+		int serialOffset1 = getContentOffset(entryOffset1);
+		int serialOffset2 = getContentOffset(entryOffset2);
+		return compareIntegers(derContent, getContentOffset(serialOffset1), getContentLength(serialOffset1), derContent,
+				getContentOffset(serialOffset2), getContentLength(serialOffset2));
+	}
+
+	private int compareSerialNumber(int entryOffset, byte[] expected) {
+		int serialOffset = getContentOffset(entryOffset);
+		return compareIntegers(derContent, getContentOffset(serialOffset), getContentLength(serialOffset), expected, 0, expected.length);
+	}
+
+	/**
+	 * Compares two two's-complement big-endian integers (content of ASN.1
+	 * INTEGERs) as BigInteger.compareTo would do, without instantiating them.
+	 */
+	static int compareIntegers(byte[] a, int aOffset, int aLength, byte[] b, int bOffset, int bLength) {
+		boolean aNegative = aLength > 0 && a[aOffset] < 0;
+		boolean bNegative = bLength > 0 && b[bOffset] < 0;
+		if (aNegative != bNegative) {
+			return aNegative ? -1 : 1;
+		}
+
+		// Redundant leading bytes are tolerated (not DER compliant)
+		int aStart = skipRedundantBytes(a, aOffset, aLength);
+		int bStart = skipRedundantBytes(b, bOffset, bLength);
+		aLength -= aStart - aOffset;
+		bLength -= bStart - bOffset;
+
+		if (aLength != bLength) {
+			// a longer positive value is greater, a longer negative value is lower
+			return (aLength < bLength) != aNegative ? -1 : 1;
+		}
+		for (int i = 0; i < aLength; i++) {
+			int aByte = a[aStart + i] & 0xFF;
+			int bByte = b[bStart + i] & 0xFF;
+			if (aByte != bByte) {
+				return aByte < bByte ? -1 : 1;
+			}
+		}
+		return 0;
+	}
+
+	private static int skipRedundantBytes(byte[] array, int offset, int length) {
+		int end = offset + length - 1;
+		while (offset < end && ((array[offset] == 0 && array[offset + 1] >= 0) || (array[offset] == -1 && array[offset + 1] < 0))) {
+			offset++;
+		}
+		return offset;
+	}
+
+	private int getContentOffset(int tagOffset) {
+		int lengthByte = derContent[tagOffset + 1] & 0xFF;
+		if (lengthByte > 127) {
+			return tagOffset + 2 + (lengthByte & 0x7F);
+		}
+		return tagOffset + 2;
+	}
+
+	private int getContentLength(int tagOffset) {
+		int lengthByte = derContent[tagOffset + 1] & 0xFF;
+		if (lengthByte > 127) {
+			int length = 0;
+			int size = lengthByte & 0x7F;
+			for (int i = 0; i < size; i++) {
+				length = (length << 8) | (derContent[tagOffset + 2 + i] & 0xFF);
+			}
+			return length;
+		}
+		return lengthByte;
+	}
+
+}
@@ -26,6 +26,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
 import java.security.cert.X509CRLEntry;
+import java.util.Arrays;
 import java.util.Enumeration;
 
 import javax.security.auth.x500.X500Principal;
@@ -199,6 +200,84 @@ class CRLParser {
 		return null;
 	}
 
+	/**
+	 * This method reads the revokedCertificates sequence once and indexes the
+	 * entries by serial number. The index allows to retrieve several revocation
+	 * data without scanning the CRL each time.
+	 *
+	 * @param derContent
+	 *            the DER encoded CRL
+	 * @return the index of the revoked certificates
+	 * @throws IOException
+	 */
+	public CRLIndex buildIndex(byte[] derContent) throws IOException {
+		try (ByteArrayInputStream s = new ByteArrayInputStream(derContent)) {
+			// Skip CertificateList Sequence info
+			consumeTagIntro(s);
+
+			// Read TBSCertList Sequence
+			consumeTagIntro(s);
+
+			// Skip all before mandatory thisUpdate
+			int tag = -1;
+			int tagNo = BERTags.NULL;
+			int length = -1;
+			do {
+				tag = DERUtil.readTag(s);
+				tagNo = DERUtil.readTagNumber(s, tag);
+				length = DERUtil.readLength(s);
+				skip(s, length);
+			} while (!isDate(tagNo));
+
+			tag = DERUtil.readTag(s);
+			tagNo = DERUtil.readTagNumber(s, tag);
+			length = DERUtil.readLength(s);
+
+			// TBSCertList -> nextUpdate (optional)
+			if (isDate(tagNo)) {
+				skip(s, length);
+
+				tag = DERUtil.readTag(s);
+				tagNo = DERUtil.readTagNumber(s, tag);
+				length = DERUtil.readLength(s);
+			}
+
+			int[] entryOffsets = new int[0];
+			int nbEntries = 0;
+
+			// TBSCertList -> revokedCertificates (optional) : a SEQUENCE of SEQUENCEs
+			int position = derContent.length - s.available();
+			if (tagNo == BERTags.SEQUENCE && position < derContent.length && isSequence(derContent[position])) {
+				final int end = position + length;
+				entryOffsets = new int[Math.max(16, length / 32)];
+
+				while (position < end) {
+					int entryOffset = position;
+					tag = DERUtil.readTag(s);
+					tagNo = DERUtil.readTagNumber(s, tag);
+					length = DERUtil.readLength(s);
+					position = derContent.length - s.available();
+
+					if (tagNo == BERTags.SEQUENCE && BERTags.INTEGER == derContent[position]) {
+						if (nbEntries == entryOffsets.length) {
+							entryOffsets = Arrays.copyOf(entryOffsets, nbEntries * 2);
+						}
+						entryOffsets[nbEntries++] = entryOffset;
+					} else {
+						LOG.debug("Should only contain SEQUENCEs : tagNo = {} (ignored)", tagNo);
+					}
+					skip(s, length);
+					position += length;
+				}
+			}
+			return new CRLIndex(derContent, Arrays.copyOf(entryOffsets, nbEntries));
+		}
+	}
+
+	private boolean isSequence(byte tag) {
+		return (BERTags.SEQUENCE | BERTags.CONSTRUCTED) == tag;
+	}
+
 	/**
 	 * This method allows to retrieve common CRL informations (thisUpdate, nextUpdate, signatureAlgorithm,
 	 * signatureValue, extensions,...). It voluntary doesn't parse the revokedCertificates sequence.
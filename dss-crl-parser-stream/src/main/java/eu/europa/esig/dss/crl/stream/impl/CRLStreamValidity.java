@@ -0,0 +1,80 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.crl.stream.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLValidity;
+
+/**
+ * This class is a {@code CRLValidity} which can hold an index of the revoked
+ * certificates. The index is built when the CRL is requested for a second
+ * serial number, a single lookup still streams the CRL.
+ */
+class CRLStreamValidity extends CRLValidity {
+
+	private final AtomicInteger lookups = new AtomicInteger();
+
+	private volatile CRLIndex index;
+
+	/**
+	 * true if the index cannot be built : the CRL is always streamed
+	 */
+	private volatile boolean indexUnavailable;
+
+	/**
+	 * Default constructor
+	 */
+	CRLStreamValidity(CRLBinary crlBinaryIdentifier) {
+		super(crlBinaryIdentifier);
+	}
+
+	CRLIndex getIndex() {
+		return index;
+	}
+
+	void setIndex(CRLIndex index) {
+		this.index = index;
+	}
+
+	boolean isIndexUnavailable() {
+		return indexUnavailable;
+	}
+
+	/**
+	 * Records that the index cannot be built, so the build is not retried on
+	 * each lookup
+	 */
+	void setIndexUnavailable() {
+		this.indexUnavailable = true;
+	}
+
+	/**
+	 * Registers a new lookup in the CRL
+	 * 
+	 * @return the number of lookups including the current one
+	 */
+	int registerLookup() {
+		return lookups.incrementAndGet();
+	}
+
+}
@@ -25,6 +25,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.math.BigInteger;
 import java.security.GeneralSecurityException;
 import java.security.Signature;
@@ -53,7 +54,7 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 	@Override
 	public CRLValidity buildCRLValidity(CRLBinary crlBinaryIdentifier, CertificateToken issuerToken) throws IOException {
 		
-		final CRLValidity crlValidity = new CRLValidity(crlBinaryIdentifier);
+		final CRLValidity crlValidity = new CRLStreamValidity(crlBinaryIdentifier);
 		try (ByteArrayInputStream bais = new ByteArrayInputStream(crlBinaryIdentifier.getBinaries()); ByteArrayOutputStream baos = getDERContent(bais)) {
 			CRLInfo crlInfos = getCrlInfo(baos);
 
@@ -74,7 +75,7 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 				crlValidity.setIssuerX509PrincipalMatches(true);
 			}
 
-			checkSignatureValue(crlValidity, crlInfos.getSignatureValue(), signatureAlgorithm, getSignedData(baos), issuerToken);
+			checkSignatureValue(crlValidity, crlInfos.getSignatureValue(), signatureAlgorithm, baos, issuerToken);
 		}
 		
 		return crlValidity;
@@ -92,6 +93,18 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 
 	@Override
 	public X509CRLEntry getRevocationInfo(CRLValidity crlValidity, BigInteger serialNumber) {
+		if (crlValidity instanceof CRLStreamValidity) {
+			CRLIndex index = getIndex((CRLStreamValidity) crlValidity);
+			if (index != null) {
+				try {
+					return index.getRevocationInfo(serialNumber);
+				} catch (IOException e) {
+					LOG.error("Unable to retrieve the revocation status", e);
+					return null;
+				}
+			}
+		}
+
 		CRLParser parser = new CRLParser();
 		X509CRLEntry crlEntry = null;
 		try (InputStream is = crlValidity.getCrlInputStream()) {
@@ -102,27 +115,80 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 		return crlEntry;
 	}
 
-	private void checkSignatureValue(CRLValidity crlValidity, byte[] signatureValue, SignatureAlgorithm signatureAlgorithm, ByteArrayOutputStream baos,
-			CertificateToken signer) {
-		try {
-			Signature signature = Signature.getInstance(signatureAlgorithm.getJCEId());
-			signature.initVerify(signer.getPublicKey());
-			signature.update(baos.toByteArray());
-			if (signature.verify(signatureValue)) {
-				crlValidity.setSignatureIntact(true);
-				crlValidity.setIssuerToken(signer);
-				crlValidity.setCrlSignKeyUsage(signer.checkKeyUsage(KeyUsageBit.CRL_SIGN));
-			} else {
-				crlValidity.setSignatureInvalidityReason("Signature value not correct");
+	/**
+	 * Returns the index of the revoked certificates. The first lookup streams the
+	 * CRL (most of the CRLs are only requested once), the index is built on the
+	 * second one. If the index cannot be built, the failure is recorded and the
+	 * CRL is streamed for all the next lookups.
+	 */
+	private CRLIndex getIndex(CRLStreamValidity crlValidity) {
+		CRLIndex index = crlValidity.getIndex();
+		if (index == null && !crlValidity.isIndexUnavailable() && crlValidity.registerLookup() > 1) {
+			synchronized (crlValidity) {
+				index = crlValidity.getIndex();
+				if (index == null && !crlValidity.isIndexUnavailable()) {
+					index = buildIndex(crlValidity);
+					if (index != null) {
+						crlValidity.setIndex(index);
+					} else {
+						crlValidity.setIndexUnavailable();
+					}
+				}
 			}
-		} catch (GeneralSecurityException e) {
-			String msg = String.format("CRL Signature cannot be validated : %s", e.getMessage());
-			if (LOG.isDebugEnabled()) {
-				LOG.debug(msg, e);
-			} else {
-				LOG.warn(msg);
+		}
+		return index;
+	}
+
+	CRLIndex buildIndex(CRLValidity crlValidity) {
+		byte[] derContent = crlValidity.getCrlEncoded();
+		try {
+			if (!isDerEncoded(derContent[0])) {
+				try (InputStream is = crlValidity.getCrlInputStream(); ByteArrayOutputStream baos = getDERContent(is)) {
+					derContent = baos.toByteArray();
+				}
 			}
-			crlValidity.setSignatureInvalidityReason(msg);
+			CRLParser parser = new CRLParser();
+			return parser.buildIndex(derContent);
+		} catch (IOException | DSSException e) {
+			LOG.warn("Unable to index the CRL : {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private void checkSignatureValue(CRLValidity crlValidity, byte[] signatureValue, SignatureAlgorithm signatureAlgorithm, ByteArrayOutputStream crlBaos,
+			CertificateToken signer) throws IOException {
+		final boolean valid;
+		try {
+			// the signed data are only extracted when the result is not cached
+			valid = verifySignature(crlValidity, signer, () -> {
+				try (ByteArrayOutputStream baos = getSignedData(crlBaos)) {
+					Signature signature = Signature.getInstance(signatureAlgorithm.getJCEId());
+					signature.initVerify(signer.getPublicKey());
+					signature.update(baos.toByteArray());
+					if (signature.verify(signatureValue)) {
+						return true;
+					}
+					crlValidity.setSignatureInvalidityReason("Signature value not correct");
+				} catch (GeneralSecurityException e) {
+					String msg = String.format("CRL Signature cannot be validated : %s", e.getMessage());
+					if (LOG.isDebugEnabled()) {
+						LOG.debug(msg, e);
+					} else {
+						LOG.warn(msg);
+					}
+					crlValidity.setSignatureInvalidityReason(msg);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				return false;
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		if (valid) {
+			crlValidity.setSignatureIntact(true);
+			crlValidity.setIssuerToken(signer);
+			crlValidity.setCrlSignKeyUsage(signer.checkKeyUsage(KeyUsageBit.CRL_SIGN));
 		}
 	}
 
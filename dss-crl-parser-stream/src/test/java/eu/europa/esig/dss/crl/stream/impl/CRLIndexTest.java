@@ -0,0 +1,165 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.crl.stream.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.utils.Utils;
+
+public class CRLIndexTest {
+
+	private CRLParser parser = new CRLParser();
+
+	@Test
+	public void globalSign() throws Exception {
+		checkIndex("/http___crl.globalsign.com_gs_gspersonalsign2sha2g2.crl");
+	}
+
+	@Test
+	public void expiredCertsOnCRL() throws Exception {
+		checkIndex("/crl-expiredCertsOnCRL-UTCTime.crl");
+	}
+
+	@Test
+	public void ltgrca() throws Exception {
+		checkIndex("/LTGRCA.crl");
+	}
+
+	@Test
+	public void belgium4() throws Exception {
+		checkIndex("/belgium4.crl");
+	}
+
+	@Test
+	public void streamValidityUsesIndex() throws Exception {
+		byte[] crlBinaries = getBinaries("/http___crl.globalsign.com_gs_gspersonalsign2sha2g2.crl");
+		CRLStreamValidity validity = new CRLStreamValidity(new CRLBinary(crlBinaries));
+		CRLUtilsStreamImpl crlUtils = new CRLUtilsStreamImpl();
+
+		BigInteger serialNumber = new BigInteger("288350169419475868349393253038503091234");
+		assertNotNull(crlUtils.getRevocationInfo(validity, serialNumber));
+		assertNull(validity.getIndex());
+
+		assertNotNull(crlUtils.getRevocationInfo(validity, serialNumber));
+		assertNotNull(validity.getIndex());
+		assertNull(crlUtils.getRevocationInfo(validity, new BigInteger("111111111111111111111111111")));
+	}
+
+	@Test
+	public void indexFailureIsMemoized() throws Exception {
+		byte[] crlBinaries = getBinaries("/http___crl.globalsign.com_gs_gspersonalsign2sha2g2.crl");
+		CRLStreamValidity validity = new CRLStreamValidity(new CRLBinary(crlBinaries));
+		final AtomicInteger builds = new AtomicInteger();
+		CRLUtilsStreamImpl crlUtils = new CRLUtilsStreamImpl() {
+
+			@Override
+			CRLIndex buildIndex(CRLValidity crlValidity) {
+				builds.incrementAndGet();
+				return null;
+			}
+
+		};
+
+		BigInteger serialNumber = new BigInteger("288350169419475868349393253038503091234");
+		for (int i = 0; i < 5; i++) {
+			// the CRL is streamed
+			assertNotNull(crlUtils.getRevocationInfo(validity, serialNumber));
+		}
+		assertNull(validity.getIndex());
+		assertTrue(validity.isIndexUnavailable());
+		assertEquals(1, builds.get());
+	}
+
+	@Test
+	public void compareIntegers() {
+		BigInteger[] values = new BigInteger[] { BigInteger.valueOf(-129), BigInteger.valueOf(-128), BigInteger.valueOf(-1), BigInteger.ZERO,
+				BigInteger.ONE, BigInteger.valueOf(127), BigInteger.valueOf(128), BigInteger.valueOf(255), new BigInteger("288350169419475868349393253038503091234") };
+		for (BigInteger a : values) {
+			for (BigInteger b : values) {
+				byte[] aBytes = a.toByteArray();
+				byte[] bBytes = b.toByteArray();
+				assertEquals(Integer.signum(a.compareTo(b)), CRLIndex.compareIntegers(aBytes, 0, aBytes.length, bBytes, 0, bBytes.length));
+			}
+		}
+
+		// Not DER compliant encoding with redundant leading bytes
+		byte[] one = new byte[] { 0x01 };
+		byte[] paddedOne = new byte[] { 0x00, 0x00, 0x01 };
+		assertEquals(0, CRLIndex.compareIntegers(one, 0, one.length, paddedOne, 0, paddedOne.length));
+		byte[] minusOne = new byte[] { (byte) 0xFF };
+		byte[] paddedMinusOne = new byte[] { (byte) 0xFF, (byte) 0xFF };
+		assertEquals(0, CRLIndex.compareIntegers(minusOne, 0, minusOne.length, paddedMinusOne, 0, paddedMinusOne.length));
+	}
+
+	private void checkIndex(String resource) throws Exception {
+		byte[] crlBinaries = getBinaries(resource);
+		CRLIndex index = parser.buildIndex(crlBinaries);
+
+		X509CRL x509crl;
+		try (InputStream is = CRLIndexTest.class.getResourceAsStream(resource)) {
+			x509crl = (X509CRL) CertificateFactory.getInstance("X.509").generateCRL(is);
+		}
+		Set<? extends X509CRLEntry> revokedCertificates = x509crl.getRevokedCertificates();
+		if (Utils.isCollectionEmpty(revokedCertificates)) {
+			assertEquals(0, index.size());
+			return;
+		}
+
+		assertEquals(revokedCertificates.size(), index.size());
+		for (X509CRLEntry revoked : revokedCertificates) {
+			// Some CRLs contain the same serial number several times, the first entry is expected
+			X509CRLEntry expected;
+			try (InputStream is = new ByteArrayInputStream(crlBinaries)) {
+				expected = parser.retrieveRevocationInfo(is, revoked.getSerialNumber());
+			}
+			X509CRLEntry entry = index.getRevocationInfo(revoked.getSerialNumber());
+			assertNotNull(entry);
+			assertEquals(expected.getSerialNumber(), entry.getSerialNumber());
+			assertEquals(expected.getRevocationDate(), entry.getRevocationDate());
+			assertEquals(expected.getRevocationReason(), entry.getRevocationReason());
+		}
+		assertTrue(index.getRevocationInfo(new BigInteger("111111111111111111111111111")) == null);
+	}
+
+	private byte[] getBinaries(String resource) throws IOException {
+		try (InputStream is = CRLIndexTest.class.getResourceAsStream(resource)) {
+			return Utils.toByteArray(is);
+		}
+	}
+
+}
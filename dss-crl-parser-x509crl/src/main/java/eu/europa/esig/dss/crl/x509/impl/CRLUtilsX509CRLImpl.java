@@ -103,18 +103,24 @@ public class CRLUtilsX509CRLImpl extends AbstractCRLUtils implements ICRLUtils {
 	}
 
 	private void checkSignatureValue(final X509CRL x509CRL, final CertificateToken issuerToken, final CRLValidity crlValidity) {
-		try {
-			x509CRL.verify(issuerToken.getPublicKey());
+		final boolean valid = verifySignature(crlValidity, issuerToken, () -> {
+			try {
+				x509CRL.verify(issuerToken.getPublicKey());
+				return true;
+			} catch (GeneralSecurityException e) {
+				String msg = String.format("CRL Signature cannot be validated : %s", e.getMessage());
+				if (LOG.isDebugEnabled()) {
+					LOG.debug(msg, e);
+				} else {
+					LOG.warn(msg);
+				}
+				crlValidity.setSignatureInvalidityReason(msg);
+				return false;
+			}
+		});
+		if (valid) {
 			crlValidity.setSignatureIntact(true);
 			crlValidity.setIssuerToken(issuerToken);
-		} catch (GeneralSecurityException e) {
-			String msg = String.format("CRL Signature cannot be validated : %s", e.getMessage());
-			if (LOG.isDebugEnabled()) {
-				LOG.debug(msg, e);
-			} else {
-				LOG.warn(msg);
-			}
-			crlValidity.setSignatureInvalidityReason(msg);
 		}
 	}
 
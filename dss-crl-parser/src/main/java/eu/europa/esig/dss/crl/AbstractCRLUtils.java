@@ -20,6 +20,8 @@
  */
 package eu.europa.esig.dss.crl;
 
+import java.util.function.BooleanSupplier;
+
 import org.bouncycastle.asn1.ASN1GeneralizedTime;
 import org.bouncycastle.asn1.ASN1OctetString;
 import org.bouncycastle.asn1.ASN1Primitive;
@@ -33,10 +35,45 @@ import org.bouncycastle.asn1.x509.Time;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.SignatureVerificationCache;
+
 public abstract class AbstractCRLUtils {
 
 	private static final Logger LOG = LoggerFactory.getLogger(AbstractCRLUtils.class);
 
+	/**
+	 * Runs the verification of the CRL signature with the issuer public key, or
+	 * reuses its previous result when the {@link SignatureVerificationCache} is
+	 * enabled. The verification must set the signature invalidity reason of the
+	 * {@code CRLValidity} on failure.
+	 * 
+	 * @param validity
+	 *                     the CRLValidity to fill
+	 * @param issuerToken
+	 *                     the candidate issuer
+	 * @param verification
+	 *                     the verification to run
+	 * @return true if the CRL signature is valid with the issuer public key
+	 */
+	protected boolean verifySignature(CRLValidity validity, CertificateToken issuerToken, BooleanSupplier verification) {
+		final SignatureVerificationCache cache = SignatureVerificationCache.getInstance();
+		if (cache == null) {
+			return verification.getAsBoolean();
+		}
+		final String crlId = validity.getCrlBinaryIdentifier().asXmlId();
+		final SignatureVerificationCache.Result result = cache.get(crlId, issuerToken.getEntityKey());
+		if (result != null) {
+			if (!result.isValid()) {
+				validity.setSignatureInvalidityReason(result.getInvalidityReason());
+			}
+			return result.isValid();
+		}
+		final boolean valid = verification.getAsBoolean();
+		cache.put(crlId, issuerToken.getEntityKey(), valid, validity.getSignatureInvalidityReason());
+		return valid;
+	}
+
 	protected void extractExpiredCertsOnCRL(CRLValidity validity, byte[] expiredCertsOnCRLBinaries) {
 		if (expiredCertsOnCRLBinaries != null) {
 			try {
@@ -0,0 +1,204 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Direct DOM navigation for the simple XPath queries used by the XAdES
+ * properties lookups : relative paths of child elements (eg :
+ * {@code ./ds:Object/xades:QualifyingProperties/xades:SignedProperties}) with an
+ * optional final attribute ({@code .../ds:DigestMethod/@Algorithm}). The other
+ * queries (absolute paths, predicates, axes, functions,...) are not supported
+ * and are evaluated with the XPath engine.
+ */
+final class ChildPathQuery {
+
+	private final String[] prefixes;
+	private final String[] localNames;
+	private final String attributeName;
+
+	private ChildPathQuery(String[] prefixes, String[] localNames, String attributeName) {
+		this.prefixes = prefixes;
+		this.localNames = localNames;
+		this.attributeName = attributeName;
+	}
+
+	/**
+	 * Parses the XPath query
+	 * 
+	 * @param xPathString
+	 *                    the XPath query
+	 * @return the {@code ChildPathQuery} or null if the query is not a simple
+	 *         child path
+	 */
+	static ChildPathQuery parse(final String xPathString) {
+		String path = xPathString;
+		if (path.startsWith("./")) {
+			path = path.substring(2);
+		}
+		if (path.isEmpty()) {
+			return null;
+		}
+		final String[] steps = path.split("/", -1);
+		int elementSteps = steps.length;
+		String attributeName = null;
+		final String lastStep = steps[steps.length - 1];
+		if (lastStep.startsWith("@")) {
+			attributeName = lastStep.substring(1);
+			if (!isNCName(attributeName)) {
+				return null;
+			}
+			elementSteps--;
+		}
+		final String[] prefixes = new String[elementSteps];
+		final String[] localNames = new String[elementSteps];
+		for (int i = 0; i < elementSteps; i++) {
+			final String step = steps[i];
+			final int colon = step.indexOf(':');
+			final String prefix = colon < 0 ? null : step.substring(0, colon);
+			final String localName = colon < 0 ? step : step.substring(colon + 1);
+			if ((prefix != null && !isNCName(prefix)) || !isNCName(localName)) {
+				return null;
+			}
+			prefixes[i] = prefix;
+			localNames[i] = localName;
+		}
+		return new ChildPathQuery(prefixes, localNames, attributeName);
+	}
+
+	private static boolean isNCName(String name) {
+		if (name.isEmpty() || !(Character.isLetter(name.charAt(0)) || name.charAt(0) == '_')) {
+			return false;
+		}
+		for (int i = 1; i < name.length(); i++) {
+			final char c = name.charAt(i);
+			if (!(Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.')) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Evaluates the query
+	 * 
+	 * @param context
+	 *                   the context node
+	 * @param namespaces
+	 *                   the registered namespaces (prefix to URI)
+	 * @return the nodes in the document order or null if the query cannot be
+	 *         evaluated without the XPath engine (unknown prefix, not namespace
+	 *         aware DOM)
+	 */
+	List<Node> evaluate(final Node context, final Map<String, String> namespaces) {
+		final String[] namespaceURIs = new String[prefixes.length];
+		for (int i = 0; i < prefixes.length; i++) {
+			if (prefixes[i] != null) {
+				namespaceURIs[i] = namespaces.get(prefixes[i]);
+				if (namespaceURIs[i] == null) {
+					return null;
+				}
+			}
+		}
+
+		List<Node> current = Collections.singletonList(context);
+		for (int i = 0; i < localNames.length && !current.isEmpty(); i++) {
+			final List<Node> next = new ArrayList<Node>();
+			for (final Node parent : current) {
+				for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+					if (child.getNodeType() != Node.ELEMENT_NODE) {
+						continue;
+					}
+					if (child.getLocalName() == null) {
+						// DOM level 1 node, the namespaces are unknown
+						return null;
+					}
+					if (localNames[i].equals(child.getLocalName()) && equalsNamespace(namespaceURIs[i], child.getNamespaceURI())) {
+						next.add(child);
+					}
+				}
+			}
+			current = next;
+		}
+
+		if (attributeName == null) {
+			return current;
+		}
+		final List<Node> attributes = new ArrayList<Node>();
+		for (final Node node : current) {
+			if (node.getNodeType() == Node.ELEMENT_NODE) {
+				final Attr attribute = ((Element) node).getAttributeNodeNS(null, attributeName);
+				if (attribute != null) {
+					attributes.add(attribute);
+				}
+			}
+		}
+		return attributes;
+	}
+
+	private static boolean equalsNamespace(String expected, String namespaceURI) {
+		if (expected == null) {
+			return namespaceURI == null || namespaceURI.isEmpty();
+		}
+		return expected.equals(namespaceURI);
+	}
+
+	/**
+	 * Returns the string-value of the first node (XPath string() function)
+	 */
+	static String getStringValue(final List<Node> nodes) {
+		if (nodes.isEmpty()) {
+			return "";
+		}
+		final Node node = nodes.get(0);
+		if (node.getNodeType() == Node.ATTRIBUTE_NODE) {
+			return ((Attr) node).getValue();
+		}
+		final String textContent = node.getTextContent();
+		return textContent == null ? "" : textContent;
+	}
+
+	static NodeList toNodeList(final List<Node> nodes) {
+		return new NodeList() {
+
+			@Override
+			public Node item(int index) {
+				return index >= 0 && index < nodes.size() ? nodes.get(index) : null;
+			}
+
+			@Override
+			public int getLength() {
+				return nodes.size();
+			}
+
+		};
+	}
+
+}
@@ -31,8 +31,11 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.XMLConstants;
 import javax.xml.crypto.dsig.XMLSignature;
@@ -91,6 +94,36 @@ public final class DomUtils {
 
 	private static final Map<String, String> namespaces;
 
+	/**
+	 * Maximum number of compiled XPath expressions kept by thread
+	 */
+	private static final int XPATH_CACHE_SIZE = 256;
+
+	/**
+	 * Maximum number of parsed child path queries
+	 */
+	private static final int CHILD_PATH_CACHE_SIZE = 1024;
+
+	/**
+	 * Incremented when a namespace is registered : the prefixes are resolved at
+	 * the compilation of the XPath expressions
+	 */
+	private static volatile int namespacesVersion;
+
+	/**
+	 * The compiled expressions ({@code XPathExpression} is not thread-safe)
+	 */
+	private static final ThreadLocal<XPathExpressionCache> xpathExpressions = new ThreadLocal<XPathExpressionCache>() {
+
+		@Override
+		protected XPathExpressionCache initialValue() {
+			return new XPathExpressionCache();
+		}
+
+	};
+
+	private static final ConcurrentMap<String, ChildPathQuery> childPathQueries = new ConcurrentHashMap<String, ChildPathQuery>();
+
 	static {
 		namespacePrefixMapper = new NamespaceContextMap();
 		namespaces = new HashMap<String, String>();
@@ -174,6 +207,7 @@ public final class DomUtils {
 	public static boolean registerNamespace(final String prefix, final String namespace) {
 		final String put = namespaces.put(prefix, namespace);
 		namespacePrefixMapper.registerNamespace(prefix, namespace);
+		namespacesVersion++;
 		return put == null;
 	}
 
@@ -330,6 +364,32 @@ public final class DomUtils {
 		}
 	}
 
+	/**
+	 * Returns the compiled XPath expression from the cache of the current thread
+	 */
+	private static XPathExpression getXPathExpression(final String xpathString) {
+		return xpathExpressions.get().get(xpathString);
+	}
+
+	/**
+	 * Evaluates the simple child paths with a direct DOM navigation
+	 * 
+	 * @return the matching nodes or null if the XPath engine is required
+	 */
+	private static List<Node> evaluateChildPath(final Node xmlNode, final String xPathString) {
+		ChildPathQuery query = childPathQueries.get(xPathString);
+		if (query == null) {
+			query = ChildPathQuery.parse(xPathString);
+			if (query == null) {
+				return null;
+			}
+			if (childPathQueries.size() < CHILD_PATH_CACHE_SIZE) {
+				childPathQueries.putIfAbsent(xPathString, query);
+			}
+		}
+		return query.evaluate(xmlNode, namespaces);
+	}
+
 	/**
 	 * Returns the String value of the corresponding to the XPath query.
 	 *
@@ -340,8 +400,12 @@ public final class DomUtils {
 	 * @return string value of the XPath query
 	 */
 	public static String getValue(final Node xmlNode, final String xPathString) {
+		final List<Node> nodes = evaluateChildPath(xmlNode, xPathString);
+		if (nodes != null) {
+			return ChildPathQuery.getStringValue(nodes).trim();
+		}
 		try {
-			final XPathExpression xPathExpression = createXPathExpression(xPathString);
+			final XPathExpression xPathExpression = getXPathExpression(xPathString);
 			final String string = (String) xPathExpression.evaluate(xmlNode, XPathConstants.STRING);
 			return string.trim();
 		} catch (XPathExpressionException e) {
@@ -359,8 +423,12 @@ public final class DomUtils {
 	 * @return the NodeList corresponding to the XPath query
 	 */
 	public static NodeList getNodeList(final Node xmlNode, final String xPathString) {
+		final List<Node> nodes = evaluateChildPath(xmlNode, xPathString);
+		if (nodes != null) {
+			return ChildPathQuery.toNodeList(nodes);
+		}
 		try {
-			final XPathExpression expr = createXPathExpression(xPathString);
+			final XPathExpression expr = getXPathExpression(xPathString);
 			return (NodeList) expr.evaluate(xmlNode, XPathConstants.NODESET);
 		} catch (XPathExpressionException e) {
 			throw new DSSException(e);
@@ -647,4 +715,38 @@ public final class DomUtils {
 		return true;
 	}
 
+	/**
+	 * LRU cache of the compiled XPath expressions of one thread
+	 */
+	private static final class XPathExpressionCache {
+
+		private final Map<String, XPathExpression> expressions = new LinkedHashMap<String, XPathExpression>(XPATH_CACHE_SIZE, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+				return size() > XPATH_CACHE_SIZE;
+			}
+
+		};
+
+		private int version = namespacesVersion;
+
+		private XPathExpression get(final String xpathString) {
+			final int currentVersion = namespacesVersion;
+			if (version != currentVersion) {
+				expressions.clear();
+				version = currentVersion;
+			}
+			XPathExpression expression = expressions.get(xpathString);
+			if (expression == null) {
+				expression = createXPathExpression(xpathString);
+				expressions.put(xpathString, expression);
+			}
+			return expression;
+		}
+
+	}
+
 }
@@ -339,6 +339,19 @@ public interface AdvancedSignature extends Serializable {
 	 */
 	List<TimestampToken> getContentTimestamps();
 
+	/**
+	 * Returns the mutable structure which is shared with the other signatures of
+	 * the same document (e.g. the DOM of the XML signatures). The signatures which
+	 * share a structure are never checked concurrently (see
+	 * {@link DocumentValidator#setExecutorService(java.util.concurrent.ExecutorService)}).
+	 *
+	 * @return the shared structure or null if the signature can be checked
+	 *         independently of the other ones
+	 */
+	default Object getSharedStructure() {
+		return null;
+	}
+
 	/**
 	 * Returns the signature timestamps
 	 *
@@ -334,9 +334,15 @@ public class CommonCertificateVerifier implements CertificateVerifier {
 
 	@Override
 	public CertificatePool createValidationPool() {
-		final CertificatePool validationPool = new CertificatePool();
-		if (trustedCertSource != null) {
-			validationPool.importCerts(trustedCertSource);
+		final CertificatePool validationPool;
+		if (trustedCertSource instanceof CommonTrustedCertificateSource) {
+			// the trusted certificates are shared, only the new ones are stored in the validation pool
+			validationPool = new CertificatePool(((CommonTrustedCertificateSource) trustedCertSource).getTrustAnchorPool());
+		} else {
+			validationPool = new CertificatePool();
+			if (trustedCertSource != null) {
+				validationPool.importCerts(trustedCertSource);
+			}
 		}
 		if (adjunctCertSource != null) {
 			validationPool.importCerts(adjunctCertSource);
@@ -24,6 +24,7 @@ import java.io.File;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.x509.CertificateToken;
@@ -101,6 +102,25 @@ public interface DocumentValidator {
 	 */
 	void setEnableEtsiValidationReport(boolean enableEtsiValidationReport);
 	
+	/**
+	 * This method allows to define an {@code ExecutorService} to check the signatures (signing certificate,
+	 * integrity, structure and signature policy) in parallel. The same executor is used to build the certificate
+	 * chains and to retrieve the revocation data concurrently. By default, the value is null and the signatures are
+	 * checked sequentially. The order of the signatures in the reports is not impacted.
+	 * 
+	 * NOTE: the executor is not shut down by the validator.
+	 * 
+	 * The validators which do not support the parallel processing throw an {@code UnsupportedOperationException}.
+	 * 
+	 * @param executorService
+	 *            {@code ExecutorService} to use or null to disable the parallel processing
+	 */
+	default void setExecutorService(ExecutorService executorService) {
+		if (executorService != null) {
+			throw new UnsupportedOperationException(getClass().getName() + " does not support the parallel processing");
+		}
+	}
+
 	/**
 	 * This method allows to set a provider for Signature policies
 	 * 
@@ -26,13 +26,23 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +62,7 @@ import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceBatchSupport;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
@@ -70,9 +81,9 @@ public class SignatureValidationContext implements ValidationContext {
 
 	private static final Logger LOG = LoggerFactory.getLogger(SignatureValidationContext.class);
 
-	private final Set<CertificateToken> processedCertificates = new HashSet<CertificateToken>();
-	private final Set<RevocationToken> processedRevocations = new HashSet<RevocationToken>();
-	private final Set<TimestampToken> processedTimestamps = new HashSet<TimestampToken>();
+	private final Set<CertificateToken> processedCertificates = ConcurrentHashMap.newKeySet();
+	private final Set<RevocationToken> processedRevocations = ConcurrentHashMap.newKeySet();
+	private final Set<TimestampToken> processedTimestamps = ConcurrentHashMap.newKeySet();
 
 	/**
 	 * The data loader used to access AIA certificate source.
@@ -85,9 +96,50 @@ public class SignatureValidationContext implements ValidationContext {
 	 */
 	protected CertificatePool validationCertificatePool;
 
-	private final Map<Token, Boolean> tokensToProcess = new HashMap<Token, Boolean>();
+	/*
+	 * The map contains all the tokens to be verified. The value is true when the token is taken for the
+	 * verification.
+	 */
+	private final Map<Token, Boolean> tokensToProcess = new ConcurrentHashMap<Token, Boolean>();
+
+	private final Map<CertificateToken, Date> lastUsageDates = new ConcurrentHashMap<CertificateToken, Date>();
+
+	/*
+	 * The downloads of the issuer certificates through AIA, the key is the list of AIA urls. It ensures that a same
+	 * AIA location is accessed only once during the validation.
+	 */
+	private final Map<String, FutureTask<Collection<CertificateToken>>> aiaDownloads = new ConcurrentHashMap<String, FutureTask<Collection<CertificateToken>>>();
 
-	private final Map<CertificateToken, Date> lastUsageDates = new HashMap<CertificateToken, Date>();
+	/*
+	 * The CRLs retrieved online during a concurrent validation, the key is the CRL url and the issuer id. A CRL is downloaded
+	 * only once, even for certificates with different but overlapping distribution points.
+	 */
+	private final Map<String, CRLToken> onlineCRLs = new ConcurrentHashMap<String, CRLToken>();
+
+	/*
+	 * The lists of CRL urls (and the issuer id) for which the online source did not return any CRL
+	 */
+	private final Set<String> failedCRLUrls = ConcurrentHashMap.newKeySet();
+
+	/*
+	 * The locks used to retrieve the online revocation data : the key is a CRL url for the CRLs, the certificate id
+	 * for the OCSP responses
+	 */
+	private final Map<String, ReentrantLock> revocationLocks = new ConcurrentHashMap<String, ReentrantLock>();
+
+	/*
+	 * The OCSP responses retrieved online during the validation (empty if there is no response)
+	 */
+	private final Map<CertificateToken, Optional<OCSPToken>> onlineOCSPs = new ConcurrentHashMap<CertificateToken, Optional<OCSPToken>>();
+
+	/*
+	 * The online revocation data retrieved in advance for the certificate chains, when the online sources support the
+	 * batch requests. The whole chain is requested at once when its first certificate needs online revocation data,
+	 * the task is shared by the certificates of the request : the other ones wait for it before going online.
+	 */
+	private final Map<CertificateToken, FutureTask<Void>> prefetchTasks = new ConcurrentHashMap<CertificateToken, FutureTask<Void>>();
+	private final Map<CertificateToken, OCSPToken> prefetchedOCSPs = new ConcurrentHashMap<CertificateToken, OCSPToken>();
+	private final Map<CertificateToken, CRLToken> prefetchedCRLs = new ConcurrentHashMap<CertificateToken, CRLToken>();
 	
 	/* The map contains all the certificate chains that has been used into the signature. Links the signing certificate and its chain. */
 	private Map<CertificateToken, List<CertificateToken>> orderedCertificateChains;
@@ -112,6 +164,12 @@ public class SignatureValidationContext implements ValidationContext {
 	 */
 	private boolean checkRevocationForUntrustedChains;
 
+	/**
+	 * The optional {@code ExecutorService} used to process the independent tokens concurrently. If null (by default),
+	 * the tokens are processed one after the other.
+	 */
+	private ExecutorService executorService;
+
 	/**
 	 * This is the time at what the validation is carried out. It is used only for test purpose.
 	 */
@@ -147,7 +205,7 @@ public class SignatureValidationContext implements ValidationContext {
 			validationCertificatePool = new CertificatePool();
 		}
 
-		if (certificateVerifier.getTrustedCertSource() != null) {
+		if (certificateVerifier.getTrustedCertSource() != null && !isTrustAnchorPoolShared(certificateVerifier.getTrustedCertSource())) {
 			validationCertificatePool.importCerts(certificateVerifier.getTrustedCertSource());
 		}
 		if (certificateVerifier.getAdjunctCertSource() != null) {
@@ -163,6 +221,26 @@ public class SignatureValidationContext implements ValidationContext {
 		this.checkRevocationForUntrustedChains = certificateVerifier.isCheckRevocationForUntrustedChains();
 	}
 
+	/**
+	 * Checks if the validation pool is built on top of the current trust anchor
+	 * pool of the given source (the trusted certificates are already known)
+	 */
+	private boolean isTrustAnchorPoolShared(final CertificateSource trustedCertSource) {
+		return trustedCertSource instanceof CommonTrustedCertificateSource && validationCertificatePool.getBasePool() != null
+				&& validationCertificatePool.getBasePool() == ((CommonTrustedCertificateSource) trustedCertSource).getTrustAnchorPool();
+	}
+
+	/**
+	 * This method allows to process the tokens (chain building, AIA and revocation data retrieval) concurrently with
+	 * the given {@code ExecutorService}. The executor is not shut down by this class.
+	 *
+	 * @param executorService
+	 *            the {@code ExecutorService} to use or null to process the tokens sequentially
+	 */
+	public void setExecutorService(final ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
 	@Override
 	public Date getCurrentTime() {
 		return currentTime;
@@ -180,20 +258,15 @@ public class SignatureValidationContext implements ValidationContext {
 	 * @return token to verify or null
 	 */
 	private Token getNotYetVerifiedToken() {
-		synchronized (tokensToProcess) {
-			for (final Entry<Token, Boolean> entry : tokensToProcess.entrySet()) {
-
-				if (entry.getValue() == null) {
-
-					entry.setValue(true);
-					return entry.getKey();
-				}
+		for (final Entry<Token, Boolean> entry : tokensToProcess.entrySet()) {
+			if (!entry.getValue() && tokensToProcess.replace(entry.getKey(), Boolean.FALSE, Boolean.TRUE)) {
+				return entry.getKey();
 			}
-			return null;
 		}
+		return null;
 	}
 	
-	private Map<CertificateToken, List<CertificateToken>> getOrderedCertificateChains() {
+	private synchronized Map<CertificateToken, List<CertificateToken>> getOrderedCertificateChains() {
 		if (orderedCertificateChains == null) {
 			CertificateReorderer order = new CertificateReorderer(processedCertificates);
 			orderedCertificateChains = order.getOrderedCertificateChains();
@@ -266,7 +339,7 @@ public class SignatureValidationContext implements ValidationContext {
 	 */
 	private CertificateToken getIssuerFromAIA(final CertificateToken token) {
 		LOG.info("Retrieving {} certificate's issuer using AIA.", token.getAbbreviation());
-		Collection<CertificateToken> candidates = DSSUtils.loadPotentialIssuerCertificates(token, dataLoader);
+		Collection<CertificateToken> candidates = loadPotentialIssuerCertificates(token);
 		if (Utils.isCollectionNotEmpty(candidates)) {
 			// The potential issuers might support 3 known scenarios:
 			// - issuer certificate with single entry
@@ -298,6 +371,21 @@ public class SignatureValidationContext implements ValidationContext {
 		return null;
 	}
 
+	private Collection<CertificateToken> loadPotentialIssuerCertificates(final CertificateToken token) {
+		final List<String> aiaUrls = DSSASN1Utils.getCAAccessLocations(token);
+		if (Utils.isCollectionEmpty(aiaUrls)) {
+			return DSSUtils.loadPotentialIssuerCertificates(token, dataLoader);
+		}
+		final FutureTask<Collection<CertificateToken>> download = new FutureTask<Collection<CertificateToken>>(
+				() -> DSSUtils.loadPotentialIssuerCertificates(token, dataLoader));
+		FutureTask<Collection<CertificateToken>> existingDownload = aiaDownloads.putIfAbsent(Utils.joinStrings(aiaUrls, " "), download);
+		if (existingDownload == null) {
+			download.run();
+			existingDownload = download;
+		}
+		return getResult(existingDownload);
+	}
+
 	private CertificateToken findBestBridgeCertificate(CertificateToken token, Collection<CertificateToken> candidates) {
 		if (Utils.isCollectionEmpty(candidates) || candidates.size() == 1) {
 			return null;
@@ -345,30 +433,17 @@ public class SignatureValidationContext implements ValidationContext {
 		}
 
 		final boolean traceEnabled = LOG.isTraceEnabled();
-		if (traceEnabled) {
-			LOG.trace("addTokenForVerification: trying to acquire synchronized block");
+		if (tokensToProcess.putIfAbsent(token, Boolean.FALSE) != null) {
+			if (traceEnabled) {
+				LOG.trace("Token was already in the list {}:{}", token.getClass().getSimpleName(), token.getAbbreviation());
+			}
+			return false;
 		}
 
-		synchronized (tokensToProcess) {
-			try {
-				if (tokensToProcess.containsKey(token)) {
-					if (traceEnabled) {
-						LOG.trace("Token was already in the list {}:{}", token.getClass().getSimpleName(), token.getAbbreviation());
-					}
-					return false;
-				}
-
-				tokensToProcess.put(token, null);
-				if (traceEnabled) {
-					LOG.trace("+ New {} to check: {}", token.getClass().getSimpleName(), token.getAbbreviation());
-				}
-				return true;
-			} finally {
-				if (traceEnabled) {
-					LOG.trace("addTokenForVerification: almost left synchronized block");
-				}
-			}
+		if (traceEnabled) {
+			LOG.trace("+ New {} to check: {}", token.getClass().getSimpleName(), token.getAbbreviation());
 		}
+		return true;
 	}
 
 	@Override
@@ -427,23 +502,25 @@ public class SignatureValidationContext implements ValidationContext {
 			return;
 		}
 		
-		Map<CertificateToken, List<CertificateToken>> certificateChains = getOrderedCertificateChains();
-		List<CertificateToken> tsaCertificateChain = certificateChains.get(tsaCertificate);
-		if (tsaCertificateChain == null) {
-			tsaCertificateChain = toCertificateTokenChain(getCertChain(tsaCertificate));
-			certificateChains.put(tsaCertificate, tsaCertificateChain);
-		}
+		List<CertificateToken> tsaCertificateChain = getTSACertificateChain(tsaCertificate);
 		Date usageDate = timestampToken.getCreationDate();
 		for (CertificateToken cert : tsaCertificateChain) {
 			if (isSelfSignedOrTrusted(cert)) {
 				return;
 			}
-			Date lastUsage = lastUsageDates.get(cert);
-			if (lastUsage == null || lastUsage.before(usageDate)) {
-				lastUsageDates.put(cert, usageDate);
-			}
+			lastUsageDates.merge(cert, usageDate, (lastUsage, newUsage) -> lastUsage.before(newUsage) ? newUsage : lastUsage);
 		}
 	}
+
+	private synchronized List<CertificateToken> getTSACertificateChain(CertificateToken tsaCertificate) {
+		Map<CertificateToken, List<CertificateToken>> certificateChains = getOrderedCertificateChains();
+		List<CertificateToken> tsaCertificateChain = certificateChains.get(tsaCertificate);
+		if (tsaCertificateChain == null) {
+			tsaCertificateChain = toCertificateTokenChain(getCertChain(tsaCertificate));
+			certificateChains.put(tsaCertificate, tsaCertificateChain);
+		}
+		return tsaCertificateChain;
+	}
 	
 	private List<CertificateToken> toCertificateTokenChain(List<Token> tokens) {
 		List<CertificateToken> chain = new LinkedList<CertificateToken>();
@@ -457,17 +534,70 @@ public class SignatureValidationContext implements ValidationContext {
 
 	@Override
 	public void validate() throws DSSException {
+		if (executorService != null) {
+			validateConcurrently();
+			return;
+		}
 		Token token = getNotYetVerifiedToken();
 		while (token != null) {
+			processToken(token);
+			token = getNotYetVerifiedToken();
+		}
+	}
 
-			List<Token> certChain = getCertChain(token);
-			if (token instanceof CertificateToken) {
-				final List<RevocationToken> revocationTokens = getRevocationData((CertificateToken) token, certChain);
-				addRevocationTokensForVerification(revocationTokens);
-			} else if (token instanceof TimestampToken) {
-				registerUsageDate((TimestampToken) token);
+	/**
+	 * Submits every not yet verified token to the {@code executorService}. The
+	 * processing of a token can add new tokens (issuers, revocation data,...),
+	 * which are submitted as soon as a running task is completed.
+	 */
+	private void validateConcurrently() {
+		final CompletionService<Token> completionService = new ExecutorCompletionService<Token>(executorService);
+		int pendingTasks = 0;
+		while (true) {
+			Token token = getNotYetVerifiedToken();
+			while (token != null) {
+				final Token currentToken = token;
+				completionService.submit(() -> {
+					processToken(currentToken);
+					return currentToken;
+				});
+				pendingTasks++;
+				token = getNotYetVerifiedToken();
 			}
-			token = getNotYetVerifiedToken();
+			if (pendingTasks == 0) {
+				break;
+			}
+			try {
+				getResult(completionService.take());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DSSException("Interrupted during the validation of the tokens", e);
+			}
+			pendingTasks--;
+		}
+	}
+
+	private void processToken(final Token token) {
+		List<Token> certChain = getCertChain(token);
+		if (token instanceof CertificateToken) {
+			final List<RevocationToken> revocationTokens = getRevocationData((CertificateToken) token, certChain);
+			addRevocationTokensForVerification(revocationTokens);
+		} else if (token instanceof TimestampToken) {
+			registerUsageDate((TimestampToken) token);
+		}
+	}
+
+	private <T> T getResult(final Future<T> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException("Interrupted during the validation of the tokens", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new DSSException(e.getCause());
 		}
 	}
 
@@ -492,6 +622,36 @@ public class SignatureValidationContext implements ValidationContext {
 			return Collections.emptyList();
 		}
 
+		List<RevocationToken> revocations = getEmbeddedRevocationData(certToken);
+
+		if (isOnlineRevocationDataNeeded(certToken, revocations)) {
+			if (checkRevocationForUntrustedChains || containsTrustAnchor(certChain)) {
+				CertificateToken trustAnchor = (CertificateToken) getFirstTrustAnchor(certChain);
+
+				// Online resources (OCSP and CRL if OCSP doesn't reply), with the alternative urls of the trust services
+				final RevocationSource<OCSPToken> currentOCSPSource = getOnlineOCSPSource(trustAnchor);
+				final RevocationSource<CRLToken> currentCRLSource = getOnlineCRLSource(trustAnchor);
+				final OCSPAndCRLCertificateVerifier onlineVerifier = new OCSPAndCRLCertificateVerifier(memoizeCRLs(currentCRLSource),
+						memoizeOCSPs(currentOCSPSource), validationCertificatePool);
+
+				prefetchRevocationData(certChain, currentOCSPSource, currentCRLSource);
+				final RevocationToken onlineRevocationToken = checkOnline(onlineVerifier, certToken);
+				// CRL can already exist in the signature
+				if (onlineRevocationToken != null && !revocations.contains(onlineRevocationToken)) {
+					revocations.add(onlineRevocationToken);
+				}
+			} else {
+				LOG.warn("External revocation check is skipped for untrusted certificate : {}", certToken.getDSSIdAsString());
+			}
+		}
+		if (revocations.isEmpty()) {
+			LOG.warn("No revocation found for certificate {}", certToken.getDSSIdAsString());
+		}
+
+		return revocations;
+	}
+
+	private List<RevocationToken> getEmbeddedRevocationData(final CertificateToken certToken) {
 		List<RevocationToken> revocations = new ArrayList<RevocationToken>();
 
 		// ALL Embedded revocation data
@@ -508,34 +668,151 @@ public class SignatureValidationContext implements ValidationContext {
 				revocations.add(crlToken);
 			}
 		}
-		
-		if (revocations.isEmpty() || isRevocationDataRefreshNeeded(certToken, revocations)) {
-			if (checkRevocationForUntrustedChains || containsTrustAnchor(certChain)) {
-				CertificateToken trustAnchor = (CertificateToken) getFirstTrustAnchor(certChain);
+		return revocations;
+	}
 
-				// Online resources (OCSP and CRL if OCSP doesn't reply)
-				OCSPAndCRLCertificateVerifier onlineVerifier = null;
+	private boolean isOnlineRevocationDataNeeded(final CertificateToken certToken, final List<RevocationToken> embeddedRevocations) {
+		return embeddedRevocations.isEmpty() || isRevocationDataRefreshNeeded(certToken, embeddedRevocations);
+	}
 
-				if (trustedCertSource instanceof CommonTrustedCertificateSource && (trustAnchor != null)) {
-					onlineVerifier = instantiateWithTrustServices((CommonTrustedCertificateSource) trustedCertSource, trustAnchor);
-				} else {
-					onlineVerifier = new OCSPAndCRLCertificateVerifier(crlSource, ocspSource, validationCertificatePool);
+	/**
+	 * Retrieves in one batch the online revocation data of all the certificates of the chain which are not covered by
+	 * the embedded revocation data (nor already retrieved online). The OCSP responses are requested first, the CRLs are
+	 * only downloaded for the certificates without OCSP response. The certificates which are not covered by the result
+	 * are checked one by one.
+	 *
+	 * @param certChain
+	 *                  the complete chain
+	 * @param currentOCSPSource
+	 *                  the online OCSP source used for the chain
+	 * @param currentCRLSource
+	 *                  the online CRL source used for the chain
+	 */
+	private void prefetchRevocationData(final List<Token> certChain, final RevocationSource<OCSPToken> currentOCSPSource,
+			final RevocationSource<CRLToken> currentCRLSource) {
+		final boolean ocspBatch = isBatchSupported(ocspSource, currentOCSPSource);
+		final boolean crlBatch = isBatchSupported(crlSource, currentCRLSource);
+		if (!ocspBatch && !crlBatch) {
+			return;
+		}
+
+		final Map<CertificateToken, CertificateToken> certificatesAndIssuers = new LinkedHashMap<CertificateToken, CertificateToken>();
+		final FutureTask<Void> prefetchTask = new FutureTask<Void>(() -> {
+			fetchInBatch(certificatesAndIssuers, ocspBatch ? currentOCSPSource : null, crlBatch ? currentCRLSource : null);
+			return null;
+		});
+		for (Token token : certChain) {
+			if (token instanceof CertificateToken) {
+				final CertificateToken certificate = (CertificateToken) token;
+				if (isRevocationDataNotRequired(certificate) || prefetchTasks.containsKey(certificate) || onlineOCSPs.containsKey(certificate)
+						|| !isOnlineRevocationDataNeeded(certificate, getEmbeddedRevocationData(certificate))) {
+					continue;
+				}
+				final CertificateToken issuer = validationCertificatePool.getIssuer(certificate);
+				if (issuer != null && prefetchTasks.putIfAbsent(certificate, prefetchTask) == null) {
+					certificatesAndIssuers.put(certificate, issuer);
 				}
+			}
+		}
+		if (!certificatesAndIssuers.isEmpty()) {
+			// the claimed certificates are released even if the batch fails
+			prefetchTask.run();
+		}
+	}
 
-				final RevocationToken onlineRevocationToken = onlineVerifier.check(certToken);
-				// CRL can already exist in the signature
-				if (onlineRevocationToken != null && !revocations.contains(onlineRevocationToken)) {
-					revocations.add(onlineRevocationToken);
+	private boolean isBatchSupported(final RevocationSource<?> source, final RevocationSource<?> currentSource) {
+		// an adapter supports the batch requests if the adapted source supports them
+		return source instanceof RevocationSourceBatchSupport && currentSource instanceof RevocationSourceBatchSupport;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void fetchInBatch(final Map<CertificateToken, CertificateToken> certificatesAndIssuers,
+			final RevocationSource<OCSPToken> currentOCSPSource, final RevocationSource<CRLToken> currentCRLSource) {
+		if (certificatesAndIssuers.size() < 2) {
+			// a single certificate is checked with the usual requests
+			return;
+		}
+		final Map<CertificateToken, CertificateToken> remaining = new LinkedHashMap<CertificateToken, CertificateToken>(certificatesAndIssuers);
+		try {
+			if (currentOCSPSource != null) {
+				final Map<CertificateToken, OCSPToken> ocspTokens = ((RevocationSourceBatchSupport<OCSPToken>) currentOCSPSource)
+						.getRevocationTokens(remaining);
+				prefetchedOCSPs.putAll(ocspTokens);
+				if (executorService != null) {
+					for (Entry<CertificateToken, OCSPToken> entry : ocspTokens.entrySet()) {
+						onlineOCSPs.putIfAbsent(entry.getKey(), Optional.of(entry.getValue()));
+					}
+				}
+				remaining.keySet().removeAll(ocspTokens.keySet());
+			}
+			if (currentCRLSource != null && executorService != null) {
+				// the CRLs already downloaded for another certificate are reused by the usual requests
+				remaining.entrySet().removeIf(entry -> getMemoizedCRL(entry.getKey(), entry.getValue().getDSSIdAsString(),
+						DSSASN1Utils.getCrlUrls(entry.getKey())) != null);
+			}
+			if (currentCRLSource != null && !remaining.isEmpty()) {
+				final Map<CertificateToken, CRLToken> crlTokens = ((RevocationSourceBatchSupport<CRLToken>) currentCRLSource)
+						.getRevocationTokens(remaining);
+				prefetchedCRLs.putAll(crlTokens);
+				if (executorService != null) {
+					for (Entry<CertificateToken, CRLToken> entry : crlTokens.entrySet()) {
+						if (entry.getValue().getSourceURL() != null) {
+							onlineCRLs.putIfAbsent(entry.getValue().getSourceURL() + "|" + remaining.get(entry.getKey()).getDSSIdAsString(),
+									entry.getValue());
+						}
+					}
 				}
-			} else {
-				LOG.warn("External revocation check is skipped for untrusted certificate : {}", certToken.getDSSIdAsString());
 			}
+		} catch (DSSException e) {
+			LOG.warn("Unable to prefetch the revocation data : {}", e.getMessage());
 		}
-		if (revocations.isEmpty()) {
-			LOG.warn("No revocation found for certificate {}", certToken.getDSSIdAsString());
+	}
+
+	/**
+	 * Waits for the batch request which covers the certificate, if any
+	 */
+	private void awaitPrefetch(final CertificateToken certToken) {
+		final FutureTask<Void> prefetchTask = prefetchTasks.get(certToken);
+		if (prefetchTask == null) {
+			return;
 		}
+		try {
+			prefetchTask.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException("Interrupted during the validation of the tokens", e);
+		} catch (ExecutionException e) {
+			LOG.warn("Unable to prefetch the revocation data : {}", e.getCause().getMessage());
+		}
+	}
 
-		return revocations;
+	private RevocationToken checkPrefetched(final CertificateToken certToken) {
+		final OCSPToken ocspToken = prefetchedOCSPs.remove(certToken);
+		final CRLToken crlToken = prefetchedCRLs.remove(certToken);
+		if (ocspToken == null && crlToken == null) {
+			return null;
+		}
+		// the prefetched tokens are checked the same way as the online ones
+		final OCSPAndCRLCertificateVerifier prefetchedVerifier = new OCSPAndCRLCertificateVerifier((cert, issuer) -> crlToken,
+				(cert, issuer) -> ocspToken, validationCertificatePool);
+		return prefetchedVerifier.check(certToken);
+	}
+
+	private RevocationToken checkOnline(final OCSPAndCRLCertificateVerifier onlineVerifier, final CertificateToken certToken) {
+		awaitPrefetch(certToken);
+		RevocationToken revocationToken = checkPrefetched(certToken);
+		if (revocationToken != null) {
+			return revocationToken;
+		}
+		revocationToken = onlineVerifier.checkOCSP(certToken);
+		if (revocationToken != null) {
+			return revocationToken;
+		}
+		revocationToken = onlineVerifier.checkCRL(certToken);
+		if (revocationToken == null && LOG.isDebugEnabled()) {
+			LOG.debug("There is no response for {} neither from OCSP nor from CRL!", certToken.getDSSIdAsString());
+		}
+		return revocationToken;
 	}
 
 	private boolean containsTrustAnchor(List<Token> certChain) {
@@ -551,25 +828,130 @@ public class SignatureValidationContext implements ValidationContext {
 		return null;
 	}
 
+	/**
+	 * Returns the online OCSP source for a chain : the alternative urls of the trust services of the trust anchor are
+	 * added when the source supports them
+	 */
 	@SuppressWarnings({ "rawtypes", "unchecked" })
-	private OCSPAndCRLCertificateVerifier instantiateWithTrustServices(CommonTrustedCertificateSource trustedCertSource, CertificateToken trustAnchor) {
-		RevocationSource currentOCSPSource = null;
-		List<String> alternativeOCSPUrls = trustedCertSource.getAlternativeOCSPUrls(trustAnchor);
-		if (Utils.isCollectionNotEmpty(alternativeOCSPUrls) && ocspSource instanceof RevocationSourceAlternateUrlsSupport) {
-			currentOCSPSource = new AlternateUrlsSourceAdapter<OCSPToken>((RevocationSourceAlternateUrlsSupport) ocspSource, alternativeOCSPUrls);
-		} else {
-			currentOCSPSource = ocspSource;
+	private RevocationSource<OCSPToken> getOnlineOCSPSource(final CertificateToken trustAnchor) {
+		if (trustAnchor != null && trustedCertSource instanceof CommonTrustedCertificateSource
+				&& ocspSource instanceof RevocationSourceAlternateUrlsSupport) {
+			List<String> alternativeOCSPUrls = ((CommonTrustedCertificateSource) trustedCertSource).getAlternativeOCSPUrls(trustAnchor);
+			if (Utils.isCollectionNotEmpty(alternativeOCSPUrls)) {
+				return new AlternateUrlsSourceAdapter<OCSPToken>((RevocationSourceAlternateUrlsSupport) ocspSource, alternativeOCSPUrls);
+			}
 		}
+		return ocspSource;
+	}
 
-		RevocationSource currentCRLSource = null;
-		List<String> alternativeCRLUrls = trustedCertSource.getAlternativeCRLUrls(trustAnchor);
-		if (Utils.isCollectionNotEmpty(alternativeCRLUrls) && crlSource instanceof RevocationSourceAlternateUrlsSupport) {
-			currentCRLSource = new AlternateUrlsSourceAdapter<CRLToken>((RevocationSourceAlternateUrlsSupport) crlSource, alternativeCRLUrls);
-		} else {
-			currentCRLSource = crlSource;
+	/**
+	 * Returns the online CRL source for a chain : the alternative urls of the trust services of the trust anchor are
+	 * added when the source supports them
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private RevocationSource<CRLToken> getOnlineCRLSource(final CertificateToken trustAnchor) {
+		if (trustAnchor != null && trustedCertSource instanceof CommonTrustedCertificateSource
+				&& crlSource instanceof RevocationSourceAlternateUrlsSupport) {
+			List<String> alternativeCRLUrls = ((CommonTrustedCertificateSource) trustedCertSource).getAlternativeCRLUrls(trustAnchor);
+			if (Utils.isCollectionNotEmpty(alternativeCRLUrls)) {
+				return new AlternateUrlsSourceAdapter<CRLToken>((RevocationSourceAlternateUrlsSupport) crlSource, alternativeCRLUrls);
+			}
 		}
+		return crlSource;
+	}
 
-		return new OCSPAndCRLCertificateVerifier(currentCRLSource, currentOCSPSource, validationCertificatePool);
+	/**
+	 * Wraps the online CRL source when the tokens are processed concurrently : a CRL is retrieved only once per url
+	 * during the validation. The certificates which share a CRL distribution point with an already checked
+	 * certificate (of the same issuer) get a token built from the memoized CRL. The lookups sharing a CRL url are
+	 * serialized.
+	 *
+	 * @param source
+	 *               the online CRL source (can be null)
+	 * @return the memoizing source, or the given source in the sequential mode
+	 */
+	private RevocationSource<CRLToken> memoizeCRLs(final RevocationSource<CRLToken> source) {
+		if (source == null || executorService == null) {
+			return source;
+		}
+		return (certificate, issuer) -> {
+			final List<String> crlUrls = DSSASN1Utils.getCrlUrls(certificate);
+			if (issuer == null || Utils.isCollectionEmpty(crlUrls)) {
+				return source.getRevocationToken(certificate, issuer);
+			}
+			final String issuerId = issuer.getDSSIdAsString();
+			final String lookupKey = Utils.joinStrings(crlUrls, " ") + "|" + issuerId;
+			// one lock per url, always acquired in the same order
+			final List<ReentrantLock> locks = new ArrayList<ReentrantLock>();
+			for (String crlUrl : new TreeSet<String>(crlUrls)) {
+				locks.add(revocationLocks.computeIfAbsent("CRL " + crlUrl, k -> new ReentrantLock()));
+			}
+			for (ReentrantLock lock : locks) {
+				lock.lock();
+			}
+			try {
+				CRLToken crlToken = getMemoizedCRL(certificate, issuerId, crlUrls);
+				if (crlToken != null || failedCRLUrls.contains(lookupKey)) {
+					return crlToken;
+				}
+				crlToken = source.getRevocationToken(certificate, issuer);
+				if (crlToken == null) {
+					failedCRLUrls.add(lookupKey);
+				} else if (crlToken.getSourceURL() != null) {
+					onlineCRLs.put(crlToken.getSourceURL() + "|" + issuerId, crlToken);
+				}
+				return crlToken;
+			} finally {
+				for (ReentrantLock lock : locks) {
+					lock.unlock();
+				}
+			}
+		};
+	}
+
+	private CRLToken getMemoizedCRL(final CertificateToken certificate, final String issuerId, final List<String> crlUrls) {
+		for (String crlUrl : crlUrls) {
+			final CRLToken memoized = onlineCRLs.get(crlUrl + "|" + issuerId);
+			if (memoized != null) {
+				LOG.debug("The CRL from url '{}' is reused for {}", crlUrl, certificate.getDSSIdAsString());
+				final CRLToken crlToken = new CRLToken(certificate, memoized.getCrlValidity());
+				crlToken.setOrigins(memoized.getOrigins());
+				crlToken.setSourceURL(memoized.getSourceURL());
+				crlToken.setRevocationTokenKey(memoized.getRevocationTokenKey());
+				crlToken.setAvailable(memoized.isAvailable());
+				return crlToken;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Wraps the online OCSP source when the tokens are processed concurrently : the OCSP response of a certificate
+	 * (or its absence) is retrieved only once during the validation. The lookups for a same certificate are
+	 * serialized.
+	 *
+	 * @param source
+	 *               the online OCSP source (can be null)
+	 * @return the memoizing source, or the given source in the sequential mode
+	 */
+	private RevocationSource<OCSPToken> memoizeOCSPs(final RevocationSource<OCSPToken> source) {
+		if (source == null || executorService == null) {
+			return source;
+		}
+		return (certificate, issuer) -> {
+			final ReentrantLock lock = revocationLocks.computeIfAbsent("OCSP " + certificate.getDSSIdAsString(), k -> new ReentrantLock());
+			lock.lock();
+			try {
+				Optional<OCSPToken> ocspToken = onlineOCSPs.get(certificate);
+				if (ocspToken == null) {
+					ocspToken = Optional.ofNullable(source.getRevocationToken(certificate, issuer));
+					onlineOCSPs.put(certificate, ocspToken);
+				}
+				return ocspToken.orElse(null);
+			} finally {
+				lock.unlock();
+			}
+		};
 	}
 
 	@Override
@@ -26,9 +26,14 @@ import java.io.InputStream;
 import java.net.URL;
 import java.security.Security;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -122,6 +127,12 @@ public abstract class SignedDocumentValidator implements DocumentValidator, Proc
 	// Produces the ETSI Validation Report by default
 	private boolean enableEtsiValidationReport = true;
 
+	/**
+	 * The optional {@code ExecutorService} used to check the signatures in
+	 * parallel. If null (by default), the signatures are checked sequentially.
+	 */
+	private ExecutorService executorService;
+
 	protected SignedDocumentValidator(SignatureScopeFinder signatureScopeFinder) {
 		this.signatureScopeFinder = signatureScopeFinder;
 	}
@@ -212,6 +223,11 @@ public abstract class SignedDocumentValidator implements DocumentValidator, Proc
 		this.enableEtsiValidationReport = enableEtsiValidationReport;
 	}
 
+	@Override
+	public void setExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
 	@Override
 	public Reports validateDocument() {
 		return validateDocument((InputStream) null);
@@ -249,6 +265,9 @@ public abstract class SignedDocumentValidator implements DocumentValidator, Proc
 	/**
 	 * Validates the document and all its signatures. The policyDataStream
 	 * contains the constraint file. If null or empty the default file is used.
+	 * The policy is parsed for each call : to validate several documents with the
+	 * same policy, see {@code ValidationPolicyFacade.getCompiledValidationPolicy}
+	 * and {@link #validateDocument(ValidationPolicy)}.
 	 *
 	 * @param policyDataStream
 	 *            the {@code InputStream} with the validation policy
@@ -298,7 +317,8 @@ public abstract class SignedDocumentValidator implements DocumentValidator, Proc
 		ensureSignaturePolicyDetectorInitialized();
 
 		boolean structuralValidation = isRequireStructuralValidation(validationPolicy);
-		final ValidationContext validationContext = new SignatureValidationContext(validationCertPool);
+		final SignatureValidationContext validationContext = new SignatureValidationContext(validationCertPool);
+		validationContext.setExecutorService(executorService);
 
 		List<AdvancedSignature> allSignatureList = prepareSignatureValidationContext(validationContext);
 		allSignatureList = processSignaturesValidation(validationContext, allSignatureList, structuralValidation);
@@ -349,14 +369,16 @@ public abstract class SignedDocumentValidator implements DocumentValidator, Proc
 		validationContext.initialize(certificateVerifier);
 		validationContext.validate();
 
-		for (final AdvancedSignature signature : allSignatureList) {
-			signature.checkSigningCertificate();
-			signature.checkSignatureIntegrity();
-			if (structuralValidation) {
-				signature.validateStructure();
+		if (executorService != null && allSignatureList.size() > 1) {
+			checkSignaturesInParallel(allSignatureList, structuralValidation);
+		} else {
+			for (final AdvancedSignature signature : allSignatureList) {
+				checkSignature(signature, structuralValidation);
 			}
-			signature.checkSignaturePolicy(signaturePolicyProvider);
+		}
 
+		// the lists are populated sequentially to keep a deterministic order
+		for (final AdvancedSignature signature : allSignatureList) {
 			signature.populateCRLTokenLists(signatureCRLSource);
 			signature.populateOCSPTokenLists(signatureOCSPSource);
 		}
@@ -364,6 +386,72 @@ public abstract class SignedDocumentValidator implements DocumentValidator, Proc
 		return allSignatureList;
 	}
 
+	private void checkSignature(final AdvancedSignature signature, boolean structuralValidation) {
+		signature.checkSigningCertificate();
+		signature.checkSignatureIntegrity();
+		if (structuralValidation) {
+			signature.validateStructure();
+		}
+		signature.checkSignaturePolicy(signaturePolicyProvider);
+	}
+
+	/**
+	 * Submits the checks of the signatures to the {@code executorService} and
+	 * waits for all of them. The signatures which share a structure (see
+	 * {@link AdvancedSignature#getSharedStructure()}) are checked sequentially in
+	 * the same task. The order of {@code allSignatureList} is not modified.
+	 *
+	 * @param allSignatureList
+	 *            {@code List} of {@code AdvancedSignature}s to validate
+	 *            including the countersignatures
+	 * @param structuralValidation
+	 *            true if the structure of the signatures must be validated
+	 */
+	private void checkSignaturesInParallel(final List<AdvancedSignature> allSignatureList, final boolean structuralValidation) {
+		final List<List<AdvancedSignature>> groups = new ArrayList<List<AdvancedSignature>>();
+		final Map<Object, List<AdvancedSignature>> groupsBySharedStructure = new IdentityHashMap<Object, List<AdvancedSignature>>();
+		for (final AdvancedSignature signature : allSignatureList) {
+			final Object sharedStructure = signature.getSharedStructure();
+			List<AdvancedSignature> group = sharedStructure == null ? null : groupsBySharedStructure.get(sharedStructure);
+			if (group == null) {
+				group = new ArrayList<AdvancedSignature>();
+				groups.add(group);
+				if (sharedStructure != null) {
+					groupsBySharedStructure.put(sharedStructure, group);
+				}
+			}
+			group.add(signature);
+		}
+		if (groups.size() == 1) {
+			for (final AdvancedSignature signature : allSignatureList) {
+				checkSignature(signature, structuralValidation);
+			}
+			return;
+		}
+
+		final List<Future<?>> futures = new ArrayList<Future<?>>();
+		for (final List<AdvancedSignature> group : groups) {
+			futures.add(executorService.submit(() -> {
+				for (final AdvancedSignature signature : group) {
+					checkSignature(signature, structuralValidation);
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DSSException("Interrupted during the signature validation", e);
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw new DSSException("Unable to validate the signature : " + e.getCause().getMessage(), e.getCause());
+			}
+		}
+	}
+
 	/**
 	 * This method allows to retrieve the container information (ASiC Container)
 	 * 
@@ -25,6 +25,18 @@ public abstract class AbstractSignatureScopeFinder<T extends AdvancedSignature>
 	protected Digest getDigest(byte[] dataBytes) {
 		return new Digest(defaultDigestAlgorithm, DSSUtils.digest(defaultDigestAlgorithm, dataBytes));
 	}
+
+	/**
+	 * Returns the digest of the document with the default digest algorithm. The
+	 * digest is computed on the document stream and kept by the document.
+	 * 
+	 * @param document
+	 *            the {@code DSSDocument} to be digested
+	 * @return the {@code Digest}
+	 */
+	protected Digest getDigest(DSSDocument document) {
+		return new Digest(defaultDigestAlgorithm, Utils.fromBase64(document.getDigest(defaultDigestAlgorithm)));
+	}
 	
 	protected boolean isASiCSArchive(AdvancedSignature advancedSignature, DSSDocument dssDocument) {
 		return ASICS_PACKAGE_ZIP_NAME.equals(dssDocument.getName()) && 
@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.function.Function;
 
 import javax.security.auth.x500.X500Principal;
 
@@ -52,6 +53,7 @@ import eu.europa.esig.dss.enumerations.EncryptionAlgorithm;
 import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
 import eu.europa.esig.dss.enumerations.TimestampLocation;
 import eu.europa.esig.dss.enumerations.TimestampType;
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.Token;
@@ -238,11 +240,13 @@ public class TimestampToken extends Token {
 
 		final X509CertificateHolder x509CertificateHolder = DSSASN1Utils.getX509CertificateHolder(candidate);
 		if (timeStamp.getSID().match(x509CertificateHolder)) {
-			SignerInformationVerifier signerInformationVerifier = getSignerInformationVerifier(candidate);
-
 			// Try firstly to validate as a Timestamp and if that fails try to validate the
-			// timestamp as a CMSSignedData
-			if (isValidTimestamp(signerInformationVerifier) || isValidCMSSignedData(signerInformationVerifier)) {
+			// timestamp as a CMSSignedData (the signing certificate is also checked : the
+			// result depends on the candidate certificate)
+			if (verifySignature(candidate.getDSSIdAsString(), () -> {
+				SignerInformationVerifier signerInformationVerifier = getSignerInformationVerifier(candidate);
+				return isValidTimestamp(signerInformationVerifier) || isValidCMSSignedData(signerInformationVerifier);
+			})) {
 				signatureValid = true;
 				this.tsaX500Principal = candidate.getSubjectX500Principal();
 				SignerInformation signerInformation = timeStamp.toCMSSignedData().getSignerInfos().get(timeStamp.getSID());
@@ -334,9 +338,42 @@ public class TimestampToken extends Token {
 	 * @return true if the data is verified by the TimeStampToken
 	 */
 	public boolean matchData(final byte[] data, final boolean suppressMatchWarnings) {
+		return matchData(data != null, digestAlgorithm -> DSSUtils.digest(digestAlgorithm, data), suppressMatchWarnings);
+	}
+
+	/**
+	 * Checks if the {@code TimeStampToken} matches the signed data. The digest is
+	 * computed by streaming the document, its content is not loaded in memory.
+	 * 
+	 * @param document
+	 *                 the {@code DSSDocument} representing the timestamped data
+	 * @return true if the data is verified by the TimeStampToken
+	 */
+	public boolean matchDocument(final DSSDocument document) {
+		return matchDocument(document, false);
+	}
+
+	/**
+	 * Checks if the {@code TimeStampToken} matches the signed data. The digest is
+	 * computed by streaming the document, its content is not loaded in memory.
+	 * 
+	 * @param document
+	 *                              the {@code DSSDocument} representing the
+	 *                              timestamped data
+	 * @param suppressMatchWarnings
+	 *                              if true the message imprint match warning logs
+	 *                              are suppressed.
+	 * @return true if the data is verified by the TimeStampToken
+	 */
+	public boolean matchDocument(final DSSDocument document, final boolean suppressMatchWarnings) {
+		return matchData(document != null, digestAlgorithm -> Utils.fromBase64(document.getDigest(digestAlgorithm)), suppressMatchWarnings);
+	}
+
+	private boolean matchData(final boolean dataFound, final Function<DigestAlgorithm, byte[]> digestComputer,
+			final boolean suppressMatchWarnings) {
 		processed = true;
 
-		messageImprintData = data != null;
+		messageImprintData = dataFound;
 		messageImprintIntact = false;
 
 		if (messageImprintData) {
@@ -345,7 +382,7 @@ public class TimestampToken extends Token {
 				final ASN1ObjectIdentifier hashAlgorithm = timeStampInfo.getMessageImprintAlgOID();
 				final DigestAlgorithm digestAlgorithm = DigestAlgorithm.forOID(hashAlgorithm.getId());
 
-				final byte[] computedDigest = DSSUtils.digest(digestAlgorithm, data);
+				final byte[] computedDigest = digestComputer.apply(digestAlgorithm);
 				final byte[] timestampDigest = timeStampInfo.getMessageImprintDigest();
 				messageImprintIntact = Arrays.equals(computedDigest, timestampDigest);
 				if (!messageImprintIntact && !suppressMatchWarnings) {
@@ -20,13 +20,20 @@
  */
 package eu.europa.esig.dss;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.InputStream;
 
+import javax.xml.xpath.XPathConstants;
+
 import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
 
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.InMemoryDocument;
@@ -38,6 +45,53 @@ public class DomUtilsTest {
 
 	private static final String INCORRECT_XML_TEXT = "<hello><world></warld></hello>";
 
+	private static final String XADES_LIKE_XML = "<ds:Signature xmlns:ds=\"http://www.w3.org/2000/09/xmldsig#\" xmlns:xades=\"http://uri.etsi.org/01903/v1.3.2#\">"
+			+ "<ds:SignedInfo><ds:Reference URI=\"#a\"><ds:DigestMethod Algorithm=\"sha256\"/><ds:DigestValue> AAA </ds:DigestValue></ds:Reference>"
+			+ "<ds:Reference URI=\"#b\"><ds:DigestMethod Algorithm=\"sha512\"/><ds:DigestValue>BBB</ds:DigestValue></ds:Reference></ds:SignedInfo>"
+			+ "<ds:Object><xades:QualifyingProperties><xades:SignedProperties><xades:SignedSignatureProperties>"
+			+ "<xades:SigningTime>2019-08-28T14:22:46Z</xades:SigningTime><!-- comment --></xades:SignedSignatureProperties>"
+			+ "</xades:SignedProperties><xades:Other><EncapsulatedX509Certificate>CERT</EncapsulatedX509Certificate></xades:Other>"
+			+ "</xades:QualifyingProperties></ds:Object><ds:Object><Unknown xmlns=\"urn:unknown\"/></ds:Object></ds:Signature>";
+
+	@Test
+	public void childPathQueriesAsXPath() throws Exception {
+		Document document = DomUtils.buildDOM(XADES_LIKE_XML);
+		Element signature = document.getDocumentElement();
+
+		String[] queries = new String[] { "./ds:SignedInfo", "./ds:SignedInfo/ds:Reference", "ds:SignedInfo/ds:Reference/ds:DigestValue",
+				"./ds:SignedInfo/ds:Reference/ds:DigestMethod/@Algorithm", "./ds:Object", "./ds:Object/xades:QualifyingProperties/xades:SignedProperties",
+				"./ds:Object/xades:QualifyingProperties/xades:SignedProperties/xades:SignedSignatureProperties/xades:SigningTime",
+				"./ds:Object/xades:QualifyingProperties/xades:SignedProperties/xades:SignedSignatureProperties",
+				"./ds:Object/xades:QualifyingProperties/xades:Other/EncapsulatedX509Certificate", "./ds:Object/Unknown", "./ds:KeyInfo",
+				"./xades:QualifyingProperties", "./ds:Signature", "./ds:SignedInfo/ds:Reference/@Id" };
+
+		for (String query : queries) {
+			NodeList expected = (NodeList) DomUtils.createXPathExpression(query).evaluate(signature, XPathConstants.NODESET);
+			NodeList result = DomUtils.getNodeList(signature, query);
+			assertEquals(query, expected.getLength(), result.getLength());
+			for (int i = 0; i < expected.getLength(); i++) {
+				assertSame(query, expected.item(i), result.item(i));
+			}
+			String expectedValue = ((String) DomUtils.createXPathExpression(query).evaluate(signature, XPathConstants.STRING)).trim();
+			assertEquals(query, expectedValue, DomUtils.getValue(signature, query));
+		}
+
+		assertEquals(1, DomUtils.getNodeList(document, "./ds:Signature").getLength());
+	}
+
+	@Test
+	public void cachedXPathQueries() {
+		Document document = DomUtils.buildDOM(XADES_LIKE_XML);
+		Element signature = document.getDocumentElement();
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(2, DomUtils.getNodeList(signature, "./ds:SignedInfo/ds:Reference[@URI]").getLength());
+			assertEquals("#b", DomUtils.getValue(signature, "./ds:SignedInfo/ds:Reference[2]/@URI"));
+			assertEquals(1, DomUtils.getNodeList(document, "//xades:SigningTime").getLength());
+		}
+		assertEquals("sha256", DomUtils.getValue(signature, "./ds:SignedInfo/ds:Reference[@URI='#a']/ds:DigestMethod/@Algorithm"));
+	}
+
 	@Test
 	public void testNoHeader() {
 		InputStream is = new ByteArrayInputStream(XML_TEXT.getBytes());
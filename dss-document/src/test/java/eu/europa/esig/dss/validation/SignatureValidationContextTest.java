@@ -21,25 +21,64 @@
 package eu.europa.esig.dss.validation;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.CRLDistPoint;
+import org.bouncycastle.asn1.x509.DistributionPoint;
+import org.bouncycastle.asn1.x509.DistributionPointName;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
 import org.junit.Test;
 
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLUtils;
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
 import eu.europa.esig.dss.enumerations.TimestampType;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.IgnoreDataLoader;
 import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
 import eu.europa.esig.dss.spi.x509.CertificatePool;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
+import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
 import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceBatchSupport;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPSource;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.timestamp.TimestampToken;
 
@@ -139,17 +178,11 @@ public class SignatureValidationContextTest {
 		CertificateSource certSource = new CommonTrustedCertificateSource();
 		certificateVerifier.setTrustedCertSource(certSource);
 
-		Map<String, byte[]> dataMap = new HashMap<>();
-		dataMap.put("http://ssp-aia.symauth.com/STNSSP/Certs_issued_to_Class3SSPCA-G3.p7c", Utils.fromBase64("MIIGqgYJKoZIhvcNAQcCoIIGmzCCBpcCAQExADALBgkqhkiG9w0BBwGgggZ/MIIGezCCBWOgAwIBAgIUTQ/4rJckt6fN6sXPaCpaTD3VnfEwDQYJKoZIhvcNAQELBQAwVzELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEfMB0GA1UEAxMWRmVkZXJhbCBCcmlkZ2UgQ0EgMjAxNjAeFw0xNzEwMjUxNDA3NDFaFw0yMDEwMjUxNDA1NDBaMIGBMQswCQYDVQQGEwJVUzEdMBsGA1UEChMUU3ltYW50ZWMgQ29ycG9yYXRpb24xHzAdBgNVBAsTFlN5bWFudGVjIFRydXN0IE5ldHdvcmsxMjAwBgNVBAMTKVN5bWFudGVjIENsYXNzIDMgU1NQIEludGVybWVkaWF0ZSBDQSAtIEczMIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAvanvlwynHzqxLZofiv7Sjyv6b8pOs+uSdY/RED0qnqx7ADOQ1rsFXCDSM6HJqaK/WI8KezXS6ygf3efFhtctYXni84tF1hT/ncoQ82aCSPaKkxpMu5pF4GCE2JuKRZKcCbJLxEi1oMyzy10XaCgo8jjFaJqY3Cp73ZUL6mJza2rQ29rdjiS8wMmO3KN7e525O0ujKhpoeStfuLuATrumycwqPVMdS2t7UlXWiGX36g67Ki3ind5LFWWsxaKLBvXVueQJqR5w7P+Y/YMcwaDqln8F4n5OFotTKUBcQIBEiodz1TBE8oL0F8toJfh50ih5iIGWhGzgp2ot2D8j15PAqQIDAQABo4IDEjCCAw4wDwYDVR0TAQH/BAUwAwEB/zCBiAYDVR0gBIGAMH4wDAYKYIZIAWUDAgEDAzAMBgpghkgBZQMCAQMMMAwGCmCGSAFlAwIBAxIwDAYKYIZIAWUDAgEDEzAMBgpghkgBZQMCAQMUMAwGCmCGSAFlAwIBAyYwDAYKYIZIAWUDAgEDJTAMBgpghkgBZQMCAQMOMAwGCmCGSAFlAwIBAw8wUwYIKwYBBQUHAQEERzBFMEMGCCsGAQUFBzAChjdodHRwOi8vaHR0cC5mcGtpLmdvdi9icmlkZ2UvY2FDZXJ0c0lzc3VlZFRvZmJjYTIwMTYucDdjMIIBEgYDVR0hBIIBCTCCAQUwGwYKYIZIAWUDAgEDAwYNYIZIAYb4RQEHFwMBBjAbBgpghkgBZQMCAQMMBg1ghkgBhvhFAQcXAwEHMBsGCmCGSAFlAwIBAw4GDWCGSAGG+EUBBxcDAQ4wGwYKYIZIAWUDAgEDDwYNYIZIAYb4RQEHFwMBDzAbBgpghkgBZQMCAQMSBg1ghkgBhvhFAQcXAwESMBsGCmCGSAFlAwIBAxMGDWCGSAGG+EUBBxcDAREwGwYKYIZIAWUDAgEDFAYNYIZIAYb4RQEHFwMBFDAbBgpghkgBZQMCAQMlBg1ghkgBhvhFAQcXAwEIMBsGCmCGSAFlAwIBAyYGDWCGSAGG+EUBBxcDASQwYAYIKwYBBQUHAQsEVDBSMFAGCCsGAQUFBzAFhkRodHRwOi8vc3NwLXNpYS5zeW1hdXRoLmNvbS9TVE5TU1AvQ2VydHNfSXNzdWVkX2J5X0NsYXNzM1NTUENBLUczLnA3YzAMBgNVHSQEBTADgQEAMAoGA1UdNgQDAgEAMA4GA1UdDwEB/wQEAwIBBjAfBgNVHSMEGDAWgBQjsLN9FlTUAlZ26zq+qWsvQ3soFjA5BgNVHR8EMjAwMC6gLKAqhihodHRwOi8vaHR0cC5mcGtpLmdvdi9icmlkZ2UvZmJjYTIwMTYuY3JsMB0GA1UdDgQWBBQ1Jn1QleGhwb0F1cOdd0LHDBOWjDANBgkqhkiG9w0BAQsFAAOCAQEAcM7Oza5mG6L7zMKFt4zjBo3dofjXZut/KOYBuEmQoss3NSA5Z0xzEIJyvHY6y10TfCInnzpSlqir1r2NjiJ/HYpdnziDZ1EziLkjXb6cGwOMSCSQftYtrJLF1LptGElbvdh/MhEza9M1PABsQ/yh2zkY5hZF/gHb76+/kk3Kn4l3XNoD17OnkPmxgZ3k7SIkxgci9z06r+ZEfJVbDkFL2GgRCNBjngG1et92LtqxmxrFoYCpPMmqgJB4tqlRDc3+lVIBU2L7wTYyG5UURuJcHyEOagZGjsZPil5hRCoGtluL12HAB4FJUH6wDK7/cTEkpldN2B5iG+2dvLNv1ux6lzEA"));
-		dataMap.put("http://http.fpki.gov/bridge/caCertsIssuedTofbca2016.p7c", Utils.fromBase64("MIJdlgYJKoZIhvcNAQcCoIJdhzCCXYMCAQExADALBgkqhkiG9w0BBwGggl1pMIIGZTCCBU2gAwIBAgICP0IwDQYJKoZIhvcNAQELBQAwWTELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEhMB8GA1UEAxMYRmVkZXJhbCBDb21tb24gUG9saWN5IENBMB4XDTE2MTEwODE4MjAzOFoXDTE5MTEwODE4MjAzOFowVzELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEfMB0GA1UEAxMWRmVkZXJhbCBCcmlkZ2UgQ0EgMjAxNjCCASIwDQYJKoZIhvcNAQEBBQADggEPADCCAQoCggEBAL6dNXlvJbX0kINuE79TUMrNHJbUHGuB8oqbD0an37fv/+1EWc6Hlm9fV7H+M6tHx4WXdzyKDhTNL3lqJxTSeFulpUs4Orjf9osL2lMRI1mfqWIykPQaTwWDPj3NmxV7kNiLoc3MuMBDn82ni74jQX0pM99ZfUDA49pzw69Dv5ZYSsKDsiriIX6Tl2r5FWmMfgxokTrwtyyBWgq9koa5hJmSmASf1MSJwpHhIVJIft0An4/5LT7y6F4KVMxPgkgvDAJeB7Yy5JMpN8xWdyF2ZhqZ8gsT4sP5O+CYHJw/9SPIhi+Py+m/XxriaDIHvbu2N4neuHD9yMmDRCsYvoZ3EjkCAwEAAaOCAzcwggMzMA8GA1UdEwEB/wQFMAMBAf8wggFBBgNVHSAEggE4MIIBNDAMBgpghkgBZQMCAQMGMAwGCmCGSAFlAwIBAwcwDAYKYIZIAWUDAgEDCDAMBgpghkgBZQMCAQMNMAwGCmCGSAFlAwIBAxAwDAYKYIZIAWUDAgEDATAMBgpghkgBZQMCAQMCMAwGCmCGSAFlAwIBAw4wDAYKYIZIAWUDAgEDDzAMBgpghkgBZQMCAQMRMAwGCmCGSAFlAwIBAxIwDAYKYIZIAWUDAgEDEzAMBgpghkgBZQMCAQMUMAwGCmCGSAFlAwIBAyQwDAYKYIZIAWUDAgEDAzAMBgpghkgBZQMCAQMEMAwGCmCGSAFlAwIBAwwwDAYKYIZIAWUDAgEDJTAMBgpghkgBZQMCAQMmMAwGCmCGSAFlAwIBAycwDAYKYIZIAWUDAgEDKDAMBgpghkgBZQMCAQMpME8GCCsGAQUFBwEBBEMwQTA/BggrBgEFBQcwAoYzaHR0cDovL2h0dHAuZnBraS5nb3YvZmNwY2EvY2FDZXJ0c0lzc3VlZFRvZmNwY2EucDdjMIGNBgNVHSEEgYUwgYIwGAYKYIZIAWUDAgEDBgYKYIZIAWUDAgEDAzAYBgpghkgBZQMCAQMQBgpghkgBZQMCAQMEMBgGCmCGSAFlAwIBAwcGCmCGSAFlAwIBAwwwGAYKYIZIAWUDAgEDCAYKYIZIAWUDAgEDJTAYBgpghkgBZQMCAQMkBgpghkgBZQMCAQMmMFMGCCsGAQUFBwELBEcwRTBDBggrBgEFBQcwBYY3aHR0cDovL2h0dHAuZnBraS5nb3YvYnJpZGdlL2NhQ2VydHNJc3N1ZWRCeWZiY2EyMDE2LnA3YzAPBgNVHSQBAf8EBTADgQECMA0GA1UdNgEB/wQDAgEAMA4GA1UdDwEB/wQEAwIBBjAfBgNVHSMEGDAWgBStDHp1XOXzmMR5mA6sKP2X9OcC/DA1BgNVHR8ELjAsMCqgKKAmhiRodHRwOi8vaHR0cC5mcGtpLmdvdi9mY3BjYS9mY3BjYS5jcmwwHQYDVR0OBBYEFCOws30WVNQCVnbrOr6pay9DeygWMA0GCSqGSIb3DQEBCwUAA4IBAQAjrfFl52VqvOzz8u/PatFCjkJBDa33wUeVL7w0zu7+l6TsMJSZbPsPZX7upYAQKf2pSWj1stdbvpe7QLlxGP2bjG+ZXCXiBJUV2+KJHR1hFQx1NpzKfXi/sqloLrUBgaOHEgNKSX4YnJooj33VaEyfhEik7y/fXJePHo6Z/oYJLJxV6cagHmrwkDMHx8ujvdyBDzoua29BIOH0RvfZBD5wT8Umrng+2iiDcoTT/igrs3MdEiqB7g3cTqFrJJ36M0ZHWowOrmn2HlLI+X3ilC+6WoB5DrdbYgJWuTHGuG33shQwr3iK57jTcgqxEJyAtx726j0I+KW6WL+r9v7aykNoMIIGEjCCBPqgAwIBAgIQE4bT1zbS7klKtFX0xD0fEzANBgkqhkiG9w0BAQsFADBPMQswCQYDVQQGEwJVUzESMBAGA1UEChMJVFNDUCBJbmMuMQwwCgYDVQQLEwNDQXMxHjAcBgNVBAMTFVRTQ1AgU0hBMjU2IEJyaWRnZSBDQTAeFw0xNzA1MTYwMDAwMDBaFw0yMDA1MTUyMzU5NTlaMFcxCzAJBgNVBAYTAlVTMRgwFgYDVQQKEw9VLlMuIEdvdmVybm1lbnQxDTALBgNVBAsTBEZQS0kxHzAdBgNVBAMTFkZlZGVyYWwgQnJpZGdlIENBIDIwMTYwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQC+nTV5byW19JCDbhO/U1DKzRyW1BxrgfKKmw9Gp9+37//tRFnOh5ZvX1ex/jOrR8eFl3c8ig4UzS95aicU0nhbpaVLODq43/aLC9pTESNZn6liMpD0Gk8Fgz49zZsVe5DYi6HNzLjAQ5/Np4u+I0F9KTPfWX1AwOPac8OvQ7+WWErCg7Iq4iF+k5dq+RVpjH4MaJE68LcsgVoKvZKGuYSZkpgEn9TEicKR4SFSSH7dAJ+P+S0+8uheClTMT4JILwwCXge2MuSTKTfMVnchdmYamfILE+LD+TvgmBycP/UjyIYvj8vpv18a4mgyB727tjeJ3rhw/cjJg0QrGL6GdxI5AgMBAAGjggLgMIIC3DAdBgNVHQ4EFgQUI7CzfRZU1AJWdus6vqlrL0N7KBYwDwYDVR0TAQH/BAUwAwEB/zB5BgNVHSAEcjBwMA4GDCsGAQQBgqlTAQEBATAOBgwrBgEEAYKpUwEBAQIwDgYMKwYBBAGCqVMBAQEDMA4GDCsGAQQBgqlTAQEBBDAOBgwrBgEEAYKpUwEBAQUwDgYMKwYBBAGCqVMBAQEGMA4GDCsGAQQBgqlTAQEBBzA+BgNVHR8ENzA1MDOgMaAvhi1odHRwOi8vdHNjcC1jcmwuc3ltYXV0aC5jb20vdHNjcGJjYXNoYTI1Ni5jcmwwDgYDVR0PAQH/BAQDAgEGMIIBBwYDVR0hBIH/MIH8MBoGDCsGAQQBgqlTAQEBAQYKYIZIAWUDAgEDAzAaBgwrBgEEAYKpUwEBAQEGCmCGSAFlAwIBAyUwGgYMKwYBBAGCqVMBAQEDBgpghkgBZQMCAQMOMBoGDCsGAQQBgqlTAQEBAgYKYIZIAWUDAgEDDDAaBgwrBgEEAYKpUwEBAQQGCmCGSAFlAwIBAw8wGgYMKwYBBAGCqVMBAQECBgpghkgBZQMCAQMmMBoGDCsGAQQBgqlTAQEBBQYKYIZIAWUDAgEDEjAaBgwrBgEEAYKpUwEBAQYGCmCGSAFlAwIBAxMwGgYMKwYBBAGCqVMBAQEHBgpghkgBZQMCAQMUMFMGCCsGAQUFBwELBEcwRTBDBggrBgEFBQcwBYY3aHR0cDovL2h0dHAuZnBraS5nb3YvYnJpZGdlL2NhQ2VydHNJc3N1ZWRCeWZiY2EyMDE2LnA3YzAKBgNVHTYEAwIBADBSBggrBgEFBQcBAQRGMEQwQgYIKwYBBQUHMAKGNmh0dHA6Ly90c2NwLWFpYS5zeW1hdXRoLmNvbS9Jc3N1ZWRUby10c2NwYmNhc2hhMjU2LnA3YzAfBgNVHSMEGDAWgBS4UWJmMEW+5QxXHCNofuZP9ws+9zANBgkqhkiG9w0BAQsFAAOCAQEAYzS0bRtIN6Laa1TUIgztPk31d9EGcCqUn49fgGzE0Gl3LPFDbpqig+ska8aEGKeOGh9lHv8uhHUT/VIhIZrE38ZC8EbUNjtdzmisKxfMVOnm6UQV6w3OJNWzYCp1IrDf3/ZMUi/IhVVL9mjeTyhqA5XSZDs9rHnpz88miZFmfzg/uAF04mZZ8Qaax4Ui+xcq2BjdhnTE7cDsNH39XFLQ4MpcPmuXgpmGS4qxBkAyJ3pJxG4JddDd1kpsP+1bjAmNw2cokZEvPESsQdoNjHdtU/ZEFZBEWZ1TIsCj9NvtCeLXY20DhxYYpZ//nytR5vmO486sA1x19G5NZgoUGqEQMDCCCAUwggbtoAMCAQICBEDYryYwDQYJKoZIhvcNAQELBQAwgYIxCzAJBgNVBAYTAlVTMRgwFgYDVQQKDA9VLlMuIEdvdmVybm1lbnQxIzAhBgNVBAsMGkdvdmVybm1lbnQgUHJpbnRpbmcgT2ZmaWNlMSIwIAYDVQQLDBlDZXJ0aWZpY2F0aW9uIEF1dGhvcml0aWVzMRAwDgYDVQQLDAdHUE8gUENBMB4XDTE3MDgwNDE5MjgyN1oXDTIwMDgwNDE5NTgyN1owVzELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEfMB0GA1UEAxMWRmVkZXJhbCBCcmlkZ2UgQ0EgMjAxNjCCASIwDQYJKoZIhvcNAQEBBQADggEPADCCAQoCggEBAL6dNXlvJbX0kINuE79TUMrNHJbUHGuB8oqbD0an37fv/+1EWc6Hlm9fV7H+M6tHx4WXdzyKDhTNL3lqJxTSeFulpUs4Orjf9osL2lMRI1mfqWIykPQaTwWDPj3NmxV7kNiLoc3MuMBDn82ni74jQX0pM99ZfUDA49pzw69Dv5ZYSsKDsiriIX6Tl2r5FWmMfgxokTrwtyyBWgq9koa5hJmSmASf1MSJwpHhIVJIft0An4/5LT7y6F4KVMxPgkgvDAJeB7Yy5JMpN8xWdyF2ZhqZ8gsT4sP5O+CYHJw/9SPIhi+Py+m/XxriaDIHvbu2N4neuHD9yMmDRCsYvoZ3EjkCAwEAAaOCBKswggSnMA4GA1UdDwEB/wQEAwIBBjBPBgNVHSAESDBGMAwGCmCGSAFlAwIBEQEwDAYKYIZIAWUDAgERAjAMBgpghkgBZQMCAREDMAwGCmCGSAFlAwIBEQQwDAYKYIZIAWUDAgERBTAPBgNVHRMBAf8EBTADAQH/MFMGCCsGAQUFBwELBEcwRTBDBggrBgEFBQcwBYY3aHR0cDovL2h0dHAuZnBraS5nb3YvYnJpZGdlL2NhQ2VydHNJc3N1ZWRCeWZiY2EyMDE2LnA3YzCCAUgGCCsGAQUFBwEBBIIBOjCCATYwgcEGCCsGAQUFBzAChoG0bGRhcDovL2RpcmVjdG9yeS5vaXMuZ3BvLmdvdi9vdT1HUE8lMjBQQ0Esb3U9Q2VydGlmaWNhdGlvbiUyMEF1dGhvcml0aWVzLG91PUdvdmVybm1lbnQlMjBQcmludGluZyUyMG9mZmljZSxvPVUuUy4lMjBHb3Zlcm5tZW50LGM9VVM/Y0FDZXJ0aWZpY2F0ZTtiaW5hcnksY3Jvc3NDZXJ0aWZpY2F0ZVBhaXI7YmluYXJ5MEsGCCsGAQUFBzAChj9odHRwOi8vd3d3Lmdwby1mYmNhLWNybHMub2lzLmdwby5nb3YvR1BPLVBDQS1DQUNlcnRpZmljYXRlcy5wN2MwIwYIKwYBBQUHMAGGF2h0dHA6Ly93d3cub2NzcC5ncG8uZ292MFcGA1UdIQRQME4wGAYKYIZIAWUDAgERAQYKYIZIAWUDAgEDAzAYBgpghkgBZQMCARECBgpghkgBZQMCAQMMMBgGCmCGSAFlAwIBEQMGCmCGSAFlAwIBAyUwYAYDVR0eAQH/BFYwVKFSMFCkTjBMMQswCQYDVQQGEwJVUzEYMBYGA1UECgwPVS5TLiBHb3Zlcm5tZW50MSMwIQYDVQQLDBpHb3Zlcm5tZW50IFByaW50aW5nIE9mZmljZTAdBgNVHQ4EFgQUI7CzfRZU1AJWdus6vqlrL0N7KBYwggGVBgNVHR8EggGMMIIBiDCCAYSgggGAoIIBfIaBqmxkYXA6Ly9kaXJlY3Rvcnkub2lzLmdwby5nb3YvY249Q1JMNCxvdT1HUE8lMjBQQ0Esb3U9Q2VydGlmaWNhdGlvbiUyMEF1dGhvcml0aWVzLG91PUdvdmVybm1lbnQlMjBQcmludGluZyUyME9mZmljZSxvPVUuUy4lMjBHb3Zlcm5tZW50LGM9VVM/YXV0aG9yaXR5UmV2b2NhdGlvbkxpc3Q7YmluYXJ5hjZodHRwOi8vd3d3Lmdwby1mYmNhLWNybHMub2lzLmdwby5nb3YvR1BPLVBDQS1DUkxhNC5jcmykgZQwgZExCzAJBgNVBAYTAlVTMRgwFgYDVQQKDA9VLlMuIEdvdmVybm1lbnQxIzAhBgNVBAsMGkdvdmVybm1lbnQgUHJpbnRpbmcgT2ZmaWNlMSIwIAYDVQQLDBlDZXJ0aWZpY2F0aW9uIEF1dGhvcml0aWVzMRAwDgYDVQQLDAdHUE8gUENBMQ0wCwYDVQQDDARDUkw0MB8GA1UdIwQYMBaAFCJxeCG1hG2zAeMSdEFOTUUH6VL/MA0GCSqGSIb3DQEBCwUAA4IBAQBMv2u67cgKbDr219ZNlD51A1U2lfC2H6qNehcQ8LtYFXElhOIGRYQAe1N+2KLgSMz6BUIshMUwGz/snhkGOI0JZbIz90WRlh2RvwkIYWJChj7dOdy/5fKlnQrEZW7Qk9nMGvsdjT9vKYvSffvjIw+it6lCCORjGkDWUtPMonykrVc0pnQ+ajeV9tzok1dgF9u4QKeyhCOr7va5anUG20JFP5yWvjulv3yW1BsM9ZQ3YBARW9pN416RO3cdIeAEi2D1NHRPq9t2xjQKMZC7QGoh1B5/K8Q7AN+FGi3neGwxBoZLHeJLyiMBMActOrfpLcSdvPexR/xTmguP6DHhjNcwMIIG2TCCBcGgAwIBAgIETCfZ6TANBgkqhkiG9w0BAQsFADCBnDETMBEGCgmSJomT8ixkARkWA2dvdjEVMBMGCgmSJomT8ixkARkWBXVzcHRvMRYwFAYDVQQDEw1Db25maWd1cmF0aW9uMREwDwYDVQQDEwhTZXJ2aWNlczEcMBoGA1UEAxMTUHVibGljIEtleSBTZXJ2aWNlczEMMAoGA1UEAxMDQUlBMRcwFQYDVQQDFA5VU1BUT19JTlRSX0NBMTAeFw0xNjEyMTkxNDUyMjVaFw0xOTEyMTkxNTIyMjVaMFcxCzAJBgNVBAYTAlVTMRgwFgYDVQQKEw9VLlMuIEdvdmVybm1lbnQxDTALBgNVBAsTBEZQS0kxHzAdBgNVBAMTFkZlZGVyYWwgQnJpZGdlIENBIDIwMTYwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQC+nTV5byW19JCDbhO/U1DKzRyW1BxrgfKKmw9Gp9+37//tRFnOh5ZvX1ex/jOrR8eFl3c8ig4UzS95aicU0nhbpaVLODq43/aLC9pTESNZn6liMpD0Gk8Fgz49zZsVe5DYi6HNzLjAQ5/Np4u+I0F9KTPfWX1AwOPac8OvQ7+WWErCg7Iq4iF+k5dq+RVpjH4MaJE68LcsgVoKvZKGuYSZkpgEn9TEicKR4SFSSH7dAJ+P+S0+8uheClTMT4JILwwCXge2MuSTKTfMVnchdmYamfILE+LD+TvgmBycP/UjyIYvj8vpv18a4mgyB727tjeJ3rhw/cjJg0QrGL6GdxI5AgMBAAGjggNlMIIDYTAPBgNVHRMBAf8EBTADAQH/MA4GA1UdDwEB/wQEAwIBBjBdBgNVHSAEVjBUMAwGCmCGSAFlAwIBAgcwDAYKYIZIAWUDAgECCDAMBgpghkgBZQMCAQIJMAwGCmCGSAFlAwIBAgowDAYKYIZIAWUDAgECCzAMBgpghkgBZQMCAQIMMIGNBgNVHSEEgYUwgYIwGAYKYIZIAWUDAgECBwYKYIZIAWUDAgEDAjAYBgpghkgBZQMCAQIIBgpghkgBZQMCAQMDMBgGCmCGSAFlAwIBAgkGCmCGSAFlAwIBAwwwGAYKYIZIAWUDAgECCwYKYIZIAWUDAgEDJTAYBgpghkgBZQMCAQIMBgpghkgBZQMCAQMmMEAGA1UdHgEB/wQ2MDShMjAwpC4wLDETMBEGCgmSJomT8ixkARkWA2dvdjEVMBMGCgmSJomT8ixkARkWBXVzcHRvMHgGCCsGAQUFBwEBBGwwajAhBggrBgEFBQcwAYYVaHR0cDovL29jc3AudXNwdG8uZ292MEUGCCsGAQUFBzAChjlodHRwOi8vaXBraS51c3B0by5nb3YvSVBLSS9DZXJ0cy9DQWNlcnRzSXNzdWVkVG9VU1BUTy5wN2MwUwYIKwYBBQUHAQsERzBFMEMGCCsGAQUFBzAFhjdodHRwOi8vaHR0cC5mcGtpLmdvdi9icmlkZ2UvY2FDZXJ0c0lzc3VlZEJ5ZmJjYTIwMTYucDdjMB0GA1UdDgQWBBQjsLN9FlTUAlZ26zq+qWsvQ3soFjCB/QYDVR0fBIH1MIHyMDagNKAyhjBodHRwOi8vaXBraS51c3B0by5nb3YvSVBLSS9DUkxzL0NvbWJpbmVkQ1JMMi5jcmwwgbeggbSggbGkga4wgasxEzARBgoJkiaJk/IsZAEZFgNnb3YxFTATBgoJkiaJk/IsZAEZFgV1c3B0bzEWMBQGA1UEAxMNQ29uZmlndXJhdGlvbjERMA8GA1UEAxMIU2VydmljZXMxHDAaBgNVBAMTE1B1YmxpYyBLZXkgU2VydmljZXMxDDAKBgNVBAMTA0FJQTEXMBUGA1UEAxQOVVNQVE9fSU5UUl9DQTExDTALBgNVBAMTBENSTDEwHwYDVR0jBBgwFoAU3z85261gZVBfM5GaR6aOQU61T9swDQYJKoZIhvcNAQELBQADggEBAFTceSqE/3EwaXurZUuPQ33rsCQGWetLs66iqT0rFaYYZy5OamQJt0qNh7CdIUIFtQ0vdwFsLf/5Mf9q+mSnfAgQ561Re1hf/dl829ag9xvxxU82DShyhUeO+CS5aYmNYEX9rUSXpxw5MUfRL6Kq5ATmCxYi3/qU/DwD4SdPHMpFs3N+xIW7xj0WiQhyg2vX0QfElfTS4EGWLdlVG4Lx8L98R/gH85j12uDcM13RghudZhlWQWDNF+nAdHOV0/j4FbyuaXm+cykK49YiiwGKYiGc1ca1OFSomiDIzGSGy4qkmmkArnrjMOKHqb0M65OWoQIi9M6jGkOZnVGQtb1onfEwggY1MIIFHaADAgECAgIEJTANBgkqhkiG9w0BAQsFADBsMQswCQYDVQQGEwJVUzEYMBYGA1UEChMPVS5TLiBHb3Zlcm5tZW50MQwwCgYDVQQLEwNEb0QxDDAKBgNVBAsTA1BLSTEnMCUGA1UEAxMeRG9EIEludGVyb3BlcmFiaWxpdHkgUm9vdCBDQSAyMB4XDTE3MDUwOTEzMTQxNVoXDTIwMDUwOTEzMTQxNVowVzELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEfMB0GA1UEAxMWRmVkZXJhbCBCcmlkZ2UgQ0EgMjAxNjCCASIwDQYJKoZIhvcNAQEBBQADggEPADCCAQoCggEBAL6dNXlvJbX0kINuE79TUMrNHJbUHGuB8oqbD0an37fv/+1EWc6Hlm9fV7H+M6tHx4WXdzyKDhTNL3lqJxTSeFulpUs4Orjf9osL2lMRI1mfqWIykPQaTwWDPj3NmxV7kNiLoc3MuMBDn82ni74jQX0pM99ZfUDA49pzw69Dv5ZYSsKDsiriIX6Tl2r5FWmMfgxokTrwtyyBWgq9koa5hJmSmASf1MSJwpHhIVJIft0An4/5LT7y6F4KVMxPgkgvDAJeB7Yy5JMpN8xWdyF2ZhqZ8gsT4sP5O+CYHJw/9SPIhi+Py+m/XxriaDIHvbu2N4neuHD9yMmDRCsYvoZ3EjkCAwEAAaOCAvQwggLwMB8GA1UdIwQYMBaAFP/4rhOLkit5kkGjdlwsgZ6axZx4MB0GA1UdDgQWBBQjsLN9FlTUAlZ26zq+qWsvQ3soFjAOBgNVHQ8BAf8EBAMCAQYwdwYDVR0gBHAwbjALBglghkgBZQIBCyQwCwYJYIZIAWUCAQsqMAwGCmCGSAFlAwIBAw0wDAYKYIZIAWUDAgEDETAMBgpghkgBZQMCAQMSMAwGCmCGSAFlAwIBAxMwDAYKYIZIAWUDAgEDFDAMBgpghkgBZQMCAQMnMFQGA1UdIQRNMEswFwYJYIZIAWUCAQskBgpghkgBZQMCAQMmMBcGCWCGSAFlAgELKgYKYIZIAWUDAgEDDDAXBglghkgBZQIBCyoGCmCGSAFlAwIBAwQwDwYDVR0TAQH/BAUwAwEB/zCBhAYDVR0eAQH/BHoweKF2MDmkNzA1MQswCQYDVQQGEwJVUzEYMBYGA1UEChMPVS5TLiBHb3Zlcm5tZW50MQwwCgYDVQQLEwNEb0QwOaQ3MDUxCzAJBgNVBAYTAlVTMRgwFgYDVQQKEw9VLlMuIEdvdmVybm1lbnQxDDAKBgNVBAsTA0VDQTAPBgNVHSQBAf8EBTADgAEAMEcGA1UdHwRAMD4wPKA6oDiGNmh0dHA6Ly9jcmwuZGlzYS5taWwvY3JsL0RPRElOVEVST1BFUkFCSUxJVFlST09UQ0EyLmNybDB8BggrBgEFBQcBAQRwMG4wSgYIKwYBBQUHMAKGPmh0dHA6Ly9jcmwuZGlzYS5taWwvaXNzdWVkdG8vRE9ESU5URVJPUEVSQUJJTElUWVJPT1RDQTJfSVQucDdjMCAGCCsGAQUFBzABhhRodHRwOi8vb2NzcC5kaXNhLm1pbDBTBggrBgEFBQcBCwRHMEUwQwYIKwYBBQUHMAWGN2h0dHA6Ly9odHRwLmZwa2kuZ292L2JyaWRnZS9jYUNlcnRzSXNzdWVkQnlmYmNhMjAxNi5wN2MwCgYDVR02BAMCAQAwDQYJKoZIhvcNAQELBQADggEBALcCpORhZkBY5Wq/eNICQLjGUypuFiZG4bR1ukiU67XsTIWwPm9wJq8QLZ6jSvCkqxTne8J/AUv5XVIYDs2bHVyFDSRUUWAfyHAs/1VdxJPRenmi6nyFQHJ6Evj61eMlREFrWiBItvhZg+1Ue9f1lwsk2JkgVngFZYcPq807hwDXKV5ncd95MkbpyodidVIPJhzKGg4zE9osMh1u/BH0GRtbrL2bJrxq871jc4vzZudry9ibrqnQcamuCsNr6vsLKbFA7gztTZkI3FV5UJAm++Px1lNrGscFFd8pM2JV+bDbEq2poK2ix3/e+VNckPXwgH+Yon3nY1V2yzNJ5IbBy+kwggdZMIIGQaADAgECAgIVcDANBgkqhkiG9w0BAQsFADBbMQswCQYDVQQGEwJVUzETMBEGA1UEChMKQ3liZXJ0cnVzdDERMA8GA1UECxMIU2VydmljZXMxDDAKBgNVBAsTA1BLSTEWMBQGA1UEAxMNQ1QtQ1NTUC1DQS1BMTAeFw0xNzA1MjYxODQxNTFaFw0yMDA1MjYxODM3MDFaMFcxCzAJBgNVBAYTAlVTMRgwFgYDVQQKEw9VLlMuIEdvdmVybm1lbnQxDTALBgNVBAsTBEZQS0kxHzAdBgNVBAMTFkZlZGVyYWwgQnJpZGdlIENBIDIwMTYwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQC+nTV5byW19JCDbhO/U1DKzRyW1BxrgfKKmw9Gp9+37//tRFnOh5ZvX1ex/jOrR8eFl3c8ig4UzS95aicU0nhbpaVLODq43/aLC9pTESNZn6liMpD0Gk8Fgz49zZsVe5DYi6HNzLjAQ5/Np4u+I0F9KTPfWX1AwOPac8OvQ7+WWErCg7Iq4iF+k5dq+RVpjH4MaJE68LcsgVoKvZKGuYSZkpgEn9TEicKR4SFSSH7dAJ+P+S0+8uheClTMT4JILwwCXge2MuSTKTfMVnchdmYamfILE+LD+TvgmBycP/UjyIYvj8vpv18a4mgyB727tjeJ3rhw/cjJg0QrGL6GdxI5AgMBAAGjggQpMIIEJTAPBgNVHRMBAf8EBTADAQH/MIHOBgNVHSAEgcYwgcMwDQYLKwYBBAGBtikBAQEwDQYLKwYBBAGBtikBAQIwDQYLKwYBBAGBtikBAQMwDQYLKwYBBAGBtikBAQQwDQYLKwYBBAGBtikBAQUwDQYLKwYBBAGBtikBAQYwDQYLKwYBBAGBtikBAQcwDQYLKwYBBAGBtikBAQgwDQYLKwYBBAGBtikBAQkwDQYLKwYBBAGBtikBAQowDQYLKwYBBAGBtikBAQswDQYLKwYBBAGBtikBAQwwDQYLKwYBBAGBtikBAQ0wggFsBgNVHSEEggFjMIIBXzAZBgsrBgEEAYG2KQEBBQYKYIZIAWUDAgEDAjAZBgsrBgEEAYG2KQEBAQYKYIZIAWUDAgEDDjAZBgsrBgEEAYG2KQEBBwYKYIZIAWUDAgEDAzAZBgsrBgEEAYG2KQEBAwYKYIZIAWUDAgEDJTAZBgsrBgEEAYG2KQEBCQYKYIZIAWUDAgEDJTAZBgsrBgEEAYG2KQEBAgYKYIZIAWUDAgEDDzAZBgsrBgEEAYG2KQEBBAYKYIZIAWUDAgEDDzAZBgsrBgEEAYG2KQEBBgYKYIZIAWUDAgEDDzAZBgsrBgEEAYG2KQEBCgYKYIZIAWUDAgEDEjAZBgsrBgEEAYG2KQEBCAYKYIZIAWUDAgEDEjAZBgsrBgEEAYG2KQEBDAYKYIZIAWUDAgEDEzAZBgsrBgEEAYG2KQEBCwYKYIZIAWUDAgEDFDAZBgsrBgEEAYG2KQEBDQYKYIZIAWUDAgEDJjCBiAYIKwYBBQUHAQEEfDB6MD4GCCsGAQUFBzAChjJodHRwOi8vYWlhMS5jb20tc3Ryb25nLWlkLm5ldC9DQS9DVC1DU1NQLUNBLUExLnA3YzA4BggrBgEFBQcwAYYsaHR0cDovL29jc3AxLmNvbS1zdHJvbmctaWQubmV0L0NULUNTU1AtQ0EtQTEwUwYIKwYBBQUHAQsERzBFMEMGCCsGAQUFBzAFhjdodHRwOi8vaHR0cC5mcGtpLmdvdi9icmlkZ2UvY2FDZXJ0c0lzc3VlZEJ5ZmJjYTIwMTYucDdjMFsGA1UdHgEB/wRRME+hTTAmpCQwIjELMAkGA1UEBhMCVVMxEzARBgNVBAoTCkN5YmVydHJ1c3QwI6QhMB8xCzAJBgNVBAYTAlVTMRAwDgYDVQQKEwdWZXJpem9uMA4GA1UdDwEB/wQEAwIBBjAfBgNVHSMEGDAWgBR9Kn7Ok3UJlgmfc5/uQhR5AUsRZzBEBgNVHR8EPTA7MDmgN6A1hjNodHRwOi8vY2RwMS5jb20tc3Ryb25nLWlkLm5ldC9DRFAvQ1QtQ1NTUC1DQS1BMS5jcmwwHQYDVR0OBBYEFCOws30WVNQCVnbrOr6pay9DeygWMA0GCSqGSIb3DQEBCwUAA4IBAQBoTAKZsu6gtlqn45aWY8+Fji87slQHVFmP0AHsHk5yShz4WNm46FsvTrMApWpM7zc2BVOvUiBntLKZEn7eIsBiEh4vcos1A2GssMq36fxFjo1uths+gJbxBazycdIrpI83ERn1uKe85Ey6G8DaCzWJQ9pjz0I6lL5E7JA4BjUxP7fnGuzaIBcZrSA5ai/tJkCUmI4KT9AXny5IZZ2i5rWmectHvnieCbmIUGMkPpeouxMB45lofrCbUdGPguKbp8zGBYDdUaw+w+C81rzSv9sNVDVG+wX1nnzi7PN7gTBCnUD2AuXr28wqdmj8hr6fJpBlQl+PvoAMsA2vozQB9kTbMIIH/zCCBeegAwIBAgIBSTANBgkqhkiG9w0BAQsFADB6MQswCQYDVQQGEwJVUzEOMAwGA1UEChMFU1RSQUMxJzAlBgNVBAsTHlNUUkFDIFBLSSBUcnVzdCBJbmZyYXN0cnVjdHVyZTEyMDAGA1UEAxMpU1RSQUMgQnJpZGdlIFJvb3QgQ2VydGlmaWNhdGlvbiBBdXRob3JpdHkwHhcNMTcwNTEwMTk1MDUwWhcNMTkwMjIxMjAxNzAwWjBXMQswCQYDVQQGEwJVUzEYMBYGA1UEChMPVS5TLiBHb3Zlcm5tZW50MQ0wCwYDVQQLEwRGUEtJMR8wHQYDVQQDExZGZWRlcmFsIEJyaWRnZSBDQSAyMDE2MIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAvp01eW8ltfSQg24Tv1NQys0cltQca4HyipsPRqfft+//7URZzoeWb19Xsf4zq0fHhZd3PIoOFM0veWonFNJ4W6WlSzg6uN/2iwvaUxEjWZ+pYjKQ9BpPBYM+Pc2bFXuQ2Iuhzcy4wEOfzaeLviNBfSkz31l9QMDj2nPDr0O/llhKwoOyKuIhfpOXavkVaYx+DGiROvC3LIFaCr2ShrmEmZKYBJ/UxInCkeEhUkh+3QCfj/ktPvLoXgpUzE+CSC8MAl4HtjLkkyk3zFZ3IXZmGpnyCxPiw/k74JgcnD/1I8iGL4/L6b9fGuJoMge9u7Y3id64cP3IyYNEKxi+hncSOQIDAQABo4IDsTCCA60wHwYDVR0jBBgwFoAUqCFQZ0AKOrS3Z9eWqjOfVUevXT0wHQYDVR0OBBYEFCOws30WVNQCVnbrOr6pay9DeygWMA4GA1UdDwEB/wQEAwIBBjCBuwYDVR0gBIGzMIGwMA4GDCsGAQQBgrZtAgEFATAOBgwrBgEEAYK2bQIBBQIwDgYMKwYBBAGCtm0CAQUDMA4GDCsGAQQBgrZtAgEFBDAOBgwrBgEEAYK2bQIBBQUwDgYMKwYBBAGCtm0CAQUGMA4GDCsGAQQBgrZtAgEFBzAOBgwrBgEEAYK2bQIBBQgwDgYMKwYBBAGCtm0CAQUJMA4GDCsGAQQBgrZtAgEFCjAOBgwrBgEEAYK2bQIBBQswDwYDVR0TAQH/BAUwAwEB/zBGBgNVHR8EPzA9MDugOaA3hjVodHRwOi8vcGtpLnN0cmFjLm9yZy9icmlkZ2UvY3JsL1NUUkFDQnJpZGdlUm9vdENBLmNybDCBgwYIKwYBBQUHAQEEdzB1MEoGCCsGAQUFBzAChj5odHRwOi8vcGtpLnN0cmFjLm9yZy9icmlkZ2UvY2VydGlmaWNhdGVzL1NUUkFDQnJpZGdlUm9vdENBLnA3YzAnBggrBgEFBQcwAYYbaHR0cDovL2NlcnRzdGF0dXMuc3RyYWMub3JnMFMGCCsGAQUFBwELBEcwRTBDBggrBgEFBQcwBYY3aHR0cDovL2h0dHAuZnBraS5nb3YvYnJpZGdlL2NhQ2VydHNJc3N1ZWRCeWZiY2EyMDE2LnA3YzAYBgNVHRIEETAPgQ1wa2lAc3RyYWMub3JnMIIBQQYDVR0hBIIBODCCATQwGgYMKwYBBAGCtm0CAQUBBgpghkgBZQMCAQMBMBoGDCsGAQQBgrZtAgEFAgYKYIZIAWUDAgEDAjAaBgwrBgEEAYK2bQIBBQMGCmCGSAFlAwIBAwMwGgYMKwYBBAGCtm0CAQUEBgpghkgBZQMCAQMMMBoGDCsGAQQBgrZtAgEFBQYKYIZIAWUDAgEDDjAaBgwrBgEEAYK2bQIBBQYGCmCGSAFlAwIBAw8wGgYMKwYBBAGCtm0CAQUHBgpghkgBZQMCAQMSMBoGDCsGAQQBgrZtAgEFCAYKYIZIAWUDAgEDEzAaBgwrBgEEAYK2bQIBBQkGCmCGSAFlAwIBAxQwGgYMKwYBBAGCtm0CAQUKBgpghkgBZQMCAQMlMBoGDCsGAQQBgrZtAgEFCwYKYIZIAWUDAgEDJjAKBgNVHTYEAwIBADANBgkqhkiG9w0BAQsFAAOCAgEAPVDiRsO2EIYH000esvDa5EqPU5e0kggeaWtyPVB1x0pyKbopOcVejPiXxP6nJxV192meL1HDZpR1E7GzILrQ8KVCDyG7FIkNMD+RTwbQHEz5syB4QG+I5uFwyMInARiZG4Sc9nzVNP+iSfH9SIuKHrB36yeIo+ltIaehHCo+0lVNmw800DSd/mgpMeFNFbFrqFgbVNcyVZA96I2Z0SuVO8ve7hTzFF04UcZCB/CWcMGSec+16wfYIOwVVadecLKR9yyVQVCw1zjim638aNnn1z07/xoQ7HrEw7HtdLeHCp5i9t5TR4d9fTqbyNfzQKhKQUsot2RWDZQxabOgePcgDQ9tinrbcC0LbufvPlGH/g5NEJfsM8kXZQRy2wo2ijmg/prcIRyB0dd7AzU6pwE/ThM0Z5cHG+X/vzKYCURegVIy4QBFC4x4cJ8Q3I62ZKaJcgjD9yGs2m++Fu3KvfUFaxebHnrUFfRLw8708gHQgKDOItsbNn/bqxx5ULKyWLCUmL9EA3N3cnpjTGIb4ZzHkvxfHJ4ph8668RTUVInC4ooA5Omvd0yaISUge4mxZv5QmcQpNgpdVqLPRmNg/mqrkieMdVR30OSgIhXiLvbR19xhdGmtLqtjt4OSMs4BhcddUPEDwFWwFxxnEuFA8ahfLLkdHTR5Xuxii70Tic9Hw8owggrGMIIJrqADAgECAgRKqM59MA0GCSqGSIb3DQEBCwUAMHIxCzAJBgNVBAYTAlVTMRAwDgYDVQQKEwdFbnRydXN0MSIwIAYDVQQLExlDZXJ0aWZpY2F0aW9uIEF1dGhvcml0aWVzMS0wKwYDVQQLEyRFbnRydXN0IE1hbmFnZWQgU2VydmljZXMgTkZJIFJvb3QgQ0EwHhcNMTcxMTIxMDA0MzM3WhcNMjAxMTIxMDExMzM3WjBXMQswCQYDVQQGEwJVUzEYMBYGA1UEChMPVS5TLiBHb3Zlcm5tZW50MQ0wCwYDVQQLEwRGUEtJMR8wHQYDVQQDExZGZWRlcmFsIEJyaWRnZSBDQSAyMDE2MIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAvp01eW8ltfSQg24Tv1NQys0cltQca4HyipsPRqfft+//7URZzoeWb19Xsf4zq0fHhZd3PIoOFM0veWonFNJ4W6WlSzg6uN/2iwvaUxEjWZ+pYjKQ9BpPBYM+Pc2bFXuQ2Iuhzcy4wEOfzaeLviNBfSkz31l9QMDj2nPDr0O/llhKwoOyKuIhfpOXavkVaYx+DGiROvC3LIFaCr2ShrmEmZKYBJ/UxInCkeEhUkh+3QCfj/ktPvLoXgpUzE+CSC8MAl4HtjLkkyk3zFZ3IXZmGpnyCxPiw/k74JgcnD/1I8iGL4/L6b9fGuJoMge9u7Y3id64cP3IyYNEKxi+hncSOQIDAQABo4IHfTCCB3kwDgYDVR0PAQH/BAQDAgEGMIGkBgNVHSAEgZwwgZkwDwYNYIZIAYb6a4FIAwoHATAPBg1ghkgBhvprgUgDCgcCMA8GDWCGSAGG+muBSAMKBwMwDwYNYIZIAYb6a4FIAwoHBDAPBg1ghkgBhvprgUgDCgcFMA8GDWCGSAGG+muBSAMKBwYwDwYNYIZIAYb6a4FIAwoHBzAPBg1ghkgBhvprgUgDCgcIMA8GDWCGSAGG+muBSAMKBwkwDwYDVR0TAQH/BAUwAwEB/zCCAxwGA1UdIQSCAxMwggMPMBsGDWCGSAGG+muBSAMKBwgGCmCGSAFlAwIBAwEwGwYNYIZIAYb6a4FIAwoHCAYKYIZIAWUDAgEDAjAbBg1ghkgBhvprgUgDCgcIBgpghkgBZQMCAQMDMBsGDWCGSAGG+muBSAMKBwgGCmCGSAFlAwIBAwwwGwYNYIZIAYb6a4FIAwoHCAYKYIZIAWUDAgEDBDAbBg1ghkgBhvprgUgDCgcHBgpghkgBZQMCAQMCMBsGDWCGSAGG+muBSAMKBwcGCmCGSAFlAwIBAwMwGwYNYIZIAYb6a4FIAwoHBwYKYIZIAWUDAgEDDDAbBg1ghkgBhvprgUgDCgcHBgpghkgBZQMCAQMEMBsGDWCGSAGG+muBSAMKBwEGCmCGSAFlAwIBAwMwGwYNYIZIAYb6a4FIAwoHAQYKYIZIAWUDAgEDDDAbBg1ghkgBhvprgUgDCgcBBgpghkgBZQMCAQMEMBsGDWCGSAGG+muBSAMKBwMGCmCGSAFlAwIBAwMwGwYNYIZIAYb6a4FIAwoHAwYKYIZIAWUDAgEDDDAbBg1ghkgBhvprgUgDCgcDBgpghkgBZQMCAQMEMBsGDWCGSAGG+muBSAMKBwMGCmCGSAFlAwIBAwgwGwYNYIZIAYb6a4FIAwoHAgYKYIZIAWUDAgEDDDAbBg1ghkgBhvprgUgDCgcCBgpghkgBZQMCAQMEMBsGDWCGSAGG+muBSAMKBwQGCmCGSAFlAwIBAwwwGwYNYIZIAYb6a4FIAwoHBAYKYIZIAWUDAgEDBDAbBg1ghkgBhvprgUgDCgcIBgpghkgBZQMCAQMSMBsGDWCGSAGG+muBSAMKBwcGCmCGSAFlAwIBAxIwGwYNYIZIAYb6a4FIAwoHAQYKYIZIAWUDAgEDEjAbBg1ghkgBhvprgUgDCgcCBgpghkgBZQMCAQMSMBsGDWCGSAGG+muBSAMKBwUGCmCGSAFlAwIBAxMwGwYNYIZIAYb6a4FIAwoHBgYKYIZIAWUDAgEDEjAbBg1ghkgBhvprgUgDCgcJBgpghkgBZQMCAQMUMIIBWgYIKwYBBQUHAQEEggFMMIIBSDCBwwYIKwYBBQUHMAKGgbZsZGFwOi8vbmZpcm9vdGRpci5tYW5hZ2VkLmVudHJ1c3QuY29tL291PUVudHJ1c3QlMjBNYW5hZ2VkJTIwU2VydmljZXMlMjBORkklMjBSb290JTIwQ0Esb3U9Q2VydGlmaWNhdGlvbiUyMEF1dGhvcml0aWVzLG89RW50cnVzdCxjPVVTP2NBQ2VydGlmaWNhdGU7YmluYXJ5LGNyb3NzQ2VydGlmaWNhdGVQYWlyO2JpbmFyeTBQBggrBgEFBQcwAoZEaHR0cDovL25maXJvb3R3ZWIubWFuYWdlZC5lbnRydXN0LmNvbS9BSUEvQ2VydHNJc3N1ZWRUb05GSVJvb3RDQS5wN2MwLgYIKwYBBQUHMAGGImh0dHA6Ly9uZmlvY3NwLm1hbmFnZWQuZW50cnVzdC5jb20wUwYIKwYBBQUHAQsERzBFMEMGCCsGAQUFBzAFhjdodHRwOi8vaHR0cC5mcGtpLmdvdi9icmlkZ2UvY2FDZXJ0c0lzc3VlZEJ5ZmJjYTIwMTYucDdjMB0GA1UdDgQWBBQjsLN9FlTUAlZ26zq+qWsvQ3soFjCCAZoGA1UdHwSCAZEwggGNMIH6oIH3oIH0hjlodHRwOi8vbmZpcm9vdHdlYi5tYW5hZ2VkLmVudHJ1c3QuY29tL0NSTHMvTkZJUm9vdENBMi5jcmyGgbZsZGFwOi8vbmZpcm9vdGRpci5tYW5hZ2VkLmVudHJ1c3QuY29tL2NuPVdpbkNvbWJpbmVkMixvdT1FbnRydXN0JTIwTWFuYWdlZCUyMFNlcnZpY2VzJTIwTkZJJTIwUm9vdCUyMENBLG91PUNlcnRpZmljYXRpb24lMjBBdXRob3JpdGllcyxvPUVudHJ1c3QsYz1VUz9jZXJ0aWZpY2F0ZVJldm9jYXRpb25MaXN0O2JpbmFyeTCBjaCBiqCBh6SBhDCBgTELMAkGA1UEBhMCVVMxEDAOBgNVBAoTB0VudHJ1c3QxIjAgBgNVBAsTGUNlcnRpZmljYXRpb24gQXV0aG9yaXRpZXMxLTArBgNVBAsTJEVudHJ1c3QgTWFuYWdlZCBTZXJ2aWNlcyBORkkgUm9vdCBDQTENMAsGA1UEAxMEQ1JMMTAfBgNVHSMEGDAWgBT63yMBxKrsI+Otbw00pQ3POWRlXjANBgkqhkiG9w0BAQsFAAOCAQEAtlp/Dlxbw1CMVttC0yYDv0jSxITxmqMr4gZtr69bm+swzkoDTBNtyHxE/G08SQRFSSHzfhX0mvZ66TXzh33vAZcPd/kPY6UB35FDSE3JKFB5m8vFordYyowhQYRL0w9WWxe8mtJVjs+dUUtVTvUgMpCywTClaZl+lb4AxWo5YPygkWnmm25cLGxGfd0fgvbR6uThb6YLVsLUMteTvrKooSTrCCLC7eVljYcilBZQE83CGimy9rugYLfSVW3/6j3BWi5SYxtVd3byRyp9VCalFiUgHkZixe/TPRcpsV8IE8aSPpLJhauyuV6HbpevV5+tYHCGAvqyBz+QaHSn3KzemzCCCT0wgggloAMCAQICEFGxEjPPmTMmJOK4hJDbKRcwDQYJKoZIhvcNAQELBQAwbDELMAkGA1UEBhMCVVMxFjAUBgNVBAoTDUNlcnRpUGF0aCBMTEMxIjAgBgNVBAsTGUNlcnRpZmljYXRpb24gQXV0aG9yaXRpZXMxITAfBgNVBAMTGENlcnRpUGF0aCBCcmlkZ2UgQ0EgLSBHMjAeFw0xNzA0MjAwMDAwMDBaFw0xOTA0MzAyMzU5NTlaMFcxCzAJBgNVBAYTAlVTMRgwFgYDVQQKEw9VLlMuIEdvdmVybm1lbnQxDTALBgNVBAsTBEZQS0kxHzAdBgNVBAMTFkZlZGVyYWwgQnJpZGdlIENBIDIwMTYwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQC+nTV5byW19JCDbhO/U1DKzRyW1BxrgfKKmw9Gp9+37//tRFnOh5ZvX1ex/jOrR8eFl3c8ig4UzS95aicU0nhbpaVLODq43/aLC9pTESNZn6liMpD0Gk8Fgz49zZsVe5DYi6HNzLjAQ5/Np4u+I0F9KTPfWX1AwOPac8OvQ7+WWErCg7Iq4iF+k5dq+RVpjH4MaJE68LcsgVoKvZKGuYSZkpgEn9TEicKR4SFSSH7dAJ+P+S0+8uheClTMT4JILwwCXge2MuSTKTfMVnchdmYamfILE+LD+TvgmBycP/UjyIYvj8vpv18a4mgyB727tjeJ3rhw/cjJg0QrGL6GdxI5AgMBAAGjggXuMIIF6jAdBgNVHQ4EFgQUI7CzfRZU1AJWdus6vqlrL0N7KBYwDwYDVR0TAQH/BAUwAwEB/zCBqwYDVR0gBIGjMIGgMA4GDCsGAQQBgbtTAQEBATAOBgwrBgEEAYG7UwEBAQIwDgYMKwYBBAGBu1MBAQEDMA4GDCsGAQQBgbtTAQEBBDAOBgwrBgEEAYG7UwEBAQUwDgYMKwYBBAGBu1MBAQEHMA4GDCsGAQQBgbtTAQEBCDAOBgwrBgEEAYG7UwEBAQkwDgYMKwYBBAGBu1MBAQEXMA4GDCsGAQQBgbtTAQEBGDBKBgNVHR8EQzBBMD+gPaA7hjlodHRwOi8vY2VydGlwYXRoLWNybC5zeW1hdXRoLmNvbS9DZXJ0aVBhdGhCcmlkZ2VDQS1HMi5jcmwwDgYDVR0PAQH/BAQDAgEGMFMGCCsGAQUFBwELBEcwRTBDBggrBgEFBQcwBYY3aHR0cDovL2h0dHAuZnBraS5nb3YvYnJpZGdlL2NhQ2VydHNJc3N1ZWRCeWZiY2EyMDE2LnA3YzAKBgNVHTYEAwIBADAMBgNVHSQEBTADgQEBMIIDxQYDVR0hBIIDvDCCA7gwGgYMKwYBBAGBu1MBAQEBBgpghkgBZQMCAQMDMBoGDCsGAQQBgbtTAQEBAgYKYIZIAWUDAgEDDDAaBgwrBgEEAYG7UwEBAQMGCmCGSAFlAwIBAwQwGgYMKwYBBAGBu1MBAQEEBgpghkgBZQMCAQMOMBoGDCsGAQQBgbtTAQEBBQYKYIZIAWUDAgEDDzAaBgwrBgEEAYG7UwEBAQcGCmCGSAFlAwIBAxIwGgYMKwYBBAGBu1MBAQEIBgpghkgBZQMCAQMTMBoGDCsGAQQBgbtTAQEBCQYKYIZIAWUDAgEDFDAaBgwrBgEEAYG7UwEBARcGCmCGSAFlAwIBAyUwGgYMKwYBBAGBu1MBAQEYBgpghkgBZQMCAQMmMBoGDCsGAQQBgbtTAQEBAQYKYIZIAWUDAgEDDDAaBgwrBgEEAYG7UwEBAQEGCmCGSAFlAwIBAwQwGgYMKwYBBAGBu1MBAQEBBgpghkgBZQMCAQMSMBoGDCsGAQQBgbtTAQEBAQYKYIZIAWUDAgEDDTAaBgwrBgEEAYG7UwEBAQEGCmCGSAFlAwIBAyUwGgYMKwYBBAGBu1MBAQECBgpghkgBZQMCAQMEMBoGDCsGAQQBgbtTAQEBAgYKYIZIAWUDAgEDEjAaBgwrBgEEAYG7UwEBAQIGCmCGSAFlAwIBAw0wGgYMKwYBBAGBu1MBAQEEBgpghkgBZQMCAQMPMBoGDCsGAQQBgbtTAQEBBAYKYIZIAWUDAgEDAzAaBgwrBgEEAYG7UwEBAQQGCmCGSAFlAwIBAwwwGgYMKwYBBAGBu1MBAQEEBgpghkgBZQMCAQMEMBoGDCsGAQQBgbtTAQEBBAYKYIZIAWUDAgEDEjAaBgwrBgEEAYG7UwEBAQQGCmCGSAFlAwIBAw0wGgYMKwYBBAGBu1MBAQEEBgpghkgBZQMCAQMlMBoGDCsGAQQBgbtTAQEBBQYKYIZIAWUDAgEDDDAaBgwrBgEEAYG7UwEBAQUGCmCGSAFlAwIBAwQwGgYMKwYBBAGBu1MBAQEFBgpghkgBZQMCAQMSMBoGDCsGAQQBgbtTAQEBBQYKYIZIAWUDAgEDDTAaBgwrBgEEAYG7UwEBAQcGCmCGSAFlAwIBAwwwGgYMKwYBBAGBu1MBAQEHBgpghkgBZQMCAQMNMBoGDCsGAQQBgbtTAQEBCAYKYIZIAWUDAgEDETAaBgwrBgEEAYG7UwEBAQkGCmCGSAFlAwIBAycwGgYMKwYBBAGBu1MBAQEXBgpghkgBZQMCAQMmMFUGCCsGAQUFBwEBBEkwRzBFBggrBgEFBQcwAoY5aHR0cDovL2NlcnRpcGF0aC1haWEuc3ltYXV0aC5jb20vQ2VydGlQYXRoQnJpZGdlQ0EtRzIucDdjMB8GA1UdIwQYMBaAFNDCjBM3M3ZKkag84ei3/aKc0d0UMA0GCSqGSIb3DQEBCwUAA4IBAQCB0jnqVuGkZij4KIv26dnUb6CaCLdqHFDmSp6swLF7mOmBcN8YINyfG9a4mPwmSARcdqZf7kipWn0Ra6+OUAhwX5Sw8IlxTQasckMEu0bdRh76pa2PIzYrSQKd8ZDZBmiXZXREkgRqAUwaVgWhbEuvtHOJznTQ8Rl11+PCSh8BDkQ/yZXfN5ab2xoGrOssYRDtVNUIq6Dc72oPa1DKQxm/IUMayNKuH1GGOpdUL2KG1e1zviTJcSul8oZlAD4IZcSuCjkH93cnORStxQB+Dwj/jalt4hoJs54GBLiVUq3mZvubAfpwhHsGjxh4v/qn7qST0+cvWLJr5/4xtooBf0KOMIIFvzCCBKegAwIBAgIPV0JFhVVNmRA6qrn5QKD/MA0GCSqGSIb3DQEBCwUAMDYxCzAJBgNVBAYTAlVTMRAwDgYDVQQKEwdPUkMgUEtJMRUwEwYDVQQDEwxPUkMgTkZJIENBIDMwHhcNMTcwNzEyMTkxMjAwWhcNMjAwNzEyMTkxMjAwWjBXMQswCQYDVQQGEwJVUzEYMBYGA1UEChMPVS5TLiBHb3Zlcm5tZW50MQ0wCwYDVQQLEwRGUEtJMR8wHQYDVQQDExZGZWRlcmFsIEJyaWRnZSBDQSAyMDE2MIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAvp01eW8ltfSQg24Tv1NQys0cltQca4HyipsPRqfft+//7URZzoeWb19Xsf4zq0fHhZd3PIoOFM0veWonFNJ4W6WlSzg6uN/2iwvaUxEjWZ+pYjKQ9BpPBYM+Pc2bFXuQ2Iuhzcy4wEOfzaeLviNBfSkz31l9QMDj2nPDr0O/llhKwoOyKuIhfpOXavkVaYx+DGiROvC3LIFaCr2ShrmEmZKYBJ/UxInCkeEhUkh+3QCfj/ktPvLoXgpUzE+CSC8MAl4HtjLkkyk3zFZ3IXZmGpnyCxPiw/k74JgcnD/1I8iGL4/L6b9fGuJoMge9u7Y3id64cP3IyYNEKxi+hncSOQIDAQABo4ICpzCCAqMwbwYIKwYBBQUHAQEEYzBhMCQGCCsGAQUFBzABhhhodHRwOi8vbmZpMy5ldmEub3JjLmNvbS8wOQYIKwYBBQUHMAKGLWh0dHA6Ly9jcmwtc2VydmVyLm9yYy5jb20vY2FDZXJ0cy9PUkNORkkzLnA3YzAfBgNVHSMEGDAWgBTZHyyzhyldB/5JaC2A8t1m9k+khjAPBgNVHRMBAf8EBTADAQH/MHIGA1UdIARrMGkwDQYLKwYBBAGeUgEBAQMwDQYLKwYBBAGeUgEBAQwwDQYLKwYBBAGeUgEBASUwDQYLKwYBBAGeUgEBASYwDQYLKwYBBAGeUgEBARIwDQYLKwYBBAGeUgEBARMwDQYLKwYBBAGeUgEBARQwOwYDVR0fBDQwMjAwoC6gLIYqaHR0cDovL2NybC1zZXJ2ZXIub3JjLmNvbS9DUkxzL09SQ05GSTMuY3JsMA4GA1UdDwEB/wQEAwIBBjCByAYDVR0hBIHAMIG9MBkGCysGAQQBnlIBAQEDBgpghkgBZQMCAQMDMBkGCysGAQQBnlIBAQEMBgpghkgBZQMCAQMMMBkGCysGAQQBnlIBAQElBgpghkgBZQMCAQMlMBkGCysGAQQBnlIBAQEmBgpghkgBZQMCAQMmMBkGCysGAQQBnlIBAQESBgpghkgBZQMCAQMSMBkGCysGAQQBnlIBAQETBgpghkgBZQMCAQMTMBkGCysGAQQBnlIBAQEUBgpghkgBZQMCAQMUMB0GA1UdDgQWBBQjsLN9FlTUAlZ26zq+qWsvQ3soFjBTBggrBgEFBQcBCwRHMEUwQwYIKwYBBQUHMAWGN2h0dHA6Ly9odHRwLmZwa2kuZ292L2JyaWRnZS9jYUNlcnRzSXNzdWVkQnlmYmNhMjAxNi5wN2MwDQYJKoZIhvcNAQELBQADggEBAEMq0dD2eiFsTRvFaeP+NRNzk0REAQCXS+AmxYLAmGAIfzJoiLUcOKcWN8N3YikEms//GFv3+9BwK9jqazUeNGJB3fnXGoIjw8qk5cA2sCmu06uxbTAbrjbCZziMKBIezdleS0C19EEcypLTOSIJiVARdJ4UQsqcfRo1RP/dWYrAFRIlpDlCyXBheeFA+cfktviZgy+p9oPMMeT91XEqbF7DZZUSK7Rsc45auKhwm7G1ppP32vKMRl8zD82x1nVs2CW1kTEG01rcRBoAEFyzETnQbXclNUQrKArHn2/LFNSGlFnSTVzKezKdmkN7Hz6jtEl52VxcPLY6vReGcVY8hAQwggW+MIIEpqADAgECAhMuAAAABj7Q8KabW/xUAAAAAAAGMA0GCSqGSIb3DQEBCwUAMH4xCzAJBgNVBAYTAlVTMRQwEgYDVQQKEwtFeG9zdGFyIExMQzEiMCAGA1UECxMZQ2VydGlmaWNhdGlvbiBBdXRob3JpdGllczE1MDMGA1UEAxMsRXhvc3RhciBGZWRlcmF0ZWQgSWRlbnRpdHkgU2VydmljZSBSb290IENBIDIwHhcNMTcwNDA1MTQxNTU1WhcNMjAwNDA1MTQxNTU1WjBXMQswCQYDVQQGEwJVUzEYMBYGA1UEChMPVS5TLiBHb3Zlcm5tZW50MQ0wCwYDVQQLEwRGUEtJMR8wHQYDVQQDExZGZWRlcmFsIEJyaWRnZSBDQSAyMDE2MIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAvp01eW8ltfSQg24Tv1NQys0cltQca4HyipsPRqfft+//7URZzoeWb19Xsf4zq0fHhZd3PIoOFM0veWonFNJ4W6WlSzg6uN/2iwvaUxEjWZ+pYjKQ9BpPBYM+Pc2bFXuQ2Iuhzcy4wEOfzaeLviNBfSkz31l9QMDj2nPDr0O/llhKwoOyKuIhfpOXavkVaYx+DGiROvC3LIFaCr2ShrmEmZKYBJ/UxInCkeEhUkh+3QCfj/ktPvLoXgpUzE+CSC8MAl4HtjLkkyk3zFZ3IXZmGpnyCxPiw/k74JgcnD/1I8iGL4/L6b9fGuJoMge9u7Y3id64cP3IyYNEKxi+hncSOQIDAQABo4ICWjCCAlYwDwYDVR0TAQH/BAUwAwEB/zBTBggrBgEFBQcBCwRHMEUwQwYIKwYBBQUHMAWGN2h0dHA6Ly9odHRwLmZwa2kuZ292L2JyaWRnZS9jYUNlcnRzSXNzdWVkQnlmYmNhMjAxNi5wN2MwDgYDVR0PAQH/BAQDAgEGMB0GA1UdDgQWBBQjsLN9FlTUAlZ26zq+qWsvQ3soFjAfBgNVHSMEGDAWgBRUCxGwHflXz7B6LVJS87OnjFL0rDBCBgNVHR8EOzA5MDegNaAzhjFodHRwOi8vd3d3LmZpcy5ldmluY2libGUuY29tL2Zpcy9wdWJsaWMvRVJDQTIuY3JsMFUGCCsGAQUFBwEBBEkwRzBFBggrBgEFBQcwAoY5aHR0cDovL3d3dy5maXMuZXZpbmNpYmxlLmNvbS9maXMvcHVibGljL2lzc3VlZHRvRVJDQTIucDdjMAwGA1UdJAQFMAOBAQEwgZIGA1UdIQSBijCBhzAZBgsrBgEEAex8AQEBCAYKYIZIAWUDAgEDATAZBgsrBgEEAex8AQEBBQYKYIZIAWUDAgEDAzAZBgsrBgEEAex8AQEBBgYKYIZIAWUDAgEDDDAZBgsrBgEEAex8AQEBGQYKYIZIAWUDAgEDJTAZBgsrBgEEAex8AQEBGgYKYIZIAWUDAgEDJjBUBgNVHSAETTBLMA0GCysGAQQB7HwBAQEIMA0GCysGAQQB7HwBAQEFMA0GCysGAQQB7HwBAQEGMA0GCysGAQQB7HwBAQEZMA0GCysGAQQB7HwBAQEaMAoGA1UdNgQDAgEAMA0GCSqGSIb3DQEBCwUAA4IBAQCGzTjfIhfuRa2n27kt0CPpwDji0HRUKFQHXozNROwllC56eCVqSO7Igb8ZJ7gYv9KNCeWYnZukAsbHRyVJUf2tY4nnwzD1vX8sVMQGDDibIjSN0rIOL1EGL68BdYkupjIFeH/gVfUW5WXM1GtmoTztsfGVgKWLINUJjuoiBed2GvPsCKq0kQ098CMYqG5SFDHojojD327U9n+rdpooxfqnirj7Q/FQ5Kga0ViHDfytO78/wWYGr6gl/tTGERBwA63LIU0G4VoX2YkkylxP497YYSZntJLIP3pAMy4hZYkP0YG2Jwjdw/nfvpnHBAIwPHYhmGDF4suXaVsoXdr3ZMWcMIIGBDCCBOygAwIBAgITdAAAAAmwjRGLAD5mdAAAAAAACTANBgkqhkiG9w0BAQsFADBmMQswCQYDVQQGEwJVUzEXMBUGA1UEChMOU0FGRS1CaW9waGFybWExIjAgBgNVBAsTGUNlcnRpZmljYXRpb24gQXV0aG9yaXRpZXMxGjAYBgNVBAMTEVNBRkUgQnJpZGdlIENBIDAyMB4XDTE3MDgyMzE0NDMzMFoXDTE4MDgyMzE0NDMzMFowVzELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEfMB0GA1UEAxMWRmVkZXJhbCBCcmlkZ2UgQ0EgMjAxNjCCASIwDQYJKoZIhvcNAQEBBQADggEPADCCAQoCggEBAL6dNXlvJbX0kINuE79TUMrNHJbUHGuB8oqbD0an37fv/+1EWc6Hlm9fV7H+M6tHx4WXdzyKDhTNL3lqJxTSeFulpUs4Orjf9osL2lMRI1mfqWIykPQaTwWDPj3NmxV7kNiLoc3MuMBDn82ni74jQX0pM99ZfUDA49pzw69Dv5ZYSsKDsiriIX6Tl2r5FWmMfgxokTrwtyyBWgq9koa5hJmSmASf1MSJwpHhIVJIft0An4/5LT7y6F4KVMxPgkgvDAJeB7Yy5JMpN8xWdyF2ZhqZ8gsT4sP5O+CYHJw/9SPIhi+Py+m/XxriaDIHvbu2N4neuHD9yMmDRCsYvoZ3EjkCAwEAAaOCArgwggK0MA8GA1UdEwEB/wQFMAMBAf8wUwYIKwYBBQUHAQsERzBFMEMGCCsGAQUFBzAFhjdodHRwOi8vaHR0cC5mcGtpLmdvdi9icmlkZ2UvY2FDZXJ0c0lzc3VlZEJ5ZmJjYTIwMTYucDdjMA4GA1UdDwEB/wQEAwIBxjAdBgNVHQ4EFgQUI7CzfRZU1AJWdus6vqlrL0N7KBYwHwYDVR0jBBgwFoAUETDz3vv+VhRv7GXp4g7j2orFCw0wQAYDVR0fBDkwNzA1oDOgMYYvaHR0cDovL3NiY2EyLnNhZmUtYmlvcGhhcm1hLm9yZy9zYmNhL1NCQ0EwMi5jcmwwUwYIKwYBBQUHAQEERzBFMEMGCCsGAQUFBzAChjdodHRwOi8vc2JjYTIuc2FmZS1iaW9waGFybWEub3JnL3NiY2EvaXNzdWVkdG9TQkNBMDIucDdjMA8GA1UdJAEB/wQFMAOAAQAwggERBgNVHSEEggEIMIIBBDAYBgorBgEEAYG0fQEEBgpghkgBZQMCAQMCMBgGCisGAQQBgbR9AQUGCmCGSAFlAwIBAwMwGAYKKwYBBAGBtH0BBQYKYIZIAWUDAgEDDjAYBgorBgEEAYG0fQEFBgpghkgBZQMCAQMlMBgGCisGAQQBgbR9AQUGCmCGSAFlAwIBAygwGAYKKwYBBAGBtH0BBgYKYIZIAWUDAgEDDDAYBgorBgEEAYG0fQEGBgpghkgBZQMCAQMPMBgGCisGAQQBgbR9AQYGCmCGSAFlAwIBAyYwGAYKKwYBBAGBtH0BBgYKYIZIAWUDAgEDEjAYBgorBgEEAYG0fQEGBgpghkgBZQMCAQMpMDMGA1UdIAQsMCowDAYKKwYBBAGBtH0BBDAMBgorBgEEAYG0fQEFMAwGCisGAQQBgbR9AQYwCgYDVR02BAMCAQAwDQYJKoZIhvcNAQELBQADggEBAIQgEPrsQjscNuQAsirnCGFtXnlppUm0TIzZiLWipqdaXLrVRPOUaYF4dD+D/t2CO2l7ahBvjA5u3VaX2k8rxSfvSjPXUo5ygG3FEU3O5IOiWe02NvDvDYrZE3qOdjCsBQrQNrLgxsu2yLHL2FWj2TWQJShjOIPaFEedhOb3C3jkYOme6yqficCV+yao4GKDHZMHJIeGaIST331AiJBnemPaWVMiMnyOGdqA/hrlqMo6otbRP1UDdi6tIYdoCTNo/oBNX5Dek/KMwxOsUybwIw4K0b4c7hPRDtGtsVC+luOLrCKf5/jsWF/PVpf65Xit5Bfw8Bw0Kskq7uJB5dnQXccwggbPMIIFt6ADAgECAhEA0pF4VasoDCzzlf4S8JCQIjANBgkqhkiG9w0BAQsFADA2MQswCQYDVQQGEwJVUzEQMA4GA1UEChMHT1JDIFBLSTEVMBMGA1UEAxMMT1JDIE5GSSBDQSAyMB4XDTE3MDgyMjE4NTc0MFoXDTIwMDgyMTE4NTc0MFowVzELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEfMB0GA1UEAxMWRmVkZXJhbCBCcmlkZ2UgQ0EgMjAxNjCCASIwDQYJKoZIhvcNAQEBBQADggEPADCCAQoCggEBAL6dNXlvJbX0kINuE79TUMrNHJbUHGuB8oqbD0an37fv/+1EWc6Hlm9fV7H+M6tHx4WXdzyKDhTNL3lqJxTSeFulpUs4Orjf9osL2lMRI1mfqWIykPQaTwWDPj3NmxV7kNiLoc3MuMBDn82ni74jQX0pM99ZfUDA49pzw69Dv5ZYSsKDsiriIX6Tl2r5FWmMfgxokTrwtyyBWgq9koa5hJmSmASf1MSJwpHhIVJIft0An4/5LT7y6F4KVMxPgkgvDAJeB7Yy5JMpN8xWdyF2ZhqZ8gsT4sP5O+CYHJw/9SPIhi+Py+m/XxriaDIHvbu2N4neuHD9yMmDRCsYvoZ3EjkCAwEAAaOCA7UwggOxMG8GCCsGAQUFBwEBBGMwYTAkBggrBgEFBQcwAYYYaHR0cDovL25maTIuZXZhLm9yYy5jb20vMDkGCCsGAQUFBzAChi1odHRwOi8vY3JsLXNlcnZlci5vcmMuY29tL2NhQ2VydHMvT1JDTkZJMi5wN2MwHwYDVR0jBBgwFoAUC0douXLlogd0XQNvr30rxxbNr9YwDwYDVR0TAQH/BAUwAwEB/zCB1AYDVR0gBIHMMIHJMA4GDCqGSIb3DQUGAQMBAzAOBgwqhkiG9w0FBgEDAQwwDgYMKoZIhvcNBQYBAwESMA4GDCqGSIb3DQUGAQMBEzAOBgwqhkiG9w0FBgEDARQwDgYMKoZIhvcNBQYBAwEVMA0GCysGAQQBnlIBAQEDMA0GCysGAQQBnlIBAQEMMA0GCysGAQQBnlIBAQElMA0GCysGAQQBnlIBAQEmMA0GCysGAQQBnlIBAQESMA0GCysGAQQBnlIBAQETMA0GCysGAQQBnlIBAQEUMDsGA1UdHwQ0MDIwMKAuoCyGKmh0dHA6Ly9jcmwtc2VydmVyLm9yYy5jb20vQ1JMcy9PUkNORkkyLmNybDAOBgNVHQ8BAf8EBAMCAQYwggFyBgNVHSEEggFpMIIBZTAaBgwqhkiG9w0FBgEDAQMGCmCGSAFlAwIBAwMwGgYMKoZIhvcNBQYBAwEMBgpghkgBZQMCAQMMMBoGDCqGSIb3DQUGAQMBEgYKYIZIAWUDAgEDEjAaBgwqhkiG9w0FBgEDARMGCmCGSAFlAwIBAxMwGgYMKoZIhvcNBQYBAwEUBgpghkgBZQMCAQMUMBoGDCqGSIb3DQUGAQMBFQYKYIZIAWUDAgEDJTAZBgsrBgEEAZ5SAQEBAwYKYIZIAWUDAgEDAzAZBgsrBgEEAZ5SAQEBDAYKYIZIAWUDAgEDDDAZBgsrBgEEAZ5SAQEBJQYKYIZIAWUDAgEDJTAZBgsrBgEEAZ5SAQEBJgYKYIZIAWUDAgEDJjAZBgsrBgEEAZ5SAQEBEgYKYIZIAWUDAgEDEjAZBgsrBgEEAZ5SAQEBEwYKYIZIAWUDAgEDEzAZBgsrBgEEAZ5SAQEBFAYKYIZIAWUDAgEDFDAdBgNVHQ4EFgQUI7CzfRZU1AJWdus6vqlrL0N7KBYwUwYIKwYBBQUHAQsERzBFMEMGCCsGAQUFBzAFhjdodHRwOi8vaHR0cC5mcGtpLmdvdi9icmlkZ2UvY2FDZXJ0c0lzc3VlZEJ5ZmJjYTIwMTYucDdjMA0GCSqGSIb3DQEBCwUAA4IBAQAofZCSBji8M57OD/y6TL4EIOhdhF4GcLe1SVv7xoCMQYe6Cm9pKYjJ2gTvf7IkgMHklSAMqmm9TRW0Kbo9SVs70u8EoOlHFhnglrZe9uoKXvfKw74gNU/7521Gn/8B21tXxxz0kiutINGIXFca5mbrgeM6lZ8Iv6oa57uuz6B07XSVBCkAdzb8PlfSj6mSD++JPKtJkvnc7CC14epTOpt8FybTqtRrW0I1TMYOQybxdjVdN3wqgiPTh+BgXgazuIJRLttxLsxA4GMc4htIRxnwrG40Y01bgiHbc0IeT6QjidMdYiqR1QQpmOrmNTQyJZw3wj26TOHa7GSB737DRnh5oQAxAA=="));
-		
-		// Root cert self signed
-		dataMap.put("http://http.fpki.gov/fcpca/caCertsIssuedTofcpca.p7c", Utils.fromBase64("MIIEYDCCA0igAwIBAgICATAwDQYJKoZIhvcNAQELBQAwWTELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEhMB8GA1UEAxMYRmVkZXJhbCBDb21tb24gUG9saWN5IENBMB4XDTEwMTIwMTE2NDUyN1oXDTMwMTIwMTE2NDUyN1owWTELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEhMB8GA1UEAxMYRmVkZXJhbCBDb21tb24gUG9saWN5IENBMIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEA2HX7NRY0WkG/Wq9cMAQUHK14RLXqJup1YcfNNnn4fNi9KVFmWSHjeavUeL6wLbCh1bI1FiPQzB6+Duir3MPJ1hLXp3JoGDG4FyKyPn66CG3G/dFYLGmgA/Aqo/Y/ISU937cyxY4nsyOl4FKzXZbpsLjFxZ+7xaBugkC7xScFNknWJidpDDSPzyd6KgqjQV+NHQOGgxXgVcHFmCye7Bpy3EjBPvmE0oSCwRvDdDa3ucc2Mnr4MrbQNq4iGDGMUHMhnv6DOzCIJOPpwX7e7ZjHH5IQip9bYi+dpLzVhW86/clTpyBLqtsgqyFOHQ1O5piF5asRR12dP8QjwOMUBm7+nQIDAQABo4IBMDCCASwwDwYDVR0TAQH/BAUwAwEB/zCB6QYIKwYBBQUHAQsEgdwwgdkwPwYIKwYBBQUHMAWGM2h0dHA6Ly9odHRwLmZwa2kuZ292L2ZjcGNhL2NhQ2VydHNJc3N1ZWRCeWZjcGNhLnA3YzCBlQYIKwYBBQUHMAWGgYhsZGFwOi8vbGRhcC5mcGtpLmdvdi9jbj1GZWRlcmFsJTIwQ29tbW9uJTIwUG9saWN5JTIwQ0Esb3U9RlBLSSxvPVUuUy4lMjBHb3Zlcm5tZW50LGM9VVM/Y0FDZXJ0aWZpY2F0ZTtiaW5hcnksY3Jvc3NDZXJ0aWZpY2F0ZVBhaXI7YmluYXJ5MA4GA1UdDwEB/wQEAwIBBjAdBgNVHQ4EFgQUrQx6dVzl85jEeZgOrCj9l/TnAvwwDQYJKoZIhvcNAQELBQADggEBAI9z2uF/gLGH9uwsz9GEYx728Yi3mvIRte9UrYpuGDco71wb5O9Qt2wmGCMiTR0mRyDpCZzicGJxqxHPkYnos/UqoEfAFMtOQsHdDA4b8Idb7OV316rgVNdF9IU+7LQd3nyKf1tNnJaK0KIyn9psMQz4pO9+c+iR3Ah6cFqgr2KBWfgAdKLI3VTKQVZHvenAT+0g3eOlCd+uKML80cgX2BLHb94u6b2akfI8WpQukSKAiaGMWMyDeiYZdQKlDn0KJnNR6obLB6jI/WNaNZvSr79PMUjBhHDbNXuaGQ/lj/RqDG8z2esccKIN47lQA2EC/0rskqTcLe4qNJMHtyznGI8="));
-		certificateVerifier.setDataLoader(new MemoryDataLoader(dataMap));
+		certificateVerifier.setDataLoader(new MemoryDataLoader(getBridgeDataMap()));
 
 		ValidationContext vc = new SignatureValidationContext();
 		vc.initialize(certificateVerifier);
-		CertificateToken certificateToken = DSSUtils.loadCertificateFromBase64EncodedString("MIIFSzCCBDOgAwIBAgIQY1NDO8Vfvy5VCrBZTWzlwzANBgkqhkiG9w0BAQsFADCBgTELMAkGA1UEBhMCVVMxHTAbBgNVBAoTFFN5bWFudGVjIENvcnBvcmF0aW9uMR8wHQYDVQQLExZTeW1hbnRlYyBUcnVzdCBOZXR3b3JrMTIwMAYDVQQDEylTeW1hbnRlYyBDbGFzcyAzIFNTUCBJbnRlcm1lZGlhdGUgQ0EgLSBHMzAeFw0xNjAxMTkwMDAwMDBaFw0yNDA5MjgyMzU5NTlaMFUxCzAJBgNVBAYTAlVTMRUwEwYDVQQKEwxTdXJlSUQsIEluYy4xFTATBgNVBAsTDFN1cmVJRCBQSVYtSTEYMBYGA1UEAxMPU3VyZUlEIEluYy4gQ0ExMIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAvZLi3n+WCWDKxdmixRmYnvLBpxjyu7VCbyTien7eXkuiKMiYQFn7NMmAX5ZyMy1MqvRg7BHnTvcSnQTgdrfEbX47b/vytHnksrT/vLyQ0Na2y+py6w/gxjirYsdoUdfM0toO3aFS8kqGSGJ63BPMteqwSV93tbUaE/I8knPy7oYxMKCMA+cU0hNlMvpyYW2thXetIzPSgc2/UuwP/irhTA3oguiA/KQ8LRzMNFCnLk3O1tiqxDiIp7WJElRjWqVfItzBIOUpoMpoc8y8kpitNzdSknFSFW0Tpfa0XSnO9hUZmjAryxmIztL9Bw6yJENswxnxN3KkzZ82QixNwZRriwIDAQABo4IB6DCCAeQwEgYDVR0TAQH/BAgwBgEB/wIBADCBgAYDVR0gBHkwdzAPBg1ghkgBhvhFAQcXAwEGMA8GDWCGSAGG+EUBBxcDAQcwDwYNYIZIAYb4RQEHFwMBDTAPBg1ghkgBhvhFAQcXAwEOMA8GDWCGSAGG+EUBBxcDAQ8wDwYNYIZIAYb4RQEHFwMBETAPBg1ghkgBhvhFAQcXAwESMIGJBggrBgEFBQcBAQR9MHswJwYIKwYBBQUHMAGGG2h0dHA6Ly9zc3Atb2NzcC5zeW1hdXRoLmNvbTBQBggrBgEFBQcwAoZEaHR0cDovL3NzcC1haWEuc3ltYXV0aC5jb20vU1ROU1NQL0NlcnRzX2lzc3VlZF90b19DbGFzczNTU1BDQS1HMy5wN2MwRAYDVR0fBD0wOzA5oDegNYYzaHR0cDovL3NzcC1jcmwuc3ltYXV0aC5jb20vU1ROU1NQL0NsYXNzM1NTUENBRzMuY3JsMA4GA1UdDwEB/wQEAwIBBjApBgNVHREEIjAgpB4wHDEaMBgGA1UEAxMRU3ltYW50ZWNQS0ktMi0yOTIwHQYDVR0OBBYEFALCBm2w5wyaemW6pQWUsTNowLSYMB8GA1UdIwQYMBaAFDUmfVCV4aHBvQXVw513QscME5aMMA0GCSqGSIb3DQEBCwUAA4IBAQA1Q6gT34WR/KHhwdXb+lDWRyGJQoIpxD0LiYK1bASBcTYP4rPMYwl8c2030mPLeSZtDP9T8UxMvJ/kYsjCdVj/c6BqS0xximNskYHOW8sUeO8XMQkbnNiIYaxMZ0NaMCjamh7rOUdfVdgg7sW11lQ2qVfsviG8EG+7BmA9etVtpTWznr1aiit4rMwF2dPq94fiKOg7x9gNmo6ev6OtBVXZB/Bayg4nzPlRQk2LMEaNzvDBgPJHueHu/x9E+nMzdgOfDV4JeBPhcLXs2tKAIgGitARvTGtBwe85o1GovSyS2GRP4x67p3co0iod70cyxduISwXgCNyZSTrxqOftRMu7");
+		CertificateToken certificateToken = getBridgedCertificate();
 		vc.addCertificateTokenForVerification(certificateToken);
 
 		vc.validate();
@@ -160,6 +193,353 @@ public class SignatureValidationContextTest {
 																					// determine the trust anchor
 	}
 	
+	@Test
+	public void testConcurrentValidation() throws Exception {
+		CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		CertificateSource certSource = new CommonTrustedCertificateSource();
+		certificateVerifier.setTrustedCertSource(certSource);
+
+		final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+		certificateVerifier.setDataLoader(new MemoryDataLoader(getBridgeDataMap()) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public byte[] get(String url) {
+				calls.computeIfAbsent(url, k -> new AtomicInteger()).incrementAndGet();
+				return super.get(url);
+			}
+
+		});
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			SignatureValidationContext svc = new SignatureValidationContext();
+			svc.setExecutorService(executorService);
+			svc.initialize(certificateVerifier);
+			CertificateToken certificateToken = getBridgedCertificate();
+			svc.addCertificateTokenForVerification(certificateToken);
+
+			svc.validate();
+
+			Set<CertificateToken> processedCertificates = svc.getProcessedCertificates();
+			assertEquals(4, processedCertificates.size());
+			assertNotNull(getRootCertificate(certificateToken, processedCertificates));
+		} finally {
+			executorService.shutdown();
+		}
+
+		assertFalse(calls.isEmpty());
+		for (AtomicInteger counter : calls.values()) {
+			assertEquals(1, counter.get());
+		}
+	}
+
+	@Test
+	public void testRevocationDataRetrievedOncePerUrl() throws Exception {
+		final String firstUrl = "http://crl.test/first.crl";
+		final String secondUrl = "http://crl.test/second.crl";
+
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		KeyPair caKeyPair = keyPairGenerator.generateKeyPair();
+		ContentSigner caSigner = new JcaContentSignerBuilder("SHA256withRSA").build(caKeyPair.getPrivate());
+		long now = System.currentTimeMillis();
+		X500Name caName = new X500Name("CN=Test CA");
+
+		JcaX509v3CertificateBuilder caBuilder = new JcaX509v3CertificateBuilder(caName, BigInteger.ONE, new Date(now - 86400000L),
+				new Date(now + 86400000L), caName, caKeyPair.getPublic());
+		caBuilder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+		caBuilder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+		CertificateToken caToken = DSSUtils.loadCertificate(caBuilder.build(caSigner).getEncoded());
+
+		// the distribution points of the two certificates overlap, the second url is not reachable
+		CertificateToken firstCertificate = createCertificate(caName, caSigner, BigInteger.valueOf(2), keyPairGenerator.generateKeyPair(), firstUrl);
+		CertificateToken secondCertificate = createCertificate(caName, caSigner, BigInteger.valueOf(3), keyPairGenerator.generateKeyPair(), secondUrl,
+				firstUrl);
+
+		X509v2CRLBuilder crlBuilder = new X509v2CRLBuilder(caName, new Date(now - 3600000L));
+		crlBuilder.setNextUpdate(new Date(now + 86400000L));
+		final byte[] crl = crlBuilder.build(caSigner).getEncoded();
+
+		final AtomicInteger crlCalls = new AtomicInteger();
+		final AtomicInteger ocspCalls = new AtomicInteger();
+
+		CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		CertificateSource certSource = new CommonTrustedCertificateSource();
+		certSource.addCertificate(caToken);
+		certificateVerifier.setTrustedCertSource(certSource);
+		certificateVerifier.setCrlSource(new CRLSource() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+				crlCalls.incrementAndGet();
+				List<String> crlUrls = DSSASN1Utils.getCrlUrls(certificateToken);
+				if (!crlUrls.contains(firstUrl)) {
+					return null;
+				}
+				try {
+					CRLToken crlToken = new CRLToken(certificateToken, CRLUtils.buildCRLValidity(new CRLBinary(crl), issuerCertificateToken));
+					crlToken.setOrigins(Collections.singleton(RevocationOrigin.EXTERNAL));
+					crlToken.setSourceURL(firstUrl);
+					crlToken.setAvailable(true);
+					return crlToken;
+				} catch (IOException e) {
+					throw new DSSException(e);
+				}
+			}
+
+		});
+		certificateVerifier.setOcspSource(new OCSPSource() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public OCSPToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+				ocspCalls.incrementAndGet();
+				return null;
+			}
+
+		});
+
+		// the revocation data are memoized in the concurrent mode, the two certificates are checked at the same time
+		SignatureValidationContext svc = new SignatureValidationContext();
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			svc.setExecutorService(executorService);
+			svc.initialize(certificateVerifier);
+			svc.addCertificateTokenForVerification(firstCertificate);
+			svc.addCertificateTokenForVerification(secondCertificate);
+			svc.validate();
+		} finally {
+			executorService.shutdown();
+		}
+
+		assertEquals(1, crlCalls.get());
+		assertEquals(2, ocspCalls.get());
+
+		Set<RevocationToken> processedRevocations = svc.getProcessedRevocations();
+		assertEquals(2, processedRevocations.size());
+		for (RevocationToken revocationToken : processedRevocations) {
+			assertEquals(firstUrl, revocationToken.getSourceURL());
+			assertTrue(revocationToken.getStatus());
+		}
+	}
+
+	@Test
+	public void testPrefetchedRevocationData() throws Exception {
+		PrefetchTestContext context = new PrefetchTestContext(false);
+		Set<RevocationToken> processedRevocations = context.validate();
+
+		// the whole chain is requested at once, nothing is requested one by one
+		assertEquals(Collections.singletonList(2), context.batchSizes);
+		assertEquals(0, context.crlCalls.get());
+		assertEquals(0, context.ocspCalls.get());
+
+		assertEquals(2, processedRevocations.size());
+		for (RevocationToken revocationToken : processedRevocations) {
+			assertTrue(revocationToken.getStatus());
+		}
+	}
+
+	@Test
+	public void testPrefetchedRevocationDataFallback() throws Exception {
+		// the batch only returns the revocation data of the signing certificate
+		PrefetchTestContext context = new PrefetchTestContext(true);
+		Set<RevocationToken> processedRevocations = context.validate();
+
+		assertEquals(Collections.singletonList(2), context.batchSizes);
+		// the intermediate certificate is checked with the usual requests
+		assertEquals(1, context.crlCalls.get());
+		assertEquals(1, context.ocspCalls.get());
+
+		assertEquals(2, processedRevocations.size());
+		for (RevocationToken revocationToken : processedRevocations) {
+			assertTrue(revocationToken.getStatus());
+		}
+	}
+
+	@Test
+	public void testPrefetchedRevocationDataConcurrent() throws Exception {
+		PrefetchTestContext context = new PrefetchTestContext(false);
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		Set<RevocationToken> processedRevocations;
+		try {
+			processedRevocations = context.validate(executorService);
+		} finally {
+			executorService.shutdown();
+		}
+
+		// the other certificates of the chain wait for the batch request instead of going online
+		assertEquals(Collections.singletonList(2), context.batchSizes);
+		assertEquals(0, context.crlCalls.get());
+		assertEquals(0, context.ocspCalls.get());
+
+		assertEquals(2, processedRevocations.size());
+		for (RevocationToken revocationToken : processedRevocations) {
+			assertTrue(revocationToken.getStatus());
+		}
+	}
+
+	/**
+	 * A chain root (trusted) / intermediate / signing certificate with a CRL source supporting the batch requests
+	 */
+	private static class PrefetchTestContext {
+
+		private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<Integer>());
+		private final AtomicInteger crlCalls = new AtomicInteger();
+		private final AtomicInteger ocspCalls = new AtomicInteger();
+
+		private final boolean partialBatch;
+		private final Map<CertificateToken, byte[]> crlsByIssuer = new HashMap<CertificateToken, byte[]>();
+		private CertificateToken rootToken;
+		private CertificateToken intermediateToken;
+		private CertificateToken signingToken;
+
+		PrefetchTestContext(boolean partialBatch) throws Exception {
+			this.partialBatch = partialBatch;
+
+			KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+			keyPairGenerator.initialize(2048);
+			long now = System.currentTimeMillis();
+			Date notBefore = new Date(now - 86400000L);
+			Date notAfter = new Date(now + 86400000L);
+
+			KeyPair rootKeyPair = keyPairGenerator.generateKeyPair();
+			ContentSigner rootSigner = new JcaContentSignerBuilder("SHA256withRSA").build(rootKeyPair.getPrivate());
+			X500Name rootName = new X500Name("CN=Test Root");
+			JcaX509v3CertificateBuilder rootBuilder = new JcaX509v3CertificateBuilder(rootName, BigInteger.ONE, notBefore, notAfter, rootName,
+					rootKeyPair.getPublic());
+			rootBuilder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+			rootBuilder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+			rootToken = DSSUtils.loadCertificate(rootBuilder.build(rootSigner).getEncoded());
+
+			KeyPair intermediateKeyPair = keyPairGenerator.generateKeyPair();
+			ContentSigner intermediateSigner = new JcaContentSignerBuilder("SHA256withRSA").build(intermediateKeyPair.getPrivate());
+			X500Name intermediateName = new X500Name("CN=Test Intermediate");
+			JcaX509v3CertificateBuilder intermediateBuilder = new JcaX509v3CertificateBuilder(rootName, BigInteger.valueOf(2), notBefore,
+					notAfter, intermediateName, intermediateKeyPair.getPublic());
+			intermediateBuilder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+			intermediateBuilder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+			intermediateToken = DSSUtils.loadCertificate(intermediateBuilder.build(rootSigner).getEncoded());
+
+			JcaX509v3CertificateBuilder signingBuilder = new JcaX509v3CertificateBuilder(intermediateName, BigInteger.valueOf(3), notBefore,
+					notAfter, new X500Name("CN=Test Signer"), keyPairGenerator.generateKeyPair().getPublic());
+			signingToken = DSSUtils.loadCertificate(signingBuilder.build(intermediateSigner).getEncoded());
+
+			crlsByIssuer.put(rootToken, buildCRL(rootName, rootSigner));
+			crlsByIssuer.put(intermediateToken, buildCRL(intermediateName, intermediateSigner));
+		}
+
+		private byte[] buildCRL(X500Name issuerName, ContentSigner signer) throws Exception {
+			long now = System.currentTimeMillis();
+			X509v2CRLBuilder crlBuilder = new X509v2CRLBuilder(issuerName, new Date(now - 3600000L));
+			crlBuilder.setNextUpdate(new Date(now + 86400000L));
+			return crlBuilder.build(signer).getEncoded();
+		}
+
+		private CRLToken getCRLToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			try {
+				CRLToken crlToken = new CRLToken(certificateToken,
+						CRLUtils.buildCRLValidity(new CRLBinary(crlsByIssuer.get(issuerCertificateToken)), issuerCertificateToken));
+				crlToken.setOrigins(Collections.singleton(RevocationOrigin.EXTERNAL));
+				crlToken.setSourceURL("http://crl.test/" + issuerCertificateToken.getDSSIdAsString());
+				crlToken.setAvailable(true);
+				return crlToken;
+			} catch (IOException e) {
+				throw new DSSException(e);
+			}
+		}
+
+		Set<RevocationToken> validate() {
+			return validate(null);
+		}
+
+		Set<RevocationToken> validate(ExecutorService executorService) {
+			CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+			CertificateSource certSource = new CommonTrustedCertificateSource();
+			certSource.addCertificate(rootToken);
+			certificateVerifier.setTrustedCertSource(certSource);
+			CertificateSource adjunctCertSource = new CommonCertificateSource();
+			adjunctCertSource.addCertificate(intermediateToken);
+			certificateVerifier.setAdjunctCertSource(adjunctCertSource);
+			certificateVerifier.setCrlSource(new BatchCRLSource());
+			certificateVerifier.setOcspSource(new OCSPSource() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public OCSPToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+					ocspCalls.incrementAndGet();
+					return null;
+				}
+
+			});
+
+			SignatureValidationContext svc = new SignatureValidationContext();
+			svc.initialize(certificateVerifier);
+			svc.setExecutorService(executorService);
+			svc.addCertificateTokenForVerification(signingToken);
+			svc.validate();
+			return svc.getProcessedRevocations();
+		}
+
+		private class BatchCRLSource implements CRLSource, RevocationSourceBatchSupport<CRLToken> {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+				crlCalls.incrementAndGet();
+				return getCRLToken(certificateToken, issuerCertificateToken);
+			}
+
+			@Override
+			public Map<CertificateToken, CRLToken> getRevocationTokens(Map<CertificateToken, CertificateToken> certificatesAndIssuers) {
+				batchSizes.add(certificatesAndIssuers.size());
+				Map<CertificateToken, CRLToken> result = new HashMap<CertificateToken, CRLToken>();
+				for (Map.Entry<CertificateToken, CertificateToken> entry : certificatesAndIssuers.entrySet()) {
+					if (!partialBatch || signingToken.equals(entry.getKey())) {
+						result.put(entry.getKey(), getCRLToken(entry.getKey(), entry.getValue()));
+					}
+				}
+				return result;
+			}
+
+		}
+
+	}
+
+	private CertificateToken createCertificate(X500Name caName, ContentSigner caSigner, BigInteger serialNumber, KeyPair keyPair, String... crlUrls)
+			throws Exception {
+		long now = System.currentTimeMillis();
+		JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(caName, serialNumber, new Date(now - 86400000L),
+				new Date(now + 86400000L), new X500Name("CN=Test " + serialNumber), keyPair.getPublic());
+		DistributionPoint[] distributionPoints = new DistributionPoint[crlUrls.length];
+		for (int i = 0; i < crlUrls.length; i++) {
+			GeneralNames generalNames = new GeneralNames(new GeneralName(GeneralName.uniformResourceIdentifier, crlUrls[i]));
+			distributionPoints[i] = new DistributionPoint(new DistributionPointName(generalNames), null, null);
+		}
+		builder.addExtension(Extension.cRLDistributionPoints, false, new CRLDistPoint(distributionPoints));
+		return DSSUtils.loadCertificate(builder.build(caSigner).getEncoded());
+	}
+
+	private CertificateToken getBridgedCertificate() {
+		return DSSUtils.loadCertificateFromBase64EncodedString("MIIFSzCCBDOgAwIBAgIQY1NDO8Vfvy5VCrBZTWzlwzANBgkqhkiG9w0BAQsFADCBgTELMAkGA1UEBhMCVVMxHTAbBgNVBAoTFFN5bWFudGVjIENvcnBvcmF0aW9uMR8wHQYDVQQLExZTeW1hbnRlYyBUcnVzdCBOZXR3b3JrMTIwMAYDVQQDEylTeW1hbnRlYyBDbGFzcyAzIFNTUCBJbnRlcm1lZGlhdGUgQ0EgLSBHMzAeFw0xNjAxMTkwMDAwMDBaFw0yNDA5MjgyMzU5NTlaMFUxCzAJBgNVBAYTAlVTMRUwEwYDVQQKEwxTdXJlSUQsIEluYy4xFTATBgNVBAsTDFN1cmVJRCBQSVYtSTEYMBYGA1UEAxMPU3VyZUlEIEluYy4gQ0ExMIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAvZLi3n+WCWDKxdmixRmYnvLBpxjyu7VCbyTien7eXkuiKMiYQFn7NMmAX5ZyMy1MqvRg7BHnTvcSnQTgdrfEbX47b/vytHnksrT/vLyQ0Na2y+py6w/gxjirYsdoUdfM0toO3aFS8kqGSGJ63BPMteqwSV93tbUaE/I8knPy7oYxMKCMA+cU0hNlMvpyYW2thXetIzPSgc2/UuwP/irhTA3oguiA/KQ8LRzMNFCnLk3O1tiqxDiIp7WJElRjWqVfItzBIOUpoMpoc8y8kpitNzdSknFSFW0Tpfa0XSnO9hUZmjAryxmIztL9Bw6yJENswxnxN3KkzZ82QixNwZRriwIDAQABo4IB6DCCAeQwEgYDVR0TAQH/BAgwBgEB/wIBADCBgAYDVR0gBHkwdzAPBg1ghkgBhvhFAQcXAwEGMA8GDWCGSAGG+EUBBxcDAQcwDwYNYIZIAYb4RQEHFwMBDTAPBg1ghkgBhvhFAQcXAwEOMA8GDWCGSAGG+EUBBxcDAQ8wDwYNYIZIAYb4RQEHFwMBETAPBg1ghkgBhvhFAQcXAwESMIGJBggrBgEFBQcBAQR9MHswJwYIKwYBBQUHMAGGG2h0dHA6Ly9zc3Atb2NzcC5zeW1hdXRoLmNvbTBQBggrBgEFBQcwAoZEaHR0cDovL3NzcC1haWEuc3ltYXV0aC5jb20vU1ROU1NQL0NlcnRzX2lzc3VlZF90b19DbGFzczNTU1BDQS1HMy5wN2MwRAYDVR0fBD0wOzA5oDegNYYzaHR0cDovL3NzcC1jcmwuc3ltYXV0aC5jb20vU1ROU1NQL0NsYXNzM1NTUENBRzMuY3JsMA4GA1UdDwEB/wQEAwIBBjApBgNVHREEIjAgpB4wHDEaMBgGA1UEAxMRU3ltYW50ZWNQS0ktMi0yOTIwHQYDVR0OBBYEFALCBm2w5wyaemW6pQWUsTNowLSYMB8GA1UdIwQYMBaAFDUmfVCV4aHBvQXVw513QscME5aMMA0GCSqGSIb3DQEBCwUAA4IBAQA1Q6gT34WR/KHhwdXb+lDWRyGJQoIpxD0LiYK1bASBcTYP4rPMYwl8c2030mPLeSZtDP9T8UxMvJ/kYsjCdVj/c6BqS0xximNskYHOW8sUeO8XMQkbnNiIYaxMZ0NaMCjamh7rOUdfVdgg7sW11lQ2qVfsviG8EG+7BmA9etVtpTWznr1aiit4rMwF2dPq94fiKOg7x9gNmo6ev6OtBVXZB/Bayg4nzPlRQk2LMEaNzvDBgPJHueHu/x9E+nMzdgOfDV4JeBPhcLXs2tKAIgGitARvTGtBwe85o1GovSyS2GRP4x67p3co0iod70cyxduISwXgCNyZSTrxqOftRMu7");
+	}
+
+	private Map<String, byte[]> getBridgeDataMap() {
+		Map<String, byte[]> dataMap = new HashMap<>();
+		dataMap.put("http://ssp-aia.symauth.com/STNSSP/Certs_issued_to_Class3SSPCA-G3.p7c", Utils.fromBase64("MIIGqgYJKoZIhvcNAQcCoIIGmzCCBpcCAQExADALBgkqhkiG9w0BBwGgggZ/MIIGezCCBWOgAwIBAgIUTQ/4rJckt6fN6sXPaCpaTD3VnfEwDQYJKoZIhvcNAQELBQAwVzELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEfMB0GA1UEAxMWRmVkZXJhbCBCcmlkZ2UgQ0EgMjAxNjAeFw0xNzEwMjUxNDA3NDFaFw0yMDEwMjUxNDA1NDBaMIGBMQswCQYDVQQGEwJVUzEdMBsGA1UEChMUU3ltYW50ZWMgQ29ycG9yYXRpb24xHzAdBgNVBAsTFlN5bWFudGVjIFRydXN0IE5ldHdvcmsxMjAwBgNVBAMTKVN5bWFudGVjIENsYXNzIDMgU1NQIEludGVybWVkaWF0ZSBDQSAtIEczMIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAvanvlwynHzqxLZofiv7Sjyv6b8pOs+uSdY/RED0qnqx7ADOQ1rsFXCDSM6HJqaK/WI8KezXS6ygf3efFhtctYXni84tF1hT/ncoQ82aCSPaKkxpMu5pF4GCE2JuKRZKcCbJLxEi1oMyzy10XaCgo8jjFaJqY3Cp73ZUL6mJza2rQ29rdjiS8wMmO3KN7e525O0ujKhpoeStfuLuATrumycwqPVMdS2t7UlXWiGX36g67Ki3ind5LFWWsxaKLBvXVueQJqR5w7P+Y/YMcwaDqln8F4n5OFotTKUBcQIBEiodz1TBE8oL0F8toJfh50ih5iIGWhGzgp2ot2D8j15PAqQIDAQABo4IDEjCCAw4wDwYDVR0TAQH/BAUwAwEB/zCBiAYDVR0gBIGAMH4wDAYKYIZIAWUDAgEDAzAMBgpghkgBZQMCAQMMMAwGCmCGSAFlAwIBAxIwDAYKYIZIAWUDAgEDEzAMBgpghkgBZQMCAQMUMAwGCmCGSAFlAwIBAyYwDAYKYIZIAWUDAgEDJTAMBgpghkgBZQMCAQMOMAwGCmCGSAFlAwIBAw8wUwYIKwYBBQUHAQEERzBFMEMGCCsGAQUFBzAChjdodHRwOi8vaHR0cC5mcGtpLmdvdi9icmlkZ2UvY2FDZXJ0c0lzc3VlZFRvZmJjYTIwMTYucDdjMIIBEgYDVR0hBIIBCTCCAQUwGwYKYIZIAWUDAgEDAwYNYIZIAYb4RQEHFwMBBjAbBgpghkgBZQMCAQMMBg1ghkgBhvhFAQcXAwEHMBsGCmCGSAFlAwIBAw4GDWCGSAGG+EUBBxcDAQ4wGwYKYIZIAWUDAgEDDwYNYIZIAYb4RQEHFwMBDzAbBgpghkgBZQMCAQMSBg1ghkgBhvhFAQcXAwESMBsGCmCGSAFlAwIBAxMGDWCGSAGG+EUBBxcDAREwGwYKYIZIAWUDAgEDFAYNYIZIAYb4RQEHFwMBFDAbBgpghkgBZQMCAQMlBg1ghkgBhvhFAQcXAwEIMBsGCmCGSAFlAwIBAyYGDWCGSAGG+EUBBxcDASQwYAYIKwYBBQUHAQsEVDBSMFAGCCsGAQUFBzAFhkRodHRwOi8vc3NwLXNpYS5zeW1hdXRoLmNvbS9TVE5TU1AvQ2VydHNfSXNzdWVkX2J5X0NsYXNzM1NTUENBLUczLnA3YzAMBgNVHSQEBTADgQEAMAoGA1UdNgQDAgEAMA4GA1UdDwEB/wQEAwIBBjAfBgNVHSMEGDAWgBQjsLN9FlTUAlZ26zq+qWsvQ3soFjA5BgNVHR8EMjAwMC6gLKAqhihodHRwOi8vaHR0cC5mcGtpLmdvdi9icmlkZ2UvZmJjYTIwMTYuY3JsMB0GA1UdDgQWBBQ1Jn1QleGhwb0F1cOdd0LHDBOWjDANBgkqhkiG9w0BAQsFAAOCAQEAcM7Oza5mG6L7zMKFt4zjBo3dofjXZut/KOYBuEmQoss3NSA5Z0xzEIJyvHY6y10TfCInnzpSlqir1r2NjiJ/HYpdnziDZ1EziLkjXb6cGwOMSCSQftYtrJLF1LptGElbvdh/MhEza9M1PABsQ/yh2zkY5hZF/gHb76+/kk3Kn4l3XNoD17OnkPmxgZ3k7SIkxgci9z06r+ZEfJVbDkFL2GgRCNBjngG1et92LtqxmxrFoYCpPMmqgJB4tqlRDc3+lVIBU2L7wTYyG5UURuJcHyEOagZGjsZPil5hRCoGtluL12HAB4FJUH6wDK7/cTEkpldN2B5iG+2dvLNv1ux6lzEA"));
+		dataMap.put("http://http.fpki.gov/bridge/caCertsIssuedTofbca2016.p7c", Utils.fromBase64("MIJdlgYJKoZIhvcNAQcCoIJdhzCCXYMCAQExADALBgkqhkiG9w0BBwGggl1pMIIGZTCCBU2gAwIBAgICP0IwDQYJKoZIhvcNAQELBQAwWTELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEhMB8GA1UEAxMYRmVkZXJhbCBDb21tb24gUG9saWN5IENBMB4XDTE2MTEwODE4MjAzOFoXDTE5MTEwODE4MjAzOFowVzELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEfMB0GA1UEAxMWRmVkZXJhbCBCcmlkZ2UgQ0EgMjAxNjCCASIwDQYJKoZIhvcNAQEBBQADggEPADCCAQoCggEBAL6dNXlvJbX0kINuE79TUMrNHJbUHGuB8oqbD0an37fv/+1EWc6Hlm9fV7H+M6tHx4WXdzyKDhTNL3lqJxTSeFulpUs4Orjf9osL2lMRI1mfqWIykPQaTwWDPj3NmxV7kNiLoc3MuMBDn82ni74jQX0pM99ZfUDA49pzw69Dv5ZYSsKDsiriIX6Tl2r5FWmMfgxokTrwtyyBWgq9koa5hJmSmASf1MSJwpHhIVJIft0An4/5LT7y6F4KVMxPgkgvDAJeB7Yy5JMpN8xWdyF2ZhqZ8gsT4sP5O+CYHJw/9SPIhi+Py+m/XxriaDIHvbu2N4neuHD9yMmDRCsYvoZ3EjkCAwEAAaOCAzcwggMzMA8GA1UdEwEB/wQFMAMBAf8wggFBBgNVHSAEggE4MIIBNDAMBgpghkgBZQMCAQMGMAwGCmCGSAFlAwIBAwcwDAYKYIZIAWUDAgEDCDAMBgpghkgBZQMCAQMNMAwGCmCGSAFlAwIBAxAwDAYKYIZIAWUDAgEDATAMBgpghkgBZQMCAQMCMAwGCmCGSAFlAwIBAw4wDAYKYIZIAWUDAgEDDzAMBgpghkgBZQMCAQMRMAwGCmCGSAFlAwIBAxIwDAYKYIZIAWUDAgEDEzAMBgpghkgBZQMCAQMUMAwGCmCGSAFlAwIBAyQwDAYKYIZIAWUDAgEDAzAMBgpghkgBZQMCAQMEMAwGCmCGSAFlAwIBAwwwDAYKYIZIAWUDAgEDJTAMBgpghkgBZQMCAQMmMAwGCmCGSAFlAwIBAycwDAYKYIZIAWUDAgEDKDAMBgpghkgBZQMCAQMpME8GCCsGAQUFBwEBBEMwQTA/BggrBgEFBQcwAoYzaHR0cDovL2h0dHAuZnBraS5nb3YvZmNwY2EvY2FDZXJ0c0lzc3VlZFRvZmNwY2EucDdjMIGNBgNVHSEEgYUwgYIwGAYKYIZIAWUDAgEDBgYKYIZIAWUDAgEDAzAYBgpghkgBZQMCAQMQBgpghkgBZQMCAQMEMBgGCmCGSAFlAwIBAwcGCmCGSAFlAwIBAwwwGAYKYIZIAWUDAgEDCAYKYIZIAWUDAgEDJTAYBgpghkgBZQMCAQMkBgpghkgBZQMCAQMmMFMGCCsGAQUFBwELBEcwRTBDBggrBgEFBQcwBYY3aHR0cDovL2h0dHAuZnBraS5nb3YvYnJpZGdlL2NhQ2VydHNJc3N1ZWRCeWZiY2EyMDE2LnA3YzAPBgNVHSQBAf8EBTADgQECMA0GA1UdNgEB/wQDAgEAMA4GA1UdDwEB/wQEAwIBBjAfBgNVHSMEGDAWgBStDHp1XOXzmMR5mA6sKP2X9OcC/DA1BgNVHR8ELjAsMCqgKKAmhiRodHRwOi8vaHR0cC5mcGtpLmdvdi9mY3BjYS9mY3BjYS5jcmwwHQYDVR0OBBYEFCOws30WVNQCVnbrOr6pay9DeygWMA0GCSqGSIb3DQEBCwUAA4IBAQAjrfFl52VqvOzz8u/PatFCjkJBDa33wUeVL7w0zu7+l6TsMJSZbPsPZX7upYAQKf2pSWj1stdbvpe7QLlxGP2bjG+ZXCXiBJUV2+KJHR1hFQx1NpzKfXi/sqloLrUBgaOHEgNKSX4YnJooj33VaEyfhEik7y/fXJePHo6Z/oYJLJxV6cagHmrwkDMHx8ujvdyBDzoua29BIOH0RvfZBD5wT8Umrng+2iiDcoTT/igrs3MdEiqB7g3cTqFrJJ36M0ZHWowOrmn2HlLI+X3ilC+6WoB5DrdbYgJWuTHGuG33shQwr3iK57jTcgqxEJyAtx726j0I+KW6WL+r9v7aykNoMIIGEjCCBPqgAwIBAgIQE4bT1zbS7klKtFX0xD0fEzANBgkqhkiG9w0BAQsFADBPMQswCQYDVQQGEwJVUzESMBAGA1UEChMJVFNDUCBJbmMuMQwwCgYDVQQLEwNDQXMxHjAcBgNVBAMTFVRTQ1AgU0hBMjU2IEJyaWRnZSBDQTAeFw0xNzA1MTYwMDAwMDBaFw0yMDA1MTUyMzU5NTlaMFcxCzAJBgNVBAYTAlVTMRgwFgYDVQQKEw9VLlMuIEdvdmVybm1lbnQxDTALBgNVBAsTBEZQS0kxHzAdBgNVBAMTFkZlZGVyYWwgQnJpZGdlIENBIDIwMTYwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQC+nTV5byW19JCDbhO/U1DKzRyW1BxrgfKKmw9Gp9+37//tRFnOh5ZvX1ex/jOrR8eFl3c8ig4UzS95aicU0nhbpaVLODq43/aLC9pTESNZn6liMpD0Gk8Fgz49zZsVe5DYi6HNzLjAQ5/Np4u+I0F9KTPfWX1AwOPac8OvQ7+WWErCg7Iq4iF+k5dq+RVpjH4MaJE68LcsgVoKvZKGuYSZkpgEn9TEicKR4SFSSH7dAJ+P+S0+8uheClTMT4JILwwCXge2MuSTKTfMVnchdmYamfILE+LD+TvgmBycP/UjyIYvj8vpv18a4mgyB727tjeJ3rhw/cjJg0QrGL6GdxI5AgMBAAGjggLgMIIC3DAdBgNVHQ4EFgQUI7CzfRZU1AJWdus6vqlrL0N7KBYwDwYDVR0TAQH/BAUwAwEB/zB5BgNVHSAEcjBwMA4GDCsGAQQBgqlTAQEBATAOBgwrBgEEAYKpUwEBAQIwDgYMKwYBBAGCqVMBAQEDMA4GDCsGAQQBgqlTAQEBBDAOBgwrBgEEAYKpUwEBAQUwDgYMKwYBBAGCqVMBAQEGMA4GDCsGAQQBgqlTAQEBBzA+BgNVHR8ENzA1MDOgMaAvhi1odHRwOi8vdHNjcC1jcmwuc3ltYXV0aC5jb20vdHNjcGJjYXNoYTI1Ni5jcmwwDgYDVR0PAQH/BAQDAgEGMIIBBwYDVR0hBIH/MIH8MBoGDCsGAQQBgqlTAQEBAQYKYIZIAWUDAgEDAzAaBgwrBgEEAYKpUwEBAQEGCmCGSAFlAwIBAyUwGgYMKwYBBAGCqVMBAQEDBgpghkgBZQMCAQMOMBoGDCsGAQQBgqlTAQEBAgYKYIZIAWUDAgEDDDAaBgwrBgEEAYKpUwEBAQQGCmCGSAFlAwIBAw8wGgYMKwYBBAGCqVMBAQECBgpghkgBZQMCAQMmMBoGDCsGAQQBgqlTAQEBBQYKYIZIAWUDAgEDEjAaBgwrBgEEAYKpUwEBAQYGCmCGSAFlAwIBAxMwGgYMKwYBBAGCqVMBAQEHBgpghkgBZQMCAQMUMFMGCCsGAQUFBwELBEcwRTBDBggrBgEFBQcwBYY3aHR0cDovL2h0dHAuZnBraS5nb3YvYnJpZGdlL2NhQ2VydHNJc3N1ZWRCeWZiY2EyMDE2LnA3YzAKBgNVHTYEAwIBADBSBggrBgEFBQcBAQRGMEQwQgYIKwYBBQUHMAKGNmh0dHA6Ly90c2NwLWFpYS5zeW1hdXRoLmNvbS9Jc3N1ZWRUby10c2NwYmNhc2hhMjU2LnA3YzAfBgNVHSMEGDAWgBS4UWJmMEW+5QxXHCNofuZP9ws+9zANBgkqhkiG9w0BAQsFAAOCAQEAYzS0bRtIN6Laa1TUIgztPk31d9EGcCqUn49fgGzE0Gl3LPFDbpqig+ska8aEGKeOGh9lHv8uhHUT/VIhIZrE38ZC8EbUNjtdzmisKxfMVOnm6UQV6w3OJNWzYCp1IrDf3/ZMUi/IhVVL9mjeTyhqA5XSZDs9rHnpz88miZFmfzg/uAF04mZZ8Qaax4Ui+xcq2BjdhnTE7cDsNH39XFLQ4MpcPmuXgpmGS4qxBkAyJ3pJxG4JddDd1kpsP+1bjAmNw2cokZEvPESsQdoNjHdtU/ZEFZBEWZ1TIsCj9NvtCeLXY20DhxYYpZ//nytR5vmO486sA1x19G5NZgoUGqEQMDCCCAUwggbtoAMCAQICBEDYryYwDQYJKoZIhvcNAQELBQAwgYIxCzAJBgNVBAYTAlVTMRgwFgYDVQQKDA9VLlMuIEdvdmVybm1lbnQxIzAhBgNVBAsMGkdvdmVybm1lbnQgUHJpbnRpbmcgT2ZmaWNlMSIwIAYDVQQLDBlDZXJ0aWZpY2F0aW9uIEF1dGhvcml0aWVzMRAwDgYDVQQLDAdHUE8gUENBMB4XDTE3MDgwNDE5MjgyN1oXDTIwMDgwNDE5NTgyN1owVzELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEfMB0GA1UEAxMWRmVkZXJhbCBCcmlkZ2UgQ0EgMjAxNjCCASIwDQYJKoZIhvcNAQEBBQADggEPADCCAQoCggEBAL6dNXlvJbX0kINuE79TUMrNHJbUHGuB8oqbD0an37fv/+1EWc6Hlm9fV7H+M6tHx4WXdzyKDhTNL3lqJxTSeFulpUs4Orjf9osL2lMRI1mfqWIykPQaTwWDPj3NmxV7kNiLoc3MuMBDn82ni74jQX0pM99ZfUDA49pzw69Dv5ZYSsKDsiriIX6Tl2r5FWmMfgxokTrwtyyBWgq9koa5hJmSmASf1MSJwpHhIVJIft0An4/5LT7y6F4KVMxPgkgvDAJeB7Yy5JMpN8xWdyF2ZhqZ8gsT4sP5O+CYHJw/9SPIhi+Py+m/XxriaDIHvbu2N4neuHD9yMmDRCsYvoZ3EjkCAwEAAaOCBKswggSnMA4GA1UdDwEB/wQEAwIBBjBPBgNVHSAESDBGMAwGCmCGSAFlAwIBEQEwDAYKYIZIAWUDAgERAjAMBgpghkgBZQMCAREDMAwGCmCGSAFlAwIBEQQwDAYKYIZIAWUDAgERBTAPBgNVHRMBAf8EBTADAQH/MFMGCCsGAQUFBwELBEcwRTBDBggrBgEFBQcwBYY3aHR0cDovL2h0dHAuZnBraS5nb3YvYnJpZGdlL2NhQ2VydHNJc3N1ZWRCeWZiY2EyMDE2LnA3YzCCAUgGCCsGAQUFBwEBBIIBOjCCATYwgcEGCCsGAQUFBzAChoG0bGRhcDovL2RpcmVjdG9yeS5vaXMuZ3BvLmdvdi9vdT1HUE8lMjBQQ0Esb3U9Q2VydGlmaWNhdGlvbiUyMEF1dGhvcml0aWVzLG91PUdvdmVybm1lbnQlMjBQcmludGluZyUyMG9mZmljZSxvPVUuUy4lMjBHb3Zlcm5tZW50LGM9VVM/Y0FDZXJ0aWZpY2F0ZTtiaW5hcnksY3Jvc3NDZXJ0aWZpY2F0ZVBhaXI7YmluYXJ5MEsGCCsGAQUFBzAChj9odHRwOi8vd3d3Lmdwby1mYmNhLWNybHMub2lzLmdwby5nb3YvR1BPLVBDQS1DQUNlcnRpZmljYXRlcy5wN2MwIwYIKwYBBQUHMAGGF2h0dHA6Ly93d3cub2NzcC5ncG8uZ292MFcGA1UdIQRQME4wGAYKYIZIAWUDAgERAQYKYIZIAWUDAgEDAzAYBgpghkgBZQMCARECBgpghkgBZQMCAQMMMBgGCmCGSAFlAwIBEQMGCmCGSAFlAwIBAyUwYAYDVR0eAQH/BFYwVKFSMFCkTjBMMQswCQYDVQQGEwJVUzEYMBYGA1UECgwPVS5TLiBHb3Zlcm5tZW50MSMwIQYDVQQLDBpHb3Zlcm5tZW50IFByaW50aW5nIE9mZmljZTAdBgNVHQ4EFgQUI7CzfRZU1AJWdus6vqlrL0N7KBYwggGVBgNVHR8EggGMMIIBiDCCAYSgggGAoIIBfIaBqmxkYXA6Ly9kaXJlY3Rvcnkub2lzLmdwby5nb3YvY249Q1JMNCxvdT1HUE8lMjBQQ0Esb3U9Q2VydGlmaWNhdGlvbiUyMEF1dGhvcml0aWVzLG91PUdvdmVybm1lbnQlMjBQcmludGluZyUyME9mZmljZSxvPVUuUy4lMjBHb3Zlcm5tZW50LGM9VVM/YXV0aG9yaXR5UmV2b2NhdGlvbkxpc3Q7YmluYXJ5hjZodHRwOi8vd3d3Lmdwby1mYmNhLWNybHMub2lzLmdwby5nb3YvR1BPLVBDQS1DUkxhNC5jcmykgZQwgZExCzAJBgNVBAYTAlVTMRgwFgYDVQQKDA9VLlMuIEdvdmVybm1lbnQxIzAhBgNVBAsMGkdvdmVybm1lbnQgUHJpbnRpbmcgT2ZmaWNlMSIwIAYDVQQLDBlDZXJ0aWZpY2F0aW9uIEF1dGhvcml0aWVzMRAwDgYDVQQLDAdHUE8gUENBMQ0wCwYDVQQDDARDUkw0MB8GA1UdIwQYMBaAFCJxeCG1hG2zAeMSdEFOTUUH6VL/MA0GCSqGSIb3DQEBCwUAA4IBAQBMv2u67cgKbDr219ZNlD51A1U2lfC2H6qNehcQ8LtYFXElhOIGRYQAe1N+2KLgSMz6BUIshMUwGz/snhkGOI0JZbIz90WRlh2RvwkIYWJChj7dOdy/5fKlnQrEZW7Qk9nMGvsdjT9vKYvSffvjIw+it6lCCORjGkDWUtPMonykrVc0pnQ+ajeV9tzok1dgF9u4QKeyhCOr7va5anUG20JFP5yWvjulv3yW1BsM9ZQ3YBARW9pN416RO3cdIeAEi2D1NHRPq9t2xjQKMZC7QGoh1B5/K8Q7AN+FGi3neGwxBoZLHeJLyiMBMActOrfpLcSdvPexR/xTmguP6DHhjNcwMIIG2TCCBcGgAwIBAgIETCfZ6TANBgkqhkiG9w0BAQsFADCBnDETMBEGCgmSJomT8ixkARkWA2dvdjEVMBMGCgmSJomT8ixkARkWBXVzcHRvMRYwFAYDVQQDEw1Db25maWd1cmF0aW9uMREwDwYDVQQDEwhTZXJ2aWNlczEcMBoGA1UEAxMTUHVibGljIEtleSBTZXJ2aWNlczEMMAoGA1UEAxMDQUlBMRcwFQYDVQQDFA5VU1BUT19JTlRSX0NBMTAeFw0xNjEyMTkxNDUyMjVaFw0xOTEyMTkxNTIyMjVaMFcxCzAJBgNVBAYTAlVTMRgwFgYDVQQKEw9VLlMuIEdvdmVybm1lbnQxDTALBgNVBAsTBEZQS0kxHzAdBgNVBAMTFkZlZGVyYWwgQnJpZGdlIENBIDIwMTYwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQC+nTV5byW19JCDbhO/U1DKzRyW1BxrgfKKmw9Gp9+37//tRFnOh5ZvX1ex/jOrR8eFl3c8ig4UzS95aicU0nhbpaVLODq43/aLC9pTESNZn6liMpD0Gk8Fgz49zZsVe5DYi6HNzLjAQ5/Np4u+I0F9KTPfWX1AwOPac8OvQ7+WWErCg7Iq4iF+k5dq+RVpjH4MaJE68LcsgVoKvZKGuYSZkpgEn9TEicKR4SFSSH7dAJ+P+S0+8uheClTMT4JILwwCXge2MuSTKTfMVnchdmYamfILE+LD+TvgmBycP/UjyIYvj8vpv18a4mgyB727tjeJ3rhw/cjJg0QrGL6GdxI5AgMBAAGjggNlMIIDYTAPBgNVHRMBAf8EBTADAQH/MA4GA1UdDwEB/wQEAwIBBjBdBgNVHSAEVjBUMAwGCmCGSAFlAwIBAgcwDAYKYIZIAWUDAgECCDAMBgpghkgBZQMCAQIJMAwGCmCGSAFlAwIBAgowDAYKYIZIAWUDAgECCzAMBgpghkgBZQMCAQIMMIGNBgNVHSEEgYUwgYIwGAYKYIZIAWUDAgECBwYKYIZIAWUDAgEDAjAYBgpghkgBZQMCAQIIBgpghkgBZQMCAQMDMBgGCmCGSAFlAwIBAgkGCmCGSAFlAwIBAwwwGAYKYIZIAWUDAgECCwYKYIZIAWUDAgEDJTAYBgpghkgBZQMCAQIMBgpghkgBZQMCAQMmMEAGA1UdHgEB/wQ2MDShMjAwpC4wLDETMBEGCgmSJomT8ixkARkWA2dvdjEVMBMGCgmSJomT8ixkARkWBXVzcHRvMHgGCCsGAQUFBwEBBGwwajAhBggrBgEFBQcwAYYVaHR0cDovL29jc3AudXNwdG8uZ292MEUGCCsGAQUFBzAChjlodHRwOi8vaXBraS51c3B0by5nb3YvSVBLSS9DZXJ0cy9DQWNlcnRzSXNzdWVkVG9VU1BUTy5wN2MwUwYIKwYBBQUHAQsERzBFMEMGCCsGAQUFBzAFhjdodHRwOi8vaHR0cC5mcGtpLmdvdi9icmlkZ2UvY2FDZXJ0c0lzc3VlZEJ5ZmJjYTIwMTYucDdjMB0GA1UdDgQWBBQjsLN9FlTUAlZ26zq+qWsvQ3soFjCB/QYDVR0fBIH1MIHyMDagNKAyhjBodHRwOi8vaXBraS51c3B0by5nb3YvSVBLSS9DUkxzL0NvbWJpbmVkQ1JMMi5jcmwwgbeggbSggbGkga4wgasxEzARBgoJkiaJk/IsZAEZFgNnb3YxFTATBgoJkiaJk/IsZAEZFgV1c3B0bzEWMBQGA1UEAxMNQ29uZmlndXJhdGlvbjERMA8GA1UEAxMIU2VydmljZXMxHDAaBgNVBAMTE1B1YmxpYyBLZXkgU2VydmljZXMxDDAKBgNVBAMTA0FJQTEXMBUGA1UEAxQOVVNQVE9fSU5UUl9DQTExDTALBgNVBAMTBENSTDEwHwYDVR0jBBgwFoAU3z85261gZVBfM5GaR6aOQU61T9swDQYJKoZIhvcNAQELBQADggEBAFTceSqE/3EwaXurZUuPQ33rsCQGWetLs66iqT0rFaYYZy5OamQJt0qNh7CdIUIFtQ0vdwFsLf/5Mf9q+mSnfAgQ561Re1hf/dl829ag9xvxxU82DShyhUeO+CS5aYmNYEX9rUSXpxw5MUfRL6Kq5ATmCxYi3/qU/DwD4SdPHMpFs3N+xIW7xj0WiQhyg2vX0QfElfTS4EGWLdlVG4Lx8L98R/gH85j12uDcM13RghudZhlWQWDNF+nAdHOV0/j4FbyuaXm+cykK49YiiwGKYiGc1ca1OFSomiDIzGSGy4qkmmkArnrjMOKHqb0M65OWoQIi9M6jGkOZnVGQtb1onfEwggY1MIIFHaADAgECAgIEJTANBgkqhkiG9w0BAQsFADBsMQswCQYDVQQGEwJVUzEYMBYGA1UEChMPVS5TLiBHb3Zlcm5tZW50MQwwCgYDVQQLEwNEb0QxDDAKBgNVBAsTA1BLSTEnMCUGA1UEAxMeRG9EIEludGVyb3BlcmFiaWxpdHkgUm9vdCBDQSAyMB4XDTE3MDUwOTEzMTQxNVoXDTIwMDUwOTEzMTQxNVowVzELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEfMB0GA1UEAxMWRmVkZXJhbCBCcmlkZ2UgQ0EgMjAxNjCCASIwDQYJKoZIhvcNAQEBBQADggEPADCCAQoCggEBAL6dNXlvJbX0kINuE79TUMrNHJbUHGuB8oqbD0an37fv/+1EWc6Hlm9fV7H+M6tHx4WXdzyKDhTNL3lqJxTSeFulpUs4Orjf9osL2lMRI1mfqWIykPQaTwWDPj3NmxV7kNiLoc3MuMBDn82ni74jQX0pM99ZfUDA49pzw69Dv5ZYSsKDsiriIX6Tl2r5FWmMfgxokTrwtyyBWgq9koa5hJmSmASf1MSJwpHhIVJIft0An4/5LT7y6F4KVMxPgkgvDAJeB7Yy5JMpN8xWdyF2ZhqZ8gsT4sP5O+CYHJw/9SPIhi+Py+m/XxriaDIHvbu2N4neuHD9yMmDRCsYvoZ3EjkCAwEAAaOCAvQwggLwMB8GA1UdIwQYMBaAFP/4rhOLkit5kkGjdlwsgZ6axZx4MB0GA1UdDgQWBBQjsLN9FlTUAlZ26zq+qWsvQ3soFjAOBgNVHQ8BAf8EBAMCAQYwdwYDVR0gBHAwbjALBglghkgBZQIBCyQwCwYJYIZIAWUCAQsqMAwGCmCGSAFlAwIBAw0wDAYKYIZIAWUDAgEDETAMBgpghkgBZQMCAQMSMAwGCmCGSAFlAwIBAxMwDAYKYIZIAWUDAgEDFDAMBgpghkgBZQMCAQMnMFQGA1UdIQRNMEswFwYJYIZIAWUCAQskBgpghkgBZQMCAQMmMBcGCWCGSAFlAgELKgYKYIZIAWUDAgEDDDAXBglghkgBZQIBCyoGCmCGSAFlAwIBAwQwDwYDVR0TAQH/BAUwAwEB/zCBhAYDVR0eAQH/BHoweKF2MDmkNzA1MQswCQYDVQQGEwJVUzEYMBYGA1UEChMPVS5TLiBHb3Zlcm5tZW50MQwwCgYDVQQLEwNEb0QwOaQ3MDUxCzAJBgNVBAYTAlVTMRgwFgYDVQQKEw9VLlMuIEdvdmVybm1lbnQxDDAKBgNVBAsTA0VDQTAPBgNVHSQBAf8EBTADgAEAMEcGA1UdHwRAMD4wPKA6oDiGNmh0dHA6Ly9jcmwuZGlzYS5taWwvY3JsL0RPRElOVEVST1BFUkFCSUxJVFlST09UQ0EyLmNybDB8BggrBgEFBQcBAQRwMG4wSgYIKwYBBQUHMAKGPmh0dHA6Ly9jcmwuZGlzYS5taWwvaXNzdWVkdG8vRE9ESU5URVJPUEVSQUJJTElUWVJPT1RDQTJfSVQucDdjMCAGCCsGAQUFBzABhhRodHRwOi8vb2NzcC5kaXNhLm1pbDBTBggrBgEFBQcBCwRHMEUwQwYIKwYBBQUHMAWGN2h0dHA6Ly9odHRwLmZwa2kuZ292L2JyaWRnZS9jYUNlcnRzSXNzdWVkQnlmYmNhMjAxNi5wN2MwCgYDVR02BAMCAQAwDQYJKoZIhvcNAQELBQADggEBALcCpORhZkBY5Wq/eNICQLjGUypuFiZG4bR1ukiU67XsTIWwPm9wJq8QLZ6jSvCkqxTne8J/AUv5XVIYDs2bHVyFDSRUUWAfyHAs/1VdxJPRenmi6nyFQHJ6Evj61eMlREFrWiBItvhZg+1Ue9f1lwsk2JkgVngFZYcPq807hwDXKV5ncd95MkbpyodidVIPJhzKGg4zE9osMh1u/BH0GRtbrL2bJrxq871jc4vzZudry9ibrqnQcamuCsNr6vsLKbFA7gztTZkI3FV5UJAm++Px1lNrGscFFd8pM2JV+bDbEq2poK2ix3/e+VNckPXwgH+Yon3nY1V2yzNJ5IbBy+kwggdZMIIGQaADAgECAgIVcDANBgkqhkiG9w0BAQsFADBbMQswCQYDVQQGEwJVUzETMBEGA1UEChMKQ3liZXJ0cnVzdDERMA8GA1UECxMIU2VydmljZXMxDDAKBgNVBAsTA1BLSTEWMBQGA1UEAxMNQ1QtQ1NTUC1DQS1BMTAeFw0xNzA1MjYxODQxNTFaFw0yMDA1MjYxODM3MDFaMFcxCzAJBgNVBAYTAlVTMRgwFgYDVQQKEw9VLlMuIEdvdmVybm1lbnQxDTALBgNVBAsTBEZQS0kxHzAdBgNVBAMTFkZlZGVyYWwgQnJpZGdlIENBIDIwMTYwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQC+nTV5byW19JCDbhO/U1DKzRyW1BxrgfKKmw9Gp9+37//tRFnOh5ZvX1ex/jOrR8eFl3c8ig4UzS95aicU0nhbpaVLODq43/aLC9pTESNZn6liMpD0Gk8Fgz49zZsVe5DYi6HNzLjAQ5/Np4u+I0F9KTPfWX1AwOPac8OvQ7+WWErCg7Iq4iF+k5dq+RVpjH4MaJE68LcsgVoKvZKGuYSZkpgEn9TEicKR4SFSSH7dAJ+P+S0+8uheClTMT4JILwwCXge2MuSTKTfMVnchdmYamfILE+LD+TvgmBycP/UjyIYvj8vpv18a4mgyB727tjeJ3rhw/cjJg0QrGL6GdxI5AgMBAAGjggQpMIIEJTAPBgNVHRMBAf8EBTADAQH/MIHOBgNVHSAEgcYwgcMwDQYLKwYBBAGBtikBAQEwDQYLKwYBBAGBtikBAQIwDQYLKwYBBAGBtikBAQMwDQYLKwYBBAGBtikBAQQwDQYLKwYBBAGBtikBAQUwDQYLKwYBBAGBtikBAQYwDQYLKwYBBAGBtikBAQcwDQYLKwYBBAGBtikBAQgwDQYLKwYBBAGBtikBAQkwDQYLKwYBBAGBtikBAQowDQYLKwYBBAGBtikBAQswDQYLKwYBBAGBtikBAQwwDQYLKwYBBAGBtikBAQ0wggFsBgNVHSEEggFjMIIBXzAZBgsrBgEEAYG2KQEBBQYKYIZIAWUDAgEDAjAZBgsrBgEEAYG2KQEBAQYKYIZIAWUDAgEDDjAZBgsrBgEEAYG2KQEBBwYKYIZIAWUDAgEDAzAZBgsrBgEEAYG2KQEBAwYKYIZIAWUDAgEDJTAZBgsrBgEEAYG2KQEBCQYKYIZIAWUDAgEDJTAZBgsrBgEEAYG2KQEBAgYKYIZIAWUDAgEDDzAZBgsrBgEEAYG2KQEBBAYKYIZIAWUDAgEDDzAZBgsrBgEEAYG2KQEBBgYKYIZIAWUDAgEDDzAZBgsrBgEEAYG2KQEBCgYKYIZIAWUDAgEDEjAZBgsrBgEEAYG2KQEBCAYKYIZIAWUDAgEDEjAZBgsrBgEEAYG2KQEBDAYKYIZIAWUDAgEDEzAZBgsrBgEEAYG2KQEBCwYKYIZIAWUDAgEDFDAZBgsrBgEEAYG2KQEBDQYKYIZIAWUDAgEDJjCBiAYIKwYBBQUHAQEEfDB6MD4GCCsGAQUFBzAChjJodHRwOi8vYWlhMS5jb20tc3Ryb25nLWlkLm5ldC9DQS9DVC1DU1NQLUNBLUExLnA3YzA4BggrBgEFBQcwAYYsaHR0cDovL29jc3AxLmNvbS1zdHJvbmctaWQubmV0L0NULUNTU1AtQ0EtQTEwUwYIKwYBBQUHAQsERzBFMEMGCCsGAQUFBzAFhjdodHRwOi8vaHR0cC5mcGtpLmdvdi9icmlkZ2UvY2FDZXJ0c0lzc3VlZEJ5ZmJjYTIwMTYucDdjMFsGA1UdHgEB/wRRME+hTTAmpCQwIjELMAkGA1UEBhMCVVMxEzARBgNVBAoTCkN5YmVydHJ1c3QwI6QhMB8xCzAJBgNVBAYTAlVTMRAwDgYDVQQKEwdWZXJpem9uMA4GA1UdDwEB/wQEAwIBBjAfBgNVHSMEGDAWgBR9Kn7Ok3UJlgmfc5/uQhR5AUsRZzBEBgNVHR8EPTA7MDmgN6A1hjNodHRwOi8vY2RwMS5jb20tc3Ryb25nLWlkLm5ldC9DRFAvQ1QtQ1NTUC1DQS1BMS5jcmwwHQYDVR0OBBYEFCOws30WVNQCVnbrOr6pay9DeygWMA0GCSqGSIb3DQEBCwUAA4IBAQBoTAKZsu6gtlqn45aWY8+Fji87slQHVFmP0AHsHk5yShz4WNm46FsvTrMApWpM7zc2BVOvUiBntLKZEn7eIsBiEh4vcos1A2GssMq36fxFjo1uths+gJbxBazycdIrpI83ERn1uKe85Ey6G8DaCzWJQ9pjz0I6lL5E7JA4BjUxP7fnGuzaIBcZrSA5ai/tJkCUmI4KT9AXny5IZZ2i5rWmectHvnieCbmIUGMkPpeouxMB45lofrCbUdGPguKbp8zGBYDdUaw+w+C81rzSv9sNVDVG+wX1nnzi7PN7gTBCnUD2AuXr28wqdmj8hr6fJpBlQl+PvoAMsA2vozQB9kTbMIIH/zCCBeegAwIBAgIBSTANBgkqhkiG9w0BAQsFADB6MQswCQYDVQQGEwJVUzEOMAwGA1UEChMFU1RSQUMxJzAlBgNVBAsTHlNUUkFDIFBLSSBUcnVzdCBJbmZyYXN0cnVjdHVyZTEyMDAGA1UEAxMpU1RSQUMgQnJpZGdlIFJvb3QgQ2VydGlmaWNhdGlvbiBBdXRob3JpdHkwHhcNMTcwNTEwMTk1MDUwWhcNMTkwMjIxMjAxNzAwWjBXMQswCQYDVQQGEwJVUzEYMBYGA1UEChMPVS5TLiBHb3Zlcm5tZW50MQ0wCwYDVQQLEwRGUEtJMR8wHQYDVQQDExZGZWRlcmFsIEJyaWRnZSBDQSAyMDE2MIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAvp01eW8ltfSQg24Tv1NQys0cltQca4HyipsPRqfft+//7URZzoeWb19Xsf4zq0fHhZd3PIoOFM0veWonFNJ4W6WlSzg6uN/2iwvaUxEjWZ+pYjKQ9BpPBYM+Pc2bFXuQ2Iuhzcy4wEOfzaeLviNBfSkz31l9QMDj2nPDr0O/llhKwoOyKuIhfpOXavkVaYx+DGiROvC3LIFaCr2ShrmEmZKYBJ/UxInCkeEhUkh+3QCfj/ktPvLoXgpUzE+CSC8MAl4HtjLkkyk3zFZ3IXZmGpnyCxPiw/k74JgcnD/1I8iGL4/L6b9fGuJoMge9u7Y3id64cP3IyYNEKxi+hncSOQIDAQABo4IDsTCCA60wHwYDVR0jBBgwFoAUqCFQZ0AKOrS3Z9eWqjOfVUevXT0wHQYDVR0OBBYEFCOws30WVNQCVnbrOr6pay9DeygWMA4GA1UdDwEB/wQEAwIBBjCBuwYDVR0gBIGzMIGwMA4GDCsGAQQBgrZtAgEFATAOBgwrBgEEAYK2bQIBBQIwDgYMKwYBBAGCtm0CAQUDMA4GDCsGAQQBgrZtAgEFBDAOBgwrBgEEAYK2bQIBBQUwDgYMKwYBBAGCtm0CAQUGMA4GDCsGAQQBgrZtAgEFBzAOBgwrBgEEAYK2bQIBBQgwDgYMKwYBBAGCtm0CAQUJMA4GDCsGAQQBgrZtAgEFCjAOBgwrBgEEAYK2bQIBBQswDwYDVR0TAQH/BAUwAwEB/zBGBgNVHR8EPzA9MDugOaA3hjVodHRwOi8vcGtpLnN0cmFjLm9yZy9icmlkZ2UvY3JsL1NUUkFDQnJpZGdlUm9vdENBLmNybDCBgwYIKwYBBQUHAQEEdzB1MEoGCCsGAQUFBzAChj5odHRwOi8vcGtpLnN0cmFjLm9yZy9icmlkZ2UvY2VydGlmaWNhdGVzL1NUUkFDQnJpZGdlUm9vdENBLnA3YzAnBggrBgEFBQcwAYYbaHR0cDovL2NlcnRzdGF0dXMuc3RyYWMub3JnMFMGCCsGAQUFBwELBEcwRTBDBggrBgEFBQcwBYY3aHR0cDovL2h0dHAuZnBraS5nb3YvYnJpZGdlL2NhQ2VydHNJc3N1ZWRCeWZiY2EyMDE2LnA3YzAYBgNVHRIEETAPgQ1wa2lAc3RyYWMub3JnMIIBQQYDVR0hBIIBODCCATQwGgYMKwYBBAGCtm0CAQUBBgpghkgBZQMCAQMBMBoGDCsGAQQBgrZtAgEFAgYKYIZIAWUDAgEDAjAaBgwrBgEEAYK2bQIBBQMGCmCGSAFlAwIBAwMwGgYMKwYBBAGCtm0CAQUEBgpghkgBZQMCAQMMMBoGDCsGAQQBgrZtAgEFBQYKYIZIAWUDAgEDDjAaBgwrBgEEAYK2bQIBBQYGCmCGSAFlAwIBAw8wGgYMKwYBBAGCtm0CAQUHBgpghkgBZQMCAQMSMBoGDCsGAQQBgrZtAgEFCAYKYIZIAWUDAgEDEzAaBgwrBgEEAYK2bQIBBQkGCmCGSAFlAwIBAxQwGgYMKwYBBAGCtm0CAQUKBgpghkgBZQMCAQMlMBoGDCsGAQQBgrZtAgEFCwYKYIZIAWUDAgEDJjAKBgNVHTYEAwIBADANBgkqhkiG9w0BAQsFAAOCAgEAPVDiRsO2EIYH000esvDa5EqPU5e0kggeaWtyPVB1x0pyKbopOcVejPiXxP6nJxV192meL1HDZpR1E7GzILrQ8KVCDyG7FIkNMD+RTwbQHEz5syB4QG+I5uFwyMInARiZG4Sc9nzVNP+iSfH9SIuKHrB36yeIo+ltIaehHCo+0lVNmw800DSd/mgpMeFNFbFrqFgbVNcyVZA96I2Z0SuVO8ve7hTzFF04UcZCB/CWcMGSec+16wfYIOwVVadecLKR9yyVQVCw1zjim638aNnn1z07/xoQ7HrEw7HtdLeHCp5i9t5TR4d9fTqbyNfzQKhKQUsot2RWDZQxabOgePcgDQ9tinrbcC0LbufvPlGH/g5NEJfsM8kXZQRy2wo2ijmg/prcIRyB0dd7AzU6pwE/ThM0Z5cHG+X/vzKYCURegVIy4QBFC4x4cJ8Q3I62ZKaJcgjD9yGs2m++Fu3KvfUFaxebHnrUFfRLw8708gHQgKDOItsbNn/bqxx5ULKyWLCUmL9EA3N3cnpjTGIb4ZzHkvxfHJ4ph8668RTUVInC4ooA5Omvd0yaISUge4mxZv5QmcQpNgpdVqLPRmNg/mqrkieMdVR30OSgIhXiLvbR19xhdGmtLqtjt4OSMs4BhcddUPEDwFWwFxxnEuFA8ahfLLkdHTR5Xuxii70Tic9Hw8owggrGMIIJrqADAgECAgRKqM59MA0GCSqGSIb3DQEBCwUAMHIxCzAJBgNVBAYTAlVTMRAwDgYDVQQKEwdFbnRydXN0MSIwIAYDVQQLExlDZXJ0aWZpY2F0aW9uIEF1dGhvcml0aWVzMS0wKwYDVQQLEyRFbnRydXN0IE1hbmFnZWQgU2VydmljZXMgTkZJIFJvb3QgQ0EwHhcNMTcxMTIxMDA0MzM3WhcNMjAxMTIxMDExMzM3WjBXMQswCQYDVQQGEwJVUzEYMBYGA1UEChMPVS5TLiBHb3Zlcm5tZW50MQ0wCwYDVQQLEwRGUEtJMR8wHQYDVQQDExZGZWRlcmFsIEJyaWRnZSBDQSAyMDE2MIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAvp01eW8ltfSQg24Tv1NQys0cltQca4HyipsPRqfft+//7URZzoeWb19Xsf4zq0fHhZd3PIoOFM0veWonFNJ4W6WlSzg6uN/2iwvaUxEjWZ+pYjKQ9BpPBYM+Pc2bFXuQ2Iuhzcy4wEOfzaeLviNBfSkz31l9QMDj2nPDr0O/llhKwoOyKuIhfpOXavkVaYx+DGiROvC3LIFaCr2ShrmEmZKYBJ/UxInCkeEhUkh+3QCfj/ktPvLoXgpUzE+CSC8MAl4HtjLkkyk3zFZ3IXZmGpnyCxPiw/k74JgcnD/1I8iGL4/L6b9fGuJoMge9u7Y3id64cP3IyYNEKxi+hncSOQIDAQABo4IHfTCCB3kwDgYDVR0PAQH/BAQDAgEGMIGkBgNVHSAEgZwwgZkwDwYNYIZIAYb6a4FIAwoHATAPBg1ghkgBhvprgUgDCgcCMA8GDWCGSAGG+muBSAMKBwMwDwYNYIZIAYb6a4FIAwoHBDAPBg1ghkgBhvprgUgDCgcFMA8GDWCGSAGG+muBSAMKBwYwDwYNYIZIAYb6a4FIAwoHBzAPBg1ghkgBhvprgUgDCgcIMA8GDWCGSAGG+muBSAMKBwkwDwYDVR0TAQH/BAUwAwEB/zCCAxwGA1UdIQSCAxMwggMPMBsGDWCGSAGG+muBSAMKBwgGCmCGSAFlAwIBAwEwGwYNYIZIAYb6a4FIAwoHCAYKYIZIAWUDAgEDAjAbBg1ghkgBhvprgUgDCgcIBgpghkgBZQMCAQMDMBsGDWCGSAGG+muBSAMKBwgGCmCGSAFlAwIBAwwwGwYNYIZIAYb6a4FIAwoHCAYKYIZIAWUDAgEDBDAbBg1ghkgBhvprgUgDCgcHBgpghkgBZQMCAQMCMBsGDWCGSAGG+muBSAMKBwcGCmCGSAFlAwIBAwMwGwYNYIZIAYb6a4FIAwoHBwYKYIZIAWUDAgEDDDAbBg1ghkgBhvprgUgDCgcHBgpghkgBZQMCAQMEMBsGDWCGSAGG+muBSAMKBwEGCmCGSAFlAwIBAwMwGwYNYIZIAYb6a4FIAwoHAQYKYIZIAWUDAgEDDDAbBg1ghkgBhvprgUgDCgcBBgpghkgBZQMCAQMEMBsGDWCGSAGG+muBSAMKBwMGCmCGSAFlAwIBAwMwGwYNYIZIAYb6a4FIAwoHAwYKYIZIAWUDAgEDDDAbBg1ghkgBhvprgUgDCgcDBgpghkgBZQMCAQMEMBsGDWCGSAGG+muBSAMKBwMGCmCGSAFlAwIBAwgwGwYNYIZIAYb6a4FIAwoHAgYKYIZIAWUDAgEDDDAbBg1ghkgBhvprgUgDCgcCBgpghkgBZQMCAQMEMBsGDWCGSAGG+muBSAMKBwQGCmCGSAFlAwIBAwwwGwYNYIZIAYb6a4FIAwoHBAYKYIZIAWUDAgEDBDAbBg1ghkgBhvprgUgDCgcIBgpghkgBZQMCAQMSMBsGDWCGSAGG+muBSAMKBwcGCmCGSAFlAwIBAxIwGwYNYIZIAYb6a4FIAwoHAQYKYIZIAWUDAgEDEjAbBg1ghkgBhvprgUgDCgcCBgpghkgBZQMCAQMSMBsGDWCGSAGG+muBSAMKBwUGCmCGSAFlAwIBAxMwGwYNYIZIAYb6a4FIAwoHBgYKYIZIAWUDAgEDEjAbBg1ghkgBhvprgUgDCgcJBgpghkgBZQMCAQMUMIIBWgYIKwYBBQUHAQEEggFMMIIBSDCBwwYIKwYBBQUHMAKGgbZsZGFwOi8vbmZpcm9vdGRpci5tYW5hZ2VkLmVudHJ1c3QuY29tL291PUVudHJ1c3QlMjBNYW5hZ2VkJTIwU2VydmljZXMlMjBORkklMjBSb290JTIwQ0Esb3U9Q2VydGlmaWNhdGlvbiUyMEF1dGhvcml0aWVzLG89RW50cnVzdCxjPVVTP2NBQ2VydGlmaWNhdGU7YmluYXJ5LGNyb3NzQ2VydGlmaWNhdGVQYWlyO2JpbmFyeTBQBggrBgEFBQcwAoZEaHR0cDovL25maXJvb3R3ZWIubWFuYWdlZC5lbnRydXN0LmNvbS9BSUEvQ2VydHNJc3N1ZWRUb05GSVJvb3RDQS5wN2MwLgYIKwYBBQUHMAGGImh0dHA6Ly9uZmlvY3NwLm1hbmFnZWQuZW50cnVzdC5jb20wUwYIKwYBBQUHAQsERzBFMEMGCCsGAQUFBzAFhjdodHRwOi8vaHR0cC5mcGtpLmdvdi9icmlkZ2UvY2FDZXJ0c0lzc3VlZEJ5ZmJjYTIwMTYucDdjMB0GA1UdDgQWBBQjsLN9FlTUAlZ26zq+qWsvQ3soFjCCAZoGA1UdHwSCAZEwggGNMIH6oIH3oIH0hjlodHRwOi8vbmZpcm9vdHdlYi5tYW5hZ2VkLmVudHJ1c3QuY29tL0NSTHMvTkZJUm9vdENBMi5jcmyGgbZsZGFwOi8vbmZpcm9vdGRpci5tYW5hZ2VkLmVudHJ1c3QuY29tL2NuPVdpbkNvbWJpbmVkMixvdT1FbnRydXN0JTIwTWFuYWdlZCUyMFNlcnZpY2VzJTIwTkZJJTIwUm9vdCUyMENBLG91PUNlcnRpZmljYXRpb24lMjBBdXRob3JpdGllcyxvPUVudHJ1c3QsYz1VUz9jZXJ0aWZpY2F0ZVJldm9jYXRpb25MaXN0O2JpbmFyeTCBjaCBiqCBh6SBhDCBgTELMAkGA1UEBhMCVVMxEDAOBgNVBAoTB0VudHJ1c3QxIjAgBgNVBAsTGUNlcnRpZmljYXRpb24gQXV0aG9yaXRpZXMxLTArBgNVBAsTJEVudHJ1c3QgTWFuYWdlZCBTZXJ2aWNlcyBORkkgUm9vdCBDQTENMAsGA1UEAxMEQ1JMMTAfBgNVHSMEGDAWgBT63yMBxKrsI+Otbw00pQ3POWRlXjANBgkqhkiG9w0BAQsFAAOCAQEAtlp/Dlxbw1CMVttC0yYDv0jSxITxmqMr4gZtr69bm+swzkoDTBNtyHxE/G08SQRFSSHzfhX0mvZ66TXzh33vAZcPd/kPY6UB35FDSE3JKFB5m8vFordYyowhQYRL0w9WWxe8mtJVjs+dUUtVTvUgMpCywTClaZl+lb4AxWo5YPygkWnmm25cLGxGfd0fgvbR6uThb6YLVsLUMteTvrKooSTrCCLC7eVljYcilBZQE83CGimy9rugYLfSVW3/6j3BWi5SYxtVd3byRyp9VCalFiUgHkZixe/TPRcpsV8IE8aSPpLJhauyuV6HbpevV5+tYHCGAvqyBz+QaHSn3KzemzCCCT0wgggloAMCAQICEFGxEjPPmTMmJOK4hJDbKRcwDQYJKoZIhvcNAQELBQAwbDELMAkGA1UEBhMCVVMxFjAUBgNVBAoTDUNlcnRpUGF0aCBMTEMxIjAgBgNVBAsTGUNlcnRpZmljYXRpb24gQXV0aG9yaXRpZXMxITAfBgNVBAMTGENlcnRpUGF0aCBCcmlkZ2UgQ0EgLSBHMjAeFw0xNzA0MjAwMDAwMDBaFw0xOTA0MzAyMzU5NTlaMFcxCzAJBgNVBAYTAlVTMRgwFgYDVQQKEw9VLlMuIEdvdmVybm1lbnQxDTALBgNVBAsTBEZQS0kxHzAdBgNVBAMTFkZlZGVyYWwgQnJpZGdlIENBIDIwMTYwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQC+nTV5byW19JCDbhO/U1DKzRyW1BxrgfKKmw9Gp9+37//tRFnOh5ZvX1ex/jOrR8eFl3c8ig4UzS95aicU0nhbpaVLODq43/aLC9pTESNZn6liMpD0Gk8Fgz49zZsVe5DYi6HNzLjAQ5/Np4u+I0F9KTPfWX1AwOPac8OvQ7+WWErCg7Iq4iF+k5dq+RVpjH4MaJE68LcsgVoKvZKGuYSZkpgEn9TEicKR4SFSSH7dAJ+P+S0+8uheClTMT4JILwwCXge2MuSTKTfMVnchdmYamfILE+LD+TvgmBycP/UjyIYvj8vpv18a4mgyB727tjeJ3rhw/cjJg0QrGL6GdxI5AgMBAAGjggXuMIIF6jAdBgNVHQ4EFgQUI7CzfRZU1AJWdus6vqlrL0N7KBYwDwYDVR0TAQH/BAUwAwEB/zCBqwYDVR0gBIGjMIGgMA4GDCsGAQQBgbtTAQEBATAOBgwrBgEEAYG7UwEBAQIwDgYMKwYBBAGBu1MBAQEDMA4GDCsGAQQBgbtTAQEBBDAOBgwrBgEEAYG7UwEBAQUwDgYMKwYBBAGBu1MBAQEHMA4GDCsGAQQBgbtTAQEBCDAOBgwrBgEEAYG7UwEBAQkwDgYMKwYBBAGBu1MBAQEXMA4GDCsGAQQBgbtTAQEBGDBKBgNVHR8EQzBBMD+gPaA7hjlodHRwOi8vY2VydGlwYXRoLWNybC5zeW1hdXRoLmNvbS9DZXJ0aVBhdGhCcmlkZ2VDQS1HMi5jcmwwDgYDVR0PAQH/BAQDAgEGMFMGCCsGAQUFBwELBEcwRTBDBggrBgEFBQcwBYY3aHR0cDovL2h0dHAuZnBraS5nb3YvYnJpZGdlL2NhQ2VydHNJc3N1ZWRCeWZiY2EyMDE2LnA3YzAKBgNVHTYEAwIBADAMBgNVHSQEBTADgQEBMIIDxQYDVR0hBIIDvDCCA7gwGgYMKwYBBAGBu1MBAQEBBgpghkgBZQMCAQMDMBoGDCsGAQQBgbtTAQEBAgYKYIZIAWUDAgEDDDAaBgwrBgEEAYG7UwEBAQMGCmCGSAFlAwIBAwQwGgYMKwYBBAGBu1MBAQEEBgpghkgBZQMCAQMOMBoGDCsGAQQBgbtTAQEBBQYKYIZIAWUDAgEDDzAaBgwrBgEEAYG7UwEBAQcGCmCGSAFlAwIBAxIwGgYMKwYBBAGBu1MBAQEIBgpghkgBZQMCAQMTMBoGDCsGAQQBgbtTAQEBCQYKYIZIAWUDAgEDFDAaBgwrBgEEAYG7UwEBARcGCmCGSAFlAwIBAyUwGgYMKwYBBAGBu1MBAQEYBgpghkgBZQMCAQMmMBoGDCsGAQQBgbtTAQEBAQYKYIZIAWUDAgEDDDAaBgwrBgEEAYG7UwEBAQEGCmCGSAFlAwIBAwQwGgYMKwYBBAGBu1MBAQEBBgpghkgBZQMCAQMSMBoGDCsGAQQBgbtTAQEBAQYKYIZIAWUDAgEDDTAaBgwrBgEEAYG7UwEBAQEGCmCGSAFlAwIBAyUwGgYMKwYBBAGBu1MBAQECBgpghkgBZQMCAQMEMBoGDCsGAQQBgbtTAQEBAgYKYIZIAWUDAgEDEjAaBgwrBgEEAYG7UwEBAQIGCmCGSAFlAwIBAw0wGgYMKwYBBAGBu1MBAQEEBgpghkgBZQMCAQMPMBoGDCsGAQQBgbtTAQEBBAYKYIZIAWUDAgEDAzAaBgwrBgEEAYG7UwEBAQQGCmCGSAFlAwIBAwwwGgYMKwYBBAGBu1MBAQEEBgpghkgBZQMCAQMEMBoGDCsGAQQBgbtTAQEBBAYKYIZIAWUDAgEDEjAaBgwrBgEEAYG7UwEBAQQGCmCGSAFlAwIBAw0wGgYMKwYBBAGBu1MBAQEEBgpghkgBZQMCAQMlMBoGDCsGAQQBgbtTAQEBBQYKYIZIAWUDAgEDDDAaBgwrBgEEAYG7UwEBAQUGCmCGSAFlAwIBAwQwGgYMKwYBBAGBu1MBAQEFBgpghkgBZQMCAQMSMBoGDCsGAQQBgbtTAQEBBQYKYIZIAWUDAgEDDTAaBgwrBgEEAYG7UwEBAQcGCmCGSAFlAwIBAwwwGgYMKwYBBAGBu1MBAQEHBgpghkgBZQMCAQMNMBoGDCsGAQQBgbtTAQEBCAYKYIZIAWUDAgEDETAaBgwrBgEEAYG7UwEBAQkGCmCGSAFlAwIBAycwGgYMKwYBBAGBu1MBAQEXBgpghkgBZQMCAQMmMFUGCCsGAQUFBwEBBEkwRzBFBggrBgEFBQcwAoY5aHR0cDovL2NlcnRpcGF0aC1haWEuc3ltYXV0aC5jb20vQ2VydGlQYXRoQnJpZGdlQ0EtRzIucDdjMB8GA1UdIwQYMBaAFNDCjBM3M3ZKkag84ei3/aKc0d0UMA0GCSqGSIb3DQEBCwUAA4IBAQCB0jnqVuGkZij4KIv26dnUb6CaCLdqHFDmSp6swLF7mOmBcN8YINyfG9a4mPwmSARcdqZf7kipWn0Ra6+OUAhwX5Sw8IlxTQasckMEu0bdRh76pa2PIzYrSQKd8ZDZBmiXZXREkgRqAUwaVgWhbEuvtHOJznTQ8Rl11+PCSh8BDkQ/yZXfN5ab2xoGrOssYRDtVNUIq6Dc72oPa1DKQxm/IUMayNKuH1GGOpdUL2KG1e1zviTJcSul8oZlAD4IZcSuCjkH93cnORStxQB+Dwj/jalt4hoJs54GBLiVUq3mZvubAfpwhHsGjxh4v/qn7qST0+cvWLJr5/4xtooBf0KOMIIFvzCCBKegAwIBAgIPV0JFhVVNmRA6qrn5QKD/MA0GCSqGSIb3DQEBCwUAMDYxCzAJBgNVBAYTAlVTMRAwDgYDVQQKEwdPUkMgUEtJMRUwEwYDVQQDEwxPUkMgTkZJIENBIDMwHhcNMTcwNzEyMTkxMjAwWhcNMjAwNzEyMTkxMjAwWjBXMQswCQYDVQQGEwJVUzEYMBYGA1UEChMPVS5TLiBHb3Zlcm5tZW50MQ0wCwYDVQQLEwRGUEtJMR8wHQYDVQQDExZGZWRlcmFsIEJyaWRnZSBDQSAyMDE2MIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAvp01eW8ltfSQg24Tv1NQys0cltQca4HyipsPRqfft+//7URZzoeWb19Xsf4zq0fHhZd3PIoOFM0veWonFNJ4W6WlSzg6uN/2iwvaUxEjWZ+pYjKQ9BpPBYM+Pc2bFXuQ2Iuhzcy4wEOfzaeLviNBfSkz31l9QMDj2nPDr0O/llhKwoOyKuIhfpOXavkVaYx+DGiROvC3LIFaCr2ShrmEmZKYBJ/UxInCkeEhUkh+3QCfj/ktPvLoXgpUzE+CSC8MAl4HtjLkkyk3zFZ3IXZmGpnyCxPiw/k74JgcnD/1I8iGL4/L6b9fGuJoMge9u7Y3id64cP3IyYNEKxi+hncSOQIDAQABo4ICpzCCAqMwbwYIKwYBBQUHAQEEYzBhMCQGCCsGAQUFBzABhhhodHRwOi8vbmZpMy5ldmEub3JjLmNvbS8wOQYIKwYBBQUHMAKGLWh0dHA6Ly9jcmwtc2VydmVyLm9yYy5jb20vY2FDZXJ0cy9PUkNORkkzLnA3YzAfBgNVHSMEGDAWgBTZHyyzhyldB/5JaC2A8t1m9k+khjAPBgNVHRMBAf8EBTADAQH/MHIGA1UdIARrMGkwDQYLKwYBBAGeUgEBAQMwDQYLKwYBBAGeUgEBAQwwDQYLKwYBBAGeUgEBASUwDQYLKwYBBAGeUgEBASYwDQYLKwYBBAGeUgEBARIwDQYLKwYBBAGeUgEBARMwDQYLKwYBBAGeUgEBARQwOwYDVR0fBDQwMjAwoC6gLIYqaHR0cDovL2NybC1zZXJ2ZXIub3JjLmNvbS9DUkxzL09SQ05GSTMuY3JsMA4GA1UdDwEB/wQEAwIBBjCByAYDVR0hBIHAMIG9MBkGCysGAQQBnlIBAQEDBgpghkgBZQMCAQMDMBkGCysGAQQBnlIBAQEMBgpghkgBZQMCAQMMMBkGCysGAQQBnlIBAQElBgpghkgBZQMCAQMlMBkGCysGAQQBnlIBAQEmBgpghkgBZQMCAQMmMBkGCysGAQQBnlIBAQESBgpghkgBZQMCAQMSMBkGCysGAQQBnlIBAQETBgpghkgBZQMCAQMTMBkGCysGAQQBnlIBAQEUBgpghkgBZQMCAQMUMB0GA1UdDgQWBBQjsLN9FlTUAlZ26zq+qWsvQ3soFjBTBggrBgEFBQcBCwRHMEUwQwYIKwYBBQUHMAWGN2h0dHA6Ly9odHRwLmZwa2kuZ292L2JyaWRnZS9jYUNlcnRzSXNzdWVkQnlmYmNhMjAxNi5wN2MwDQYJKoZIhvcNAQELBQADggEBAEMq0dD2eiFsTRvFaeP+NRNzk0REAQCXS+AmxYLAmGAIfzJoiLUcOKcWN8N3YikEms//GFv3+9BwK9jqazUeNGJB3fnXGoIjw8qk5cA2sCmu06uxbTAbrjbCZziMKBIezdleS0C19EEcypLTOSIJiVARdJ4UQsqcfRo1RP/dWYrAFRIlpDlCyXBheeFA+cfktviZgy+p9oPMMeT91XEqbF7DZZUSK7Rsc45auKhwm7G1ppP32vKMRl8zD82x1nVs2CW1kTEG01rcRBoAEFyzETnQbXclNUQrKArHn2/LFNSGlFnSTVzKezKdmkN7Hz6jtEl52VxcPLY6vReGcVY8hAQwggW+MIIEpqADAgECAhMuAAAABj7Q8KabW/xUAAAAAAAGMA0GCSqGSIb3DQEBCwUAMH4xCzAJBgNVBAYTAlVTMRQwEgYDVQQKEwtFeG9zdGFyIExMQzEiMCAGA1UECxMZQ2VydGlmaWNhdGlvbiBBdXRob3JpdGllczE1MDMGA1UEAxMsRXhvc3RhciBGZWRlcmF0ZWQgSWRlbnRpdHkgU2VydmljZSBSb290IENBIDIwHhcNMTcwNDA1MTQxNTU1WhcNMjAwNDA1MTQxNTU1WjBXMQswCQYDVQQGEwJVUzEYMBYGA1UEChMPVS5TLiBHb3Zlcm5tZW50MQ0wCwYDVQQLEwRGUEtJMR8wHQYDVQQDExZGZWRlcmFsIEJyaWRnZSBDQSAyMDE2MIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAvp01eW8ltfSQg24Tv1NQys0cltQca4HyipsPRqfft+//7URZzoeWb19Xsf4zq0fHhZd3PIoOFM0veWonFNJ4W6WlSzg6uN/2iwvaUxEjWZ+pYjKQ9BpPBYM+Pc2bFXuQ2Iuhzcy4wEOfzaeLviNBfSkz31l9QMDj2nPDr0O/llhKwoOyKuIhfpOXavkVaYx+DGiROvC3LIFaCr2ShrmEmZKYBJ/UxInCkeEhUkh+3QCfj/ktPvLoXgpUzE+CSC8MAl4HtjLkkyk3zFZ3IXZmGpnyCxPiw/k74JgcnD/1I8iGL4/L6b9fGuJoMge9u7Y3id64cP3IyYNEKxi+hncSOQIDAQABo4ICWjCCAlYwDwYDVR0TAQH/BAUwAwEB/zBTBggrBgEFBQcBCwRHMEUwQwYIKwYBBQUHMAWGN2h0dHA6Ly9odHRwLmZwa2kuZ292L2JyaWRnZS9jYUNlcnRzSXNzdWVkQnlmYmNhMjAxNi5wN2MwDgYDVR0PAQH/BAQDAgEGMB0GA1UdDgQWBBQjsLN9FlTUAlZ26zq+qWsvQ3soFjAfBgNVHSMEGDAWgBRUCxGwHflXz7B6LVJS87OnjFL0rDBCBgNVHR8EOzA5MDegNaAzhjFodHRwOi8vd3d3LmZpcy5ldmluY2libGUuY29tL2Zpcy9wdWJsaWMvRVJDQTIuY3JsMFUGCCsGAQUFBwEBBEkwRzBFBggrBgEFBQcwAoY5aHR0cDovL3d3dy5maXMuZXZpbmNpYmxlLmNvbS9maXMvcHVibGljL2lzc3VlZHRvRVJDQTIucDdjMAwGA1UdJAQFMAOBAQEwgZIGA1UdIQSBijCBhzAZBgsrBgEEAex8AQEBCAYKYIZIAWUDAgEDATAZBgsrBgEEAex8AQEBBQYKYIZIAWUDAgEDAzAZBgsrBgEEAex8AQEBBgYKYIZIAWUDAgEDDDAZBgsrBgEEAex8AQEBGQYKYIZIAWUDAgEDJTAZBgsrBgEEAex8AQEBGgYKYIZIAWUDAgEDJjBUBgNVHSAETTBLMA0GCysGAQQB7HwBAQEIMA0GCysGAQQB7HwBAQEFMA0GCysGAQQB7HwBAQEGMA0GCysGAQQB7HwBAQEZMA0GCysGAQQB7HwBAQEaMAoGA1UdNgQDAgEAMA0GCSqGSIb3DQEBCwUAA4IBAQCGzTjfIhfuRa2n27kt0CPpwDji0HRUKFQHXozNROwllC56eCVqSO7Igb8ZJ7gYv9KNCeWYnZukAsbHRyVJUf2tY4nnwzD1vX8sVMQGDDibIjSN0rIOL1EGL68BdYkupjIFeH/gVfUW5WXM1GtmoTztsfGVgKWLINUJjuoiBed2GvPsCKq0kQ098CMYqG5SFDHojojD327U9n+rdpooxfqnirj7Q/FQ5Kga0ViHDfytO78/wWYGr6gl/tTGERBwA63LIU0G4VoX2YkkylxP497YYSZntJLIP3pAMy4hZYkP0YG2Jwjdw/nfvpnHBAIwPHYhmGDF4suXaVsoXdr3ZMWcMIIGBDCCBOygAwIBAgITdAAAAAmwjRGLAD5mdAAAAAAACTANBgkqhkiG9w0BAQsFADBmMQswCQYDVQQGEwJVUzEXMBUGA1UEChMOU0FGRS1CaW9waGFybWExIjAgBgNVBAsTGUNlcnRpZmljYXRpb24gQXV0aG9yaXRpZXMxGjAYBgNVBAMTEVNBRkUgQnJpZGdlIENBIDAyMB4XDTE3MDgyMzE0NDMzMFoXDTE4MDgyMzE0NDMzMFowVzELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEfMB0GA1UEAxMWRmVkZXJhbCBCcmlkZ2UgQ0EgMjAxNjCCASIwDQYJKoZIhvcNAQEBBQADggEPADCCAQoCggEBAL6dNXlvJbX0kINuE79TUMrNHJbUHGuB8oqbD0an37fv/+1EWc6Hlm9fV7H+M6tHx4WXdzyKDhTNL3lqJxTSeFulpUs4Orjf9osL2lMRI1mfqWIykPQaTwWDPj3NmxV7kNiLoc3MuMBDn82ni74jQX0pM99ZfUDA49pzw69Dv5ZYSsKDsiriIX6Tl2r5FWmMfgxokTrwtyyBWgq9koa5hJmSmASf1MSJwpHhIVJIft0An4/5LT7y6F4KVMxPgkgvDAJeB7Yy5JMpN8xWdyF2ZhqZ8gsT4sP5O+CYHJw/9SPIhi+Py+m/XxriaDIHvbu2N4neuHD9yMmDRCsYvoZ3EjkCAwEAAaOCArgwggK0MA8GA1UdEwEB/wQFMAMBAf8wUwYIKwYBBQUHAQsERzBFMEMGCCsGAQUFBzAFhjdodHRwOi8vaHR0cC5mcGtpLmdvdi9icmlkZ2UvY2FDZXJ0c0lzc3VlZEJ5ZmJjYTIwMTYucDdjMA4GA1UdDwEB/wQEAwIBxjAdBgNVHQ4EFgQUI7CzfRZU1AJWdus6vqlrL0N7KBYwHwYDVR0jBBgwFoAUETDz3vv+VhRv7GXp4g7j2orFCw0wQAYDVR0fBDkwNzA1oDOgMYYvaHR0cDovL3NiY2EyLnNhZmUtYmlvcGhhcm1hLm9yZy9zYmNhL1NCQ0EwMi5jcmwwUwYIKwYBBQUHAQEERzBFMEMGCCsGAQUFBzAChjdodHRwOi8vc2JjYTIuc2FmZS1iaW9waGFybWEub3JnL3NiY2EvaXNzdWVkdG9TQkNBMDIucDdjMA8GA1UdJAEB/wQFMAOAAQAwggERBgNVHSEEggEIMIIBBDAYBgorBgEEAYG0fQEEBgpghkgBZQMCAQMCMBgGCisGAQQBgbR9AQUGCmCGSAFlAwIBAwMwGAYKKwYBBAGBtH0BBQYKYIZIAWUDAgEDDjAYBgorBgEEAYG0fQEFBgpghkgBZQMCAQMlMBgGCisGAQQBgbR9AQUGCmCGSAFlAwIBAygwGAYKKwYBBAGBtH0BBgYKYIZIAWUDAgEDDDAYBgorBgEEAYG0fQEGBgpghkgBZQMCAQMPMBgGCisGAQQBgbR9AQYGCmCGSAFlAwIBAyYwGAYKKwYBBAGBtH0BBgYKYIZIAWUDAgEDEjAYBgorBgEEAYG0fQEGBgpghkgBZQMCAQMpMDMGA1UdIAQsMCowDAYKKwYBBAGBtH0BBDAMBgorBgEEAYG0fQEFMAwGCisGAQQBgbR9AQYwCgYDVR02BAMCAQAwDQYJKoZIhvcNAQELBQADggEBAIQgEPrsQjscNuQAsirnCGFtXnlppUm0TIzZiLWipqdaXLrVRPOUaYF4dD+D/t2CO2l7ahBvjA5u3VaX2k8rxSfvSjPXUo5ygG3FEU3O5IOiWe02NvDvDYrZE3qOdjCsBQrQNrLgxsu2yLHL2FWj2TWQJShjOIPaFEedhOb3C3jkYOme6yqficCV+yao4GKDHZMHJIeGaIST331AiJBnemPaWVMiMnyOGdqA/hrlqMo6otbRP1UDdi6tIYdoCTNo/oBNX5Dek/KMwxOsUybwIw4K0b4c7hPRDtGtsVC+luOLrCKf5/jsWF/PVpf65Xit5Bfw8Bw0Kskq7uJB5dnQXccwggbPMIIFt6ADAgECAhEA0pF4VasoDCzzlf4S8JCQIjANBgkqhkiG9w0BAQsFADA2MQswCQYDVQQGEwJVUzEQMA4GA1UEChMHT1JDIFBLSTEVMBMGA1UEAxMMT1JDIE5GSSBDQSAyMB4XDTE3MDgyMjE4NTc0MFoXDTIwMDgyMTE4NTc0MFowVzELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEfMB0GA1UEAxMWRmVkZXJhbCBCcmlkZ2UgQ0EgMjAxNjCCASIwDQYJKoZIhvcNAQEBBQADggEPADCCAQoCggEBAL6dNXlvJbX0kINuE79TUMrNHJbUHGuB8oqbD0an37fv/+1EWc6Hlm9fV7H+M6tHx4WXdzyKDhTNL3lqJxTSeFulpUs4Orjf9osL2lMRI1mfqWIykPQaTwWDPj3NmxV7kNiLoc3MuMBDn82ni74jQX0pM99ZfUDA49pzw69Dv5ZYSsKDsiriIX6Tl2r5FWmMfgxokTrwtyyBWgq9koa5hJmSmASf1MSJwpHhIVJIft0An4/5LT7y6F4KVMxPgkgvDAJeB7Yy5JMpN8xWdyF2ZhqZ8gsT4sP5O+CYHJw/9SPIhi+Py+m/XxriaDIHvbu2N4neuHD9yMmDRCsYvoZ3EjkCAwEAAaOCA7UwggOxMG8GCCsGAQUFBwEBBGMwYTAkBggrBgEFBQcwAYYYaHR0cDovL25maTIuZXZhLm9yYy5jb20vMDkGCCsGAQUFBzAChi1odHRwOi8vY3JsLXNlcnZlci5vcmMuY29tL2NhQ2VydHMvT1JDTkZJMi5wN2MwHwYDVR0jBBgwFoAUC0douXLlogd0XQNvr30rxxbNr9YwDwYDVR0TAQH/BAUwAwEB/zCB1AYDVR0gBIHMMIHJMA4GDCqGSIb3DQUGAQMBAzAOBgwqhkiG9w0FBgEDAQwwDgYMKoZIhvcNBQYBAwESMA4GDCqGSIb3DQUGAQMBEzAOBgwqhkiG9w0FBgEDARQwDgYMKoZIhvcNBQYBAwEVMA0GCysGAQQBnlIBAQEDMA0GCysGAQQBnlIBAQEMMA0GCysGAQQBnlIBAQElMA0GCysGAQQBnlIBAQEmMA0GCysGAQQBnlIBAQESMA0GCysGAQQBnlIBAQETMA0GCysGAQQBnlIBAQEUMDsGA1UdHwQ0MDIwMKAuoCyGKmh0dHA6Ly9jcmwtc2VydmVyLm9yYy5jb20vQ1JMcy9PUkNORkkyLmNybDAOBgNVHQ8BAf8EBAMCAQYwggFyBgNVHSEEggFpMIIBZTAaBgwqhkiG9w0FBgEDAQMGCmCGSAFlAwIBAwMwGgYMKoZIhvcNBQYBAwEMBgpghkgBZQMCAQMMMBoGDCqGSIb3DQUGAQMBEgYKYIZIAWUDAgEDEjAaBgwqhkiG9w0FBgEDARMGCmCGSAFlAwIBAxMwGgYMKoZIhvcNBQYBAwEUBgpghkgBZQMCAQMUMBoGDCqGSIb3DQUGAQMBFQYKYIZIAWUDAgEDJTAZBgsrBgEEAZ5SAQEBAwYKYIZIAWUDAgEDAzAZBgsrBgEEAZ5SAQEBDAYKYIZIAWUDAgEDDDAZBgsrBgEEAZ5SAQEBJQYKYIZIAWUDAgEDJTAZBgsrBgEEAZ5SAQEBJgYKYIZIAWUDAgEDJjAZBgsrBgEEAZ5SAQEBEgYKYIZIAWUDAgEDEjAZBgsrBgEEAZ5SAQEBEwYKYIZIAWUDAgEDEzAZBgsrBgEEAZ5SAQEBFAYKYIZIAWUDAgEDFDAdBgNVHQ4EFgQUI7CzfRZU1AJWdus6vqlrL0N7KBYwUwYIKwYBBQUHAQsERzBFMEMGCCsGAQUFBzAFhjdodHRwOi8vaHR0cC5mcGtpLmdvdi9icmlkZ2UvY2FDZXJ0c0lzc3VlZEJ5ZmJjYTIwMTYucDdjMA0GCSqGSIb3DQEBCwUAA4IBAQAofZCSBji8M57OD/y6TL4EIOhdhF4GcLe1SVv7xoCMQYe6Cm9pKYjJ2gTvf7IkgMHklSAMqmm9TRW0Kbo9SVs70u8EoOlHFhnglrZe9uoKXvfKw74gNU/7521Gn/8B21tXxxz0kiutINGIXFca5mbrgeM6lZ8Iv6oa57uuz6B07XSVBCkAdzb8PlfSj6mSD++JPKtJkvnc7CC14epTOpt8FybTqtRrW0I1TMYOQybxdjVdN3wqgiPTh+BgXgazuIJRLttxLsxA4GMc4htIRxnwrG40Y01bgiHbc0IeT6QjidMdYiqR1QQpmOrmNTQyJZw3wj26TOHa7GSB737DRnh5oQAxAA=="));
+		
+		// Root cert self signed
+		dataMap.put("http://http.fpki.gov/fcpca/caCertsIssuedTofcpca.p7c", Utils.fromBase64("MIIEYDCCA0igAwIBAgICATAwDQYJKoZIhvcNAQELBQAwWTELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEhMB8GA1UEAxMYRmVkZXJhbCBDb21tb24gUG9saWN5IENBMB4XDTEwMTIwMTE2NDUyN1oXDTMwMTIwMTE2NDUyN1owWTELMAkGA1UEBhMCVVMxGDAWBgNVBAoTD1UuUy4gR292ZXJubWVudDENMAsGA1UECxMERlBLSTEhMB8GA1UEAxMYRmVkZXJhbCBDb21tb24gUG9saWN5IENBMIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEA2HX7NRY0WkG/Wq9cMAQUHK14RLXqJup1YcfNNnn4fNi9KVFmWSHjeavUeL6wLbCh1bI1FiPQzB6+Duir3MPJ1hLXp3JoGDG4FyKyPn66CG3G/dFYLGmgA/Aqo/Y/ISU937cyxY4nsyOl4FKzXZbpsLjFxZ+7xaBugkC7xScFNknWJidpDDSPzyd6KgqjQV+NHQOGgxXgVcHFmCye7Bpy3EjBPvmE0oSCwRvDdDa3ucc2Mnr4MrbQNq4iGDGMUHMhnv6DOzCIJOPpwX7e7ZjHH5IQip9bYi+dpLzVhW86/clTpyBLqtsgqyFOHQ1O5piF5asRR12dP8QjwOMUBm7+nQIDAQABo4IBMDCCASwwDwYDVR0TAQH/BAUwAwEB/zCB6QYIKwYBBQUHAQsEgdwwgdkwPwYIKwYBBQUHMAWGM2h0dHA6Ly9odHRwLmZwa2kuZ292L2ZjcGNhL2NhQ2VydHNJc3N1ZWRCeWZjcGNhLnA3YzCBlQYIKwYBBQUHMAWGgYhsZGFwOi8vbGRhcC5mcGtpLmdvdi9jbj1GZWRlcmFsJTIwQ29tbW9uJTIwUG9saWN5JTIwQ0Esb3U9RlBLSSxvPVUuUy4lMjBHb3Zlcm5tZW50LGM9VVM/Y0FDZXJ0aWZpY2F0ZTtiaW5hcnksY3Jvc3NDZXJ0aWZpY2F0ZVBhaXI7YmluYXJ5MA4GA1UdDwEB/wQEAwIBBjAdBgNVHQ4EFgQUrQx6dVzl85jEeZgOrCj9l/TnAvwwDQYJKoZIhvcNAQELBQADggEBAI9z2uF/gLGH9uwsz9GEYx728Yi3mvIRte9UrYpuGDco71wb5O9Qt2wmGCMiTR0mRyDpCZzicGJxqxHPkYnos/UqoEfAFMtOQsHdDA4b8Idb7OV316rgVNdF9IU+7LQd3nyKf1tNnJaK0KIyn9psMQz4pO9+c+iR3Ah6cFqgr2KBWfgAdKLI3VTKQVZHvenAT+0g3eOlCd+uKML80cgX2BLHb94u6b2akfI8WpQukSKAiaGMWMyDeiYZdQKlDn0KJnNR6obLB6jI/WNaNZvSr79PMUjBhHDbNXuaGQ/lj/RqDG8z2esccKIN47lQA2EC/0rskqTcLe4qNJMHtyznGI8="));
+		return dataMap;
+	}
+	
 	public CertificateToken getRootCertificate(CertificateToken token, Set<CertificateToken> allCerts) {
 		Set<CertificateToken> processed = new HashSet<>();
 		while (token.getPublicKeyOfTheSigner() != null) {
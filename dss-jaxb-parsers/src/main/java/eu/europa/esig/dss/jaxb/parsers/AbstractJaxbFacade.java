@@ -7,6 +7,8 @@ import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
@@ -16,7 +18,9 @@ import javax.xml.bind.Unmarshaller;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Result;
 import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 
@@ -31,6 +35,23 @@ import org.xml.sax.SAXException;
  */
 public abstract class AbstractJaxbFacade<T> {
 
+	/**
+	 * Maximum number of idle marshallers/unmarshallers kept by facade type
+	 */
+	private static final int MAX_POOL_SIZE = 16;
+
+	/**
+	 * Pools of marshallers/unmarshallers by facade type. The facades are cheap
+	 * objects created for each call, the instances created from the (cached)
+	 * {@link JAXBContext} and {@link Schema} are shared between them.
+	 */
+	private static final ConcurrentMap<Class<?>, FacadePools> POOLS = new ConcurrentHashMap<Class<?>, FacadePools>();
+
+	/**
+	 * The hardened factory is configured once and only used to create readers
+	 */
+	private static final XMLInputFactory XML_INPUT_FACTORY = getSecureXMLInputFactory();
+
 	/**
 	 * This method returns the instance of {@link JAXBContext} which can handle the
 	 * JAXB Object
@@ -100,10 +121,8 @@ public abstract class AbstractJaxbFacade<T> {
 	public String marshall(T jaxbObject, boolean validate) throws JAXBException, IOException, SAXException {
 		Objects.requireNonNull(jaxbObject, "JAXBObject is null");
 
-		Marshaller marshaller = getMarshaller(validate);
-
 		try (StringWriter writer = new StringWriter()) {
-			marshaller.marshal(wrap(jaxbObject), writer);
+			marshall(jaxbObject, new StreamResult(writer), validate);
 			return writer.toString();
 		}
 	}
@@ -151,9 +170,21 @@ public abstract class AbstractJaxbFacade<T> {
 		Objects.requireNonNull(jaxbObject, "JAXBObject is null");
 		Objects.requireNonNull(os, "OutputStream is null");
 
-		Marshaller marshaller = getMarshaller(validate);
+		marshall(jaxbObject, new StreamResult(os), validate);
+	}
+
+	private void marshall(T jaxbObject, Result result, boolean validate) throws JAXBException, SAXException, IOException {
+		JaxbObjectPool<Marshaller> pool = getPools().getMarshallers(validate);
+		Marshaller marshaller = pool.borrow();
+		if (marshaller == null) {
+			marshaller = getMarshaller(validate);
+		}
 
-		marshaller.marshal(wrap(jaxbObject), os);
+		try {
+			marshaller.marshal(wrap(jaxbObject), result);
+		} finally {
+			pool.release(marshaller);
+		}
 	}
 
 	/**
@@ -305,10 +336,27 @@ public abstract class AbstractJaxbFacade<T> {
 
 	@SuppressWarnings("unchecked")
 	private T unmarshall(Source source, boolean validate) throws JAXBException, XMLStreamException, IOException, SAXException {
-		Unmarshaller unmarshaller = getUnmarshaller(validate);
+		JaxbObjectPool<Unmarshaller> pool = getPools().getUnmarshallers(validate);
+		Unmarshaller unmarshaller = pool.borrow();
+		if (unmarshaller == null) {
+			unmarshaller = getUnmarshaller(validate);
+		}
+
+		try {
+			JAXBElement<T> unmarshal = (JAXBElement<T>) unmarshaller.unmarshal(avoidXXE(source));
+			return unmarshal.getValue();
+		} finally {
+			pool.release(unmarshaller);
+		}
+	}
 
-		JAXBElement<T> unmarshal = (JAXBElement<T>) unmarshaller.unmarshal(avoidXXE(source));
-		return unmarshal.getValue();
+	private FacadePools getPools() {
+		FacadePools pools = POOLS.get(getClass());
+		if (pools == null) {
+			POOLS.putIfAbsent(getClass(), new FacadePools());
+			pools = POOLS.get(getClass());
+		}
+		return pools;
 	}
 
 	public Marshaller getMarshaller(boolean validate) throws JAXBException, SAXException, IOException {
@@ -329,10 +377,34 @@ public abstract class AbstractJaxbFacade<T> {
 	}
 
 	private XMLStreamReader avoidXXE(Source source) throws XMLStreamException {
+		return XML_INPUT_FACTORY.createXMLStreamReader(source);
+	}
+
+	private static XMLInputFactory getSecureXMLInputFactory() {
 		XMLInputFactory xif = XMLInputFactory.newFactory();
 		xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
 		xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-		return xif.createXMLStreamReader(source);
+		return xif;
+	}
+
+	private static class FacadePools {
+
+		private final JaxbObjectPool<Marshaller> marshallers = new JaxbObjectPool<Marshaller>(MAX_POOL_SIZE);
+
+		private final JaxbObjectPool<Marshaller> validatingMarshallers = new JaxbObjectPool<Marshaller>(MAX_POOL_SIZE);
+
+		private final JaxbObjectPool<Unmarshaller> unmarshallers = new JaxbObjectPool<Unmarshaller>(MAX_POOL_SIZE);
+
+		private final JaxbObjectPool<Unmarshaller> validatingUnmarshallers = new JaxbObjectPool<Unmarshaller>(MAX_POOL_SIZE);
+
+		private JaxbObjectPool<Marshaller> getMarshallers(boolean validate) {
+			return validate ? validatingMarshallers : marshallers;
+		}
+
+		private JaxbObjectPool<Unmarshaller> getUnmarshallers(boolean validate) {
+			return validate ? validatingUnmarshallers : unmarshallers;
+		}
+
 	}
 
 }
@@ -0,0 +1,75 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.jaxb.parsers;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of objects which are not thread-safe (marshallers,
+ * unmarshallers,...). An instance is borrowed for a single operation and
+ * released afterwards.
+ * 
+ * @param <E>
+ *            the pooled type
+ */
+class JaxbObjectPool<E> {
+
+	private final Queue<E> instances = new ConcurrentLinkedQueue<E>();
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final int maxSize;
+
+	JaxbObjectPool(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns an available instance
+	 * 
+	 * @return an instance or null if the pool is empty
+	 */
+	E borrow() {
+		E instance = instances.poll();
+		if (instance != null) {
+			size.decrementAndGet();
+		}
+		return instance;
+	}
+
+	/**
+	 * Returns the instance to the pool. The instance is dropped if the pool is
+	 * full.
+	 * 
+	 * @param instance
+	 *                 the instance to be released
+	 */
+	void release(E instance) {
+		if (size.incrementAndGet() <= maxSize) {
+			instances.offer(instance);
+		} else {
+			size.decrementAndGet();
+		}
+	}
+
+}
@@ -27,7 +27,11 @@ import java.io.OutputStream;
 import java.io.StringWriter;
 import java.security.MessageDigest;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 
@@ -38,8 +42,16 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 @SuppressWarnings("serial")
 public abstract class CommonDocument implements DSSDocument {
 
-	protected EnumMap<DigestAlgorithm, String> base64EncodeDigestMap = new EnumMap<DigestAlgorithm, String>(
-			DigestAlgorithm.class);
+	/**
+	 * Size of the buffer used to read the document content for the digest computation
+	 */
+	protected static final int DIGEST_BUFFER_SIZE = 65536;
+
+	/**
+	 * The computed digests (a document may be shared by the signatures validated concurrently)
+	 */
+	protected final Map<DigestAlgorithm, String> base64EncodeDigestMap = Collections
+			.synchronizedMap(new EnumMap<DigestAlgorithm, String>(DigestAlgorithm.class));
 
 	protected MimeType mimeType;
 
@@ -96,23 +108,60 @@ public abstract class CommonDocument implements DSSDocument {
 
 	@Override
 	public String getDigest(final DigestAlgorithm digestAlgorithm) {
-		String base64EncodeDigest = base64EncodeDigestMap.get(digestAlgorithm);
-		if (base64EncodeDigest == null) {
-			try (InputStream is = openStream()) {
-				MessageDigest messageDigest = digestAlgorithm.getMessageDigest();
-				final byte[] buffer = new byte[4096];
-				int count = 0;
-				while ((count = is.read(buffer)) > 0) {
+		return getDigests(digestAlgorithm).get(digestAlgorithm);
+	}
+
+	@Override
+	public Map<DigestAlgorithm, String> getDigests(final DigestAlgorithm... digestAlgorithms) {
+		final EnumMap<DigestAlgorithm, String> result = new EnumMap<DigestAlgorithm, String>(DigestAlgorithm.class);
+		// the content is read once, the other callers wait for the result
+		synchronized (base64EncodeDigestMap) {
+			computeDigests(digestAlgorithms);
+			for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+				result.put(digestAlgorithm, base64EncodeDigestMap.get(digestAlgorithm));
+			}
+		}
+		return result;
+	}
+
+	private void computeDigests(final DigestAlgorithm... digestAlgorithms) {
+		try {
+			final EnumMap<DigestAlgorithm, MessageDigest> messageDigests = new EnumMap<DigestAlgorithm, MessageDigest>(DigestAlgorithm.class);
+			for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+				if (!base64EncodeDigestMap.containsKey(digestAlgorithm)) {
+					messageDigests.put(digestAlgorithm, digestAlgorithm.getMessageDigest());
+				}
+			}
+
+			if (!messageDigests.isEmpty()) {
+				updateDigests(messageDigests.values());
+				for (Entry<DigestAlgorithm, MessageDigest> entry : messageDigests.entrySet()) {
+					base64EncodeDigestMap.put(entry.getKey(), Base64.getEncoder().encodeToString(entry.getValue().digest()));
+				}
+			}
+		} catch (Exception e) {
+			throw new DSSException("Unable to compute the digest", e);
+		}
+	}
+
+	/**
+	 * Reads the document content once and updates all the given message digests
+	 * 
+	 * @param messageDigests
+	 *            the message digests to be updated
+	 * @throws IOException
+	 *             if any IO error happens
+	 */
+	protected void updateDigests(Collection<MessageDigest> messageDigests) throws IOException {
+		try (InputStream is = openStream()) {
+			final byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+			int count = 0;
+			while ((count = is.read(buffer)) > 0) {
+				for (MessageDigest messageDigest : messageDigests) {
 					messageDigest.update(buffer, 0, count);
 				}
-				final byte[] digestBytes = messageDigest.digest();
-				base64EncodeDigest = Base64.getEncoder().encodeToString(digestBytes);
-				base64EncodeDigestMap.put(digestAlgorithm, base64EncodeDigest);
-			} catch (Exception e) {
-				throw new DSSException("Unable to compute the digest", e);
 			}
 		}
-		return base64EncodeDigest;
 	}
 
 	@Override
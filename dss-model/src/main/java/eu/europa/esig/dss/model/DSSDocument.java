@@ -24,6 +24,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.Map;
 
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 
@@ -108,4 +110,21 @@ public interface DSSDocument extends Serializable {
 	 */
 	String getDigest(final DigestAlgorithm digestAlgorithm);
 
+	/**
+	 * This method returns the encoded digest values of the current {@code DSSDocument} using the base64 algorithm.
+	 * By default, each digest is computed with {@link #getDigest(DigestAlgorithm)}; {@link CommonDocument} computes
+	 * the missing digests together and reads the content only once.
+	 *
+	 * @param digestAlgorithms
+	 *            the requested {@code DigestAlgorithm}s
+	 * @return a map of base64 encoded {@code String}s by {@code DigestAlgorithm}
+	 */
+	default Map<DigestAlgorithm, String> getDigests(final DigestAlgorithm... digestAlgorithms) {
+		final Map<DigestAlgorithm, String> result = new EnumMap<DigestAlgorithm, String>(DigestAlgorithm.class);
+		for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+			result.put(digestAlgorithm, getDigest(digestAlgorithm));
+		}
+		return result;
+	}
+
 }
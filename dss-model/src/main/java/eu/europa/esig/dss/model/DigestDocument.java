@@ -23,6 +23,8 @@ package eu.europa.esig.dss.model;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Map.Entry;
 
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
@@ -69,6 +71,21 @@ public class DigestDocument extends CommonDocument {
 		this.name = name;
 	}
 
+	/**
+	 * Creates DigestDocument from the given document. All the digests are computed
+	 * in a single pass on the document content.
+	 * 
+	 * @param document
+	 *            the {@code DSSDocument} to be digested
+	 * @param digestAlgorithms
+	 *            the {@code DigestAlgorithm}s to be computed
+	 */
+	public DigestDocument(final DSSDocument document, final DigestAlgorithm... digestAlgorithms) {
+		base64EncodeDigestMap.putAll(document.getDigests(digestAlgorithms));
+		this.name = document.getName();
+		this.mimeType = document.getMimeType();
+	}
+
 	/**
 	 * This method allows to add a pair: {@code DigestAlgorithm} and the corresponding digest value calculated
 	 * externally on the encapsulated file. The digest value is base 64 encoded.
@@ -91,10 +108,21 @@ public class DigestDocument extends CommonDocument {
 		return base64EncodeDigest;
 	}
 	
+	@Override
+	public Map<DigestAlgorithm, String> getDigests(final DigestAlgorithm... digestAlgorithms) {
+		final EnumMap<DigestAlgorithm, String> result = new EnumMap<DigestAlgorithm, String>(DigestAlgorithm.class);
+		for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+			result.put(digestAlgorithm, getDigest(digestAlgorithm));
+		}
+		return result;
+	}
+
 	public Digest getExistingDigest() {
-		if (!base64EncodeDigestMap.isEmpty()) {
-			Entry<DigestAlgorithm, String> digestEntry = base64EncodeDigestMap.entrySet().iterator().next();
-			return new Digest(digestEntry.getKey(), Base64.getDecoder().decode(digestEntry.getValue()));
+		synchronized (base64EncodeDigestMap) {
+			if (!base64EncodeDigestMap.isEmpty()) {
+				Entry<DigestAlgorithm, String> digestEntry = base64EncodeDigestMap.entrySet().iterator().next();
+				return new Digest(digestEntry.getKey(), Base64.getDecoder().decode(digestEntry.getValue()));
+			}
 		}
 		throw new DSSException("The DigestDocument does not contain any digest! You must specify it by using addDigest() method.");
 	}
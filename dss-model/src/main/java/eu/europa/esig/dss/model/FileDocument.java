@@ -23,7 +23,14 @@ package eu.europa.esig.dss.model;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.Collection;
 
 /**
  * Document implementation stored on file-system.
@@ -32,8 +39,18 @@ import java.io.InputStream;
 @SuppressWarnings("serial")
 public class FileDocument extends CommonDocument {
 
+	/**
+	 * Size of the memory-mapped regions used to compute the digests
+	 */
+	private static final long MAPPED_REGION_SIZE = 64L * 1024 * 1024;
+
 	private final File file;
 
+	/**
+	 * Defines if the file content is memory-mapped to compute the digests
+	 */
+	private boolean memoryMapped = false;
+
 	/**
 	 * Create a FileDocument
 	 *
@@ -71,6 +88,37 @@ public class FileDocument extends CommonDocument {
 		}
 	}
 
+	/**
+	 * This method allows to compute the digests on a memory-mapped file instead
+	 * of reading it through a stream (default : false). It avoids a copy of the
+	 * content for huge files, the mapped regions are released by the garbage
+	 * collector.
+	 * 
+	 * @param memoryMapped
+	 *            true if the digests have to be computed on a memory-mapped file
+	 */
+	public void setMemoryMapped(boolean memoryMapped) {
+		this.memoryMapped = memoryMapped;
+	}
+
+	@Override
+	protected void updateDigests(Collection<MessageDigest> messageDigests) throws IOException {
+		if (!memoryMapped) {
+			super.updateDigests(messageDigests);
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			final long size = channel.size();
+			for (long position = 0; position < size; position += MAPPED_REGION_SIZE) {
+				final MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, position, Math.min(MAPPED_REGION_SIZE, size - position));
+				for (MessageDigest messageDigest : messageDigests) {
+					buffer.rewind();
+					messageDigest.update(buffer);
+				}
+			}
+		}
+	}
+
 	public boolean exists() {
 		return file.exists();
 	}
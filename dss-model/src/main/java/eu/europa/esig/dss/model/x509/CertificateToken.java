@@ -60,6 +60,12 @@ public class CertificateToken extends Token {
 	
 	private final String canonicalizedSubject;
 
+	/**
+	 * The public key of the certificate (some providers create a new instance on
+	 * each {@code X509Certificate.getPublicKey()} call)
+	 */
+	private final PublicKey publicKey;
+
 	/**
 	 * Digest of the public key (cross certificates have same public key)
 	 */
@@ -92,7 +98,8 @@ public class CertificateToken extends Token {
 		Objects.requireNonNull(x509Certificate, "X509 certificate is missing");
 
 		this.x509Certificate = x509Certificate;
-		this.entityKey = new EntityIdentifier(x509Certificate.getPublicKey());
+		this.publicKey = x509Certificate.getPublicKey();
+		this.entityKey = new EntityIdentifier(publicKey);
 		this.canonicalizedSubject = x509Certificate.getSubjectX500Principal().getName(X500Principal.CANONICAL);
 
 		// The Algorithm OID is used and not the name {@code x509Certificate.getSigAlgName()}
@@ -128,7 +135,7 @@ public class CertificateToken extends Token {
 	 * @return the public key of the certificate
 	 */
 	public PublicKey getPublicKey() {
-		return x509Certificate.getPublicKey();
+		return publicKey;
 	}
 	
 	public String getCanonicalizedSubject() {
@@ -302,20 +309,23 @@ public class CertificateToken extends Token {
 	protected boolean checkIsSignedBy(final CertificateToken candidate) {
 		signatureValid = false;
 		signatureInvalidityReason = "";
-		try {
-			x509Certificate.verify(candidate.getPublicKey());
-			signatureValid = true;
-		} catch (InvalidKeyException e) {
-			signatureInvalidityReason = "InvalidKeyException - on incorrect key.";
-		} catch (CertificateException e) {
-			signatureInvalidityReason = "CertificateException -  on encoding errors.";
-		} catch (NoSuchAlgorithmException e) {
-			signatureInvalidityReason = "NoSuchAlgorithmException - on unsupported signature algorithms.";
-		} catch (SignatureException e) {
-			signatureInvalidityReason = "SignatureException - on signature errors.";
-		} catch (NoSuchProviderException e) { // if there's no default provider.
-			throw new DSSException(e);
-		}
+		signatureValid = verifySignature(candidate, () -> {
+			try {
+				x509Certificate.verify(candidate.getPublicKey());
+				return true;
+			} catch (InvalidKeyException e) {
+				signatureInvalidityReason = "InvalidKeyException - on incorrect key.";
+			} catch (CertificateException e) {
+				signatureInvalidityReason = "CertificateException -  on encoding errors.";
+			} catch (NoSuchAlgorithmException e) {
+				signatureInvalidityReason = "NoSuchAlgorithmException - on unsupported signature algorithms.";
+			} catch (SignatureException e) {
+				signatureInvalidityReason = "SignatureException - on signature errors.";
+			} catch (NoSuchProviderException e) { // if there's no default provider.
+				throw new DSSException(e);
+			}
+			return false;
+		});
 		return signatureValid;
 	}
 
@@ -0,0 +1,204 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.model.x509;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class keeps the results of the token signature verifications (certificate,
+ * CRL, OCSP response, timestamp). A result only depends on the token binaries
+ * and on the candidate issuer : the key is made of the digest of the token and
+ * of the digest of the candidate public key (or of the candidate certificate
+ * when the verification checks it, as for the timestamps).
+ * 
+ * The cache is disabled by default. It is shared by all the validations of the
+ * JVM once enabled with {@link #enable(int)}. The least recently used results
+ * are removed when the maximum size is reached.
+ */
+public class SignatureVerificationCache {
+
+	public static final int DEFAULT_MAX_SIZE = 10000;
+
+	private static volatile SignatureVerificationCache instance;
+
+	private final int maxSize;
+
+	private final Map<String, Result> results;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * The constructor for a cache with the given number of results
+	 * 
+	 * @param maxSize
+	 *                the maximum number of kept results
+	 */
+	public SignatureVerificationCache(final int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("The maximum size must be positive");
+		}
+		this.maxSize = maxSize;
+		this.results = new LinkedHashMap<String, Result>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 6143425380785367958L;
+
+			@Override
+			protected boolean removeEldestEntry(Entry<String, Result> eldest) {
+				return size() > SignatureVerificationCache.this.maxSize;
+			}
+
+		};
+	}
+
+	/**
+	 * Enables the shared cache with {@link #DEFAULT_MAX_SIZE} results
+	 */
+	public static void enable() {
+		enable(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Enables the shared cache (the previous results are dropped)
+	 * 
+	 * @param maxSize
+	 *                the maximum number of kept results
+	 */
+	public static void enable(final int maxSize) {
+		instance = new SignatureVerificationCache(maxSize);
+	}
+
+	/**
+	 * Disables the shared cache
+	 */
+	public static void disable() {
+		instance = null;
+	}
+
+	/**
+	 * Returns the shared cache
+	 * 
+	 * @return the enabled cache or null
+	 */
+	public static SignatureVerificationCache getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Returns the result of a previous verification
+	 * 
+	 * @param tokenId
+	 *                    the digest based identifier of the verified token
+	 * @param candidateId
+	 *                    the digest based identifier of the candidate issuer
+	 * @return the result or null if unknown
+	 */
+	public Result get(final String tokenId, final String candidateId) {
+		final Result result;
+		synchronized (results) {
+			result = results.get(getKey(tokenId, candidateId));
+		}
+		if (result != null) {
+			hits.incrementAndGet();
+		} else {
+			misses.incrementAndGet();
+		}
+		return result;
+	}
+
+	/**
+	 * Stores the result of a verification
+	 * 
+	 * @param tokenId
+	 *                          the digest based identifier of the verified token
+	 * @param candidateId
+	 *                          the digest based identifier of the candidate
+	 *                          issuer
+	 * @param valid
+	 *                          true if the signature is valid with the candidate
+	 *                          public key
+	 * @param invalidityReason
+	 *                          the reason of the failure (can be null)
+	 */
+	public void put(final String tokenId, final String candidateId, final boolean valid, final String invalidityReason) {
+		final Result result = new Result(valid, invalidityReason);
+		synchronized (results) {
+			results.put(getKey(tokenId, candidateId), result);
+		}
+	}
+
+	private String getKey(final String tokenId, final String candidateId) {
+		return tokenId + ":" + candidateId;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public int size() {
+		synchronized (results) {
+			return results.size();
+		}
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	public void clear() {
+		synchronized (results) {
+			results.clear();
+		}
+	}
+
+	/**
+	 * The result of a signature verification
+	 */
+	public static final class Result {
+
+		private final boolean valid;
+
+		private final String invalidityReason;
+
+		Result(boolean valid, String invalidityReason) {
+			this.valid = valid;
+			this.invalidityReason = invalidityReason;
+		}
+
+		public boolean isValid() {
+			return valid;
+		}
+
+		public String getInvalidityReason() {
+			return invalidityReason;
+		}
+
+	}
+
+}
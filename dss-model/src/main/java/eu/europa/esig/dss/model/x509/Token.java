@@ -23,6 +23,7 @@ package eu.europa.esig.dss.model.x509;
 import java.io.Serializable;
 import java.security.PublicKey;
 import java.util.Date;
+import java.util.function.BooleanSupplier;
 
 import javax.security.auth.x500.X500Principal;
 
@@ -133,6 +134,49 @@ public abstract class Token implements Serializable {
 
 	protected abstract boolean checkIsSignedBy(CertificateToken token);
 
+	/**
+	 * Runs the cryptographic verification of the token signature with the
+	 * candidate public key, or reuses its previous result when the
+	 * {@link SignatureVerificationCache} is enabled. The verification must only
+	 * depend on the token binaries and on the candidate public key, and must set
+	 * the {@code signatureInvalidityReason} on failure.
+	 * 
+	 * @param candidate
+	 *                     the candidate issuer
+	 * @param verification
+	 *                     the verification to run
+	 * @return true if the signature is valid with the candidate public key
+	 */
+	protected boolean verifySignature(final CertificateToken candidate, final BooleanSupplier verification) {
+		return verifySignature(candidate.getEntityKey(), verification);
+	}
+
+	/**
+	 * Same as {@link #verifySignature(CertificateToken, BooleanSupplier)} for a
+	 * verification which depends on more than the candidate public key.
+	 * 
+	 * @param candidateId
+	 *                     the digest based identifier of the candidate issuer
+	 * @param verification
+	 *                     the verification to run
+	 * @return true if the signature is valid with the candidate
+	 */
+	protected boolean verifySignature(final String candidateId, final BooleanSupplier verification) {
+		final SignatureVerificationCache cache = SignatureVerificationCache.getInstance();
+		if (cache == null) {
+			return verification.getAsBoolean();
+		}
+		final String tokenId = getDSSIdAsString();
+		final SignatureVerificationCache.Result result = cache.get(tokenId, candidateId);
+		if (result != null) {
+			signatureInvalidityReason = result.getInvalidityReason();
+			return result.isValid();
+		}
+		final boolean valid = verification.getAsBoolean();
+		cache.put(tokenId, candidateId, valid, signatureInvalidityReason);
+		return valid;
+	}
+
 	/**
 	 * Returns the {@code X500Principal} of the certificate which was used to sign
 	 * this token.
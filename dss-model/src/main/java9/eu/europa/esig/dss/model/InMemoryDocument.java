@@ -23,7 +23,9 @@ package eu.europa.esig.dss.model;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.security.MessageDigest;
 import java.util.Base64;
+import java.util.Collection;
 
 /**
  * In memory representation of a document
@@ -125,6 +127,13 @@ public class InMemoryDocument extends CommonDocument {
 		return new ByteArrayInputStream(bytes);
 	}
 
+	@Override
+	protected void updateDigests(Collection<MessageDigest> messageDigests) {
+		for (MessageDigest messageDigest : messageDigests) {
+			messageDigest.update(bytes);
+		}
+	}
+
 	public byte[] getBytes() {
 		return bytes;
 	}
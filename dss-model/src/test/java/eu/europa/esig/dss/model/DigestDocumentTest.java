@@ -77,4 +77,15 @@ public class DigestDocumentTest {
 		Security.removeProvider(BouncyCastleProvider.PROVIDER_NAME);
 	}
 
+	@Test
+	public void documentConstructorTest() {
+		InMemoryDocument document = new InMemoryDocument("aaa".getBytes(), "test.txt", MimeType.TEXT);
+		DigestDocument doc = new DigestDocument(document, DigestAlgorithm.SHA256, DigestAlgorithm.SHA512);
+		assertEquals("test.txt", doc.getName());
+		assertEquals(MimeType.TEXT, doc.getMimeType());
+		assertEquals(document.getDigest(DigestAlgorithm.SHA256), doc.getDigest(DigestAlgorithm.SHA256));
+		assertEquals(document.getDigest(DigestAlgorithm.SHA512), doc.getDigest(DigestAlgorithm.SHA512));
+		assertEquals(2, doc.getDigests(DigestAlgorithm.SHA256, DigestAlgorithm.SHA512).size());
+	}
+
 }
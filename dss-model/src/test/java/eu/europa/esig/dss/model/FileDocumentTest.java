@@ -26,6 +26,8 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
 
 import org.junit.Test;
 
@@ -58,4 +60,22 @@ public class FileDocumentTest {
 		File file = new File(path);
 		assertTrue(file.exists());
 	}
+
+	@Test
+	public void testDigests() throws IOException {
+		FileDocument doc = new FileDocument("src/test/resources/AdobeCA.p7c");
+		Map<DigestAlgorithm, String> digests = doc.getDigests(DigestAlgorithm.SHA256, DigestAlgorithm.SHA512, DigestAlgorithm.SHA1);
+		assertEquals(3, digests.size());
+		assertEquals("xF8SpcLlrd4Bhl1moh4Ciz+Rq/PImaChEl/tyGTZyPM=", digests.get(DigestAlgorithm.SHA256));
+
+		InMemoryDocument inMemoryDocument = new InMemoryDocument(Files.readAllBytes(new File("src/test/resources/AdobeCA.p7c").toPath()));
+		FileDocument mappedDoc = new FileDocument("src/test/resources/AdobeCA.p7c");
+		mappedDoc.setMemoryMapped(true);
+		for (DigestAlgorithm digestAlgorithm : digests.keySet()) {
+			assertEquals(inMemoryDocument.getDigest(digestAlgorithm), digests.get(digestAlgorithm));
+			assertEquals(digests.get(digestAlgorithm), doc.getDigest(digestAlgorithm));
+			assertEquals(digests.get(digestAlgorithm), mappedDoc.getDigest(digestAlgorithm));
+		}
+	}
+
 }
@@ -0,0 +1,202 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.utils.Utils;
+
+/**
+ * Keeps the temporary files prepared by the disk-backed mode of
+ * {@link PdfBoxSignatureService#digest} (the signed document with an empty
+ * /Contents placeholder). The following {@code digest} calls return the stored
+ * digest and the {@code sign} call only writes the signature value in the
+ * placeholder : the original PDF is parsed and copied only once.
+ * 
+ * A prepared document is identified by a fingerprint of the source document and
+ * of all the parameters used to prepare it. An instance is shared by the
+ * services created by the same {@link PdfBoxTempFileObjectFactory}.
+ * 
+ * It also registers all the temporary files created by these services : only
+ * them can be deleted by {@link PdfBoxSignatureService#release}.
+ */
+final class PdfBoxPreparedDocuments {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PdfBoxPreparedDocuments.class);
+
+	/**
+	 * Maximum number of prepared documents waiting for a signature value
+	 */
+	private static final int MAX_SIZE = 16;
+
+	/**
+	 * Prepared documents by digest of their fingerprint
+	 */
+	private final Map<String, PreparedDocument> prepared = new LinkedHashMap<String, PreparedDocument>(MAX_SIZE, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, PreparedDocument> eldest) {
+			if (size() > MAX_SIZE) {
+				delete(eldest.getValue());
+				return true;
+			}
+			return false;
+		}
+
+	};
+
+	/**
+	 * Absolute paths of the temporary files created and not deleted yet
+	 */
+	private final Set<String> temporaryFiles = new HashSet<String>();
+
+	/**
+	 * Registers a temporary file created by a service
+	 */
+	synchronized void addTemporaryFile(File file) {
+		temporaryFiles.add(file.getAbsolutePath());
+	}
+
+	/**
+	 * Unregisters a temporary file
+	 * 
+	 * @return true if the file has been created by a service and not deleted yet
+	 */
+	synchronized boolean removeTemporaryFile(File file) {
+		return temporaryFiles.remove(file.getAbsolutePath());
+	}
+
+	synchronized void put(String fingerprint, PreparedDocument preparedDocument) {
+		preparedDocument.setFingerprint(fingerprint);
+		PreparedDocument previous = prepared.put(getKey(fingerprint), preparedDocument);
+		if (previous != null) {
+			delete(previous);
+		}
+	}
+
+	/**
+	 * Returns the prepared document without removing it
+	 */
+	synchronized PreparedDocument get(String fingerprint) {
+		String key = getKey(fingerprint);
+		PreparedDocument preparedDocument = prepared.get(key);
+		if (preparedDocument != null && !preparedDocument.isValid(fingerprint)) {
+			LOG.warn("The prepared document '{}' does not match the request, it is discarded", preparedDocument.getFile().getName());
+			delete(prepared.remove(key));
+			return null;
+		}
+		return preparedDocument;
+	}
+
+	/**
+	 * Returns and removes the prepared document (its file is then owned by the
+	 * caller)
+	 */
+	synchronized PreparedDocument remove(String fingerprint) {
+		PreparedDocument preparedDocument = get(fingerprint);
+		if (preparedDocument != null) {
+			prepared.remove(getKey(fingerprint));
+		}
+		return preparedDocument;
+	}
+
+	/**
+	 * Deletes all the prepared documents
+	 */
+	synchronized void clear() {
+		Iterator<PreparedDocument> iterator = prepared.values().iterator();
+		while (iterator.hasNext()) {
+			delete(iterator.next());
+			iterator.remove();
+		}
+	}
+
+	synchronized int size() {
+		return prepared.size();
+	}
+
+	private void delete(PreparedDocument preparedDocument) {
+		preparedDocument.delete();
+		temporaryFiles.remove(preparedDocument.getFile().getAbsolutePath());
+	}
+
+	private static String getKey(String fingerprint) {
+		return Utils.toHex(DSSUtils.digest(DigestAlgorithm.SHA256, fingerprint.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	static final class PreparedDocument {
+
+		private final File file;
+		private final int[] byteRange;
+		private final byte[] digest;
+		private String fingerprint;
+
+		PreparedDocument(File file, int[] byteRange, byte[] digest) {
+			this.file = file;
+			this.byteRange = byteRange;
+			this.digest = digest;
+		}
+
+		private void setFingerprint(String fingerprint) {
+			this.fingerprint = fingerprint;
+		}
+
+		/**
+		 * Checks the whole fingerprint (not only its digest) and the prepared file
+		 */
+		private boolean isValid(String expectedFingerprint) {
+			return fingerprint.equals(expectedFingerprint) && file.length() == (long) byteRange[2] + byteRange[3];
+		}
+
+		File getFile() {
+			return file;
+		}
+
+		int[] getByteRange() {
+			return byteRange;
+		}
+
+		byte[] getDigest() {
+			return digest;
+		}
+
+		private void delete() {
+			if (file.exists() && !file.delete()) {
+				LOG.warn("Unable to delete the prepared document '{}'", file.getAbsolutePath());
+			}
+		}
+
+	}
+
+}
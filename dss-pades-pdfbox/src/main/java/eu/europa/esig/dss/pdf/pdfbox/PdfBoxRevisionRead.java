@@ -0,0 +1,140 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import java.io.IOException;
+
+import org.apache.pdfbox.io.RandomAccessRead;
+
+/**
+ * Read-only window over the first {@code length} bytes of a PDF (in memory or
+ * on disk). It allows to parse a previous revision (which ends before the end
+ * of the file) without copying the bytes : PDFBox follows the startxref and the
+ * xref offsets of the revision and only resolves the requested objects.
+ */
+class PdfBoxRevisionRead implements RandomAccessRead {
+
+	private final RandomAccessRead source;
+
+	private final long length;
+
+	/**
+	 * The default constructor
+	 * 
+	 * @param source
+	 *               the whole PDF (closed with this window)
+	 * @param length
+	 *               the length of the revision
+	 * @throws IOException
+	 *                     if the source cannot be read
+	 */
+	PdfBoxRevisionRead(RandomAccessRead source, long length) throws IOException {
+		if (length < 0 || length > source.length()) {
+			source.close();
+			throw new IllegalArgumentException("The revision length must be between 0 and " + source.length());
+		}
+		this.source = source;
+		this.length = length;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (isEOF()) {
+			return -1;
+		}
+		return source.read();
+	}
+
+	@Override
+	public int read(byte[] b) throws IOException {
+		return read(b, 0, b.length);
+	}
+
+	@Override
+	public int read(byte[] b, int offset, int len) throws IOException {
+		long remaining = length - source.getPosition();
+		if (remaining <= 0) {
+			return -1;
+		}
+		return source.read(b, offset, (int) Math.min(len, remaining));
+	}
+
+	@Override
+	public long getPosition() throws IOException {
+		return source.getPosition();
+	}
+
+	@Override
+	public void seek(long newPosition) throws IOException {
+		if (newPosition < 0) {
+			throw new IOException("Invalid position " + newPosition);
+		}
+		source.seek(Math.min(newPosition, length));
+	}
+
+	@Override
+	public long length() throws IOException {
+		return length;
+	}
+
+	@Override
+	public boolean isClosed() {
+		return source.isClosed();
+	}
+
+	@Override
+	public int peek() throws IOException {
+		int result = read();
+		if (result != -1) {
+			rewind(1);
+		}
+		return result;
+	}
+
+	@Override
+	public void rewind(int bytes) throws IOException {
+		source.rewind(bytes);
+	}
+
+	@Override
+	public byte[] readFully(int len) throws IOException {
+		if (len > length - source.getPosition()) {
+			throw new IOException("Premature end of the revision");
+		}
+		return source.readFully(len);
+	}
+
+	@Override
+	public boolean isEOF() throws IOException {
+		return source.getPosition() >= length;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return (int) Math.min(source.available(), length - source.getPosition());
+	}
+
+	@Override
+	public void close() throws IOException {
+		source.close();
+	}
+
+}
@@ -20,10 +20,15 @@
  */
 package eu.europa.esig.dss.pdf.pdfbox;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Calendar;
@@ -32,6 +37,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -40,6 +46,11 @@ import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSObject;
 import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.io.RandomAccessBuffer;
+import org.apache.pdfbox.io.RandomAccessBufferedFileInputStream;
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.pdfparser.PDFParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -58,6 +69,7 @@ import org.slf4j.LoggerFactory;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.model.MimeType;
 import eu.europa.esig.dss.model.x509.CertificateToken;
@@ -69,12 +81,14 @@ import eu.europa.esig.dss.pades.SignatureImageParameters;
 import eu.europa.esig.dss.pdf.AbstractPDFSignatureService;
 import eu.europa.esig.dss.pdf.DSSDictionaryCallback;
 import eu.europa.esig.dss.pdf.PAdESConstants;
+import eu.europa.esig.dss.pdf.PdfByteRangeDocument;
 import eu.europa.esig.dss.pdf.PdfDict;
 import eu.europa.esig.dss.pdf.PdfDocTimestampInfo;
 import eu.europa.esig.dss.pdf.PdfDssDict;
 import eu.europa.esig.dss.pdf.PdfSigDict;
 import eu.europa.esig.dss.pdf.PdfSignatureInfo;
 import eu.europa.esig.dss.pdf.PdfSignatureOrDocTimestampInfo;
+import eu.europa.esig.dss.pdf.pdfbox.PdfBoxPreparedDocuments.PreparedDocument;
 import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureDrawer;
 import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureDrawerFactory;
 import eu.europa.esig.dss.spi.DSSUtils;
@@ -87,6 +101,20 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 
 	private static final Logger LOG = LoggerFactory.getLogger(PdfBoxSignatureService.class);
 
+	private static final String TEMP_FILE_PREFIX = "dss-pades-";
+
+	private static final String TEMP_FILE_SUFFIX = ".pdf";
+
+	/**
+	 * The PDFBox memory settings of the disk-backed mode (null : in memory)
+	 */
+	private MemoryUsageSetting memoryUsageSetting;
+
+	/**
+	 * The documents prepared by {@link #digest} in the disk-backed mode
+	 */
+	private PdfBoxPreparedDocuments preparedDocuments = new PdfBoxPreparedDocuments();
+
 	/**
 	 * Constructor for the PdfBoxSignatureService
 	 * 
@@ -98,9 +126,66 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		super(timestamp, signatureDrawerFactory);
 	}
 
+	/**
+	 * Enables the disk-backed mode for very large documents : the documents are
+	 * parsed with PDFBox scratch files (bounded heap), the results are written to
+	 * temporary files (returned as {@code FileDocument}, see
+	 * {@link #release(DSSDocument)}) and the document prepared by {@link #digest}
+	 * is reused by {@link #sign}.
+	 * 
+	 * @param memoryUsageSetting
+	 *                           the PDFBox memory settings (its temporary
+	 *                           directory is also used for the output files) or
+	 *                           null to process the documents in memory (default)
+	 */
+	public void setMemoryUsageSetting(MemoryUsageSetting memoryUsageSetting) {
+		this.memoryUsageSetting = memoryUsageSetting;
+	}
+
+	/**
+	 * Shares the prepared documents between the services of a factory (the
+	 * {@code digest} and {@code sign} calls of a signature are not always done by
+	 * the same instance)
+	 */
+	void setPreparedDocuments(PdfBoxPreparedDocuments preparedDocuments) {
+		this.preparedDocuments = preparedDocuments;
+	}
+
+	/**
+	 * Deletes the temporary file of a document returned by this service (or by a
+	 * service of the same factory) in the disk-backed mode. Any other document is
+	 * ignored.
+	 */
+	@Override
+	public void release(DSSDocument document) {
+		if (memoryUsageSetting != null && document instanceof FileDocument) {
+			File file = new File(document.getAbsolutePath());
+			if (preparedDocuments.removeTemporaryFile(file)) {
+				LOG.debug("Release of the temporary file '{}'", document.getName());
+				deleteFile(file);
+			}
+		}
+	}
+
 	@Override
 	public byte[] digest(final DSSDocument toSignDocument, final PAdESSignatureParameters parameters, final DigestAlgorithm digestAlgorithm) {
 
+		if (memoryUsageSetting != null) {
+			final String fingerprint = getFingerprint(toSignDocument, parameters, digestAlgorithm);
+			PreparedDocument prepared = fingerprint == null ? null : preparedDocuments.get(fingerprint);
+			if (prepared == null) {
+				prepared = prepareDocument(toSignDocument, parameters, digestAlgorithm);
+				if (fingerprint != null) {
+					preparedDocuments.put(fingerprint, prepared);
+				} else {
+					deleteTempFile(prepared.getFile());
+				}
+			} else {
+				LOG.debug("Reuse of the prepared document '{}'", prepared.getFile().getName());
+			}
+			return prepared.getDigest();
+		}
+
 		final byte[] signatureValue = DSSUtils.EMPTY_BYTE_ARRAY;
 		try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 				InputStream is = toSignDocument.openStream();
@@ -119,6 +204,39 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 	public DSSDocument sign(final DSSDocument toSignDocument, final byte[] signatureValue, final PAdESSignatureParameters parameters,
 			final DigestAlgorithm digestAlgorithm) {
 
+		if (memoryUsageSetting != null) {
+			final String fingerprint = getFingerprint(toSignDocument, parameters, digestAlgorithm);
+			final PreparedDocument prepared = fingerprint == null ? null : preparedDocuments.remove(fingerprint);
+			if (prepared != null) {
+				// the prepared document is owned by this call, it is deleted if the signature fails
+				boolean signed = false;
+				try {
+					LOG.debug("Insertion of the signature value in the prepared document '{}'", prepared.getFile().getName());
+					insertSignatureValue(prepared, signatureValue);
+					signed = true;
+				} finally {
+					if (!signed) {
+						deleteTempFile(prepared.getFile());
+					}
+				}
+				return toPdfDocument(prepared.getFile());
+			}
+
+			final File file = createTempFile();
+			boolean signed = false;
+			try (OutputStream os = new BufferedOutputStream(new FileOutputStream(file)); PDDocument pdDocument = loadDocument(toSignDocument)) {
+				signDocumentAndReturnDigest(parameters, signatureValue, os, pdDocument, digestAlgorithm);
+				signed = true;
+			} catch (IOException e) {
+				throw new DSSException(e);
+			} finally {
+				if (!signed) {
+					deleteTempFile(file);
+				}
+			}
+			return toPdfDocument(file);
+		}
+
 		try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
 				InputStream is = toSignDocument.openStream();
 				PDDocument pdDocument = PDDocument.load(is)) {
@@ -133,10 +251,140 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		}
 	}
 
+	/**
+	 * Returns the fingerprint of the document to be prepared : the source document
+	 * and all the parameters written in the signature dictionary. A visible
+	 * signature is never prepared in advance (null is returned).
+	 */
+	private String getFingerprint(final DSSDocument toSignDocument, final PAdESSignatureParameters parameters, final DigestAlgorithm digestAlgorithm) {
+		if (getImageParameters(parameters) != null) {
+			return null;
+		}
+		StringBuilder sb = new StringBuilder();
+		if (toSignDocument instanceof FileDocument) {
+			File file = new File(toSignDocument.getAbsolutePath());
+			sb.append("file:").append(file.getAbsolutePath()).append('|').append(file.length()).append('|').append(file.lastModified());
+		} else {
+			sb.append("content:").append(toSignDocument.getDigest(DigestAlgorithm.SHA256));
+		}
+		sb.append('|').append(timestamp).append('|').append(digestAlgorithm.name());
+		sb.append('|').append(parameters.getDeterministicId());
+		sb.append('|').append(parameters.bLevel().getSigningDate() == null ? null : parameters.bLevel().getSigningDate().getTime());
+		sb.append('|').append(getFilter(parameters)).append('|').append(getSubFilter(parameters));
+		sb.append('|').append(parameters.getSignatureSize());
+		if (!timestamp) {
+			sb.append('|').append(getSignatureName(parameters));
+			sb.append('|').append(parameters.getSignatureFieldId());
+			sb.append('|').append(parameters.getReason());
+			sb.append('|').append(parameters.getLocation());
+			sb.append('|').append(parameters.getContactInfo());
+			sb.append('|').append(parameters.getPermission());
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Writes the signed document with an empty /Contents into a temporary file and
+	 * computes the digest of its byte range
+	 */
+	private PreparedDocument prepareDocument(final DSSDocument toSignDocument, final PAdESSignatureParameters parameters,
+			final DigestAlgorithm digestAlgorithm) {
+		final File file = createTempFile();
+		boolean prepared = false;
+		try {
+			final MessageDigest digest = DSSUtils.getMessageDigest(digestAlgorithm);
+			final PDSignature pdSignature;
+			try (OutputStream os = new BufferedOutputStream(new FileOutputStream(file)); PDDocument pdDocument = loadDocument(toSignDocument)) {
+				pdSignature = signDocument(parameters, DSSUtils.EMPTY_BYTE_ARRAY, os, pdDocument, digest);
+			}
+			final byte[] digestValue = digest.digest();
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Base64 messageDigest : {}", Utils.toBase64(digestValue));
+			}
+			final PreparedDocument preparedDocument = new PreparedDocument(file, pdSignature.getByteRange(), digestValue);
+			prepared = true;
+			return preparedDocument;
+		} catch (IOException e) {
+			throw new DSSException(e);
+		} finally {
+			if (!prepared) {
+				deleteTempFile(file);
+			}
+		}
+	}
+
+	/**
+	 * Writes the signature value in the /Contents placeholder of the prepared
+	 * document (same hexadecimal encoding as PDFBox)
+	 */
+	private void insertSignatureValue(final PreparedDocument prepared, final byte[] signatureValue) {
+		final int[] byteRange = prepared.getByteRange();
+		final byte[] hexValue = Utils.toHex(signatureValue).toUpperCase(Locale.ENGLISH).getBytes(StandardCharsets.US_ASCII);
+		// the placeholder is between '<' and '>'
+		final long placeholderLength = (long) byteRange[2] - byteRange[1] - 2;
+		if (hexValue.length > placeholderLength) {
+			throw new DSSException("Can't write signature, not enough space");
+		}
+		try (RandomAccessFile raf = new RandomAccessFile(prepared.getFile(), "rw")) {
+			raf.seek(byteRange[1] + 1L);
+			raf.write(hexValue);
+		} catch (IOException e) {
+			throw new DSSException(e);
+		}
+	}
+
+	private PDDocument loadDocument(final DSSDocument document) throws IOException {
+		if (memoryUsageSetting == null) {
+			try (InputStream is = document.openStream()) {
+				return PDDocument.load(is);
+			}
+		}
+		if (document instanceof FileDocument) {
+			// random access on the file, nothing is loaded in memory
+			return PDDocument.load(new File(document.getAbsolutePath()), memoryUsageSetting);
+		}
+		try (InputStream is = document.openStream()) {
+			return PDDocument.load(is, memoryUsageSetting);
+		}
+	}
+
+	private File createTempFile() {
+		try {
+			File file = File.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX, memoryUsageSetting.getTempDir());
+			preparedDocuments.addTemporaryFile(file);
+			return file;
+		} catch (IOException e) {
+			throw new DSSException("Unable to create a temporary file", e);
+		}
+	}
+
+	private void deleteTempFile(File file) {
+		preparedDocuments.removeTemporaryFile(file);
+		deleteFile(file);
+	}
+
+	private void deleteFile(File file) {
+		if (file.exists() && !file.delete()) {
+			LOG.warn("Unable to delete the temporary file '{}'", file.getAbsolutePath());
+		}
+	}
+
+	private DSSDocument toPdfDocument(File file) {
+		DSSDocument document = new FileDocument(file);
+		document.setMimeType(MimeType.PDF);
+		return document;
+	}
+
 	private byte[] signDocumentAndReturnDigest(final PAdESSignatureParameters parameters, final byte[] signatureBytes, final OutputStream fileOutputStream,
 			final PDDocument pdDocument, final DigestAlgorithm digestAlgorithm) {
-
 		final MessageDigest digest = DSSUtils.getMessageDigest(digestAlgorithm);
+		signDocument(parameters, signatureBytes, fileOutputStream, pdDocument, digest);
+		return digest.digest();
+	}
+
+	private PDSignature signDocument(final PAdESSignatureParameters parameters, final byte[] signatureBytes, final OutputStream fileOutputStream,
+			final PDDocument pdDocument, final MessageDigest digest) {
+
 		SignatureInterface signatureInterface = new SignatureInterface() {
 
 			@Override
@@ -165,7 +413,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 			pdDocument.addSignature(pdSignature, signatureInterface, options);
 
 			saveDocumentIncrementally(parameters, fileOutputStream, pdDocument);
-			return digest.digest();
+			return pdSignature;
 		} catch (IOException e) {
 			throw new DSSException(e);
 		}
@@ -312,7 +560,12 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 	@Override
 	protected List<PdfSignatureOrDocTimestampInfo> getSignatures(CertificatePool validationCertPool, DSSDocument document) {
 		List<PdfSignatureOrDocTimestampInfo> signatures = new ArrayList<PdfSignatureOrDocTimestampInfo>();
-		try (InputStream is = document.openStream(); PDDocument doc = PDDocument.load(is)) {
+		// a file is read from the disk on demand, any other document is read only once : all the revisions and the
+		// signed contents share this buffer
+		final byte[] pdfBytes = document instanceof FileDocument ? null : getBinaries(document);
+		final DSSDocument pdfDocument = pdfBytes == null ? document : new InMemoryDocument(pdfBytes, document.getName(), document.getMimeType());
+		final long pdfLength = pdfBytes == null ? new File(document.getAbsolutePath()).length() : pdfBytes.length;
+		try (PDDocument doc = parse(openPdf(pdfDocument, pdfBytes))) {
 
 			final PdfDssDict dssDictionary = getDSSDictionary(doc);
 
@@ -335,14 +588,15 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 						validateByteRange(byteRange);
 
 						final byte[] cms = signatureDictionary.getContents();
-						byte[] signedContent = new byte[] {};
-						if (!isContentValueEqualsByteRangeExtraction(document, byteRange, cms, signature.getName())) {
+						DSSDocument signedContent = new InMemoryDocument(new byte[] {});
+						if (!isContentValueEqualsByteRangeExtraction(pdfDocument, byteRange, cms, signature.getName())) {
 							LOG.warn("Signature '{}' is skipped. SIWA detected !", signatureField.getPartialName());
 						} else {
-							signedContent = getSignedContent(document, byteRange);
+							signedContent = new PdfByteRangeDocument(pdfDocument, byteRange);
 						}
 
-						boolean coverAllOriginalBytes = isSignatureCoversWholeDocument(document, byteRange);
+						final long revisionLength = (long) byteRange[2] + byteRange[3];
+						boolean coverAllOriginalBytes = pdfLength == revisionLength;
 
 						PdfSignatureOrDocTimestampInfo signatureInfo = null;
 						final String subFilter = signatureDictionary.getSubFilter();
@@ -353,7 +607,11 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 							// LT or LTA
 							if (dssDictionary != null) {
 								// check is DSS dictionary already exist
-								timestampedDssDictionary = getDSSDictionaryPresentInRevision(getOriginalBytes(byteRange, signedContent));
+								if (coverAllOriginalBytes) {
+									timestampedDssDictionary = dssDictionary;
+								} else {
+									timestampedDssDictionary = getDSSDictionaryPresentInRevision(pdfDocument, pdfBytes, revisionLength);
+								}
 							}
 
 							signatureInfo = new PdfDocTimestampInfo(validationCertPool, signatureDictionary, timestampedDssDictionary, cms, signedContent,
@@ -379,25 +637,48 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 
 		return signatures;
 	}
-	
-	private boolean isSignatureCoversWholeDocument(DSSDocument document, int[] byteRange) {
-		try (InputStream is = document.openStream()) {
-			long originalBytesLength = Utils.getInputStreamSize(is);
-			// /ByteRange [0 575649 632483 10206]
-			long beforeSignatureLength = (long)byteRange[1] - byteRange[0];
-			long expectedCMSLength = (long)byteRange[2] - byteRange[1] - byteRange[0];
-			long afterSignatureLength = byteRange[3];
-			long totalCoveredByByteRange = beforeSignatureLength + expectedCMSLength + afterSignatureLength;
-
-			return (originalBytesLength == totalCoveredByByteRange);
-		} catch (IOException e) {
-			LOG.warn("Cannot determine the original file size for the document. Reason : {}", e.getMessage());
-			return false;
+
+	private byte[] getBinaries(DSSDocument document) {
+		if (document instanceof InMemoryDocument) {
+			return ((InMemoryDocument) document).getBytes();
+		}
+		return DSSUtils.toByteArray(document);
+	}
+
+	/**
+	 * Opens the PDF without copying it : the given bytes are read in place, a
+	 * {@code FileDocument} is read from the disk
+	 */
+	private RandomAccessRead openPdf(DSSDocument pdfDocument, byte[] pdfBytes) throws IOException {
+		if (pdfBytes != null) {
+			return new RandomAccessBuffer(pdfBytes);
+		}
+		return new RandomAccessBufferedFileInputStream(new File(pdfDocument.getAbsolutePath()));
+	}
+
+	/**
+	 * Parses the given source, which is closed with the returned document
+	 */
+	private PDDocument parse(RandomAccessRead source) throws IOException {
+		try {
+			PDFParser parser = new PDFParser(source);
+			parser.parse();
+			return parser.getPDDocument();
+		} catch (IOException | RuntimeException e) {
+			source.close();
+			throw e;
 		}
 	}
 
-	private PdfDssDict getDSSDictionaryPresentInRevision(byte[] originalBytes) {
-		try (PDDocument doc = PDDocument.load(originalBytes)) {
+	/**
+	 * Parses the revision which ends at the given offset (the end of a signed
+	 * /ByteRange). The revision is read through a window over the PDF (the
+	 * already loaded bytes or the file) : PDFBox follows the startxref/xref
+	 * offsets of this revision up to the catalog and the DSS dictionary, the
+	 * other objects are not parsed.
+	 */
+	private PdfDssDict getDSSDictionaryPresentInRevision(DSSDocument pdfDocument, byte[] pdfBytes, long revisionLength) {
+		try (PDDocument doc = parse(new PdfBoxRevisionRead(openPdf(pdfDocument, pdfBytes), revisionLength))) {
 			return getDSSDictionary(doc);
 		} catch (Exception e) {
 			LOG.warn("Cannot check in previous revisions if DSS dictionary already exist : " + e.getMessage(), e);
@@ -412,13 +693,26 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 
 	@Override
 	public DSSDocument addDssDictionary(DSSDocument document, List<DSSDictionaryCallback> callbacks) {
+		if (memoryUsageSetting != null) {
+			final File file = createTempFile();
+			boolean extended = false;
+			try (OutputStream os = new BufferedOutputStream(new FileOutputStream(file)); PDDocument pdDocument = loadDocument(document)) {
+				addDssDictionary(pdDocument, callbacks);
+				pdDocument.saveIncremental(os);
+				extended = true;
+			} catch (Exception e) {
+				throw new DSSException(e);
+			} finally {
+				if (!extended) {
+					deleteTempFile(file);
+				}
+			}
+			return toPdfDocument(file);
+		}
+
 		try (ByteArrayOutputStream baos = new ByteArrayOutputStream(); InputStream is = document.openStream(); PDDocument pdDocument = PDDocument.load(is)) {
 
-			if (Utils.isCollectionNotEmpty(callbacks)) {
-				final COSDictionary cosDictionary = pdDocument.getDocumentCatalog().getCOSObject();
-				cosDictionary.setItem(PAdESConstants.DSS_DICTIONARY_NAME, buildDSSDictionary(pdDocument, callbacks));
-				cosDictionary.setNeedToBeUpdated(true);
-			}
+			addDssDictionary(pdDocument, callbacks);
 
 			pdDocument.saveIncremental(baos);
 
@@ -431,6 +725,14 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		}
 	}
 
+	private void addDssDictionary(PDDocument pdDocument, List<DSSDictionaryCallback> callbacks) throws IOException {
+		if (Utils.isCollectionNotEmpty(callbacks)) {
+			final COSDictionary cosDictionary = pdDocument.getDocumentCatalog().getCOSObject();
+			cosDictionary.setItem(PAdESConstants.DSS_DICTIONARY_NAME, buildDSSDictionary(pdDocument, callbacks));
+			cosDictionary.setNeedToBeUpdated(true);
+		}
+	}
+
 	private COSDictionary buildDSSDictionary(PDDocument pdDocument, List<DSSDictionaryCallback> callbacks) throws IOException {
 		COSDictionary dss = new COSDictionary();
 
@@ -0,0 +1,115 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.pdf.PDFSignatureService;
+import eu.europa.esig.dss.pdf.PDFTimestampService;
+import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureDrawerFactory;
+import eu.europa.esig.dss.pdf.pdfbox.visible.defaultdrawer.PdfBoxDefaultSignatureDrawerFactory;
+
+/**
+ * Factory of disk-backed services for very large PDFs : PDFBox uses scratch
+ * files and the signed documents are written to temporary files.
+ * 
+ * Usage : {@code PdfObjFactory.setInstance(new PdfBoxTempFileObjectFactory());}
+ * 
+ * The returned signed documents are temporary files which are deleted by
+ * {@link #release(DSSDocument)} once they have been consumed.
+ * 
+ * @see PdfBoxSignatureService#setMemoryUsageSetting(MemoryUsageSetting)
+ */
+public class PdfBoxTempFileObjectFactory implements PdfBoxObjectFactory {
+
+	/**
+	 * Default maximum heap used by the PDFBox buffers of one document (16 MB)
+	 */
+	public static final long DEFAULT_MAX_MAIN_MEMORY_BYTES = 16 * 1024 * 1024L;
+
+	private final PdfBoxSignatureDrawerFactory signatureDrawerFactory;
+
+	private final MemoryUsageSetting memoryUsageSetting;
+
+	/**
+	 * The documents prepared by the digest calls and waiting for their signature
+	 * value (shared by the services of this factory)
+	 */
+	private final PdfBoxPreparedDocuments preparedDocuments = new PdfBoxPreparedDocuments();
+
+	/**
+	 * Default constructor : default drawer, 16 MB of heap per document and the
+	 * temporary directory of the JVM
+	 */
+	public PdfBoxTempFileObjectFactory() {
+		this(new PdfBoxDefaultSignatureDrawerFactory(), MemoryUsageSetting.setupMixed(DEFAULT_MAX_MAIN_MEMORY_BYTES));
+	}
+
+	/**
+	 * @param signatureDrawerFactory
+	 *                               the drawer factory for the visible signatures
+	 * @param memoryUsageSetting
+	 *                               the PDFBox memory settings (with the
+	 *                               temporary directory to use)
+	 */
+	public PdfBoxTempFileObjectFactory(PdfBoxSignatureDrawerFactory signatureDrawerFactory, MemoryUsageSetting memoryUsageSetting) {
+		this.signatureDrawerFactory = signatureDrawerFactory;
+		this.memoryUsageSetting = memoryUsageSetting;
+	}
+
+	@Override
+	public PDFSignatureService newPAdESSignatureService() {
+		return newService(false);
+	}
+
+	@Override
+	public PDFTimestampService newTimestampSignatureService() {
+		return newService(true);
+	}
+
+	/**
+	 * Deletes the temporary file of a signed document returned by a service of this
+	 * factory. Any other document is ignored.
+	 * 
+	 * @param document
+	 *                 the signed document which is not used anymore
+	 */
+	public void release(DSSDocument document) {
+		newService(false).release(document);
+	}
+
+	/**
+	 * Deletes the documents prepared by the digest calls which are still waiting
+	 * for their signature value
+	 */
+	public void clear() {
+		preparedDocuments.clear();
+	}
+
+	private PdfBoxSignatureService newService(boolean timestamp) {
+		PdfBoxSignatureService service = new PdfBoxSignatureService(timestamp, signatureDrawerFactory);
+		service.setMemoryUsageSetting(memoryUsageSetting);
+		service.setPreparedDocuments(preparedDocuments);
+		return service;
+	}
+
+}
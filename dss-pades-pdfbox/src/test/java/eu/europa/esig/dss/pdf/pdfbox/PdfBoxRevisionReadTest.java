@@ -0,0 +1,147 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pdf.PdfDssDict;
+import eu.europa.esig.dss.pdf.PdfSignatureOrDocTimestampInfo;
+import eu.europa.esig.dss.pdf.pdfbox.visible.defaultdrawer.PdfBoxDefaultSignatureDrawerFactory;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.x509.CertificatePool;
+import eu.europa.esig.dss.utils.Utils;
+
+/**
+ * Compares the DSS dictionaries read through a window over the previous
+ * revisions with the ones of the copied revisions
+ */
+@RunWith(Parameterized.class)
+public class PdfBoxRevisionReadTest {
+
+	@Parameters(name = "{0}")
+	public static Collection<Object[]> data() {
+		List<Object[]> data = new ArrayList<Object[]>();
+		data.add(new Object[] { "/validation/Test.signed_Certipost-2048-SHA512.extended-LTA.pdf" });
+		data.add(new Object[] { "/validation/dss-1696/Test.signed_Certipost-2048-SHA512.extended.extended-2019-07-02.pdf" });
+		data.add(new Object[] { "/validation/dss-1696/Test.signed_Certipost-2048-SHA512.extended.extended-LTA-dss-5.4.pdf" });
+		return data;
+	}
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final String resource;
+
+	public PdfBoxRevisionReadTest(String resource) {
+		this.resource = resource;
+	}
+
+	@Test
+	public void inMemory() throws IOException {
+		byte[] pdfBytes = getBytes();
+		check(pdfBytes, new InMemoryDocument(pdfBytes));
+	}
+
+	@Test
+	public void onDisk() throws IOException {
+		byte[] pdfBytes = getBytes();
+		File file = temporaryFolder.newFile("revisions.pdf");
+		Files.write(file.toPath(), pdfBytes);
+		check(pdfBytes, new FileDocument(file));
+	}
+
+	private void check(byte[] pdfBytes, DSSDocument document) throws IOException {
+		PdfBoxSignatureService service = new PdfBoxSignatureService(false, new PdfBoxDefaultSignatureDrawerFactory());
+		List<PdfSignatureOrDocTimestampInfo> signatures = service.getSignatures(new CertificatePool(), document);
+		assertTrue(signatures.size() > 1);
+
+		int previousRevisions = 0;
+		for (PdfSignatureOrDocTimestampInfo signature : signatures) {
+			int[] byteRange = signature.getSignatureByteRange();
+			int revisionLength = byteRange[2] + byteRange[3];
+			assertEquals(pdfBytes.length == revisionLength, signature.isCoverAllOriginalBytes());
+			assertEquals(DSSUtils.toByteArray(signature.getSignedDocument()).length, byteRange[1] + byteRange[3]);
+
+			if (signature.isTimestamp() && !signature.isCoverAllOriginalBytes()) {
+				previousRevisions++;
+				compare(getBaselineDSSDictionary(pdfBytes, revisionLength), signature.getDssDictionary());
+			}
+		}
+		assertTrue(previousRevisions > 0);
+	}
+
+	/**
+	 * Copies the revision and loads it as a whole document
+	 */
+	private PdfDssDict getBaselineDSSDictionary(byte[] pdfBytes, int revisionLength) throws IOException {
+		try (PDDocument doc = PDDocument.load(Arrays.copyOf(pdfBytes, revisionLength))) {
+			return PdfDssDict.extract(new PdfBoxDict(doc.getDocumentCatalog().getCOSObject(), doc));
+		}
+	}
+
+	private void compare(PdfDssDict expected, PdfDssDict actual) {
+		if (expected == null) {
+			assertNull(actual);
+			return;
+		}
+		assertNotNull(actual);
+		assertEquals(expected.getCERTs().keySet(), actual.getCERTs().keySet());
+		for (Long key : expected.getCERTs().keySet()) {
+			assertEquals(expected.getCERTs().get(key), actual.getCERTs().get(key));
+		}
+		assertEquals(expected.getCRLs().keySet(), actual.getCRLs().keySet());
+		for (Long key : expected.getCRLs().keySet()) {
+			assertTrue(Arrays.equals(expected.getCRLs().get(key), actual.getCRLs().get(key)));
+		}
+		assertEquals(expected.getOCSPs().keySet(), actual.getOCSPs().keySet());
+		assertEquals(Utils.collectionSize(expected.getVRIs()), Utils.collectionSize(actual.getVRIs()));
+	}
+
+	private byte[] getBytes() throws IOException {
+		try (InputStream is = getClass().getResourceAsStream(resource)) {
+			return DSSUtils.toByteArray(is);
+		}
+	}
+
+}
@@ -0,0 +1,281 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Random;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+import eu.europa.esig.dss.pades.SignatureImageParameters;
+import eu.europa.esig.dss.pades.SignatureImageTextParameters;
+import eu.europa.esig.dss.pdf.DSSDictionaryCallback;
+import eu.europa.esig.dss.pdf.pdfbox.visible.defaultdrawer.PdfBoxDefaultSignatureDrawerFactory;
+import eu.europa.esig.dss.spi.DSSUtils;
+
+public class PdfBoxTempFileSignatureServiceTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private PAdESSignatureParameters parameters;
+
+	private byte[] signatureValue;
+
+	private PdfBoxPreparedDocuments preparedDocuments = new PdfBoxPreparedDocuments();
+
+	@Before
+	public void init() {
+		parameters = new PAdESSignatureParameters();
+		parameters.bLevel().setSigningDate(new Date());
+
+		signatureValue = new byte[2000];
+		new Random().nextBytes(signatureValue);
+	}
+
+	@After
+	public void clean() {
+		preparedDocuments.clear();
+	}
+
+	@Test
+	public void sameResultAsInMemory() throws IOException {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf"));
+
+		PdfBoxSignatureService inMemoryService = new PdfBoxSignatureService(false, new PdfBoxDefaultSignatureDrawerFactory());
+		byte[] expectedDigest = inMemoryService.digest(document, parameters, DigestAlgorithm.SHA256);
+		DSSDocument expected = inMemoryService.sign(document, signatureValue, parameters, DigestAlgorithm.SHA256);
+
+		File pdf = folder.newFile("sample.pdf");
+		document.save(pdf.getAbsolutePath());
+		DSSDocument fileDocument = new FileDocument(pdf);
+
+		PdfBoxSignatureService service = getTempFileService();
+		assertArrayEquals(expectedDigest, service.digest(fileDocument, parameters, DigestAlgorithm.SHA256));
+		assertEquals(1, preparedDocuments.size());
+		// the second digest (eg : in PAdESService.signDocument) reuses the prepared document
+		assertArrayEquals(expectedDigest, getTempFileService().digest(fileDocument, parameters, DigestAlgorithm.SHA256));
+		assertEquals(1, preparedDocuments.size());
+
+		DSSDocument signed = getTempFileService().sign(fileDocument, signatureValue, parameters, DigestAlgorithm.SHA256);
+		assertEquals(0, preparedDocuments.size());
+		assertTrue(signed instanceof FileDocument);
+		assertTrue(signed.getAbsolutePath().startsWith(folder.getRoot().getAbsolutePath()));
+		assertArrayEquals(DSSUtils.toByteArray(expected), DSSUtils.toByteArray(signed));
+	}
+
+	@Test
+	public void signWithoutPreparedDocument() {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf"));
+
+		PdfBoxSignatureService inMemoryService = new PdfBoxSignatureService(false, new PdfBoxDefaultSignatureDrawerFactory());
+		DSSDocument expected = inMemoryService.sign(document, signatureValue, parameters, DigestAlgorithm.SHA256);
+
+		DSSDocument signed = getTempFileService().sign(document, signatureValue, parameters, DigestAlgorithm.SHA256);
+		assertTrue(signed instanceof FileDocument);
+		assertArrayEquals(DSSUtils.toByteArray(expected), DSSUtils.toByteArray(signed));
+	}
+
+	@Test
+	public void timestampLikeFlow() {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf"));
+
+		PdfBoxSignatureService inMemoryService = new PdfBoxSignatureService(true, new PdfBoxDefaultSignatureDrawerFactory());
+		DSSDocument expected = inMemoryService.sign(document, signatureValue, parameters, DigestAlgorithm.SHA256);
+
+		PdfBoxSignatureService service = getTempFileService(true);
+		service.digest(document, parameters, DigestAlgorithm.SHA256);
+		assertEquals(1, preparedDocuments.size());
+		DSSDocument signed = service.sign(document, signatureValue, parameters, DigestAlgorithm.SHA256);
+		assertEquals(0, preparedDocuments.size());
+		assertArrayEquals(DSSUtils.toByteArray(expected), DSSUtils.toByteArray(signed));
+	}
+
+	@Test
+	public void addDssDictionary() {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf"));
+
+		PdfBoxSignatureService inMemoryService = new PdfBoxSignatureService(false, new PdfBoxDefaultSignatureDrawerFactory());
+		DSSDocument signed = inMemoryService.sign(document, signatureValue, parameters, DigestAlgorithm.SHA256);
+		byte[] signedBytes = DSSUtils.toByteArray(signed);
+
+		DSSDocument extended = getTempFileService().addDssDictionary(signed, Collections.<DSSDictionaryCallback> emptyList());
+		assertTrue(extended instanceof FileDocument);
+		// incremental update
+		byte[] extendedBytes = DSSUtils.toByteArray(extended);
+		assertTrue(extendedBytes.length > signedBytes.length);
+		assertArrayEquals(signedBytes, Arrays.copyOf(extendedBytes, signedBytes.length));
+	}
+
+	@Test
+	public void differentParametersAreNotReused() {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf"));
+
+		parameters.setReason("First reason");
+		getTempFileService().digest(document, parameters, DigestAlgorithm.SHA256);
+		assertEquals(1, preparedDocuments.size());
+
+		parameters.setReason("Second reason");
+		parameters.setLocation("Luxembourg");
+		PdfBoxSignatureService inMemoryService = new PdfBoxSignatureService(false, new PdfBoxDefaultSignatureDrawerFactory());
+		byte[] expectedDigest = inMemoryService.digest(document, parameters, DigestAlgorithm.SHA256);
+		DSSDocument expected = inMemoryService.sign(document, signatureValue, parameters, DigestAlgorithm.SHA256);
+
+		assertArrayEquals(expectedDigest, getTempFileService().digest(document, parameters, DigestAlgorithm.SHA256));
+		assertEquals(2, preparedDocuments.size());
+
+		DSSDocument signed = getTempFileService().sign(document, signatureValue, parameters, DigestAlgorithm.SHA256);
+		assertEquals(1, preparedDocuments.size());
+		assertArrayEquals(DSSUtils.toByteArray(expected), DSSUtils.toByteArray(signed));
+	}
+
+	@Test
+	public void visibleSignatureIsNotPrepared() {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf"));
+
+		SignatureImageParameters imageParameters = new SignatureImageParameters();
+		SignatureImageTextParameters textParameters = new SignatureImageTextParameters();
+		textParameters.setText("My signature");
+		imageParameters.setTextParameters(textParameters);
+		parameters.setSignatureImageParameters(imageParameters);
+
+		PdfBoxSignatureService service = getTempFileService();
+		service.digest(document, parameters, DigestAlgorithm.SHA256);
+		assertEquals(0, preparedDocuments.size());
+		assertEquals(0, folder.getRoot().listFiles().length);
+
+		DSSDocument signed = service.sign(document, signatureValue, parameters, DigestAlgorithm.SHA256);
+		assertTrue(signed instanceof FileDocument);
+		assertEquals(1, folder.getRoot().listFiles().length);
+	}
+
+	@Test
+	public void releaseDeletesTheTemporaryFile() throws IOException {
+		File pdf = folder.newFile("sample.pdf");
+		new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf")).save(pdf.getAbsolutePath());
+		DSSDocument document = new FileDocument(pdf);
+
+		PdfBoxSignatureService service = getTempFileService();
+		service.digest(document, parameters, DigestAlgorithm.SHA256);
+		DSSDocument signed = service.sign(document, signatureValue, parameters, DigestAlgorithm.SHA256);
+		File signedFile = new File(signed.getAbsolutePath());
+		assertTrue(signedFile.exists());
+
+		// the document of the caller is never deleted
+		service.release(document);
+		assertTrue(pdf.exists());
+
+		service.release(signed);
+		assertFalse(signedFile.exists());
+		assertEquals(1, folder.getRoot().listFiles().length);
+	}
+
+	@Test
+	public void releaseIgnoresTheFilesOfTheCaller() throws IOException {
+		// same name pattern and same directory as the files created by the service
+		File pdf = File.createTempFile("dss-pades-", ".pdf", folder.getRoot());
+		new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf")).save(pdf.getAbsolutePath());
+		DSSDocument document = new FileDocument(pdf);
+
+		getTempFileService().release(document);
+		assertTrue(pdf.exists());
+
+		DSSDocument signed = getTempFileService().sign(document, signatureValue, parameters, DigestAlgorithm.SHA256);
+		getTempFileService().release(signed);
+		getTempFileService().release(document);
+		assertTrue(pdf.exists());
+		assertEquals(1, folder.getRoot().listFiles().length);
+	}
+
+	@Test
+	public void failedSignatureDeletesThePreparedDocument() {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf"));
+
+		PdfBoxSignatureService service = getTempFileService();
+		service.digest(document, parameters, DigestAlgorithm.SHA256);
+		assertEquals(1, folder.getRoot().listFiles().length);
+
+		byte[] tooLongSignatureValue = new byte[parameters.getSignatureSize() + 1];
+		try {
+			service.sign(document, tooLongSignatureValue, parameters, DigestAlgorithm.SHA256);
+			fail("The signature value does not fit in the placeholder");
+		} catch (DSSException e) {
+			assertTrue(e.getMessage().contains("not enough space"));
+		}
+		assertEquals(0, preparedDocuments.size());
+		assertEquals(0, folder.getRoot().listFiles().length);
+	}
+
+	@Test
+	public void factoryServicesShareThePreparedDocuments() {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf"));
+
+		PdfBoxTempFileObjectFactory factory = new PdfBoxTempFileObjectFactory(new PdfBoxDefaultSignatureDrawerFactory(),
+				MemoryUsageSetting.setupMixed(1024 * 1024).setTempDir(folder.getRoot()));
+		factory.newPAdESSignatureService().digest(document, parameters, DigestAlgorithm.SHA256);
+		assertEquals(1, folder.getRoot().listFiles().length);
+		factory.newPAdESSignatureService().digest(document, parameters, DigestAlgorithm.SHA256);
+		assertEquals(1, folder.getRoot().listFiles().length);
+
+		DSSDocument signed = factory.newPAdESSignatureService().sign(document, signatureValue, parameters, DigestAlgorithm.SHA256);
+		assertEquals(1, folder.getRoot().listFiles().length);
+		factory.release(signed);
+		assertEquals(0, folder.getRoot().listFiles().length);
+
+		factory.newPAdESSignatureService().digest(document, parameters, DigestAlgorithm.SHA256);
+		assertEquals(1, folder.getRoot().listFiles().length);
+		factory.clear();
+		assertEquals(0, folder.getRoot().listFiles().length);
+	}
+
+	private PdfBoxSignatureService getTempFileService() {
+		return getTempFileService(false);
+	}
+
+	private PdfBoxSignatureService getTempFileService(boolean timestamp) {
+		PdfBoxSignatureService service = new PdfBoxSignatureService(timestamp, new PdfBoxDefaultSignatureDrawerFactory());
+		service.setMemoryUsageSetting(MemoryUsageSetting.setupMixed(1024 * 1024).setTempDir(folder.getRoot()));
+		service.setPreparedDocuments(preparedDocuments);
+		return service;
+	}
+
+}
@@ -69,6 +69,7 @@ class PAdESLevelBaselineLT implements SignatureExtension<PAdESSignatureParameter
 		PDFDocumentValidator pdfDocumentValidator = new PDFDocumentValidator(document);
 		pdfDocumentValidator.setCertificateVerifier(certificateVerifier);
 
+		final DSSDocument originalDocument = document;
 		List<AdvancedSignature> signatures = pdfDocumentValidator.getSignatures();
 		for (final AdvancedSignature signature : signatures) {
 			if (isRequireDocumentTimestamp(signature)) {
@@ -93,7 +94,12 @@ class PAdESLevelBaselineLT implements SignatureExtension<PAdESSignatureParameter
 		}
 
 		final PDFSignatureService signatureService = PdfObjFactory.newPAdESSignatureService();
-		return signatureService.addDssDictionary(document, callbacks);
+		final DSSDocument extendedDocument = signatureService.addDssDictionary(document, callbacks);
+		if (document != originalDocument) {
+			// the intermediate T level document is not used anymore
+			signatureService.release(document);
+		}
+		return extendedDocument;
 
 	}
 
@@ -24,6 +24,7 @@ import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.pades.PAdESSignatureParameters;
 import eu.europa.esig.dss.pades.validation.PDFDocumentValidator;
+import eu.europa.esig.dss.pdf.PdfObjFactory;
 import eu.europa.esig.dss.signature.SignatureExtension;
 import eu.europa.esig.dss.spi.x509.tsp.TSPSource;
 import eu.europa.esig.dss.validation.CertificateVerifier;
@@ -50,9 +51,14 @@ class PAdESLevelBaselineLTA implements SignatureExtension<PAdESSignatureParamete
 		final PDFDocumentValidator pdfDocumentValidator = new PDFDocumentValidator(document);
 		pdfDocumentValidator.setCertificateVerifier(certificateVerifier);
 
-		document = padesLevelBaselineLT.extendSignatures(document, parameters);
+		final DSSDocument ltDocument = padesLevelBaselineLT.extendSignatures(document, parameters);
 
 		// Will add a Document TimeStamp (not CMS)
-		return padesLevelBaselineT.extendSignatures(document, parameters);
+		final DSSDocument extendedDocument = padesLevelBaselineT.extendSignatures(ltDocument, parameters);
+		if (ltDocument != document) {
+			// the intermediate LT level document is not used anymore
+			PdfObjFactory.newPAdESSignatureService().release(ltDocument);
+		}
+		return extendedDocument;
 	}
 }
@@ -143,7 +143,11 @@ public class PAdESService extends AbstractSignatureService<PAdESSignatureParamet
 
 		final SignatureExtension<PAdESSignatureParameters> extension = getExtensionProfile(signatureLevel);
 		if ((signatureLevel != SignatureLevel.PAdES_BASELINE_B) && (signatureLevel != SignatureLevel.PAdES_BASELINE_T) && (extension != null)) {
-			signature = extension.extendSignatures(signature, parameters);
+			final DSSDocument signedDocument = signature;
+			signature = extension.extendSignatures(signedDocument, parameters);
+			if (signature != signedDocument) {
+				pdfSignatureService.release(signedDocument);
+			}
 		}
 
 		parameters.reinitDeterministicId();
@@ -114,4 +114,16 @@ public interface PDFSignatureService {
 	 */
 	DSSDocument addNewSignatureField(DSSDocument document, SignatureFieldParameters parameters);
 
+	/**
+	 * Releases a document returned by this service which is not used anymore (eg :
+	 * an intermediate document of a LT/LTA signature stored in a temporary file).
+	 * Does nothing by default.
+	 * 
+	 * @param document
+	 *            the document returned by this service
+	 */
+	default void release(DSSDocument document) {
+		// nothing to release by default
+	}
+
 }
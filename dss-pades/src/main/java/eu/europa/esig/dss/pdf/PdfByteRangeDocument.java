@@ -0,0 +1,154 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+import eu.europa.esig.dss.model.CommonDocument;
+import eu.europa.esig.dss.model.DSSDocument;
+
+/**
+ * This class is a view of the bytes of a PDF document covered by a signature
+ * /ByteRange (the document without the /Contents value). The bytes are read
+ * from the original document on each {@link #openStream()} call, nothing is
+ * copied in memory.
+ */
+public class PdfByteRangeDocument extends CommonDocument {
+
+	private final DSSDocument document;
+
+	private final int[] byteRange;
+
+	/**
+	 * The default constructor
+	 * 
+	 * @param document
+	 *                  the whole PDF document
+	 * @param byteRange
+	 *                  the validated /ByteRange [start1, length1, start2, length2]
+	 */
+	public PdfByteRangeDocument(final DSSDocument document, final int[] byteRange) {
+		Objects.requireNonNull(document, "The document must be set");
+		Objects.requireNonNull(byteRange, "The byte range must be set");
+		this.document = document;
+		this.byteRange = byteRange;
+		this.name = document.getName();
+		this.mimeType = document.getMimeType();
+	}
+
+	/**
+	 * Returns the number of bytes covered by the byte range
+	 * 
+	 * @return the length of the signed content
+	 */
+	public long getLength() {
+		return (long) byteRange[1] + byteRange[3];
+	}
+
+	@Override
+	public InputStream openStream() {
+		return new ByteRangeInputStream(document.openStream(), byteRange);
+	}
+
+	private static class ByteRangeInputStream extends InputStream {
+
+		private final InputStream is;
+
+		private final int[] byteRange;
+
+		/* the position in the original document */
+		private long position = 0;
+
+		private ByteRangeInputStream(InputStream is, int[] byteRange) {
+			this.is = is;
+			this.byteRange = byteRange;
+		}
+
+		/**
+		 * Returns the number of bytes which can be read before the end of the current
+		 * range (after a skip of the bytes out of the byte range)
+		 */
+		private long remaining() throws IOException {
+			final long endFirstRange = (long) byteRange[0] + byteRange[1];
+			final long endSecondRange = (long) byteRange[2] + byteRange[3];
+			if (position < byteRange[0]) {
+				skipTo(byteRange[0]);
+			}
+			if (position < endFirstRange) {
+				return endFirstRange - position;
+			}
+			if (position < byteRange[2]) {
+				skipTo(byteRange[2]);
+			}
+			return endSecondRange - position;
+		}
+
+		private void skipTo(long target) throws IOException {
+			while (position < target) {
+				long skipped = is.skip(target - position);
+				if (skipped <= 0) {
+					if (is.read() < 0) {
+						throw new IOException("The document is too small for the ByteRange");
+					}
+					skipped = 1;
+				}
+				position += skipped;
+			}
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (remaining() <= 0) {
+				return -1;
+			}
+			int b = is.read();
+			if (b >= 0) {
+				position++;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			long remaining = remaining();
+			if (remaining <= 0) {
+				return -1;
+			}
+			int count = is.read(b, off, (int) Math.min(len, remaining));
+			if (count > 0) {
+				position += count;
+			}
+			return count;
+		}
+
+		@Override
+		public void close() throws IOException {
+			is.close();
+		}
+
+	}
+
+}
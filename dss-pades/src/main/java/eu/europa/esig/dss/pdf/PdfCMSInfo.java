@@ -31,6 +31,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 
@@ -44,9 +46,9 @@ public abstract class PdfCMSInfo implements PdfSignatureOrDocTimestampInfo {
 	private final byte[] cms;
 
 	/**
-	 * The original signed pdf document
+	 * The original signed pdf document (can be a lazy view on the /ByteRange)
 	 */
-	private final byte[] signedBytes;
+	private final DSSDocument signedContent;
 
 	private final boolean coverAllOriginalBytes;
 	private boolean verified;
@@ -68,10 +70,28 @@ public abstract class PdfCMSInfo implements PdfSignatureOrDocTimestampInfo {
 	 *                              true if the signature covers all original bytes
 	 */
 	protected PdfCMSInfo(PdfSigDict signatureDictionary, PdfDssDict dssDictionary, byte[] cms, byte[] signedContent, boolean coverAllOriginalBytes) {
+		this(signatureDictionary, dssDictionary, cms, signedContent != null ? new InMemoryDocument(signedContent) : null, coverAllOriginalBytes);
+	}
+
+	/**
+	 *
+	 * @param signatureDictionary
+	 *                              The signature dictionary
+	 * @param dssDictionary
+	 *                              the DSS dictionary
+	 * @param cms
+	 *                              the signature binary
+	 * @param signedContent
+	 *                              the signed content (eg : a {@link PdfByteRangeDocument})
+	 * @param coverAllOriginalBytes
+	 *                              true if the signature covers all original bytes
+	 */
+	protected PdfCMSInfo(PdfSigDict signatureDictionary, PdfDssDict dssDictionary, byte[] cms, DSSDocument signedContent,
+			boolean coverAllOriginalBytes) {
 		this.cms = cms;
 		this.signatureDictionary = signatureDictionary;
 		this.dssDictionary = dssDictionary;
-		this.signedBytes = signedContent;
+		this.signedContent = signedContent;
 		this.coverAllOriginalBytes = coverAllOriginalBytes;
 	}
 
@@ -79,7 +99,7 @@ public abstract class PdfCMSInfo implements PdfSignatureOrDocTimestampInfo {
 	public void checkIntegrity() {
 		if (!verified) {
 			checkIntegrityOnce();
-			LOG.debug("Verify embedded CAdES Signature on signedBytes size {}.", signedBytes.length);
+			LOG.debug("Verify embedded CAdES Signature on signed content of {}.", getSigFieldName());
 			verified = true;
 		}
 	}
@@ -91,7 +111,17 @@ public abstract class PdfCMSInfo implements PdfSignatureOrDocTimestampInfo {
 	 */
 	@Override
 	public byte[] getSignedDocumentBytes() {
-		return signedBytes;
+		if (signedContent == null) {
+			return null;
+		} else if (signedContent instanceof InMemoryDocument) {
+			return ((InMemoryDocument) signedContent).getBytes();
+		}
+		return DSSUtils.toByteArray(signedContent);
+	}
+
+	@Override
+	public DSSDocument getSignedDocument() {
+		return signedContent;
 	}
 
 	@Override
@@ -27,7 +27,9 @@ import org.slf4j.LoggerFactory;
 
 import eu.europa.esig.dss.enumerations.TimestampLocation;
 import eu.europa.esig.dss.enumerations.TimestampType;
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.spi.x509.CertificatePool;
 import eu.europa.esig.dss.validation.SignatureCryptographicVerification;
 import eu.europa.esig.dss.validation.timestamp.TimestampToken;
@@ -60,6 +62,28 @@ public class PdfDocTimestampInfo extends PdfCMSInfo implements PdfSignatureOrDoc
 	 */
 	public PdfDocTimestampInfo(CertificatePool validationCertPool, PdfSigDict signatureDictionary,
 			PdfDssDict timestampedDssDictionary, byte[] cms, byte[] signedContent, boolean coverCompleteRevision) {
+		this(validationCertPool, signatureDictionary, timestampedDssDictionary, cms,
+				signedContent != null ? new InMemoryDocument(signedContent) : null, coverCompleteRevision);
+	}
+
+	/**
+	 * Constructor to create PdfDocTimestampInfo with a lazily read signed content
+	 * 
+	 * @param validationCertPool
+	 *                                 the certificate pool
+	 * @param signatureDictionary
+	 *                                 the signature dictionary
+	 * @param timestampedDssDictionary
+	 *                                 the covered DSS dictionary
+	 * @param cms
+	 *                                 the CMS (CAdES) bytes
+	 * @param signedContent
+	 *                                 the signed data (eg : a {@link PdfByteRangeDocument})
+	 * @param coverCompleteRevision
+	 *                                 true if the signature covers all bytes
+	 */
+	public PdfDocTimestampInfo(CertificatePool validationCertPool, PdfSigDict signatureDictionary,
+			PdfDssDict timestampedDssDictionary, byte[] cms, DSSDocument signedContent, boolean coverCompleteRevision) {
 		super(signatureDictionary, timestampedDssDictionary, cms, signedContent, coverCompleteRevision);
 		try {
 			TimestampType timestampType = TimestampType.SIGNATURE_TIMESTAMP;
@@ -81,10 +105,10 @@ public class PdfDocTimestampInfo extends PdfCMSInfo implements PdfSignatureOrDoc
 		signatureCryptographicVerification.setReferenceDataFound(false);
 		signatureCryptographicVerification.setReferenceDataIntact(false);
 		signatureCryptographicVerification.setSignatureIntact(false);
-		if (getSignedDocumentBytes() != null) {
+		if (getSignedDocument() != null) {
 			signatureCryptographicVerification.setReferenceDataFound(true);
 		}
-		signatureCryptographicVerification.setReferenceDataIntact(timestampToken.matchData(getSignedDocumentBytes()));
+		signatureCryptographicVerification.setReferenceDataIntact(timestampToken.matchDocument(getSignedDocument()));
 		signatureCryptographicVerification.setSignatureIntact(timestampToken.isSignatureValid());
 	}
 
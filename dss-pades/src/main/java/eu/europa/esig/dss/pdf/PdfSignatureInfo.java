@@ -46,11 +46,25 @@ public class PdfSignatureInfo extends PdfCMSInfo implements PdfSignatureOrDocTim
 	 */
 	public PdfSignatureInfo(CertificatePool validationCertPool, PdfSigDict signatureDictionary, PdfDssDict dssDictionary, byte[] cms,
 			byte[] originalBytes, boolean coverCompleteRevision) throws IOException {
-		super(signatureDictionary, dssDictionary, cms, originalBytes, coverCompleteRevision);
+		this(validationCertPool, signatureDictionary, dssDictionary, cms, new InMemoryDocument(originalBytes), coverCompleteRevision);
+	}
+
+	/**
+	 * @param validationCertPool
+	 * @param dssDictionary
+	 *            the DSS dictionary
+	 * @param cms
+	 *            the CMS (CAdES) bytes
+	 * @param signedContent
+	 *            the signed content (eg : a {@link PdfByteRangeDocument} read on demand)
+	 * @throws IOException
+	 */
+	public PdfSignatureInfo(CertificatePool validationCertPool, PdfSigDict signatureDictionary, PdfDssDict dssDictionary, byte[] cms,
+			DSSDocument signedContent, boolean coverCompleteRevision) throws IOException {
+		super(signatureDictionary, dssDictionary, cms, signedContent, coverCompleteRevision);
 		try {
 			cades = new CAdESSignature(cms, validationCertPool);
-			final DSSDocument detachedContent = new InMemoryDocument(getSignedDocumentBytes());
-			cades.setDetachedContents(Arrays.asList(detachedContent));
+			cades.setDetachedContents(Arrays.asList(getSignedDocument()));
 		} catch (CMSException e) {
 			throw new IOException(e);
 		}
@@ -25,6 +25,9 @@ import java.util.List;
 
 import org.bouncycastle.cms.CMSSignedData;
 
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+
 /**
  * The usage of this interface permit the user to choose the underlying PDF library use to created PDF signatures.
  */
@@ -63,6 +66,13 @@ public interface PdfSignatureOrDocTimestampInfo {
 	 */
 	byte[] getSignedDocumentBytes();
 
+	/**
+	 * @return the signed content as a {@code DSSDocument} (the implementations may read the bytes on demand)
+	 */
+	default DSSDocument getSignedDocument() {
+		return new InMemoryDocument(getSignedDocumentBytes());
+	}
+
 	PdfDssDict getDssDictionary();
 
 	String uniqueId();
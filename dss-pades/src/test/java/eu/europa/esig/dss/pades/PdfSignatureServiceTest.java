@@ -1,9 +1,13 @@
 package eu.europa.esig.dss.pades;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -11,10 +15,13 @@ import org.junit.Test;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.pdf.AbstractPDFSignatureService;
 import eu.europa.esig.dss.pdf.DSSDictionaryCallback;
+import eu.europa.esig.dss.pdf.PdfByteRangeDocument;
 import eu.europa.esig.dss.pdf.PdfSignatureOrDocTimestampInfo;
 import eu.europa.esig.dss.pdf.visible.SignatureDrawerFactory;
+import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.CertificatePool;
 
 public class PdfSignatureServiceTest {
@@ -38,6 +45,21 @@ public class PdfSignatureServiceTest {
 		assertFalse(mockPDFSignatureSignature.isByteRangeCorrect(new int[0]));
 	}
 	
+	@Test
+	public void byteRangeDocumentTest() throws IOException {
+		byte[] pdf = new byte[200000];
+		new Random().nextBytes(pdf);
+		DSSDocument document = new InMemoryDocument(pdf);
+
+		int[] byteRange = new int[] { 0, 70000, 90000, 110000 };
+		PdfByteRangeDocument signedContent = new PdfByteRangeDocument(document, byteRange);
+		byte[] expected = mockPDFSignatureSignature.extractSignedContent(document, byteRange);
+
+		assertEquals(expected.length, signedContent.getLength());
+		assertArrayEquals(expected, DSSUtils.toByteArray(signedContent));
+		assertEquals(new InMemoryDocument(expected).getDigest(DigestAlgorithm.SHA256), signedContent.getDigest(DigestAlgorithm.SHA256));
+	}
+	
 	protected class MockPdfSignatureSignature extends AbstractPDFSignatureService {
 
 		protected MockPdfSignatureSignature(boolean timestamp, SignatureDrawerFactory signatureDrawerFactory) {
@@ -85,6 +107,10 @@ public class PdfSignatureServiceTest {
 				return false;
 			}
 		}
+
+		protected byte[] extractSignedContent(DSSDocument document, int[] byteRange) throws IOException {
+			return getSignedContent(document, byteRange);
+		}
 		
 	}
 
@@ -0,0 +1,199 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.policy;
+
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import eu.europa.esig.dss.enumerations.Context;
+import eu.europa.esig.dss.policy.jaxb.Algo;
+import eu.europa.esig.dss.policy.jaxb.AlgoExpirationDate;
+import eu.europa.esig.dss.policy.jaxb.BasicSignatureConstraints;
+import eu.europa.esig.dss.policy.jaxb.CertificateConstraints;
+import eu.europa.esig.dss.policy.jaxb.ConstraintsParameters;
+import eu.europa.esig.dss.policy.jaxb.CryptographicConstraint;
+import eu.europa.esig.dss.policy.jaxb.SignatureConstraints;
+
+/**
+ * This class is an {@code EtsiValidationPolicy} where the constraints are resolved once for every {@code Context} and
+ * {@code SubContext}: the cryptographic constraints are completed with the default ones and the algorithm expiration
+ * dates are parsed at the creation.
+ * 
+ * The same instance can be used for several validations, including concurrent ones. The given
+ * {@code ConstraintsParameters} must not be modified once the policy is compiled.
+ */
+public class CompiledValidationPolicy extends EtsiValidationPolicy {
+
+	private final Map<Context, BasicSignatureConstraints> basicSignatureConstraints = new EnumMap<Context, BasicSignatureConstraints>(Context.class);
+
+	private final Map<Context, SignatureConstraints> signatureConstraints = new EnumMap<Context, SignatureConstraints>(Context.class);
+
+	private final Map<Context, Map<SubContext, CertificateConstraints>> certificateConstraints = new EnumMap<Context, Map<SubContext, CertificateConstraints>>(
+			Context.class);
+
+	private final Map<Context, CryptographicConstraint> signatureCryptographicConstraints = new EnumMap<Context, CryptographicConstraint>(Context.class);
+
+	private final Map<Context, Map<SubContext, CryptographicConstraint>> certificateCryptographicConstraints = new EnumMap<Context, Map<SubContext, CryptographicConstraint>>(
+			Context.class);
+
+	private final Map<Context, Map<SubContext, AlgorithmExpirationDates>> algorithmExpirationDates = new EnumMap<Context, Map<SubContext, AlgorithmExpirationDates>>(
+			Context.class);
+
+	public CompiledValidationPolicy(ConstraintsParameters policy) {
+		super(policy);
+
+		for (Context context : Context.values()) {
+			basicSignatureConstraints.put(context, super.getBasicSignatureConstraintsByContext(context));
+			signatureCryptographicConstraints.put(context, super.getSignatureCryptographicConstraint(context));
+			if (Context.SIGNATURE.equals(context) || Context.CERTIFICATE.equals(context) || Context.COUNTER_SIGNATURE.equals(context)) {
+				signatureConstraints.put(context, super.getSignatureConstraintsByContext(context));
+			}
+
+			Map<SubContext, CertificateConstraints> certificateConstraintsBySubContext = new EnumMap<SubContext, CertificateConstraints>(SubContext.class);
+			Map<SubContext, CryptographicConstraint> cryptographicConstraintsBySubContext = new EnumMap<SubContext, CryptographicConstraint>(SubContext.class);
+			for (SubContext subContext : SubContext.values()) {
+				certificateConstraintsBySubContext.put(subContext, super.getCertificateConstraints(context, subContext));
+				cryptographicConstraintsBySubContext.put(subContext, super.getCertificateCryptographicConstraint(context, subContext));
+			}
+			certificateConstraints.put(context, certificateConstraintsBySubContext);
+			certificateCryptographicConstraints.put(context, cryptographicConstraintsBySubContext);
+		}
+
+		// requires the certificate cryptographic constraints
+		for (Context context : Context.values()) {
+			Map<SubContext, AlgorithmExpirationDates> datesBySubContext = new EnumMap<SubContext, AlgorithmExpirationDates>(SubContext.class);
+			for (SubContext subContext : SubContext.values()) {
+				CryptographicConstraint cryptographicConstraint = getCertificateCryptographicConstraint(context, subContext);
+				if (cryptographicConstraint == null) {
+					cryptographicConstraint = getCertificateCryptographicConstraint(Context.SIGNATURE, SubContext.SIGNING_CERT);
+				}
+				datesBySubContext.put(subContext, new AlgorithmExpirationDates(cryptographicConstraint));
+			}
+			algorithmExpirationDates.put(context, datesBySubContext);
+		}
+	}
+
+	@Override
+	public Date getAlgorithmExpirationDate(String algorithm, Context context, SubContext subContext) {
+		Map<SubContext, AlgorithmExpirationDates> datesBySubContext = algorithmExpirationDates.get(context);
+		if (datesBySubContext != null && datesBySubContext.containsKey(subContext)) {
+			return datesBySubContext.get(subContext).getExpirationDate(algorithm);
+		}
+		return super.getAlgorithmExpirationDate(algorithm, context, subContext);
+	}
+
+	@Override
+	public CryptographicConstraint getSignatureCryptographicConstraint(Context context) {
+		if (signatureCryptographicConstraints.containsKey(context)) {
+			return signatureCryptographicConstraints.get(context);
+		}
+		return super.getSignatureCryptographicConstraint(context);
+	}
+
+	@Override
+	public CryptographicConstraint getCertificateCryptographicConstraint(Context context, SubContext subContext) {
+		Map<SubContext, CryptographicConstraint> cryptographicConstraintsBySubContext = certificateCryptographicConstraints.get(context);
+		if (cryptographicConstraintsBySubContext != null && cryptographicConstraintsBySubContext.containsKey(subContext)) {
+			return cryptographicConstraintsBySubContext.get(subContext);
+		}
+		return super.getCertificateCryptographicConstraint(context, subContext);
+	}
+
+	@Override
+	protected CertificateConstraints getCertificateConstraints(Context context, SubContext subContext) {
+		Map<SubContext, CertificateConstraints> certificateConstraintsBySubContext = certificateConstraints.get(context);
+		if (certificateConstraintsBySubContext != null && certificateConstraintsBySubContext.containsKey(subContext)) {
+			return certificateConstraintsBySubContext.get(subContext);
+		}
+		return super.getCertificateConstraints(context, subContext);
+	}
+
+	@Override
+	protected BasicSignatureConstraints getBasicSignatureConstraintsByContext(Context context) {
+		if (basicSignatureConstraints.containsKey(context)) {
+			return basicSignatureConstraints.get(context);
+		}
+		return super.getBasicSignatureConstraintsByContext(context);
+	}
+
+	@Override
+	protected SignatureConstraints getSignatureConstraintsByContext(Context context) {
+		if (signatureConstraints.containsKey(context)) {
+			return signatureConstraints.get(context);
+		}
+		return super.getSignatureConstraintsByContext(context);
+	}
+
+	/**
+	 * The parsed expiration dates of a {@code CryptographicConstraint} by algorithm name (case insensitive)
+	 */
+	private static class AlgorithmExpirationDates {
+
+		private final Map<String, Date> dates = new HashMap<String, Date>();
+
+		/* The parsing errors are only thrown when the algorithm is requested */
+		private final Map<String, IllegalArgumentException> errors = new HashMap<String, IllegalArgumentException>();
+
+		AlgorithmExpirationDates(CryptographicConstraint cryptographicConstraint) {
+			if (cryptographicConstraint == null || cryptographicConstraint.getAlgoExpirationDate() == null) {
+				return;
+			}
+			AlgoExpirationDate algoExpirationDate = cryptographicConstraint.getAlgoExpirationDate();
+			String dateFormat = DateUtils.DEFAULT_DATE_FORMAT;
+			if (algoExpirationDate.getFormat() != null) {
+				dateFormat = algoExpirationDate.getFormat();
+			}
+			// the last matching algorithm is used
+			Map<String, String> dateStrings = new HashMap<String, String>();
+			for (Algo algo : algoExpirationDate.getAlgo()) {
+				dateStrings.put(getKey(algo.getValue()), algo.getDate());
+			}
+			for (Map.Entry<String, String> entry : dateStrings.entrySet()) {
+				if (entry.getValue() != null) {
+					try {
+						dates.put(entry.getKey(), DateUtils.parseDate(dateFormat, entry.getValue()));
+					} catch (IllegalArgumentException e) {
+						errors.put(entry.getKey(), e);
+					}
+				}
+			}
+		}
+
+		Date getExpirationDate(String algorithm) {
+			String key = getKey(algorithm);
+			IllegalArgumentException error = errors.get(key);
+			if (error != null) {
+				throw error;
+			}
+			Date date = dates.get(key);
+			return date == null ? null : new Date(date.getTime());
+		}
+
+		private static String getKey(String algorithm) {
+			return algorithm == null ? null : algorithm.toUpperCase(Locale.ENGLISH);
+		}
+
+	}
+
+}
@@ -297,11 +297,11 @@ public class EtsiValidationPolicy implements ValidationPolicy {
 	
 	/**
 	 * Overrides all empty fields for the given {@value cryptographicConstraint} by the default {@link CryptographicConstraint}
-	 * @param cryptographicConstraint {@link CryptographicConstraint}
+	 * @param cryptographicConstraint {@link CryptographicConstraint} (can be null if not defined)
 	 */
 	private void initializeCryptographicConstraint(CryptographicConstraint cryptographicConstraint) {
 		CryptographicConstraint defaultConstraint = getDefaultCryptographicConstraint();
-		if (defaultConstraint != null) {
+		if (cryptographicConstraint != null && defaultConstraint != null) {
 			if (cryptographicConstraint.getAcceptableDigestAlgo() == null)
 				cryptographicConstraint.setAcceptableDigestAlgo(defaultConstraint.getAcceptableDigestAlgo());
 			if (cryptographicConstraint.getAcceptableEncryptionAlgo() == null)
@@ -770,7 +770,16 @@ public class EtsiValidationPolicy implements ValidationPolicy {
 		return getCertificateConstraints(context, SubContext.SIGNING_CERT);
 	}
 
-	private CertificateConstraints getCertificateConstraints(Context context, SubContext subContext) {
+	/**
+	 * Returns the certificate constraints for the given context and sub-context
+	 * 
+	 * @param context
+	 *                   the {@code Context}
+	 * @param subContext
+	 *                   the {@code SubContext}
+	 * @return the {@code CertificateConstraints} or null
+	 */
+	protected CertificateConstraints getCertificateConstraints(Context context, SubContext subContext) {
 		BasicSignatureConstraints basicSignatureConstraints = getBasicSignatureConstraintsByContext(context);
 		if (basicSignatureConstraints != null) {
 			if (SubContext.SIGNING_CERT.equals(subContext)) {
@@ -782,7 +791,14 @@ public class EtsiValidationPolicy implements ValidationPolicy {
 		return null;
 	}
 
-	private BasicSignatureConstraints getBasicSignatureConstraintsByContext(Context context) {
+	/**
+	 * Returns the basic signature constraints for the given context
+	 * 
+	 * @param context
+	 *                the {@code Context}
+	 * @return the {@code BasicSignatureConstraints} or null
+	 */
+	protected BasicSignatureConstraints getBasicSignatureConstraintsByContext(Context context) {
 		switch (context) {
 		case SIGNATURE:
 		case CERTIFICATE: // TODO improve
@@ -816,7 +832,14 @@ public class EtsiValidationPolicy implements ValidationPolicy {
 		return null;
 	}
 
-	private SignatureConstraints getSignatureConstraintsByContext(Context context) {
+	/**
+	 * Returns the signature constraints for the given context
+	 * 
+	 * @param context
+	 *                the {@code Context}
+	 * @return the {@code SignatureConstraints} or null
+	 */
+	protected SignatureConstraints getSignatureConstraintsByContext(Context context) {
 		switch (context) {
 		case SIGNATURE:
 		case CERTIFICATE: // TODO improve
@@ -69,6 +69,36 @@ public class ValidationPolicyFacade extends AbstractJaxbFacade<ConstraintsParame
 		return new EtsiValidationPolicy(unmarshall(file));
 	}
 
+	/**
+	 * Returns a {@code CompiledValidationPolicy} which can be shared between validations
+	 * 
+	 * @param is
+	 *           the {@code InputStream} with the policy XML (the default policy is used if null)
+	 * @return the {@code CompiledValidationPolicy}
+	 */
+	public CompiledValidationPolicy getCompiledValidationPolicy(InputStream is) throws JAXBException, XMLStreamException, IOException, SAXException {
+		if (is == null) {
+			try (InputStream defaultIs = ValidationPolicyFacade.class.getResourceAsStream(DEFAULT_VALIDATION_POLICY_LOCATION)) {
+				return new CompiledValidationPolicy(unmarshall(defaultIs));
+			}
+		}
+		return new CompiledValidationPolicy(unmarshall(is));
+	}
+
+	/**
+	 * Returns a {@code CompiledValidationPolicy} which can be shared between validations
+	 * 
+	 * @param file
+	 *             the policy XML file (the default policy is used if null)
+	 * @return the {@code CompiledValidationPolicy}
+	 */
+	public CompiledValidationPolicy getCompiledValidationPolicy(File file) throws JAXBException, XMLStreamException, IOException, SAXException {
+		if (file == null) {
+			return getCompiledValidationPolicy((InputStream) null);
+		}
+		return new CompiledValidationPolicy(unmarshall(file));
+	}
+
 	private ValidationPolicy loadDefault() throws JAXBException, XMLStreamException, IOException, SAXException {
 		try (InputStream defaultIs = ValidationPolicyFacade.class.getResourceAsStream(DEFAULT_VALIDATION_POLICY_LOCATION)) {
 			return getValidationPolicy(defaultIs);
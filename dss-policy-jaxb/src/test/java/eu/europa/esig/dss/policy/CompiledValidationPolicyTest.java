@@ -0,0 +1,131 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.policy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+import eu.europa.esig.dss.enumerations.Context;
+import eu.europa.esig.dss.policy.jaxb.Algo;
+import eu.europa.esig.dss.policy.jaxb.BasicSignatureConstraints;
+import eu.europa.esig.dss.policy.jaxb.ConstraintsParameters;
+import eu.europa.esig.dss.policy.jaxb.CryptographicConstraint;
+
+public class CompiledValidationPolicyTest {
+
+	@Test
+	public void defaultPolicy() throws Exception {
+		compare(ValidationPolicyFacade.newFacade().getCompiledValidationPolicy((File) null),
+				(EtsiValidationPolicy) ValidationPolicyFacade.newFacade().getDefaultValidationPolicy());
+	}
+
+	@Test
+	public void constraintFile() throws Exception {
+		File file = new File("src/test/resources/constraint.xml");
+		compare(ValidationPolicyFacade.newFacade().getCompiledValidationPolicy(file),
+				new EtsiValidationPolicy(ValidationPolicyFacade.newFacade().unmarshall(file)));
+	}
+
+	@Test
+	public void algorithmExpirationDates() throws Exception {
+		ConstraintsParameters constraintsParameters;
+		try (InputStream is = ValidationPolicyFacade.class.getResourceAsStream(ValidationPolicyFacade.DEFAULT_VALIDATION_POLICY_LOCATION)) {
+			constraintsParameters = ValidationPolicyFacade.newFacade().unmarshall(is);
+		}
+		CompiledValidationPolicy compiledPolicy = new CompiledValidationPolicy(constraintsParameters);
+		EtsiValidationPolicy policy = new EtsiValidationPolicy(constraintsParameters);
+
+		CryptographicConstraint cryptographic = constraintsParameters.getCryptographic();
+		assertNotNull(cryptographic.getAlgoExpirationDate());
+		for (Algo algo : cryptographic.getAlgoExpirationDate().getAlgo()) {
+			for (Context context : Context.values()) {
+				for (SubContext subContext : SubContext.values()) {
+					assertEquals(policy.getAlgorithmExpirationDate(algo.getValue(), context, subContext),
+							compiledPolicy.getAlgorithmExpirationDate(algo.getValue(), context, subContext));
+					assertEquals(policy.getAlgorithmExpirationDate(algo.getValue().toLowerCase(), context, subContext),
+							compiledPolicy.getAlgorithmExpirationDate(algo.getValue().toLowerCase(), context, subContext));
+				}
+			}
+		}
+		assertEquals(null, compiledPolicy.getAlgorithmExpirationDate("UNKNOWN", Context.SIGNATURE, SubContext.SIGNING_CERT));
+	}
+
+	@Test
+	public void certificateWithoutCryptographic() throws Exception {
+		ConstraintsParameters constraintsParameters;
+		try (InputStream is = ValidationPolicyFacade.class.getResourceAsStream(ValidationPolicyFacade.DEFAULT_VALIDATION_POLICY_LOCATION)) {
+			constraintsParameters = ValidationPolicyFacade.newFacade().unmarshall(is);
+		}
+		// <CACertificate> and <BasicSignatureConstraints> without <Cryptographic>, the top level one is defined
+		assertNotNull(constraintsParameters.getCryptographic());
+		BasicSignatureConstraints timestampConstraints = constraintsParameters.getTimestamp().getBasicSignatureConstraints();
+		timestampConstraints.getCACertificate().setCryptographic(null);
+		timestampConstraints.setCryptographic(null);
+
+		CompiledValidationPolicy compiledPolicy = new CompiledValidationPolicy(constraintsParameters);
+		EtsiValidationPolicy policy = new EtsiValidationPolicy(constraintsParameters);
+		compare(compiledPolicy, policy);
+
+		assertNull(compiledPolicy.getCertificateCryptographicConstraint(Context.TIMESTAMP, SubContext.CA_CERTIFICATE));
+		assertNull(compiledPolicy.getSignatureCryptographicConstraint(Context.TIMESTAMP));
+		for (Algo algo : constraintsParameters.getCryptographic().getAlgoExpirationDate().getAlgo()) {
+			// falls back to the signing certificate constraint
+			assertEquals(policy.getAlgorithmExpirationDate(algo.getValue(), Context.TIMESTAMP, SubContext.CA_CERTIFICATE),
+					compiledPolicy.getAlgorithmExpirationDate(algo.getValue(), Context.TIMESTAMP, SubContext.CA_CERTIFICATE));
+			assertEquals(compiledPolicy.getAlgorithmExpirationDate(algo.getValue(), Context.SIGNATURE, SubContext.SIGNING_CERT),
+					compiledPolicy.getAlgorithmExpirationDate(algo.getValue(), Context.TIMESTAMP, SubContext.CA_CERTIFICATE));
+		}
+	}
+
+	private void compare(CompiledValidationPolicy compiledPolicy, EtsiValidationPolicy policy) {
+		for (Context context : Context.values()) {
+			assertEquals(policy.getSignatureCryptographicConstraint(context) == null, compiledPolicy.getSignatureCryptographicConstraint(context) == null);
+			assertEquals(policy.getProspectiveCertificateChainConstraint(context) == null, compiledPolicy.getProspectiveCertificateChainConstraint(context) == null);
+			assertEquals(policy.getSignatureIntactConstraint(context) == null, compiledPolicy.getSignatureIntactConstraint(context) == null);
+			assertEquals(policy.getTrustedServiceStatusConstraint(context) == null, compiledPolicy.getTrustedServiceStatusConstraint(context) == null);
+			for (SubContext subContext : SubContext.values()) {
+				assertEquals(policy.getCertificateCryptographicConstraint(context, subContext) == null,
+						compiledPolicy.getCertificateCryptographicConstraint(context, subContext) == null);
+				assertEquals(policy.getCertificateNotExpiredConstraint(context, subContext) == null,
+						compiledPolicy.getCertificateNotExpiredConstraint(context, subContext) == null);
+				assertEquals(policy.getCertificateSignatureConstraint(context, subContext) == null,
+						compiledPolicy.getCertificateSignatureConstraint(context, subContext) == null);
+				assertEquals(policy.getRevocationDataAvailableConstraint(context, subContext) == null,
+						compiledPolicy.getRevocationDataAvailableConstraint(context, subContext) == null);
+				if (policy.getCertificateCryptographicConstraint(context, subContext) != null) {
+					assertEquals(policy.getCertificateCryptographicConstraint(context, subContext).getLevel(),
+							compiledPolicy.getCertificateCryptographicConstraint(context, subContext).getLevel());
+				}
+			}
+		}
+		// always the same instances
+		assertSame(compiledPolicy.getCertificateCryptographicConstraint(Context.SIGNATURE, SubContext.SIGNING_CERT),
+				compiledPolicy.getCertificateCryptographicConstraint(Context.SIGNATURE, SubContext.SIGNING_CERT));
+	}
+
+}
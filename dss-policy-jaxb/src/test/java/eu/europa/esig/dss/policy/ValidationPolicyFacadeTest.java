@@ -2,10 +2,17 @@ package eu.europa.esig.dss.policy;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.UnmarshalException;
@@ -115,4 +122,40 @@ public class ValidationPolicyFacadeTest {
 		ValidationPolicyFacade.newFacade().marshall(null, null);
 	}
 
+	@Test
+	public void testConcurrentMarshalling() throws Exception {
+		final String expected = ValidationPolicyFacade.newFacade().marshall(
+				ValidationPolicyFacade.newFacade().unmarshall(new File("src/test/resources/constraint.xml")));
+
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> futures = new ArrayList<Future<String>>();
+			for (int i = 0; i < 50; i++) {
+				futures.add(executorService.submit(new Callable<String>() {
+					@Override
+					public String call() throws Exception {
+						ConstraintsParameters constraintsParameters = ValidationPolicyFacade.newFacade().unmarshall(expected);
+						return ValidationPolicyFacade.newFacade().marshall(constraintsParameters);
+					}
+				}));
+			}
+			for (Future<String> future : futures) {
+				assertEquals(expected, future.get());
+			}
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	public void testValidAfterInvalid() throws Exception {
+		try {
+			ValidationPolicyFacade.newFacade().unmarshall(new File("src/test/resources/invalid-policy.xml"));
+			fail("The policy is invalid");
+		} catch (UnmarshalException e) {
+			// expected
+		}
+		assertNotNull(ValidationPolicyFacade.newFacade().unmarshall(new File("src/test/resources/constraint.xml")));
+	}
+
 }
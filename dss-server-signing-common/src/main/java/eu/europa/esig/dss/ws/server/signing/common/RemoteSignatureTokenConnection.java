@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.ws.server.signing.common;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
@@ -119,4 +120,103 @@ public interface RemoteSignatureTokenConnection {
 	 */
 	SignatureValueDTO signDigest(DigestDTO digest, MaskGenerationFunction mgf, String alias) throws DSSException;
 
+	/**
+	 * This method signs a batch of {@code toBeSigned} data with the digest
+	 * {@code digestAlgorithm} and the given {@code alias}. By default, the data
+	 * are signed one by one; implementations may retrieve the key once for the
+	 * whole batch.
+	 * 
+	 * @param toBeSigned
+	 *                        The list of data that need to be signed
+	 * @param digestAlgorithm
+	 *                        The digest algorithm to be used before signing
+	 * @param alias
+	 *                        The key alias to be used
+	 * @return the signature values (in the same order as the {@code toBeSigned}
+	 *         list)
+	 * @throws DSSException
+	 *                      If there is any problem during the signature process
+	 */
+	default List<SignatureValueDTO> sign(List<ToBeSignedDTO> toBeSigned, DigestAlgorithm digestAlgorithm, String alias) throws DSSException {
+		final List<SignatureValueDTO> result = new ArrayList<SignatureValueDTO>(toBeSigned.size());
+		for (ToBeSignedDTO data : toBeSigned) {
+			result.add(sign(data, digestAlgorithm, alias));
+		}
+		return result;
+	}
+
+	/**
+	 * This method signs a batch of {@code toBeSigned} data with the digest
+	 * {@code digestAlgorithm}, the mask {@code mgf} and the given {@code alias}.
+	 * By default, the data are signed one by one; implementations may retrieve
+	 * the key once for the whole batch.
+	 * 
+	 * @param toBeSigned
+	 *                        The list of data that need to be signed
+	 * @param digestAlgorithm
+	 *                        The digest algorithm to be used before signing
+	 * @param mgf
+	 *                        the mask generation function
+	 * @param alias
+	 *                        The key alias to be used
+	 * @return the signature values (in the same order as the {@code toBeSigned}
+	 *         list)
+	 * @throws DSSException
+	 *                      If there is any problem during the signature process
+	 */
+	default List<SignatureValueDTO> sign(List<ToBeSignedDTO> toBeSigned, DigestAlgorithm digestAlgorithm, MaskGenerationFunction mgf, String alias)
+			throws DSSException {
+		final List<SignatureValueDTO> result = new ArrayList<SignatureValueDTO>(toBeSigned.size());
+		for (ToBeSignedDTO data : toBeSigned) {
+			result.add(sign(data, digestAlgorithm, mgf, alias));
+		}
+		return result;
+	}
+
+	/**
+	 * This method signs a batch of {@code digests} with the given {@code alias}.
+	 * By default, the digests are signed one by one; implementations may retrieve
+	 * the key once for the whole batch.
+	 * 
+	 * @param digests
+	 *                The list of digested data that need to be signed
+	 * @param alias
+	 *                The key alias to be used
+	 * @return the signature values (in the same order as the {@code digests}
+	 *         list)
+	 * @throws DSSException
+	 *                      If there is any problem during the signature process
+	 */
+	default List<SignatureValueDTO> signDigests(List<DigestDTO> digests, String alias) throws DSSException {
+		final List<SignatureValueDTO> result = new ArrayList<SignatureValueDTO>(digests.size());
+		for (DigestDTO digest : digests) {
+			result.add(signDigest(digest, alias));
+		}
+		return result;
+	}
+
+	/**
+	 * This method signs a batch of {@code digests} with a mask {@code mgf} and the
+	 * given {@code alias}. By default, the digests are signed one by one;
+	 * implementations may retrieve the key once for the whole batch.
+	 * 
+	 * @param digests
+	 *                The list of digested data that need to be signed
+	 * @param mgf
+	 *                the mask generation function
+	 * @param alias
+	 *                The key alias to be used
+	 * @return the signature values (in the same order as the {@code digests}
+	 *         list)
+	 * @throws DSSException
+	 *                      If there is any problem during the signature process
+	 */
+	default List<SignatureValueDTO> signDigests(List<DigestDTO> digests, MaskGenerationFunction mgf, String alias) throws DSSException {
+		final List<SignatureValueDTO> result = new ArrayList<SignatureValueDTO>(digests.size());
+		for (DigestDTO digest : digests) {
+			result.add(signDigest(digest, mgf, alias));
+		}
+		return result;
+	}
+
 }
@@ -27,6 +27,8 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.MaskGenerationFunction;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.token.AbstractKeyStoreTokenConnection;
 import eu.europa.esig.dss.token.DSSPrivateKeyEntry;
@@ -85,6 +87,45 @@ public class RemoteSignatureTokenConnectionImpl implements RemoteSignatureTokenC
 		return DTOConverter.toSignatureValueDTO(token.signDigest(convert(digest), mgf, key));
 	}
 
+	@Override
+	public List<SignatureValueDTO> sign(List<ToBeSignedDTO> toBeSigned, DigestAlgorithm digestAlgorithm, String alias) throws DSSException {
+		return sign(toBeSigned, digestAlgorithm, null, alias);
+	}
+
+	@Override
+	public List<SignatureValueDTO> sign(List<ToBeSignedDTO> toBeSigned, DigestAlgorithm digestAlgorithm, MaskGenerationFunction mgf, String alias)
+			throws DSSException {
+		DSSPrivateKeyEntry key = token.getKey(alias);
+		List<ToBeSigned> dataToSign = new ArrayList<ToBeSigned>();
+		for (ToBeSignedDTO toBeSignedDTO : toBeSigned) {
+			dataToSign.add(DTOConverter.toToBeSigned(toBeSignedDTO));
+		}
+		return convert(token.sign(dataToSign, digestAlgorithm, mgf, key));
+	}
+
+	@Override
+	public List<SignatureValueDTO> signDigests(List<DigestDTO> digests, String alias) throws DSSException {
+		return signDigests(digests, null, alias);
+	}
+
+	@Override
+	public List<SignatureValueDTO> signDigests(List<DigestDTO> digests, MaskGenerationFunction mgf, String alias) throws DSSException {
+		DSSPrivateKeyEntry key = token.getKey(alias);
+		List<Digest> digestsToSign = new ArrayList<Digest>();
+		for (DigestDTO digestDTO : digests) {
+			digestsToSign.add(convert(digestDTO));
+		}
+		return convert(token.signDigests(digestsToSign, mgf, key));
+	}
+
+	private List<SignatureValueDTO> convert(List<SignatureValue> signatureValues) {
+		List<SignatureValueDTO> result = new ArrayList<SignatureValueDTO>();
+		for (SignatureValue signatureValue : signatureValues) {
+			result.add(DTOConverter.toSignatureValueDTO(signatureValue));
+		}
+		return result;
+	}
+
 	private RemoteKeyEntry convert(KSPrivateKeyEntry key) {
 		if (key == null) {
 			return null;
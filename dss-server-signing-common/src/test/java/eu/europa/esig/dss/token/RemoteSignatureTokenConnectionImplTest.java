@@ -20,12 +20,14 @@
  */
 package eu.europa.esig.dss.token;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.security.KeyStore.PasswordProtection;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Test;
@@ -68,6 +70,12 @@ public class RemoteSignatureTokenConnectionImplTest {
 		assertNotNull(signatureValue);
 		assertNotNull(signatureValue.getValue());
 		assertEquals(SignatureAlgorithm.RSA_SHA256, signatureValue.getAlgorithm());
+
+		List<SignatureValueDTO> signatureValues = exposedToken.sign(Arrays.asList(toBeSigned, new ToBeSignedDTO(new byte[] { 6, 7, 8 })),
+				DigestAlgorithm.SHA256, remoteKeyEntry.getAlias());
+		assertEquals(2, signatureValues.size());
+		assertArrayEquals(signatureValue.getValue(), signatureValues.get(0).getValue());
+		assertEquals(SignatureAlgorithm.RSA_SHA256, signatureValues.get(1).getAlgorithm());
 	}
 
 }
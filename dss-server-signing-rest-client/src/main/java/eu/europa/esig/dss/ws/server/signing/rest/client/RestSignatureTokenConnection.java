@@ -133,4 +133,72 @@ public interface RestSignatureTokenConnection extends Serializable {
 	@Path("sign-digest/{alias}/{mask}")
 	SignatureValueDTO signDigest(DigestDTO digest, @PathParam("mask") MaskGenerationFunction mgf, @PathParam("alias") String alias);
 
+	/**
+	 * This method signs a batch of {@code toBeSigned} data with the digest
+	 * {@code digestAlgorithm} and the given {@code alias}.
+	 * 
+	 * @param toBeSigned
+	 *                        The list of data that need to be signed
+	 * @param digestAlgorithm
+	 *                        The digest algorithm to be used before signing
+	 * @param alias
+	 *                        The key alias to be used
+	 * @return the signature values (in the same order as the {@code toBeSigned}
+	 *         list)
+	 */
+	@POST
+	@Path("sign-batch/{alias}/{algo}")
+	List<SignatureValueDTO> sign(List<ToBeSignedDTO> toBeSigned, @PathParam("algo") DigestAlgorithm digestAlgorithm, @PathParam("alias") String alias);
+
+	/**
+	 * This method signs a batch of {@code toBeSigned} data with the digest
+	 * {@code digestAlgorithm}, the mask {@code mgf} and the given {@code alias}.
+	 * 
+	 * @param toBeSigned
+	 *                        The list of data that need to be signed
+	 * @param digestAlgorithm
+	 *                        The digest algorithm to be used before signing
+	 * @param mgf
+	 *                        the mask generation function
+	 * @param alias
+	 *                        The key alias to be used
+	 * @return the signature values (in the same order as the {@code toBeSigned}
+	 *         list)
+	 */
+	@POST
+	@Path("sign-batch/{alias}/{digest-algo}/{mask}")
+	List<SignatureValueDTO> sign(List<ToBeSignedDTO> toBeSigned, @PathParam("digest-algo") DigestAlgorithm digestAlgorithm,
+			@PathParam("mask") MaskGenerationFunction mgf, @PathParam("alias") String alias);
+
+	/**
+	 * This method signs a batch of {@code digests} with the given {@code alias}.
+	 * 
+	 * @param digests
+	 *                The list of digested data that need to be signed
+	 * @param alias
+	 *                The key alias to be used
+	 * @return the signature values (in the same order as the {@code digests}
+	 *         list)
+	 */
+	@POST
+	@Path("sign-digests/{alias}")
+	List<SignatureValueDTO> signDigests(List<DigestDTO> digests, @PathParam("alias") String alias);
+
+	/**
+	 * This method signs a batch of {@code digests} with a mask {@code mgf} and the
+	 * given {@code alias}.
+	 * 
+	 * @param digests
+	 *                The list of digested data that need to be signed
+	 * @param mgf
+	 *                the mask generation function
+	 * @param alias
+	 *                The key alias to be used
+	 * @return the signature values (in the same order as the {@code digests}
+	 *         list)
+	 */
+	@POST
+	@Path("sign-digests/{alias}/{mask}")
+	List<SignatureValueDTO> signDigests(List<DigestDTO> digests, @PathParam("mask") MaskGenerationFunction mgf, @PathParam("alias") String alias);
+
 }
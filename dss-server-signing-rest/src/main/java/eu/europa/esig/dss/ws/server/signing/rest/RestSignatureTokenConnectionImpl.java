@@ -71,4 +71,25 @@ public class RestSignatureTokenConnectionImpl implements RestSignatureTokenConne
 		return token.signDigest(digest, mgf, alias);
 	}
 
+	@Override
+	public List<SignatureValueDTO> sign(List<ToBeSignedDTO> toBeSigned, DigestAlgorithm digestAlgorithm, String alias) throws DSSException {
+		return token.sign(toBeSigned, digestAlgorithm, alias);
+	}
+
+	@Override
+	public List<SignatureValueDTO> sign(List<ToBeSignedDTO> toBeSigned, DigestAlgorithm digestAlgorithm, MaskGenerationFunction mgf, String alias)
+			throws DSSException {
+		return token.sign(toBeSigned, digestAlgorithm, mgf, alias);
+	}
+
+	@Override
+	public List<SignatureValueDTO> signDigests(List<DigestDTO> digests, String alias) throws DSSException {
+		return token.signDigests(digests, alias);
+	}
+
+	@Override
+	public List<SignatureValueDTO> signDigests(List<DigestDTO> digests, MaskGenerationFunction mgf, String alias) throws DSSException {
+		return token.signDigests(digests, mgf, alias);
+	}
+
 }
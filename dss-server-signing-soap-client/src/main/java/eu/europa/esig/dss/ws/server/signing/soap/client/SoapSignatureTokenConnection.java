@@ -130,4 +130,75 @@ public interface SoapSignatureTokenConnection extends Serializable {
 	SignatureValueDTO signDigest(@WebParam(name = "digest") DigestDTO digest, @WebParam(name = "maskGenerationFunction") MaskGenerationFunction mgf,
 			@WebParam(name = "alias") String alias);
 
+	/**
+	 * This method signs a batch of {@code toBeSigned} data with the digest
+	 * {@code digestAlgorithm} and the given {@code alias}.
+	 * 
+	 * @param toBeSigned
+	 *                        The list of data that need to be signed
+	 * @param digestAlgorithm
+	 *                        The digest algorithm to be used before signing
+	 * @param alias
+	 *                        The key alias to be used
+	 * @return the signature values (in the same order as the {@code toBeSigned}
+	 *         list)
+	 */
+	@WebMethod(operationName = "signBatch")
+	@WebResult(name = "response")
+	List<SignatureValueDTO> sign(@WebParam(name = "toBeSigned") List<ToBeSignedDTO> toBeSigned,
+			@WebParam(name = "digestAlgorithm") DigestAlgorithm digestAlgorithm, @WebParam(name = "alias") String alias);
+
+	/**
+	 * This method signs a batch of {@code toBeSigned} data with the digest
+	 * {@code digestAlgorithm}, the mask {@code mgf} and the given {@code alias}.
+	 * 
+	 * @param toBeSigned
+	 *                        The list of data that need to be signed
+	 * @param digestAlgorithm
+	 *                        The digest algorithm to be used before signing
+	 * @param mgf
+	 *                        the mask generation function
+	 * @param alias
+	 *                        The key alias to be used
+	 * @return the signature values (in the same order as the {@code toBeSigned}
+	 *         list)
+	 */
+	@WebMethod(operationName = "signBatchWithMask")
+	@WebResult(name = "response")
+	List<SignatureValueDTO> sign(@WebParam(name = "toBeSigned") List<ToBeSignedDTO> toBeSigned,
+			@WebParam(name = "digestAlgorithm") DigestAlgorithm digestAlgorithm, @WebParam(name = "maskGenerationFunction") MaskGenerationFunction mgf,
+			@WebParam(name = "alias") String alias);
+
+	/**
+	 * This method signs a batch of {@code digests} with the given {@code alias}.
+	 * 
+	 * @param digests
+	 *                The list of digested data that need to be signed
+	 * @param alias
+	 *                The key alias to be used
+	 * @return the signature values (in the same order as the {@code digests}
+	 *         list)
+	 */
+	@WebMethod(operationName = "signDigests")
+	@WebResult(name = "response")
+	List<SignatureValueDTO> signDigests(@WebParam(name = "digests") List<DigestDTO> digests, @WebParam(name = "alias") String alias);
+
+	/**
+	 * This method signs a batch of {@code digests} with a mask {@code mgf} and the
+	 * given {@code alias}.
+	 * 
+	 * @param digests
+	 *                The list of digested data that need to be signed
+	 * @param mgf
+	 *                the mask generation function
+	 * @param alias
+	 *                The key alias to be used
+	 * @return the signature values (in the same order as the {@code digests}
+	 *         list)
+	 */
+	@WebMethod(operationName = "signDigestsWithMask")
+	@WebResult(name = "response")
+	List<SignatureValueDTO> signDigests(@WebParam(name = "digests") List<DigestDTO> digests,
+			@WebParam(name = "maskGenerationFunction") MaskGenerationFunction mgf, @WebParam(name = "alias") String alias);
+
 }
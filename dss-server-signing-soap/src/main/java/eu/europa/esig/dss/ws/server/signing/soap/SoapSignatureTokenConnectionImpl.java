@@ -70,4 +70,24 @@ public class SoapSignatureTokenConnectionImpl implements SoapSignatureTokenConne
 		return token.signDigest(digest, mgf, alias);
 	}
 
+	@Override
+	public List<SignatureValueDTO> sign(List<ToBeSignedDTO> toBeSigned, DigestAlgorithm digestAlgorithm, String alias) {
+		return token.sign(toBeSigned, digestAlgorithm, alias);
+	}
+
+	@Override
+	public List<SignatureValueDTO> sign(List<ToBeSignedDTO> toBeSigned, DigestAlgorithm digestAlgorithm, MaskGenerationFunction mgf, String alias) {
+		return token.sign(toBeSigned, digestAlgorithm, mgf, alias);
+	}
+
+	@Override
+	public List<SignatureValueDTO> signDigests(List<DigestDTO> digests, String alias) {
+		return token.signDigests(digests, alias);
+	}
+
+	@Override
+	public List<SignatureValueDTO> signDigests(List<DigestDTO> digests, MaskGenerationFunction mgf, String alias) {
+		return token.signDigests(digests, mgf, alias);
+	}
+
 }
@@ -0,0 +1,68 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.crl;
+
+import java.util.Collections;
+import java.util.List;
+
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSRevocationUtils;
+import eu.europa.esig.dss.spi.x509.revocation.MemoryRevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+
+/**
+ * CRLSource that keeps the retrieved CRLs in memory. A cached CRL is shared by
+ * all the certificates which refer to the same distribution point.
+ * 
+ * Usage : {@code memoryCacheCRLSource.setProxySource(onlineCRLSource)}
+ */
+public class MemoryCacheCRLSource extends MemoryRevocationSource<CRLToken> implements CRLSource {
+
+	private static final long serialVersionUID = -4917376457476617498L;
+
+	/**
+	 * The default constructor for MemoryCacheCRLSource.
+	 */
+	public MemoryCacheCRLSource() {
+	}
+
+	/**
+	 * Returns a revocation token key
+	 * @param certificateToken {@link CertificateToken}
+	 * @return revocation token key {@link String}
+	 */
+	@Override
+	public List<String> initRevocationTokenKey(CertificateToken certificateToken) {
+		return DSSRevocationUtils.getCRLRevocationTokenKeys(certificateToken);
+	}
+
+	@Override
+	protected CRLToken buildRevocationToken(CRLToken cachedToken, CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		CRLToken crlToken = new CRLToken(certificateToken, cachedToken.getCrlValidity());
+		crlToken.setSourceURL(cachedToken.getSourceURL());
+		crlToken.setRevocationTokenKey(cachedToken.getRevocationTokenKey());
+		crlToken.setOrigins(Collections.singleton(RevocationOrigin.CACHED));
+		return crlToken;
+	}
+
+}
@@ -23,7 +23,13 @@ package eu.europa.esig.dss.service.crl;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +47,7 @@ import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.http.Protocol;
 import eu.europa.esig.dss.spi.x509.revocation.OnlineRevocationSource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceBatchSupport;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
 import eu.europa.esig.dss.utils.Utils;
@@ -53,8 +60,13 @@ import eu.europa.esig.dss.utils.Utils;
  * provided. For LDAP kind of URLs an internal implementation using
  * apache-ldap-api is provided.
  *
+ * When the revocation data of several certificates is requested at once, each
+ * distinct CRL is downloaded only once and the downloads can be executed
+ * concurrently (see {@code #setExecutorService}).
+ *
  */
-public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrlsSupport<CRLToken>, OnlineRevocationSource<CRLToken> {
+public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrlsSupport<CRLToken>, OnlineRevocationSource<CRLToken>,
+		RevocationSourceBatchSupport<CRLToken> {
 	
 	private static final long serialVersionUID = 6912729291417315212L;
 
@@ -72,6 +84,11 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 	 */
 	private DataLoader dataLoader;
 
+	/**
+	 * The optional executor used to download the distinct CRLs concurrently.
+	 */
+	private transient ExecutorService executorService;
+
 	/**
 	 * The default constructor. A {@code CommonsDataLoader is created}.
 	 */
@@ -110,6 +127,19 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 		this.dataLoader = dataLoader;
 	}
 
+	/**
+	 * Set the {@code ExecutorService} used to download the distinct CRLs
+	 * concurrently when the revocation data of several certificates is
+	 * requested. If null (by default), the CRLs are downloaded one after the
+	 * other. The executor is not shut down by this class.
+	 *
+	 * @param executorService
+	 *            the {@code ExecutorService} to use
+	 */
+	public void setExecutorService(final ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
 	@Override
 	public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
 		return getRevocationToken(certificateToken, issuerCertificateToken, Collections.<String>emptyList());
@@ -142,6 +172,66 @@ public class OnlineCRLSource implements CRLSource, RevocationSourceAlternateUrls
 		if (dataAndUrl == null) {
 			return null;
 		}
+		return buildCRLToken(certificateToken, issuerToken, dataAndUrl);
+	}
+
+	@Override
+	public Map<CertificateToken, CRLToken> getRevocationTokens(final Map<CertificateToken, CertificateToken> certificatesAndIssuers) {
+		final Map<String, List<String>> distinctCrlUrls = new LinkedHashMap<String, List<String>>();
+		final Map<CertificateToken, String> crlKeys = new LinkedHashMap<CertificateToken, String>();
+		for (Entry<CertificateToken, CertificateToken> entry : certificatesAndIssuers.entrySet()) {
+			if (entry.getKey() == null || entry.getValue() == null) {
+				continue;
+			}
+			final List<String> crlUrls = DSSASN1Utils.getCrlUrls(entry.getKey());
+			if (Utils.isCollectionEmpty(crlUrls)) {
+				LOG.debug("No CRL location found for {}", entry.getKey().getDSSIdAsString());
+				continue;
+			}
+			prioritize(crlUrls);
+			final String crlKey = Utils.joinStrings(crlUrls, " ");
+			distinctCrlUrls.put(crlKey, crlUrls);
+			crlKeys.put(entry.getKey(), crlKey);
+		}
+
+		final Map<String, Future<DataLoader.DataAndUrl>> futures = new LinkedHashMap<String, Future<DataLoader.DataAndUrl>>();
+		final Map<String, DataLoader.DataAndUrl> downloads = new LinkedHashMap<String, DataLoader.DataAndUrl>();
+		for (Entry<String, List<String>> entry : distinctCrlUrls.entrySet()) {
+			if (executorService != null) {
+				futures.put(entry.getKey(), executorService.submit(() -> downloadCrl(entry.getValue())));
+			} else {
+				downloads.put(entry.getKey(), downloadCrl(entry.getValue()));
+			}
+		}
+		for (Entry<String, Future<DataLoader.DataAndUrl>> entry : futures.entrySet()) {
+			try {
+				downloads.put(entry.getKey(), entry.getValue().get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DSSException("Interrupted during the download of the CRLs", e);
+			} catch (ExecutionException e) {
+				LOG.warn("Unable to download CRL from URLs {} : {}", distinctCrlUrls.get(entry.getKey()), e.getCause().getMessage());
+			}
+		}
+
+		final Map<CertificateToken, CRLToken> result = new LinkedHashMap<CertificateToken, CRLToken>();
+		for (Entry<CertificateToken, String> entry : crlKeys.entrySet()) {
+			final DataLoader.DataAndUrl dataAndUrl = downloads.get(entry.getValue());
+			if (dataAndUrl != null) {
+				try {
+					final CRLToken crlToken = buildCRLToken(entry.getKey(), certificatesAndIssuers.get(entry.getKey()), dataAndUrl);
+					if (crlToken != null) {
+						result.put(entry.getKey(), crlToken);
+					}
+				} catch (DSSException e) {
+					LOG.warn("Unable to use the CRL (url:{}) for {} : {}", dataAndUrl.getUrlString(), entry.getKey().getDSSIdAsString(), e.getMessage());
+				}
+			}
+		}
+		return result;
+	}
+
+	private CRLToken buildCRLToken(final CertificateToken certificateToken, final CertificateToken issuerToken, final DataLoader.DataAndUrl dataAndUrl) {
 		try {
 			CRLBinary crlBinary = new CRLBinary(dataAndUrl.getData());
 			final CRLValidity crlValidity = CRLUtils.buildCRLValidity(crlBinary, issuerToken);
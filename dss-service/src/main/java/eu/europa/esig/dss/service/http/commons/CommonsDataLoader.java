@@ -36,6 +36,7 @@ import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
 
 import javax.naming.Context;
 import javax.naming.directory.Attribute;
@@ -45,9 +46,12 @@ import javax.naming.directory.InitialDirContext;
 import javax.net.ssl.HostnameVerifier;
 
 import org.apache.http.HttpEntity;
+import org.apache.http.Header;
 import org.apache.http.HttpException;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 import org.apache.http.StatusLine;
 import org.apache.http.auth.AuthScope;
@@ -63,7 +67,7 @@ import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.config.RegistryBuilder;
-import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.routing.HttpRoutePlanner;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
@@ -76,10 +80,13 @@ import org.apache.http.impl.auth.BasicScheme;
 import org.apache.http.impl.client.BasicAuthCache;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.client.IdleConnectionEvictor;
 import org.apache.http.impl.conn.DefaultProxyRoutePlanner;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.util.EntityUtils;
@@ -90,7 +97,7 @@ import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.service.http.proxy.ProxyConfig;
 import eu.europa.esig.dss.service.http.proxy.ProxyProperties;
 import eu.europa.esig.dss.spi.DSSUtils;
-import eu.europa.esig.dss.spi.client.http.DataLoader;
+import eu.europa.esig.dss.spi.client.http.ConditionalDataLoader;
 import eu.europa.esig.dss.spi.client.http.Protocol;
 import eu.europa.esig.dss.utils.Utils;
 
@@ -102,7 +109,7 @@ import eu.europa.esig.dss.utils.Utils;
  * proxy management through {@code ProxyPreferenceManager}. The authentication
  * is also supported.
  */
-public class CommonsDataLoader implements DataLoader {
+public class CommonsDataLoader implements ConditionalDataLoader {
 
 	private static final long serialVersionUID = -805432648564425522L;
 
@@ -116,6 +123,10 @@ public class CommonsDataLoader implements DataLoader {
 
 	private static final int CONNECTIONS_MAX_PER_ROUTE = 2;
 
+	private static final long CONNECTION_KEEP_ALIVE = 60000;
+
+	private static final long CONNECTION_IDLE_TIMEOUT = 60000;
+
 	private static final String CONTENT_TYPE = "Content-Type";
 
 	private static final String DEFAULT_SSL_PROTOCOL = "TLSv1.2";
@@ -131,10 +142,28 @@ public class CommonsDataLoader implements DataLoader {
 	private int connectionsMaxTotal = CONNECTIONS_MAX_TOTAL;
 	private int connectionsMaxPerRoute = CONNECTIONS_MAX_PER_ROUTE;
 	private boolean redirectsEnabled = true;
+	private boolean connectionPooling = false;
+	private long connectionKeepAlive = CONNECTION_KEEP_ALIVE;
+	private long connectionIdleTimeout = CONNECTION_IDLE_TIMEOUT;
 	private List<Integer> acceptedHttpStatus = ACCEPTED_HTTP_STATUS;
 
 	private final Map<HttpHost, UsernamePasswordCredentials> authenticationMap = new HashMap<HttpHost, UsernamePasswordCredentials>();
 
+	private final Map<HttpHost, Integer> connectionsMaxPerHost = new HashMap<HttpHost, Integer>();
+
+	/**
+	 * The long-lived connection manager shared by the pooled clients (only used
+	 * with {@code connectionPooling})
+	 */
+	private transient PoolingHttpClientConnectionManager pooledConnectionManager;
+
+	private transient IdleConnectionEvictor idleConnectionEvictor;
+
+	/**
+	 * The pooled clients by protocol (the proxy configuration depends on it)
+	 */
+	private transient Map<String, CloseableHttpClient> pooledHttpClients;
+
 	/**
 	 * Used SSL protocol
 	 */
@@ -200,7 +229,7 @@ public class CommonsDataLoader implements DataLoader {
 		this.contentType = contentType;
 	}
 
-	private HttpClientConnectionManager getConnectionManager() {
+	private PoolingHttpClientConnectionManager getConnectionManager() {
 
 		RegistryBuilder<ConnectionSocketFactory> socketFactoryRegistryBuilder = RegistryBuilder.create();
 		socketFactoryRegistryBuilder = setConnectionManagerSchemeHttp(socketFactoryRegistryBuilder);
@@ -210,6 +239,11 @@ public class CommonsDataLoader implements DataLoader {
 
 		connectionManager.setMaxTotal(getConnectionsMaxTotal());
 		connectionManager.setDefaultMaxPerRoute(getConnectionsMaxPerRoute());
+		for (final Map.Entry<HttpHost, Integer> entry : connectionsMaxPerHost.entrySet()) {
+			final HttpHost httpHost = entry.getKey();
+			final boolean secure = Protocol.isHttps(httpHost.getSchemeName());
+			connectionManager.setMaxPerRoute(new HttpRoute(httpHost, null, secure), entry.getValue());
+		}
 
 		LOG.debug("PoolingHttpClientConnectionManager: max total: {}", connectionManager.getMaxTotal());
 		LOG.debug("PoolingHttpClientConnectionManager: max per route: {}", connectionManager.getDefaultMaxPerRoute());
@@ -279,6 +313,44 @@ public class CommonsDataLoader implements DataLoader {
 	}
 
 	protected synchronized CloseableHttpClient getHttpClient(final String url) {
+		if (connectionPooling) {
+			return getPooledHttpClient(url);
+		}
+		HttpClientBuilder httpClientBuilder = getConfiguredHttpClientBuilder(url);
+		httpClientBuilder.setConnectionManager(getConnectionManager());
+		return httpClientBuilder.build();
+	}
+
+	private CloseableHttpClient getPooledHttpClient(final String url) {
+		if (pooledConnectionManager == null) {
+			pooledConnectionManager = getConnectionManager();
+			pooledHttpClients = new HashMap<String, CloseableHttpClient>();
+			if (connectionIdleTimeout > 0) {
+				idleConnectionEvictor = new IdleConnectionEvictor(pooledConnectionManager, connectionIdleTimeout, TimeUnit.MILLISECONDS);
+				idleConnectionEvictor.start();
+			}
+		}
+
+		final String protocol = getURL(url).getProtocol();
+		CloseableHttpClient client = pooledHttpClients.get(protocol);
+		if (client == null) {
+			HttpClientBuilder httpClientBuilder = getConfiguredHttpClientBuilder(url);
+			httpClientBuilder.setConnectionManager(pooledConnectionManager);
+			httpClientBuilder.setConnectionManagerShared(true);
+			httpClientBuilder.setKeepAliveStrategy(new ConnectionKeepAliveStrategy() {
+				@Override
+				public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+					final long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+					return duration > 0 ? duration : connectionKeepAlive;
+				}
+			});
+			client = httpClientBuilder.build();
+			pooledHttpClients.put(protocol, client);
+		}
+		return client;
+	}
+
+	private HttpClientBuilder getConfiguredHttpClientBuilder(final String url) {
 		HttpClientBuilder httpClientBuilder = getHttpClientBuilder();
 
 		httpClientBuilder = configCredentials(httpClientBuilder, url);
@@ -288,14 +360,57 @@ public class CommonsDataLoader implements DataLoader {
 		custom.setConnectTimeout(timeoutConnection);
 		custom.setRedirectsEnabled(redirectsEnabled);
 
+		if (connectionPooling) {
+			// the connections of the shared pool can be all leased
+			custom.setConnectionRequestTimeout(timeoutConnection);
+		}
+
 		final RequestConfig requestConfig = custom.build();
 		httpClientBuilder = httpClientBuilder.setDefaultRequestConfig(requestConfig);
-		httpClientBuilder.setConnectionManager(getConnectionManager());
 
 		httpClientBuilder.setRetryHandler(retryHandler);
 		httpClientBuilder.setServiceUnavailableRetryStrategy(serviceUnavailableRetryStrategy);
 
-		return httpClientBuilder.build();
+		return httpClientBuilder;
+	}
+
+	/**
+	 * Returns the statistics of the shared connection pool
+	 *
+	 * @return the {@code PoolStats} or null if the connection pooling is not
+	 *         enabled or if no request has been executed yet
+	 */
+	public synchronized PoolStats getConnectionPoolStats() {
+		if (pooledConnectionManager == null) {
+			return null;
+		}
+		return pooledConnectionManager.getTotalStats();
+	}
+
+	/**
+	 * Closes the pooled clients and their connections. A new pool is created with
+	 * the current configuration on the next request.
+	 */
+	public synchronized void closeConnectionPool() {
+		if (pooledConnectionManager == null) {
+			return;
+		}
+		for (CloseableHttpClient client : pooledHttpClients.values()) {
+			Utils.closeQuietly(client);
+		}
+		if (idleConnectionEvictor != null) {
+			idleConnectionEvictor.shutdown();
+			idleConnectionEvictor = null;
+		}
+		pooledConnectionManager.shutdown();
+		pooledConnectionManager = null;
+		pooledHttpClients = null;
+	}
+
+	private void closeClient(final CloseableHttpClient client) {
+		if (!connectionPooling) {
+			Utils.closeQuietly(client);
+		}
 	}
 
 	/**
@@ -558,11 +673,83 @@ public class CommonsDataLoader implements DataLoader {
 					Utils.closeQuietly(httpResponse);
 				}
 			} finally {
-				Utils.closeQuietly(client);
+				closeClient(client);
 			}
 		}
 	}
 
+	@Override
+	public ConditionalResponse conditionalGet(final String url, final String eTag, final String lastModified) {
+		if (Protocol.isHttpUrl(url)) {
+			return httpConditionalGet(url, eTag, lastModified);
+		}
+		return new ConditionalResponse(get(url), false, null, null);
+	}
+
+	/**
+	 * This method retrieves data using HTTP or HTTPS protocol and a conditional 'get' method.
+	 *
+	 * @param url
+	 *            to access
+	 * @param eTag
+	 *            the previous ETag to be sent in the If-None-Match header (can be null)
+	 * @param lastModified
+	 *            the previous Last-Modified value to be sent in the If-Modified-Since header (can be null)
+	 * @return the {@code ConditionalResponse}
+	 */
+	protected ConditionalResponse httpConditionalGet(final String url, final String eTag, final String lastModified) {
+
+		HttpGet httpRequest = null;
+		CloseableHttpResponse httpResponse = null;
+		CloseableHttpClient client = null;
+		try {
+
+			final URI uri = new URI(url.trim());
+			httpRequest = new HttpGet(uri);
+			if (contentType != null) {
+				httpRequest.setHeader(CONTENT_TYPE, contentType);
+			}
+			if (eTag != null) {
+				httpRequest.setHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+			}
+			if (lastModified != null) {
+				httpRequest.setHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+			}
+
+			client = getHttpClient(url);
+			httpResponse = getHttpResponse(client, httpRequest);
+
+			final String responseETag = getHeaderValue(httpResponse, HttpHeaders.ETAG);
+			final String responseLastModified = getHeaderValue(httpResponse, HttpHeaders.LAST_MODIFIED);
+			if (httpResponse.getStatusLine().getStatusCode() == HttpStatus.SC_NOT_MODIFIED) {
+				LOG.debug("The content of url '{}' has not been modified", url);
+				return new ConditionalResponse(null, true, responseETag != null ? responseETag : eTag,
+						responseLastModified != null ? responseLastModified : lastModified);
+			}
+			return new ConditionalResponse(readHttpResponse(httpResponse), false, responseETag, responseLastModified);
+
+		} catch (URISyntaxException | IOException e) {
+			throw new DSSException("Unable to process GET call for url '" + url + "'", e);
+		} finally {
+			try {
+				if (httpRequest != null) {
+					httpRequest.releaseConnection();
+				}
+				if (httpResponse != null) {
+					EntityUtils.consumeQuietly(httpResponse.getEntity());
+					Utils.closeQuietly(httpResponse);
+				}
+			} finally {
+				closeClient(client);
+			}
+		}
+	}
+
+	private String getHeaderValue(final CloseableHttpResponse httpResponse, final String headerName) {
+		final Header header = httpResponse.getFirstHeader(headerName);
+		return header != null ? header.getValue() : null;
+	}
+
 	@Override
 	public byte[] post(final String url, final byte[] content) {
 
@@ -606,7 +793,7 @@ public class CommonsDataLoader implements DataLoader {
 					Utils.closeQuietly(httpResponse);
 				}
 			} finally {
-				Utils.closeQuietly(client);
+				closeClient(client);
 			}
 		}
 	}
@@ -729,6 +916,95 @@ public class CommonsDataLoader implements DataLoader {
 		this.connectionsMaxPerRoute = connectionsMaxPerRoute;
 	}
 
+	/**
+	 * Defines the maximum number of connections for the given host. Used when the
+	 * {@code HttpClient} is created.
+	 *
+	 * @param host
+	 *            the host name
+	 * @param port
+	 *            the port (-1 for the default port of the scheme)
+	 * @param scheme
+	 *            the scheme (http or https)
+	 * @param connectionsMax
+	 *            maximum number of connections for this route
+	 * @return this for fluent addConnectionsMaxPerRoute
+	 */
+	public CommonsDataLoader addConnectionsMaxPerRoute(final String host, final int port, final String scheme, final int connectionsMax) {
+		int routePort = port;
+		if (routePort <= 0) {
+			routePort = Protocol.isHttps(scheme) ? 443 : 80;
+		}
+		connectionsMaxPerHost.put(new HttpHost(host, routePort, scheme), connectionsMax);
+		return this;
+	}
+
+	/**
+	 * Used when the {@code HttpClient} is created.
+	 *
+	 * @return true if a long-lived connection pool is shared between the requests
+	 */
+	public boolean isConnectionPooling() {
+		return connectionPooling;
+	}
+
+	/**
+	 * Defines if the connections are kept in a long-lived pool shared between the
+	 * requests (default : false). When enabled, the same clients are reused, the
+	 * connections are kept alive and closed after
+	 * {@link #setConnectionIdleTimeout(long)}. The wait for a free connection of
+	 * the pool is limited by the connection timeout. The configuration must be done
+	 * before the first request or followed by {@link #closeConnectionPool()}.
+	 *
+	 * @param connectionPooling
+	 *            true to share the connections between the requests
+	 */
+	public void setConnectionPooling(boolean connectionPooling) {
+		this.connectionPooling = connectionPooling;
+	}
+
+	/**
+	 * Used when the {@code HttpClient} is created.
+	 *
+	 * @return the keep-alive duration when the server does not define it (millis)
+	 */
+	public long getConnectionKeepAlive() {
+		return connectionKeepAlive;
+	}
+
+	/**
+	 * Used when the {@code HttpClient} is created (only with the connection
+	 * pooling).
+	 *
+	 * @param connectionKeepAlive
+	 *            the keep-alive duration when the server does not define it
+	 *            (millis)
+	 */
+	public void setConnectionKeepAlive(long connectionKeepAlive) {
+		this.connectionKeepAlive = connectionKeepAlive;
+	}
+
+	/**
+	 * Used when the {@code HttpClient} is created.
+	 *
+	 * @return the time after which an idle pooled connection is closed (millis)
+	 */
+	public long getConnectionIdleTimeout() {
+		return connectionIdleTimeout;
+	}
+
+	/**
+	 * Used when the {@code HttpClient} is created (only with the connection
+	 * pooling).
+	 *
+	 * @param connectionIdleTimeout
+	 *            the time after which an idle pooled connection is closed (millis,
+	 *            0 to disable the eviction)
+	 */
+	public void setConnectionIdleTimeout(long connectionIdleTimeout) {
+		this.connectionIdleTimeout = connectionIdleTimeout;
+	}
+
 	/**
 	 * Used when the {@code HttpClient} is created.
 	 *
@@ -0,0 +1,79 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.ocsp;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.bouncycastle.cert.ocsp.OCSPException;
+
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSRevocationUtils;
+import eu.europa.esig.dss.spi.x509.revocation.MemoryRevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationException;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPSource;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPTokenBuilder;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPTokenUtils;
+
+/**
+ * OCSPSource that keeps the retrieved OCSP responses in memory.
+ * 
+ * Usage : {@code memoryCacheOCSPSource.setProxySource(onlineOCSPSource)}
+ */
+public class MemoryCacheOCSPSource extends MemoryRevocationSource<OCSPToken> implements OCSPSource {
+
+	private static final long serialVersionUID = 6543087283543564227L;
+
+	/**
+	 * The default constructor for MemoryCacheOCSPSource.
+	 */
+	public MemoryCacheOCSPSource() {
+	}
+
+	/**
+	 * Returns a revocation token key
+	 * @param certificateToken {@link CertificateToken}
+	 * @return revocation token key {@link String}
+	 */
+	@Override
+	public final List<String> initRevocationTokenKey(CertificateToken certificateToken) {
+		return DSSRevocationUtils.getOcspRevocationTokenKeys(certificateToken);
+	}
+
+	@Override
+	protected OCSPToken buildRevocationToken(OCSPToken cachedToken, CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		try {
+			OCSPTokenBuilder ocspTokenBuilder = new OCSPTokenBuilder(cachedToken.getBasicOCSPResp(), certificateToken, issuerCertificateToken);
+			ocspTokenBuilder.setSourceURL(cachedToken.getSourceURL());
+			ocspTokenBuilder.setAvailable(cachedToken.isAvailable());
+			ocspTokenBuilder.setOCSPResponseStatus(cachedToken.getResponseStatus());
+			OCSPToken ocspToken = ocspTokenBuilder.build();
+			ocspToken.setOrigins(Collections.singleton(RevocationOrigin.CACHED));
+			OCSPTokenUtils.checkTokenValidity(ocspToken, certificateToken, issuerCertificateToken);
+			return ocspToken;
+		} catch (OCSPException e) {
+			throw new RevocationException("An error occurred during an attempt to obtain a revocation token", e);
+		}
+	}
+
+}
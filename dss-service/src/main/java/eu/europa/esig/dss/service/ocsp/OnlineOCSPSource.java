@@ -22,8 +22,17 @@ package eu.europa.esig.dss.service.ocsp;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.bouncycastle.asn1.DEROctetString;
 import org.bouncycastle.asn1.ocsp.OCSPObjectIdentifiers;
@@ -47,6 +56,7 @@ import eu.europa.esig.dss.spi.DSSRevocationUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.x509.revocation.OnlineRevocationSource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceBatchSupport;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPRespStatus;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPSource;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
@@ -57,9 +67,16 @@ import eu.europa.esig.dss.utils.Utils;
 /**
  * Online OCSP repository. This implementation will contact the OCSP Responder
  * to retrieve the OCSP response.
+ *
+ * When the revocation data of several certificates is requested at once, the
+ * certificates sharing the same OCSP responder are checked with a single
+ * request containing several CertIDs (RFC 6960, section 4.1.1). The
+ * certificates which are not covered by the response (responder refusing the
+ * multiple requests,...) are checked one by one.
  */
 @SuppressWarnings("serial")
-public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUrlsSupport<OCSPToken>, OnlineRevocationSource<OCSPToken> {
+public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUrlsSupport<OCSPToken>, OnlineRevocationSource<OCSPToken>,
+		RevocationSourceBatchSupport<OCSPToken> {
 
 	private static final Logger LOG = LoggerFactory.getLogger(OnlineOCSPSource.class);
 
@@ -73,6 +90,12 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 	 */
 	private DataLoader dataLoader;
 
+	/**
+	 * The optional executor used to contact the different OCSP responders
+	 * concurrently.
+	 */
+	private transient ExecutorService executorService;
+
 	/**
 	 * Create an OCSP source The default constructor for OnlineOCSPSource. The
 	 * default {@code OCSPDataLoader} is set. It is possible to change it with
@@ -98,6 +121,19 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 		this.nonceSource = nonceSource;
 	}
 
+	/**
+	 * Set the {@code ExecutorService} used to contact the different OCSP
+	 * responders concurrently when the revocation data of several certificates
+	 * is requested. If null (by default), the responders are contacted one after
+	 * the other. The executor is not shut down by this class.
+	 *
+	 * @param executorService
+	 *            the {@code ExecutorService} to use
+	 */
+	public void setExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
 	@Override
 	public OCSPToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
 		return getRevocationToken(certificateToken, issuerCertificateToken, Collections.<String>emptyList());
@@ -130,7 +166,7 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 			nonce = nonceSource.getNonce();
 		}
 
-		final byte[] content = buildOCSPRequest(certId, nonce);
+		final byte[] content = buildOCSPRequest(Collections.singletonList(certId), nonce);
 
 		int nbTries = ocspAccessLocations.size();
 		for (String ocspAccessLocation : ocspAccessLocations) {
@@ -164,10 +200,107 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 		return null;
 	}
 
-	private byte[] buildOCSPRequest(final CertificateID certId, BigInteger nonce) throws DSSException {
+	@Override
+	public Map<CertificateToken, OCSPToken> getRevocationTokens(Map<CertificateToken, CertificateToken> certificatesAndIssuers) {
+		if (dataLoader == null) {
+			throw new NullPointerException("DataLoader is not provided !");
+		}
+
+		final Map<String, Map<CertificateToken, CertificateToken>> certificatesByUrl = new LinkedHashMap<String, Map<CertificateToken, CertificateToken>>();
+		for (Entry<CertificateToken, CertificateToken> entry : certificatesAndIssuers.entrySet()) {
+			final List<String> ocspAccessLocations = DSSASN1Utils.getOCSPAccessLocations(entry.getKey());
+			if (Utils.isCollectionEmpty(ocspAccessLocations)) {
+				LOG.debug("No OCSP location found for {}", entry.getKey().getDSSIdAsString());
+				continue;
+			}
+			certificatesByUrl.computeIfAbsent(ocspAccessLocations.get(0), k -> new LinkedHashMap<CertificateToken, CertificateToken>())
+					.put(entry.getKey(), entry.getValue());
+		}
+
+		final Map<CertificateToken, OCSPToken> result = new ConcurrentHashMap<CertificateToken, OCSPToken>();
+		final List<Future<?>> futures = new ArrayList<Future<?>>();
+		for (Entry<String, Map<CertificateToken, CertificateToken>> entry : certificatesByUrl.entrySet()) {
+			if (executorService != null) {
+				futures.add(executorService.submit(() -> result.putAll(getRevocationTokens(entry.getKey(), entry.getValue()))));
+			} else {
+				result.putAll(getRevocationTokens(entry.getKey(), entry.getValue()));
+			}
+		}
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DSSException("Interrupted during the retrieval of the OCSP responses", e);
+			} catch (ExecutionException e) {
+				LOG.warn("Unable to retrieve the OCSP responses : {}", e.getCause().getMessage());
+			}
+		}
+		return result;
+	}
+
+	private Map<CertificateToken, OCSPToken> getRevocationTokens(final String ocspAccessLocation,
+			final Map<CertificateToken, CertificateToken> certificatesAndIssuers) {
+		final Map<CertificateToken, OCSPToken> result = new LinkedHashMap<CertificateToken, OCSPToken>();
+		if (certificatesAndIssuers.size() > 1) {
+			final Map<CertificateToken, CertificateID> certIds = new LinkedHashMap<CertificateToken, CertificateID>();
+			for (Entry<CertificateToken, CertificateToken> entry : certificatesAndIssuers.entrySet()) {
+				certIds.put(entry.getKey(), DSSRevocationUtils.getOCSPCertificateID(entry.getKey(), entry.getValue()));
+			}
+
+			BigInteger nonce = null;
+			if (nonceSource != null) {
+				nonce = nonceSource.getNonce();
+			}
+
+			try {
+				final byte[] ocspRespBytes = dataLoader.post(ocspAccessLocation, buildOCSPRequest(certIds.values(), nonce));
+				if (!Utils.isArrayEmpty(ocspRespBytes)) {
+					final OCSPResp ocspResp = new OCSPResp(ocspRespBytes);
+					OCSPRespStatus status = OCSPRespStatus.fromInt(ocspResp.getStatus());
+					if (OCSPRespStatus.SUCCESSFUL.equals(status)) {
+						for (Entry<CertificateToken, CertificateToken> entry : certificatesAndIssuers.entrySet()) {
+							OCSPTokenBuilder ocspTokenBuilder = new OCSPTokenBuilder(ocspResp, entry.getKey(), entry.getValue());
+							ocspTokenBuilder.setNonce(nonce);
+							ocspTokenBuilder.setSourceURL(ocspAccessLocation);
+							OCSPToken ocspToken = ocspTokenBuilder.build();
+							// the responder may only answer a part of the requests
+							if (ocspToken.getThisUpdate() != null) {
+								OCSPTokenUtils.checkTokenValidity(ocspToken, entry.getKey(), entry.getValue());
+								ocspToken.setOrigins(Collections.singleton(RevocationOrigin.EXTERNAL));
+								result.put(entry.getKey(), ocspToken);
+							}
+						}
+					} else {
+						LOG.warn("OCSP Response status with URL '{}' for {} certificates : {}", ocspAccessLocation, certIds.size(), status);
+					}
+				}
+			} catch (Exception e) {
+				LOG.warn("Unable to retrieve OCSP response for {} certificates with URL '{}' : {}", certIds.size(), ocspAccessLocation, e.getMessage());
+			}
+		}
+
+		for (Entry<CertificateToken, CertificateToken> entry : certificatesAndIssuers.entrySet()) {
+			if (!result.containsKey(entry.getKey())) {
+				try {
+					final OCSPToken ocspToken = getRevocationToken(entry.getKey(), entry.getValue());
+					if (ocspToken != null) {
+						result.put(entry.getKey(), ocspToken);
+					}
+				} catch (DSSException e) {
+					LOG.warn("Unable to retrieve OCSP response for {} : {}", entry.getKey().getDSSIdAsString(), e.getMessage());
+				}
+			}
+		}
+		return result;
+	}
+
+	private byte[] buildOCSPRequest(final Collection<CertificateID> certIds, BigInteger nonce) throws DSSException {
 		try {
 			final OCSPReqBuilder ocspReqBuilder = new OCSPReqBuilder();
-			ocspReqBuilder.addRequest(certId);
+			for (CertificateID certId : certIds) {
+				ocspReqBuilder.addRequest(certId);
+			}
 			/*
 			 * The nonce extension is used to bind a request to a response to
 			 * prevent replay attacks. RFC 6960 (OCSP) section 4.1.2 such
@@ -0,0 +1,258 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.crl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLUtils;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSRevocationUtils;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.DataLoader;
+import eu.europa.esig.dss.spi.x509.revocation.OnlineRevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceBatchSupport;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+
+public class MemoryCacheCRLSourceTest {
+
+	private static final String CRL_URL = "http://crl.eid.belgium.be/belgium2.crl";
+
+	private static final long ONE_DAY = 24 * 60 * 60 * 1000L;
+
+	private CertificateToken certificateToken = DSSUtils.loadCertificate(new File("src/test/resources/citizen_ca.crt"));
+
+	private CertificateToken caToken = DSSUtils.loadCertificate(new File("src/test/resources/belgiumrs2.crt"));
+
+	private MockCRLSource onlineCRLSource;
+
+	private MemoryCacheCRLSource crlSource;
+
+	@Before
+	public void init() {
+		onlineCRLSource = new MockCRLSource();
+		crlSource = new MemoryCacheCRLSource();
+		crlSource.setProxySource(onlineCRLSource);
+	}
+
+	@Test
+	public void test() {
+		onlineCRLSource.nextUpdate = new Date(System.currentTimeMillis() + ONE_DAY);
+
+		RevocationToken revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getFirstOrigin());
+		assertEquals(1, onlineCRLSource.calls);
+		assertEquals(1, crlSource.size());
+		assertEquals(0, crlSource.getHitCount());
+		assertEquals(1, crlSource.getMissCount());
+
+		RevocationToken savedRevocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(savedRevocationToken);
+		assertEquals(RevocationOrigin.CACHED, savedRevocationToken.getFirstOrigin());
+		assertEquals(revocationToken.getRevocationTokenKey(), savedRevocationToken.getRevocationTokenKey());
+		assertEquals(revocationToken.getSourceURL(), savedRevocationToken.getSourceURL());
+		assertEquals(revocationToken.getNextUpdate(), savedRevocationToken.getNextUpdate());
+		assertEquals(revocationToken.getStatus(), savedRevocationToken.getStatus());
+		assertEquals(1, onlineCRLSource.calls);
+		assertEquals(1, crlSource.getHitCount());
+
+		RevocationToken forceRefresh = crlSource.getRevocationToken(certificateToken, caToken, true);
+		assertEquals(RevocationOrigin.EXTERNAL, forceRefresh.getFirstOrigin());
+		assertEquals(2, onlineCRLSource.calls);
+		assertEquals(1, crlSource.size());
+	}
+
+	@Test
+	public void testExpired() {
+		// The test CRL nextUpdate is in the past
+		onlineCRLSource.nextUpdate = null;
+
+		crlSource.getRevocationToken(certificateToken, caToken);
+		RevocationToken revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getFirstOrigin());
+		assertEquals(2, onlineCRLSource.calls);
+		assertEquals(0, crlSource.getHitCount());
+		assertEquals(2, crlSource.getMissCount());
+	}
+
+	@Test
+	public void testMaxNextUpdateDelay() {
+		onlineCRLSource.nextUpdate = new Date(System.currentTimeMillis() + ONE_DAY);
+		// thisUpdate of the test CRL is years ago
+		crlSource.setMaxNextUpdateDelay(3600L);
+
+		crlSource.getRevocationToken(certificateToken, caToken);
+		RevocationToken revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getFirstOrigin());
+		assertEquals(2, onlineCRLSource.calls);
+	}
+
+	@Test
+	public void testEviction() {
+		onlineCRLSource.nextUpdate = new Date(System.currentTimeMillis() + ONE_DAY);
+
+		RevocationToken revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertEquals(1, crlSource.size());
+		assertEquals(revocationToken.getEncoded().length, crlSource.getWeight());
+
+		crlSource.setMaximumSize(0);
+		assertEquals(0, crlSource.size());
+		assertEquals(0, crlSource.getWeight());
+		assertEquals(1, crlSource.getEvictionCount());
+
+		crlSource.setMaximumSize(10);
+		crlSource.setMaximumWeight(revocationToken.getEncoded().length - 1);
+		crlSource.getRevocationToken(certificateToken, caToken);
+		assertEquals(0, crlSource.size());
+		assertEquals(2, onlineCRLSource.calls);
+	}
+
+	@Test
+	public void testCountsOncePerLookup() {
+		onlineCRLSource.nextUpdate = new Date(System.currentTimeMillis() + ONE_DAY);
+		crlSource = new MemoryCacheCRLSource() {
+
+			private static final long serialVersionUID = -1816498547245064357L;
+
+			@Override
+			public List<String> initRevocationTokenKey(CertificateToken certificateToken) {
+				// the cached token is found with the second key
+				return new ArrayList<>(Arrays.asList(DSSRevocationUtils.getCRLRevocationTokenKey("http://unknown.crl"),
+						DSSRevocationUtils.getCRLRevocationTokenKey(CRL_URL)));
+			}
+
+		};
+		crlSource.setProxySource(onlineCRLSource);
+
+		crlSource.getRevocationToken(certificateToken, caToken);
+		assertEquals(0, crlSource.getHitCount());
+		assertEquals(1, crlSource.getMissCount());
+
+		RevocationToken revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertEquals(RevocationOrigin.CACHED, revocationToken.getFirstOrigin());
+		assertEquals(1, crlSource.getHitCount());
+		assertEquals(1, crlSource.getMissCount());
+
+		crlSource.getRevocationToken(certificateToken, caToken, true);
+		assertEquals(1, crlSource.getHitCount());
+		assertEquals(1, crlSource.getMissCount());
+	}
+
+	@Test
+	public void testBatchLookup() {
+		Map<CertificateToken, CertificateToken> certificatesAndIssuers = Collections.singletonMap(certificateToken, caToken);
+
+		// without batch support, only the cached tokens are returned
+		assertTrue(crlSource.getRevocationTokens(certificatesAndIssuers).isEmpty());
+		assertEquals(0, onlineCRLSource.calls);
+		assertEquals(1, crlSource.getMissCount());
+
+		BatchMockCRLSource batchCRLSource = new BatchMockCRLSource();
+		batchCRLSource.nextUpdate = new Date(System.currentTimeMillis() + ONE_DAY);
+		crlSource.setProxySource(batchCRLSource);
+
+		Map<CertificateToken, CRLToken> revocationTokens = crlSource.getRevocationTokens(certificatesAndIssuers);
+		assertEquals(1, revocationTokens.size());
+		assertEquals(RevocationOrigin.EXTERNAL, revocationTokens.get(certificateToken).getFirstOrigin());
+		assertEquals(1, batchCRLSource.batchCalls);
+		assertEquals(1, crlSource.size());
+		assertEquals(2, crlSource.getMissCount());
+
+		revocationTokens = crlSource.getRevocationTokens(certificatesAndIssuers);
+		assertEquals(1, revocationTokens.size());
+		assertEquals(RevocationOrigin.CACHED, revocationTokens.get(certificateToken).getFirstOrigin());
+		assertEquals(1, batchCRLSource.batchCalls);
+		assertEquals(1, crlSource.getHitCount());
+	}
+
+	private static class BatchMockCRLSource extends MockCRLSource implements RevocationSourceBatchSupport<CRLToken> {
+
+		private static final long serialVersionUID = -2484416505470420406L;
+
+		private int batchCalls;
+
+		@Override
+		public Map<CertificateToken, CRLToken> getRevocationTokens(Map<CertificateToken, CertificateToken> certificatesAndIssuers) {
+			batchCalls++;
+			Map<CertificateToken, CRLToken> result = new HashMap<CertificateToken, CRLToken>();
+			for (Entry<CertificateToken, CertificateToken> entry : certificatesAndIssuers.entrySet()) {
+				result.put(entry.getKey(), getRevocationToken(entry.getKey(), entry.getValue()));
+			}
+			return result;
+		}
+
+	}
+
+	private static class MockCRLSource implements OnlineRevocationSource<CRLToken> {
+
+		private static final long serialVersionUID = 5442012931707880283L;
+
+		int calls;
+
+		Date nextUpdate;
+
+		@Override
+		public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			calls++;
+			try {
+				CRLValidity crlValidity = CRLUtils.buildCRLValidity(new CRLBinary(DSSUtils.toByteArray(new File("src/test/resources/belgium2.crl"))),
+						issuerCertificateToken);
+				if (nextUpdate != null) {
+					crlValidity.setNextUpdate(nextUpdate);
+				}
+				CRLToken crlToken = new CRLToken(certificateToken, crlValidity);
+				crlToken.setOrigins(Collections.singleton(RevocationOrigin.EXTERNAL));
+				crlToken.setSourceURL(CRL_URL);
+				crlToken.setRevocationTokenKey(DSSRevocationUtils.getCRLRevocationTokenKey(CRL_URL));
+				return crlToken;
+			} catch (IOException e) {
+				throw new DSSException(e);
+			}
+		}
+
+		@Override
+		public void setDataLoader(DataLoader dataLoader) {
+		}
+
+	}
+
+}
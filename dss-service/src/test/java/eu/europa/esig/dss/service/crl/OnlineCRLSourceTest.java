@@ -0,0 +1,139 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.crl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.DataLoader;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+
+public class OnlineCRLSourceTest {
+
+	private CertificateToken certificateToken = DSSUtils.loadCertificate(new File("src/test/resources/citizen_ca.crt"));
+
+	private CertificateToken caToken = DSSUtils.loadCertificate(new File("src/test/resources/belgiumrs2.crt"));
+
+	@Test
+	public void getRevocationTokens() {
+		MockDataLoader dataLoader = new MockDataLoader(1);
+		OnlineCRLSource crlSource = new OnlineCRLSource(dataLoader);
+
+		Map<CertificateToken, CRLToken> crlTokens = crlSource.getRevocationTokens(getCertificatesAndIssuers());
+		assertEquals(2, dataLoader.urls.size());
+		// the mocked root CRL is not issued by the issuer of the CA certificate
+		assertEquals(1, crlTokens.size());
+		assertNotNull(crlTokens.get(certificateToken));
+		assertEquals("http://crl.eid.belgium.be/belgium2.crl", crlTokens.get(certificateToken).getSourceURL());
+	}
+
+	@Test
+	public void getRevocationTokensConcurrently() {
+		// each download waits for the other one : they must be executed at the same time
+		MockDataLoader dataLoader = new MockDataLoader(2);
+		OnlineCRLSource crlSource = new OnlineCRLSource(dataLoader);
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			crlSource.setExecutorService(executorService);
+			Map<CertificateToken, CRLToken> crlTokens = crlSource.getRevocationTokens(getCertificatesAndIssuers());
+			assertEquals(1, crlTokens.size());
+			assertNotNull(crlTokens.get(certificateToken));
+			assertTrue(dataLoader.urls.contains("http://crl.eid.belgium.be/belgium2.crl"));
+			assertTrue(dataLoader.urls.contains("http://secure.globalsign.net/crl/root.crl"));
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	private Map<CertificateToken, CertificateToken> getCertificatesAndIssuers() {
+		Map<CertificateToken, CertificateToken> certificatesAndIssuers = new LinkedHashMap<CertificateToken, CertificateToken>();
+		certificatesAndIssuers.put(certificateToken, caToken);
+		certificatesAndIssuers.put(caToken, caToken);
+		return certificatesAndIssuers;
+	}
+
+	private static class MockDataLoader implements DataLoader {
+
+		private static final long serialVersionUID = -2405817428296232453L;
+
+		private final List<String> urls = Collections.synchronizedList(new ArrayList<String>());
+
+		private final CountDownLatch latch;
+
+		MockDataLoader(int parallelDownloads) {
+			this.latch = new CountDownLatch(parallelDownloads);
+		}
+
+		@Override
+		public DataAndUrl get(List<String> urlStrings) {
+			String url = urlStrings.get(0);
+			urls.add(url);
+			latch.countDown();
+			try {
+				if (!latch.await(10, TimeUnit.SECONDS)) {
+					throw new DSSException("The downloads are not concurrent");
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DSSException(e);
+			}
+			return new DataAndUrl(DSSUtils.toByteArray(new File("src/test/resources/belgium2.crl")), url);
+		}
+
+		@Override
+		public byte[] get(String url) {
+			return get(Collections.singletonList(url)).getData();
+		}
+
+		@Override
+		public byte[] get(String url, boolean refresh) {
+			return get(url);
+		}
+
+		@Override
+		public byte[] post(String url, byte[] content) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void setContentType(String contentType) {
+		}
+
+	}
+
+}
@@ -0,0 +1,116 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.http.commons;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import eu.europa.esig.dss.spi.client.http.ConditionalDataLoader.ConditionalResponse;
+
+/**
+ * Runs the conditional requests against a local stub HTTP server
+ */
+public class CommonsDataLoaderConditionalTest {
+
+	private static final byte[] RESPONSE = "trusted list".getBytes();
+
+	private static final String ETAG = "\"v1\"";
+
+	private static final String LAST_MODIFIED = "Wed, 21 Oct 2015 07:28:00 GMT";
+
+	private HttpServer server;
+
+	private String url;
+
+	private final AtomicInteger transfers = new AtomicInteger();
+
+	@Before
+	public void startServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", this::handle);
+		server.start();
+		url = "http://127.0.0.1:" + server.getAddress().getPort() + "/tl.xml";
+	}
+
+	@After
+	public void stopServer() {
+		server.stop(0);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+		String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+		exchange.getResponseHeaders().add("ETag", ETAG);
+		exchange.getResponseHeaders().add("Last-Modified", LAST_MODIFIED);
+		if (ETAG.equals(ifNoneMatch) || LAST_MODIFIED.equals(ifModifiedSince)) {
+			exchange.sendResponseHeaders(304, -1);
+			exchange.close();
+			return;
+		}
+		transfers.incrementAndGet();
+		exchange.sendResponseHeaders(200, RESPONSE.length);
+		try (OutputStream os = exchange.getResponseBody()) {
+			os.write(RESPONSE);
+		}
+	}
+
+	@Test
+	public void conditionalGet() {
+		CommonsDataLoader dataLoader = new CommonsDataLoader();
+
+		ConditionalResponse response = dataLoader.conditionalGet(url, null, null);
+		assertFalse(response.isNotModified());
+		assertArrayEquals(RESPONSE, response.getData());
+		assertEquals(ETAG, response.getETag());
+		assertEquals(LAST_MODIFIED, response.getLastModified());
+
+		response = dataLoader.conditionalGet(url, ETAG, null);
+		assertTrue(response.isNotModified());
+		assertNull(response.getData());
+		assertEquals(ETAG, response.getETag());
+
+		response = dataLoader.conditionalGet(url, null, LAST_MODIFIED);
+		assertTrue(response.isNotModified());
+		assertEquals(LAST_MODIFIED, response.getLastModified());
+
+		response = dataLoader.conditionalGet(url, "\"v0\"", null);
+		assertFalse(response.isNotModified());
+		assertArrayEquals(RESPONSE, response.getData());
+
+		assertEquals(2, transfers.get());
+	}
+
+}
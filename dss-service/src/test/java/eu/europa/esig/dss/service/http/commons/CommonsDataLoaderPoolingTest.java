@@ -0,0 +1,232 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.http.commons;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.http.pool.PoolStats;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import eu.europa.esig.dss.spi.client.http.NativeHTTPDataLoader;
+import eu.europa.esig.dss.utils.Utils;
+
+/**
+ * Runs the data loaders against a local stub HTTP server
+ */
+public class CommonsDataLoaderPoolingTest {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CommonsDataLoaderPoolingTest.class);
+
+	private static final byte[] RESPONSE = "stub response".getBytes();
+
+	private static final int NB_REQUESTS = 200;
+
+	private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+	private static String previousNodelay;
+
+	private static ExecutorService serverExecutor;
+
+	private static HttpServer server;
+
+	private static String url;
+
+	/* The client ports seen by the server : one per opened connection */
+	private static final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+	@BeforeClass
+	public static void startServer() throws IOException {
+		// the stub server writes the headers and the body separately
+		previousNodelay = System.setProperty(NODELAY_PROPERTY, "true");
+
+		serverExecutor = Executors.newFixedThreadPool(10);
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", CommonsDataLoaderPoolingTest::handle);
+		server.setExecutor(serverExecutor);
+		server.start();
+		url = "http://127.0.0.1:" + server.getAddress().getPort() + "/crl";
+	}
+
+	@AfterClass
+	public static void stopServer() {
+		server.stop(0);
+		serverExecutor.shutdownNow();
+		if (previousNodelay == null) {
+			System.clearProperty(NODELAY_PROPERTY);
+		} else {
+			System.setProperty(NODELAY_PROPERTY, previousNodelay);
+		}
+	}
+
+	@Before
+	public void resetConnections() {
+		clientPorts.clear();
+	}
+
+	private static void handle(HttpExchange exchange) throws IOException {
+		clientPorts.add(exchange.getRemoteAddress().getPort());
+		byte[] response = RESPONSE;
+		try (InputStream is = exchange.getRequestBody()) {
+			byte[] content = Utils.toByteArray(is);
+			if (content.length > 0) {
+				response = content;
+			}
+		}
+		exchange.sendResponseHeaders(200, response.length);
+		try (OutputStream os = exchange.getResponseBody()) {
+			os.write(response);
+		}
+	}
+
+	@Test
+	public void connectionsAreReused() {
+		CommonsDataLoader dataLoader = new CommonsDataLoader();
+		dataLoader.setConnectionPooling(true);
+		assertNull(dataLoader.getConnectionPoolStats());
+
+		for (int i = 0; i < 10; i++) {
+			assertArrayEquals(RESPONSE, dataLoader.get(url));
+		}
+		byte[] content = "post content".getBytes();
+		assertArrayEquals(content, dataLoader.post(url, content));
+		assertEquals(1, clientPorts.size());
+
+		PoolStats stats = dataLoader.getConnectionPoolStats();
+		assertNotNull(stats);
+		assertEquals(0, stats.getLeased());
+		assertEquals(1, stats.getAvailable());
+
+		dataLoader.closeConnectionPool();
+		assertNull(dataLoader.getConnectionPoolStats());
+
+		// a new pool is created
+		assertArrayEquals(RESPONSE, dataLoader.get(url));
+		assertEquals(2, clientPorts.size());
+		dataLoader.closeConnectionPool();
+	}
+
+	@Test
+	public void withoutPooling() {
+		CommonsDataLoader dataLoader = new CommonsDataLoader();
+		for (int i = 0; i < 5; i++) {
+			assertArrayEquals(RESPONSE, dataLoader.get(url));
+		}
+		assertEquals(5, clientPorts.size());
+		assertNull(dataLoader.getConnectionPoolStats());
+	}
+
+	@Test
+	public void maxPerRoute() throws Exception {
+		CommonsDataLoader dataLoader = new CommonsDataLoader();
+		dataLoader.setConnectionPooling(true);
+		dataLoader.addConnectionsMaxPerRoute("127.0.0.1", server.getAddress().getPort(), "http", 4);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<byte[]>> futures = new ArrayList<Future<byte[]>>();
+			for (int i = 0; i < NB_REQUESTS; i++) {
+				futures.add(executor.submit(() -> dataLoader.get(url)));
+			}
+			for (Future<byte[]> future : futures) {
+				assertArrayEquals(RESPONSE, future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertTrue(clientPorts.size() <= 4);
+		PoolStats stats = dataLoader.getConnectionPoolStats();
+		assertEquals(0, stats.getLeased());
+		assertTrue(stats.getAvailable() <= 4);
+		dataLoader.closeConnectionPool();
+	}
+
+	@Test
+	public void idleConnectionsAreEvicted() throws Exception {
+		CommonsDataLoader dataLoader = new CommonsDataLoader();
+		dataLoader.setConnectionPooling(true);
+		dataLoader.setConnectionIdleTimeout(100);
+
+		assertArrayEquals(RESPONSE, dataLoader.get(url));
+		assertEquals(1, dataLoader.getConnectionPoolStats().getAvailable());
+
+		long end = System.currentTimeMillis() + 5000;
+		while (dataLoader.getConnectionPoolStats().getAvailable() > 0 && System.currentTimeMillis() < end) {
+			Thread.sleep(50);
+		}
+		assertEquals(0, dataLoader.getConnectionPoolStats().getAvailable());
+		dataLoader.closeConnectionPool();
+	}
+
+	@Test
+	public void nativeDataLoader() {
+		NativeHTTPDataLoader dataLoader = new NativeHTTPDataLoader();
+		assertArrayEquals(RESPONSE, dataLoader.get(url));
+		dataLoader.setTimeout(5000);
+		assertArrayEquals(RESPONSE, dataLoader.get(url));
+	}
+
+	@Test
+	public void pooledRequestsReuseOneConnection() {
+		CommonsDataLoader dataLoader = new CommonsDataLoader();
+		for (int i = 0; i < NB_REQUESTS; i++) {
+			dataLoader.get(url);
+		}
+		int notPooledConnections = clientPorts.size();
+		clientPorts.clear();
+
+		dataLoader.setConnectionPooling(true);
+		for (int i = 0; i < NB_REQUESTS; i++) {
+			dataLoader.get(url);
+		}
+		int pooledConnections = clientPorts.size();
+		dataLoader.closeConnectionPool();
+
+		LOG.info("{} GET calls : {} connections without pooling, {} with pooling", NB_REQUESTS, notPooledConnections, pooledConnections);
+		assertEquals(NB_REQUESTS, notPooledConnections);
+		assertEquals(1, pooledConnections);
+	}
+
+}
@@ -0,0 +1,223 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.ocsp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.AuthorityInformationAccess;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.cert.ocsp.BasicOCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPReq;
+import org.bouncycastle.cert.ocsp.OCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.Req;
+import org.bouncycastle.cert.ocsp.RespID;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.DataLoader;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+
+public class OnlineOCSPSourceBatchTest {
+
+	private static final String OCSP_URL = "http://ocsp.test/ocsp";
+
+	private static X500Name caName;
+	private static ContentSigner caSigner;
+	private static CertificateToken caToken;
+	private static CertificateToken firstCertificate;
+	private static CertificateToken secondCertificate;
+
+	@BeforeClass
+	public static void init() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		KeyPair caKeyPair = keyPairGenerator.generateKeyPair();
+		caSigner = new JcaContentSignerBuilder("SHA256withRSA").build(caKeyPair.getPrivate());
+		caName = new X500Name("CN=Test OCSP CA");
+		long now = System.currentTimeMillis();
+
+		JcaX509v3CertificateBuilder caBuilder = new JcaX509v3CertificateBuilder(caName, BigInteger.ONE, new Date(now - 86400000L),
+				new Date(now + 86400000L), caName, caKeyPair.getPublic());
+		caBuilder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+		caBuilder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+		caToken = DSSUtils.loadCertificate(caBuilder.build(caSigner).getEncoded());
+
+		firstCertificate = createCertificate(BigInteger.valueOf(2), keyPairGenerator.generateKeyPair());
+		secondCertificate = createCertificate(BigInteger.valueOf(3), keyPairGenerator.generateKeyPair());
+	}
+
+	@Test
+	public void multipleResponses() {
+		MockDataLoader dataLoader = new MockDataLoader(Integer.MAX_VALUE, false);
+		OnlineOCSPSource ocspSource = new OnlineOCSPSource();
+		ocspSource.setDataLoader(dataLoader);
+
+		Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(getCertificatesAndIssuers());
+		// one request with the two certificates
+		assertEquals(Collections.singletonList(2), dataLoader.requestSizes);
+		assertEquals(2, ocspTokens.size());
+		assertValid(ocspTokens.get(firstCertificate));
+		assertValid(ocspTokens.get(secondCertificate));
+	}
+
+	@Test
+	public void partialResponse() {
+		// the responder only answers the first request
+		MockDataLoader dataLoader = new MockDataLoader(1, false);
+		OnlineOCSPSource ocspSource = new OnlineOCSPSource();
+		ocspSource.setDataLoader(dataLoader);
+
+		Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(getCertificatesAndIssuers());
+		// the missing certificate is requested alone
+		assertEquals(Arrays.asList(2, 1), dataLoader.requestSizes);
+		assertEquals(2, ocspTokens.size());
+		assertValid(ocspTokens.get(firstCertificate));
+		assertValid(ocspTokens.get(secondCertificate));
+	}
+
+	@Test
+	public void fallbackAfterError() {
+		// the responder refuses the requests with several certificates
+		MockDataLoader dataLoader = new MockDataLoader(Integer.MAX_VALUE, true);
+		OnlineOCSPSource ocspSource = new OnlineOCSPSource();
+		ocspSource.setDataLoader(dataLoader);
+
+		Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(getCertificatesAndIssuers());
+		assertEquals(Arrays.asList(2, 1, 1), dataLoader.requestSizes);
+		assertEquals(2, ocspTokens.size());
+		assertValid(ocspTokens.get(firstCertificate));
+		assertValid(ocspTokens.get(secondCertificate));
+	}
+
+	private void assertValid(OCSPToken ocspToken) {
+		assertNotNull(ocspToken);
+		assertNotNull(ocspToken.getThisUpdate());
+		assertEquals(OCSP_URL, ocspToken.getSourceURL());
+		assertEquals(Boolean.TRUE, ocspToken.getStatus());
+		assertEquals(caToken.getSubjectX500Principal(), ocspToken.getIssuerX500Principal());
+	}
+
+	private Map<CertificateToken, CertificateToken> getCertificatesAndIssuers() {
+		Map<CertificateToken, CertificateToken> certificatesAndIssuers = new LinkedHashMap<CertificateToken, CertificateToken>();
+		certificatesAndIssuers.put(firstCertificate, caToken);
+		certificatesAndIssuers.put(secondCertificate, caToken);
+		return certificatesAndIssuers;
+	}
+
+	private static CertificateToken createCertificate(BigInteger serialNumber, KeyPair keyPair) throws Exception {
+		long now = System.currentTimeMillis();
+		JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(caName, serialNumber, new Date(now - 86400000L),
+				new Date(now + 86400000L), new X500Name("CN=Test " + serialNumber), keyPair.getPublic());
+		AccessDescription ocspAccess = new AccessDescription(AccessDescription.id_ad_ocsp,
+				new GeneralName(GeneralName.uniformResourceIdentifier, OCSP_URL));
+		builder.addExtension(Extension.authorityInfoAccess, false, new AuthorityInformationAccess(ocspAccess));
+		return DSSUtils.loadCertificate(builder.build(caSigner).getEncoded());
+	}
+
+	/**
+	 * OCSP responder signing with the CA key
+	 */
+	private static class MockDataLoader implements DataLoader {
+
+		private static final long serialVersionUID = 2474513417453154416L;
+
+		private final List<Integer> requestSizes = Collections.synchronizedList(new ArrayList<Integer>());
+
+		private final int maxResponses;
+
+		private final boolean refuseMultipleRequests;
+
+		MockDataLoader(int maxResponses, boolean refuseMultipleRequests) {
+			this.maxResponses = maxResponses;
+			this.refuseMultipleRequests = refuseMultipleRequests;
+		}
+
+		@Override
+		public byte[] post(String url, byte[] content) {
+			assertEquals(OCSP_URL, url);
+			try {
+				Req[] requests = new OCSPReq(content).getRequestList();
+				requestSizes.add(requests.length);
+				if (refuseMultipleRequests && requests.length > 1) {
+					throw new DSSException("Multiple requests are not supported");
+				}
+
+				Date now = new Date();
+				BasicOCSPRespBuilder builder = new BasicOCSPRespBuilder(new RespID(caName));
+				for (int i = 0; i < requests.length && i < maxResponses; i++) {
+					builder.addResponse(requests[i].getCertID(), CertificateStatus.GOOD, now, new Date(now.getTime() + 3600000L), null);
+				}
+				return new OCSPRespBuilder()
+						.build(OCSPRespBuilder.SUCCESSFUL, builder.build(caSigner, new X509CertificateHolder[0], now)).getEncoded();
+			} catch (DSSException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new DSSException(e);
+			}
+		}
+
+		@Override
+		public DataAndUrl get(List<String> urlStrings) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public byte[] get(String url) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public byte[] get(String url, boolean refresh) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void setContentType(String contentType) {
+		}
+
+	}
+
+}
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.ws.signature.common;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import eu.europa.esig.dss.AbstractSignatureParameters;
@@ -29,6 +30,7 @@ import eu.europa.esig.dss.cades.CAdESSignatureParameters;
 import eu.europa.esig.dss.enumerations.ASiCContainerType;
 import eu.europa.esig.dss.enumerations.SignatureForm;
 import eu.europa.esig.dss.model.BLevelParameters;
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.Policy;
 import eu.europa.esig.dss.model.SignatureValue;
@@ -65,6 +67,30 @@ public abstract class AbstractRemoteSignatureServiceImpl {
 	}
 
 	protected AbstractSignatureParameters createParameters(RemoteSignatureParameters remoteParameters) {
+		AbstractSignatureParameters parameters = newParameters(remoteParameters);
+		fillParameters(parameters, remoteParameters);
+		return parameters;
+	}
+
+	/**
+	 * Creates new parameters sharing the certificates and the detached contents already converted for the
+	 * {@code template} with {@link #createParameters(RemoteSignatureParameters)} (a bulk of signatures converts them
+	 * only once). The other values are filled as in {@link #createParameters(RemoteSignatureParameters)}.
+	 *
+	 * @param remoteParameters
+	 *            the remote parameters of the template
+	 * @param template
+	 *            the converted parameters
+	 * @return the new signature parameters
+	 */
+	protected AbstractSignatureParameters copyParameters(RemoteSignatureParameters remoteParameters, AbstractSignatureParameters template) {
+		AbstractSignatureParameters parameters = newParameters(remoteParameters);
+		fillParameters(parameters, remoteParameters, template.getDetachedContents(), template.getSigningCertificate(),
+				template.getCertificateChain());
+		return parameters;
+	}
+
+	private AbstractSignatureParameters newParameters(RemoteSignatureParameters remoteParameters) {
 		AbstractSignatureParameters parameters = null;
 		ASiCContainerType asicContainerType = remoteParameters.getAsicContainerType();
 		SignatureForm signatureForm = remoteParameters.getSignatureLevel().getSignatureForm();
@@ -87,15 +113,32 @@ public abstract class AbstractRemoteSignatureServiceImpl {
 				throw new DSSException("Unsupported signature form : " + signatureForm);
 			}
 		}
-
-		fillParameters(parameters, remoteParameters);
-
 		return parameters;
 	}
 
 	protected void fillParameters(AbstractSignatureParameters parameters, RemoteSignatureParameters remoteParameters) {
+		CertificateToken signingCertificate = null;
+		RemoteCertificate remoteSigningCertificate = remoteParameters.getSigningCertificate();
+		if (remoteSigningCertificate != null) { // extends do not require signing certificate
+			signingCertificate = RemoteCertificateConverter.toCertificateToken(remoteSigningCertificate);
+		}
+
+		List<CertificateToken> certificateChain = null;
+		List<RemoteCertificate> remoteCertificateChain = remoteParameters.getCertificateChain();
+		if (Utils.isCollectionNotEmpty(remoteCertificateChain)) {
+			certificateChain = RemoteCertificateConverter.toCertificateTokens(remoteCertificateChain);
+		}
+
+		fillParameters(parameters, remoteParameters, RemoteDocumentConverter.toDSSDocuments(remoteParameters.getDetachedContents()),
+				signingCertificate, certificateChain);
+	}
+
+	private void fillParameters(AbstractSignatureParameters parameters, RemoteSignatureParameters remoteParameters,
+			List<DSSDocument> detachedContents, CertificateToken signingCertificate, List<CertificateToken> certificateChain) {
 		parameters.setBLevelParams(toBLevelParameters(remoteParameters.getBLevelParams()));
-		parameters.setDetachedContents(RemoteDocumentConverter.toDSSDocuments(remoteParameters.getDetachedContents()));
+		if (detachedContents != null) {
+			parameters.setDetachedContents(new ArrayList<DSSDocument>(detachedContents));
+		}
 		parameters.setDigestAlgorithm(remoteParameters.getDigestAlgorithm());
 		parameters.setEncryptionAlgorithm(remoteParameters.getEncryptionAlgorithm());
 		parameters.setReferenceDigestAlgorithm(remoteParameters.getReferenceDigestAlgorithm());
@@ -107,15 +150,11 @@ public abstract class AbstractRemoteSignatureServiceImpl {
 		parameters.setSignWithExpiredCertificate(remoteParameters.isSignWithExpiredCertificate());
 		parameters.setGenerateTBSWithoutCertificate(remoteParameters.isGenerateTBSWithoutCertificate());
 
-		RemoteCertificate signingCertificate = remoteParameters.getSigningCertificate();
-		if (signingCertificate != null) { // extends do not require signing certificate
-			CertificateToken certificateToken = RemoteCertificateConverter.toCertificateToken(signingCertificate);
-			parameters.setSigningCertificate(certificateToken);
+		if (signingCertificate != null) {
+			parameters.setSigningCertificate(signingCertificate);
 		}
-
-		List<RemoteCertificate> remoteCertificateChain = remoteParameters.getCertificateChain();
-		if (Utils.isCollectionNotEmpty(remoteCertificateChain)) {
-			parameters.setCertificateChain(RemoteCertificateConverter.toCertificateTokens(remoteCertificateChain));
+		if (Utils.isCollectionNotEmpty(certificateChain)) {
+			parameters.setCertificateChain(new ArrayList<CertificateToken>(certificateChain));
 		}
 	}
 	
@@ -21,6 +21,8 @@
 package eu.europa.esig.dss.ws.signature.common;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import eu.europa.esig.dss.model.DSSException;
@@ -75,6 +77,56 @@ public interface RemoteMultipleDocumentsSignatureService extends Serializable {
 	 */
 	RemoteDocument signDocument(final List<RemoteDocument> toSignDocuments, final RemoteSignatureParameters parameters, SignatureValueDTO signatureValue) throws DSSException;
 
+	/**
+	 * Retrieves the data to be signed of a bulk of independent documents sharing the same parameters : each document
+	 * is signed alone (one signature or container per document). By default, the documents are processed one by one
+	 * with {@link #getDataToSign(List, RemoteSignatureParameters)}.
+	 * 
+	 * @param toSignDocuments
+	 *            list of independent documents to sign
+	 * @param parameters
+	 *            set of the driving signing parameters (common to all the documents)
+	 * @return the data to be signed (in the same order as the {@code toSignDocuments} list)
+	 * @throws DSSException
+	 *             if an error occurred
+	 */
+	default List<ToBeSignedDTO> getDataToSignBulk(final List<RemoteDocument> toSignDocuments, final RemoteSignatureParameters parameters)
+			throws DSSException {
+		final List<ToBeSignedDTO> result = new ArrayList<ToBeSignedDTO>(toSignDocuments.size());
+		for (RemoteDocument toSignDocument : toSignDocuments) {
+			result.add(getDataToSign(Collections.singletonList(toSignDocument), parameters));
+		}
+		return result;
+	}
+
+	/**
+	 * Signs a bulk of independent documents with the matching signature values (computed on the result of
+	 * {@link #getDataToSignBulk(List, RemoteSignatureParameters)} with the same parameters). By default, the documents
+	 * are processed one by one with {@link #signDocument(List, RemoteSignatureParameters, SignatureValueDTO)}.
+	 *
+	 * @param toSignDocuments
+	 *            list of independent documents to sign
+	 * @param parameters
+	 *            set of the driving signing parameters (common to all the documents)
+	 * @param signatureValues
+	 *            the signature values to incorporate (in the same order as the {@code toSignDocuments} list)
+	 * @return the signed documents (in the same order as the {@code toSignDocuments} list)
+	 * @throws DSSException
+	 *             if an error occurred
+	 */
+	default List<RemoteDocument> signDocumentBulk(final List<RemoteDocument> toSignDocuments, final RemoteSignatureParameters parameters,
+			List<SignatureValueDTO> signatureValues) throws DSSException {
+		if (toSignDocuments.size() != signatureValues.size()) {
+			throw new DSSException("The number of signature values (" + signatureValues.size() + ") does not match the number of documents ("
+					+ toSignDocuments.size() + ")");
+		}
+		final List<RemoteDocument> result = new ArrayList<RemoteDocument>(toSignDocuments.size());
+		for (int i = 0; i < toSignDocuments.size(); i++) {
+			result.add(signDocument(Collections.singletonList(toSignDocuments.get(i)), parameters, signatureValues.get(i)));
+		}
+		return result;
+	}
+
 	/**
 	 * Extends the level of the signatures in the {@code toExtendDocument}
 	 *
@@ -20,7 +20,14 @@
  */
 package eu.europa.esig.dss.ws.signature.common;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,6 +62,11 @@ public class RemoteMultipleDocumentsSignatureServiceImpl extends AbstractRemoteS
 
 	private MultipleDocumentsSignatureService<ASiCWithXAdESSignatureParameters> asicWithXAdESService;
 
+	/**
+	 * The executor of the bulk operations (null = sequential)
+	 */
+	private transient ExecutorService executorService;
+
 	public void setXadesService(MultipleDocumentsSignatureService<XAdESSignatureParameters> xadesService) {
 		this.xadesService = xadesService;
 	}
@@ -67,6 +79,18 @@ public class RemoteMultipleDocumentsSignatureServiceImpl extends AbstractRemoteS
 		this.asicWithXAdESService = asicWithXAdESService;
 	}
 
+	/**
+	 * Sets the {@code ExecutorService} used to process the documents of a bulk concurrently (signature creation,
+	 * timestamping and extension). If not set, the documents are processed sequentially. The executor may be shared
+	 * with the callers of the bulk operations : the calling thread also runs the pending tasks.
+	 *
+	 * @param executorService
+	 *            the executor service or null
+	 */
+	public void setExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Override
 	public ToBeSignedDTO getDataToSign(List<RemoteDocument> toSignDocuments, RemoteSignatureParameters remoteParameters) {
@@ -91,6 +115,109 @@ public class RemoteMultipleDocumentsSignatureServiceImpl extends AbstractRemoteS
 		return RemoteDocumentConverter.toRemoteDocument(signDocument);
 	}
 
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public List<ToBeSignedDTO> getDataToSignBulk(List<RemoteDocument> toSignDocuments, RemoteSignatureParameters remoteParameters) {
+		LOG.info("GetDataToSign in bulk in process ({} documents)...", toSignDocuments.size());
+		final MultipleDocumentsSignatureService service = getServiceForSignature(remoteParameters);
+		// the parameters template is converted once, each document gets its own copy
+		final AbstractSignatureParameters template = createParameters(remoteParameters);
+		final List<Callable<ToBeSignedDTO>> tasks = new ArrayList<Callable<ToBeSignedDTO>>();
+		for (final RemoteDocument toSignDocument : toSignDocuments) {
+			tasks.add(() -> {
+				AbstractSignatureParameters parameters = copyParameters(remoteParameters, template);
+				List<DSSDocument> dssDocuments = Collections.singletonList(RemoteDocumentConverter.toDSSDocument(toSignDocument));
+				ToBeSigned dataToSign = service.getDataToSign(dssDocuments, parameters);
+				return DTOConverter.toToBeSignedDTO(dataToSign);
+			});
+		}
+		final List<ToBeSignedDTO> result = executeBulk(tasks);
+		LOG.info("GetDataToSign in bulk is finished");
+		return result;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public List<RemoteDocument> signDocumentBulk(List<RemoteDocument> toSignDocuments, RemoteSignatureParameters remoteParameters,
+			List<SignatureValueDTO> signatureValues) {
+		if (toSignDocuments.size() != signatureValues.size()) {
+			throw new DSSException("The number of signature values (" + signatureValues.size() + ") does not match the number of documents ("
+					+ toSignDocuments.size() + ")");
+		}
+		LOG.info("SignDocument in bulk in process ({} documents)...", toSignDocuments.size());
+		final MultipleDocumentsSignatureService service = getServiceForSignature(remoteParameters);
+		// the parameters template is converted once, each document gets its own copy
+		final AbstractSignatureParameters template = createParameters(remoteParameters);
+		final List<Callable<RemoteDocument>> tasks = new ArrayList<Callable<RemoteDocument>>();
+		for (int i = 0; i < toSignDocuments.size(); i++) {
+			final RemoteDocument toSignDocument = toSignDocuments.get(i);
+			final SignatureValueDTO signatureValue = signatureValues.get(i);
+			tasks.add(() -> {
+				AbstractSignatureParameters parameters = copyParameters(remoteParameters, template);
+				List<DSSDocument> dssDocuments = Collections.singletonList(RemoteDocumentConverter.toDSSDocument(toSignDocument));
+				DSSDocument signDocument = (DSSDocument) service.signDocument(dssDocuments, parameters, toSignatureValue(signatureValue));
+				return RemoteDocumentConverter.toRemoteDocument(signDocument);
+			});
+		}
+		final List<RemoteDocument> result = executeBulk(tasks);
+		LOG.info("SignDocument in bulk is finished");
+		return result;
+	}
+
+	/**
+	 * Executes the tasks with the {@code executorService} (or sequentially) and returns their results in the same
+	 * order. The first failure is thrown.
+	 * 
+	 * The calling thread runs itself the tasks which are not started yet before waiting for them : a bulk called from
+	 * a thread of the same (bounded) executor cannot deadlock waiting for a free thread.
+	 */
+	private <T> List<T> executeBulk(final List<Callable<T>> tasks) {
+		final List<T> results = new ArrayList<T>(tasks.size());
+		if (executorService == null) {
+			for (Callable<T> task : tasks) {
+				try {
+					results.add(task.call());
+				} catch (RuntimeException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new DSSException(e);
+				}
+			}
+			return results;
+		}
+
+		final List<FutureTask<T>> futures = new ArrayList<FutureTask<T>>(tasks.size());
+		for (Callable<T> task : tasks) {
+			final FutureTask<T> future = new FutureTask<T>(task);
+			futures.add(future);
+			try {
+				executorService.execute(future);
+			} catch (RejectedExecutionException e) {
+				LOG.debug("Bulk task rejected by the executor, it will be run by the calling thread");
+			}
+		}
+		try {
+			for (FutureTask<T> future : futures) {
+				// does nothing if the task is already started by the executor
+				future.run();
+				results.add(future.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException("Interrupted during the bulk signature", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new DSSException("Unable to sign the bulk of documents : " + e.getCause().getMessage(), e.getCause());
+		} finally {
+			for (FutureTask<T> future : futures) {
+				future.cancel(true);
+			}
+		}
+		return results;
+	}
+
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Override
 	public RemoteDocument extendDocument(RemoteDocument toExtendDocument, RemoteSignatureParameters remoteParameters) {
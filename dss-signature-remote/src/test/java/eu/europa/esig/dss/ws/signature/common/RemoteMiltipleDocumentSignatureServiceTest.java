@@ -1,10 +1,13 @@
 package eu.europa.esig.dss.ws.signature.common;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -71,4 +74,65 @@ public class RemoteMiltipleDocumentSignatureServiceTest extends AbstractRemoteSi
 		validate(iMD, null);
 	}
 
+	@Test
+	public void testBulkSigning() throws Exception {
+		RemoteSignatureParameters parameters = new RemoteSignatureParameters();
+		parameters.setAsicContainerType(ASiCContainerType.ASiC_E);
+		parameters.setSignatureLevel(SignatureLevel.XAdES_BASELINE_T);
+		parameters.setSigningCertificate(RemoteCertificateConverter.toRemoteCertificate(getSigningCert()));
+		parameters.setDigestAlgorithm(DigestAlgorithm.SHA256);
+
+		List<RemoteDocument> toSignDocuments = new ArrayList<RemoteDocument>();
+		for (int i = 0; i < 10; i++) {
+			toSignDocuments.add(new RemoteDocument(("Hello world " + i).getBytes("UTF-8"), "test" + i + ".bin"));
+		}
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			signatureService.setExecutorService(executorService);
+
+			List<ToBeSignedDTO> dataToSign = signatureService.getDataToSignBulk(toSignDocuments, parameters);
+			assertEquals(toSignDocuments.size(), dataToSign.size());
+
+			List<SignatureValueDTO> signatureValues = new ArrayList<SignatureValueDTO>();
+			for (ToBeSignedDTO toBeSigned : dataToSign) {
+				SignatureValue signatureValue = getToken().sign(DTOConverter.toToBeSigned(toBeSigned), DigestAlgorithm.SHA256, getPrivateKeyEntry());
+				signatureValues.add(new SignatureValueDTO(signatureValue.getAlgorithm(), signatureValue.getValue()));
+			}
+
+			List<RemoteDocument> signedDocuments = signatureService.signDocumentBulk(toSignDocuments, parameters, signatureValues);
+			assertEquals(toSignDocuments.size(), signedDocuments.size());
+			for (RemoteDocument signedDocument : signedDocuments) {
+				validate(new InMemoryDocument(signedDocument.getBytes()), null);
+			}
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test(timeout = 60000)
+	public void testBulkFromTheSameExecutor() throws Exception {
+		RemoteSignatureParameters parameters = new RemoteSignatureParameters();
+		parameters.setAsicContainerType(ASiCContainerType.ASiC_E);
+		parameters.setSignatureLevel(SignatureLevel.XAdES_BASELINE_B);
+		parameters.setSigningCertificate(RemoteCertificateConverter.toRemoteCertificate(getSigningCert()));
+		parameters.setDigestAlgorithm(DigestAlgorithm.SHA256);
+
+		List<RemoteDocument> toSignDocuments = new ArrayList<RemoteDocument>();
+		for (int i = 0; i < 5; i++) {
+			toSignDocuments.add(new RemoteDocument(("Hello world " + i).getBytes("UTF-8"), "test" + i + ".bin"));
+		}
+
+		// the only thread of the executor calls the bulk : the tasks are run by the calling thread
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			signatureService.setExecutorService(executorService);
+
+			List<ToBeSignedDTO> dataToSign = executorService.submit(() -> signatureService.getDataToSignBulk(toSignDocuments, parameters)).get();
+			assertEquals(toSignDocuments.size(), dataToSign.size());
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
 }
@@ -20,6 +20,8 @@
  */
 package eu.europa.esig.dss.ws.signature.soap;
 
+import javax.xml.ws.soap.MTOM;
+
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
 import eu.europa.esig.dss.ws.signature.common.RemoteDocumentSignatureService;
@@ -28,6 +30,7 @@ import eu.europa.esig.dss.ws.signature.dto.ExtendDocumentDTO;
 import eu.europa.esig.dss.ws.signature.dto.SignOneDocumentDTO;
 import eu.europa.esig.dss.ws.signature.soap.client.SoapDocumentSignatureService;
 
+@MTOM
 @SuppressWarnings("serial")
 public class SoapDocumentSignatureServiceImpl implements SoapDocumentSignatureService {
 
@@ -0,0 +1,94 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+/**
+ * {@code DataLoader} which supports the HTTP conditional requests (If-None-Match / If-Modified-Since) : an unchanged
+ * resource is not transferred again.
+ */
+public interface ConditionalDataLoader extends DataLoader {
+
+	/**
+	 * This is an internal class used to model the result of a conditional GET operation.
+	 */
+	public static class ConditionalResponse {
+
+		/**
+		 * Obtained data (null if the resource has not been modified).
+		 */
+		private final byte[] data;
+
+		/**
+		 * true if the server answered that the resource has not been modified (HTTP 304).
+		 */
+		private final boolean notModified;
+
+		/**
+		 * The ETag header value returned by the server.
+		 */
+		private final String eTag;
+
+		/**
+		 * The Last-Modified header value returned by the server.
+		 */
+		private final String lastModified;
+
+		public ConditionalResponse(final byte[] data, final boolean notModified, final String eTag, final String lastModified) {
+			this.data = data;
+			this.notModified = notModified;
+			this.eTag = eTag;
+			this.lastModified = lastModified;
+		}
+
+		public byte[] getData() {
+			return data;
+		}
+
+		public boolean isNotModified() {
+			return notModified;
+		}
+
+		public String getETag() {
+			return eTag;
+		}
+
+		public String getLastModified() {
+			return lastModified;
+		}
+
+	}
+
+	/**
+	 * Execute a conditional HTTP GET operation. The validators of the previous response are sent with the request ;
+	 * if the resource has not changed, no content is returned. Without validator, this method behaves like
+	 * {@link #get(String)}.
+	 *
+	 * @param url
+	 *            the url to access
+	 * @param eTag
+	 *            the ETag of the previous response (can be null)
+	 * @param lastModified
+	 *            the Last-Modified value of the previous response (can be null)
+	 * @return the {@code ConditionalResponse} (never null)
+	 */
+	ConditionalResponse conditionalGet(final String url, final String eTag, final String lastModified);
+
+}
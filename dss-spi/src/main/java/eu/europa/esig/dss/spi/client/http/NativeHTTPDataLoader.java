@@ -25,8 +25,10 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +47,23 @@ public class NativeHTTPDataLoader implements DataLoader {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(NativeHTTPDataLoader.class);
 
+	/**
+	 * The threads used to enforce the timeout, shared between the instances
+	 * (daemon threads, released after one minute of inactivity)
+	 */
+	private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+
+		private final AtomicInteger counter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "dss-native-http-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	});
+
 	private long maxInputSize;
 
 	/**
@@ -55,19 +74,17 @@ public class NativeHTTPDataLoader implements DataLoader {
 	protected byte[] request(String url, HttpMethod method, byte[] content, boolean refresh) {
 		NativeDataLoaderCall task = new NativeDataLoaderCall(url, content, refresh, maxInputSize);
 
-		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		Future<byte[]> result = EXECUTOR.submit(task);
 		try {
-			Future<byte[]> result = executorService.submit(task);
 			return timeout > 0 ? result.get(timeout, TimeUnit.MILLISECONDS) : result.get();
 		} catch (InterruptedException e) {
+			result.cancel(true);
 			Thread.currentThread().interrupt();
 			throw new DSSException(e);
 		} catch (ExecutionException | TimeoutException e) {
+			result.cancel(true);
 			throw new DSSException(e);
-		} finally {
-			executorService.shutdown();
 		}
-
 	}
 
 	@Override
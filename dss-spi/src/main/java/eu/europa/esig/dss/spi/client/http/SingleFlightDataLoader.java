@@ -0,0 +1,206 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.europa.esig.dss.model.DSSException;
+
+/**
+ * This {@code DataLoader} decorator coalesces the concurrent identical requests
+ * : when a request is received while the same one (same method, URL(s) and
+ * POST content) is in progress, the caller waits for the result of the running
+ * call instead of sending a new request to the wrapped {@code DataLoader}.
+ * 
+ * Nothing is cached : a request received after the end of the identical call
+ * is forwarded to the wrapped {@code DataLoader}. An exception or an error
+ * thrown by the running call is re-thrown to all the waiting callers.
+ */
+public class SingleFlightDataLoader implements DataLoader {
+
+	private static final long serialVersionUID = 8351278526154125684L;
+
+	private static final Logger LOG = LoggerFactory.getLogger(SingleFlightDataLoader.class);
+
+	private final DataLoader dataLoader;
+
+	private final transient ConcurrentMap<RequestKey, CompletableFuture<Object>> inFlightRequests = new ConcurrentHashMap<RequestKey, CompletableFuture<Object>>();
+
+	private final transient AtomicLong coalescedRequests = new AtomicLong();
+
+	/**
+	 * The default constructor
+	 * 
+	 * @param dataLoader
+	 *                   the {@code DataLoader} to be used for the upstream calls
+	 */
+	public SingleFlightDataLoader(final DataLoader dataLoader) {
+		Objects.requireNonNull(dataLoader, "The dataLoader must be defined");
+		this.dataLoader = dataLoader;
+	}
+
+	@Override
+	public byte[] get(final String url) {
+		return execute(new RequestKey("GET", url, null), () -> dataLoader.get(url), SingleFlightDataLoader::copy);
+	}
+
+	@Override
+	public DataAndUrl get(final List<String> urlStrings) {
+		return execute(new RequestKey("GET", new ArrayList<String>(urlStrings), null), () -> dataLoader.get(urlStrings), SingleFlightDataLoader::copy);
+	}
+
+	@Override
+	public byte[] get(final String url, final boolean refresh) {
+		return execute(new RequestKey(refresh ? "GET_REFRESH" : "GET", url, null), () -> dataLoader.get(url, refresh), SingleFlightDataLoader::copy);
+	}
+
+	@Override
+	public byte[] post(final String url, final byte[] content) {
+		return execute(new RequestKey("POST", url, content), () -> dataLoader.post(url, content), SingleFlightDataLoader::copy);
+	}
+
+	@Override
+	public void setContentType(final String contentType) {
+		dataLoader.setContentType(contentType);
+	}
+
+	/**
+	 * Returns the number of requests which have been served by a call of
+	 * another thread
+	 * 
+	 * @return the number of coalesced requests
+	 */
+	public long getCoalescedRequests() {
+		return coalescedRequests.get();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T execute(final RequestKey key, final Supplier<T> call, final UnaryOperator<T> copier) {
+		final CompletableFuture<Object> future = new CompletableFuture<Object>();
+		final CompletableFuture<Object> inFlight = inFlightRequests.putIfAbsent(key, future);
+		if (inFlight != null) {
+			coalescedRequests.incrementAndGet();
+			LOG.debug("Waiting for the running request {}", key);
+			// the result is shared between the coalesced callers
+			return copier.apply((T) await(inFlight));
+		}
+
+		try {
+			T result = call.get();
+			future.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			// the waiting callers are never blocked, whatever happened
+			if (!future.isDone()) {
+				future.completeExceptionally(new DSSException("The request " + key + " has not been completed"));
+			}
+			inFlightRequests.remove(key, future);
+		}
+	}
+
+	private Object await(final CompletableFuture<Object> inFlight) {
+		try {
+			return inFlight.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new DSSException(cause);
+		}
+	}
+
+	private static byte[] copy(final byte[] data) {
+		return data != null ? data.clone() : null;
+	}
+
+	private static DataAndUrl copy(final DataAndUrl dataAndUrl) {
+		return dataAndUrl != null ? new DataAndUrl(copy(dataAndUrl.getData()), dataAndUrl.getUrlString()) : null;
+	}
+
+	private Object readResolve() {
+		return new SingleFlightDataLoader(dataLoader);
+	}
+
+	private static final class RequestKey {
+
+		private final String method;
+
+		private final Object url;
+
+		private final byte[] content;
+
+		private final int hashCode;
+
+		private RequestKey(String method, Object url, byte[] content) {
+			this.method = method;
+			this.url = url;
+			this.content = content;
+			this.hashCode = Objects.hash(method, url) * 31 + Arrays.hashCode(content);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof RequestKey)) {
+				return false;
+			}
+			RequestKey other = (RequestKey) obj;
+			return method.equals(other.method) && Objects.equals(url, other.url) && Arrays.equals(content, other.content);
+		}
+
+		@Override
+		public String toString() {
+			return method + " " + url;
+		}
+
+	}
+
+}
@@ -20,6 +20,9 @@
  */
 package eu.europa.esig.dss.spi.tsl;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -27,27 +30,50 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import eu.europa.esig.dss.enumerations.CertificateSourceType;
+import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.x509.CertificatePool;
 import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
 import eu.europa.esig.dss.utils.Utils;
 
 /**
  * This class allows to inject trusted certificates from Trusted Lists
+ * 
+ * The certificates, the trusted lists content (TL infos and trust services) and the trust anchor pool are kept in one
+ * immutable {@code TrustedListsContent} : a change builds a new content which replaces the previous one in a single
+ * volatile write. A validation never sees the certificates of a synchronization with the trust services or the pool
+ * of another one.
+ * 
+ * The certificates added one by one (see {@link #addCertificate(CertificateToken, List)}) are collected in a pending
+ * content which is only published (copied) on the next read : a manual loading does not copy the content for each
+ * certificate.
  */
 @SuppressWarnings("serial")
 public class TrustedListsCertificateSource extends CommonTrustedCertificateSource {
 
 	private static final Logger LOG = LoggerFactory.getLogger(TrustedListsCertificateSource.class);
 
-	private Map<String, TLInfo> tlInfos = new HashMap<String, TLInfo>();
+	/**
+	 * The current content, replaced as a whole (see {@link #synchronize(Map, Map)})
+	 */
+	private volatile TrustedListsContent content = new TrustedListsContent();
+
+	/**
+	 * The changes made by {@link #addCertificate(CertificateToken, List)} and not published yet (guarded by this)
+	 */
+	private transient PendingContent pendingContent;
 
-	private Map<String, List<ServiceInfo>> trustServicesByEntity = new HashMap<String, List<ServiceInfo>>();
+	/**
+	 * True if {@code pendingContent} must be published before a read
+	 */
+	private volatile boolean pendingChanges;
 
 	/**
 	 * The default constructor.
@@ -61,30 +87,97 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 		return CertificateSourceType.TRUSTED_LIST;
 	}
 
-	public void reinit() {
-		tlInfos = new HashMap<String, TLInfo>();
-		trustServicesByEntity = new HashMap<String, List<ServiceInfo>>();
+	/**
+	 * Removes all the certificates and the trusted lists content
+	 */
+	public synchronized void reinit() {
+		discardPendingContent();
+		content = new TrustedListsContent();
+	}
+
+	/**
+	 * Adds a trusted certificate with its trust services. The change is published with the following ones on the next
+	 * read : use {@link #synchronize(Map, Map)} to load the trusted lists.
+	 * 
+	 * @param certificate
+	 *            the certificate to trust
+	 * @param serviceInfos
+	 *            the trust services of the certificate
+	 */
+	public synchronized void addCertificate(CertificateToken certificate, List<ServiceInfo> serviceInfos) {
+		if (pendingContent == null) {
+			pendingContent = new PendingContent(content);
+		}
+		pendingContent.add(certificate, serviceInfos);
+		pendingChanges = true;
 	}
 
-	public void addCertificate(CertificateToken certificate, List<ServiceInfo> serviceInfos) {
-		certificate = super.addCertificate(certificate);
+	/**
+	 * Returns the current content, with the pending changes
+	 */
+	private TrustedListsContent getContent() {
+		if (pendingChanges) {
+			synchronized (this) {
+				publishPendingContent();
+			}
+		}
+		return content;
+	}
 
-		String entityKey = certificate.getEntityKey();
+	/**
+	 * Publishes the pending changes (the trust anchor pool is rebuilt on demand with a new version)
+	 */
+	private void publishPendingContent() {
+		if (pendingContent != null) {
+			content = new TrustedListsContent(pendingContent.certificates, content.tlInfos, pendingContent.trustServicesByEntity,
+					null, 0);
+			discardPendingContent();
+		}
+	}
 
-		synchronized (trustServicesByEntity) {
+	private void discardPendingContent() {
+		pendingContent = null;
+		pendingChanges = false;
+	}
 
-			if (trustServicesByEntity.containsKey(entityKey)) {
-				List<ServiceInfo> storedServiceInfos = trustServicesByEntity.get(entityKey);
-				if (!Arrays.equals(serviceInfos.toArray(new ServiceInfo[serviceInfos.size()]),
-						storedServiceInfos.toArray(new ServiceInfo[storedServiceInfos.size()]))) {
-					storedServiceInfos.addAll(serviceInfos);
-				}
-			} else {
-				trustServicesByEntity.put(entityKey, serviceInfos);
+	private static void addTrustServices(Map<String, List<ServiceInfo>> trustServicesByEntity, String entityKey, List<ServiceInfo> serviceInfos) {
+		if (trustServicesByEntity.containsKey(entityKey)) {
+			List<ServiceInfo> storedServiceInfos = trustServicesByEntity.get(entityKey);
+			if (!Arrays.equals(serviceInfos.toArray(new ServiceInfo[serviceInfos.size()]),
+					storedServiceInfos.toArray(new ServiceInfo[storedServiceInfos.size()]))) {
+				storedServiceInfos.addAll(serviceInfos);
 			}
+		} else {
+			trustServicesByEntity.put(entityKey, new ArrayList<ServiceInfo>(serviceInfos));
+		}
+	}
 
+	private static Map<String, List<ServiceInfo>> copy(Map<String, List<ServiceInfo>> trustServicesByEntity) {
+		Map<String, List<ServiceInfo>> copy = new HashMap<String, List<ServiceInfo>>();
+		for (Entry<String, List<ServiceInfo>> entry : trustServicesByEntity.entrySet()) {
+			copy.put(entry.getKey(), new ArrayList<ServiceInfo>(entry.getValue()));
 		}
+		return copy;
+	}
 
+	/**
+	 * Replaces the trusted lists content. The certificates, the trust services and the trust anchor pool are built
+	 * aside and published together. The validations in progress keep on seeing the previous content.
+	 * 
+	 * @param servicesByCert
+	 *            the trust services for each certificate of the trusted lists (not modified)
+	 * @param tlInfos
+	 *            the TL info for each country code
+	 */
+	public synchronized void synchronize(Map<CertificateToken, List<ServiceInfo>> servicesByCert, Map<String, TLInfo> tlInfos) {
+		discardPendingContent();
+		Map<String, List<ServiceInfo>> trustServicesByEntity = new HashMap<String, List<ServiceInfo>>();
+		for (Entry<CertificateToken, List<ServiceInfo>> entry : servicesByCert.entrySet()) {
+			addTrustServices(trustServicesByEntity, entry.getKey().getEntityKey(), entry.getValue());
+		}
+		List<CertificateToken> certificates = new ArrayList<CertificateToken>(servicesByCert.keySet());
+		content = new TrustedListsContent(certificates, tlInfos, trustServicesByEntity, buildTrustAnchorPool(certificates),
+				nextTrustAnchorPoolVersion());
 	}
 
 	/**
@@ -100,16 +193,95 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 		throw new UnsupportedOperationException("Cannot directly add certificate to a TrustedListsCertificateSource");
 	}
 
-	public void updateTlInfo(String countryCode, TLInfo info) {
+	/**
+	 * Removes the certificate (its trust services are kept). The certificates which are no longer in a trusted list are
+	 * removed by {@link #synchronize(Map, Map)}
+	 */
+	@Override
+	public synchronized boolean removeCertificate(CertificateToken certificate) {
+		publishPendingContent();
+		TrustedListsContent current = content;
+		List<CertificateToken> certificates = new ArrayList<CertificateToken>(current.certificates);
+		if (!certificates.remove(certificate)) {
+			return false;
+		}
+		content = new TrustedListsContent(certificates, current.tlInfos, current.trustServicesByEntity, null, 0);
+		return true;
+	}
+
+	@Override
+	public List<CertificateToken> getCertificates() {
+		return getContent().certificates;
+	}
+
+	@Override
+	public int getNumberOfCertificates() {
+		return getContent().certificates.size();
+	}
+
+	@Override
+	public CertificateToken getCertificateTokenByDigest(Digest digest) {
+		for (CertificateToken certificate : getContent().certificates) {
+			if (Arrays.equals(certificate.getDigest(digest.getAlgorithm()), digest.getValue())) {
+				return certificate;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public boolean isTrusted(CertificateToken certificateToken) {
+		return getTrustAnchorPool().isTrusted(certificateToken);
+	}
+
+	@Override
+	public CertificatePool getTrustAnchorPool() {
+		TrustedListsContent current = getContent();
+		if (current.trustAnchorPool != null) {
+			return current.trustAnchorPool;
+		}
+		return refreshTrustAnchorPool();
+	}
+
+	@Override
+	public synchronized CertificatePool refreshTrustAnchorPool() {
+		publishPendingContent();
+		TrustedListsContent current = content;
+		content = new TrustedListsContent(current.certificates, current.tlInfos, current.trustServicesByEntity,
+				buildTrustAnchorPool(current.certificates), nextTrustAnchorPoolVersion());
+		return content.trustAnchorPool;
+	}
+
+	@Override
+	public long getTrustAnchorPoolVersion() {
+		getTrustAnchorPool();
+		return getContent().version;
+	}
+
+	private CertificatePool buildTrustAnchorPool(List<CertificateToken> certificates) {
+		final CertificatePool pool = new CertificatePool();
+		for (CertificateToken certificate : certificates) {
+			pool.getInstance(certificate, getCertificateSourceType());
+		}
+		pool.makeImmutable();
+		return pool;
+	}
+
+	public synchronized void updateTlInfo(String countryCode, TLInfo info) {
+		publishPendingContent();
+		TrustedListsContent current = content;
+		Map<String, TLInfo> tlInfos = new HashMap<String, TLInfo>(current.tlInfos);
 		tlInfos.put(countryCode, info);
+		content = new TrustedListsContent(current.certificates, tlInfos, current.trustServicesByEntity, current.trustAnchorPool,
+				current.version);
 	}
 
 	public TLInfo getTlInfo(String countryCode) {
-		return tlInfos.get(countryCode);
+		return getContent().tlInfos.get(countryCode);
 	}
 
 	public TLInfo getLotlInfo() {
-		for (TLInfo tlInfo : tlInfos.values()) {
+		for (TLInfo tlInfo : getContent().tlInfos.values()) {
 			if (tlInfo.isLotl()) {
 				return tlInfo;
 			}
@@ -118,12 +290,12 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 	}
 
 	public Map<String, TLInfo> getSummary() {
-		return tlInfos;
+		return getContent().tlInfos;
 	}
 
 	@Override
 	public Set<ServiceInfo> getTrustServices(CertificateToken token) {
-		List<ServiceInfo> trustServicesForToken = trustServicesByEntity.get(token.getEntityKey());
+		List<ServiceInfo> trustServicesForToken = getContent().trustServicesByEntity.get(token.getEntityKey());
 		if (trustServicesForToken != null) {
 			return new HashSet<ServiceInfo>(trustServicesForToken);
 		} else {
@@ -164,7 +336,71 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 	}
 
 	public int getNumberOfTrustedPublicKeys() {
-		return trustServicesByEntity.size();
+		return getContent().trustServicesByEntity.size();
+	}
+
+	private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+		publishPendingContent();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 * The mutable copy of the content which collects the certificates added one by one
+	 */
+	private static final class PendingContent {
+
+		private final List<CertificateToken> certificates;
+		private final Set<CertificateToken> certificateSet;
+		private final Map<String, List<ServiceInfo>> trustServicesByEntity;
+
+		private PendingContent(TrustedListsContent current) {
+			this.certificates = new ArrayList<CertificateToken>(current.certificates);
+			this.certificateSet = new HashSet<CertificateToken>(current.certificates);
+			this.trustServicesByEntity = copy(current.trustServicesByEntity);
+		}
+
+		private void add(CertificateToken certificate, List<ServiceInfo> serviceInfos) {
+			if (certificateSet.add(certificate)) {
+				certificates.add(certificate);
+			}
+			addTrustServices(trustServicesByEntity, certificate.getEntityKey(), serviceInfos);
+		}
+
+	}
+
+	/**
+	 * The immutable content of the source
+	 */
+	private static final class TrustedListsContent implements Serializable {
+
+		private static final long serialVersionUID = -5385137420447367414L;
+
+		private final List<CertificateToken> certificates;
+		private final Map<String, TLInfo> tlInfos;
+		private final Map<String, List<ServiceInfo>> trustServicesByEntity;
+
+		/* Built on demand after a deserialization or a manual change, with a new version */
+		private final transient CertificatePool trustAnchorPool;
+		private final long version;
+
+		private TrustedListsContent() {
+			this(Collections.<CertificateToken> emptyList(), Collections.<String, TLInfo> emptyMap(),
+					Collections.<String, List<ServiceInfo>> emptyMap(), null, 0);
+		}
+
+		private TrustedListsContent(List<CertificateToken> certificates, Map<String, TLInfo> tlInfos,
+				Map<String, List<ServiceInfo>> trustServicesByEntity, CertificatePool trustAnchorPool, long version) {
+			this.certificates = Collections.unmodifiableList(new ArrayList<CertificateToken>(certificates));
+			this.tlInfos = Collections.unmodifiableMap(new HashMap<String, TLInfo>(tlInfos));
+			Map<String, List<ServiceInfo>> services = new HashMap<String, List<ServiceInfo>>();
+			for (Entry<String, List<ServiceInfo>> entry : trustServicesByEntity.entrySet()) {
+				services.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<ServiceInfo>(entry.getValue())));
+			}
+			this.trustServicesByEntity = Collections.unmodifiableMap(services);
+			this.trustAnchorPool = trustAnchorPool;
+			this.version = version;
+		}
+
 	}
 
 }
@@ -20,9 +20,12 @@
  */
 package eu.europa.esig.dss.spi.util;
 
+import java.io.Serializable;
 import java.util.Date;
 
-public class BaseTimeDependent implements TimeDependent {
+public class BaseTimeDependent implements Serializable, TimeDependent {
+
+	private static final long serialVersionUID = -2431700825985854856L;
 
 	private Date startDate;
 	private Date endDate;
@@ -20,10 +20,13 @@
  */
 package eu.europa.esig.dss.spi.x509;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceBatchSupport;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
 
 /**
@@ -31,10 +34,14 @@ import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
  * is mainly used to collect revocations from discovered urls in the trusted
  * lists (supplyPoint).
  * 
+ * The batch requests are forwarded to the wrapped source when it supports them
+ * : the alternative urls are then used by the single requests of the
+ * certificates which are not covered by the batch result.
+ * 
  * @param <T>
  *        a sub-class of {@code RevocationToken}
  */
-public class AlternateUrlsSourceAdapter<T extends RevocationToken> implements RevocationSourceAlternateUrlsSupport<T> {
+public class AlternateUrlsSourceAdapter<T extends RevocationToken> implements RevocationSourceAlternateUrlsSupport<T>, RevocationSourceBatchSupport<T> {
 
 	private static final long serialVersionUID = 3375119421036319160L;
 
@@ -56,4 +63,13 @@ public class AlternateUrlsSourceAdapter<T extends RevocationToken> implements Re
 		return wrappedSource.getRevocationToken(certificateToken, issuerCertificateToken, alternativeUrls);
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<CertificateToken, T> getRevocationTokens(Map<CertificateToken, CertificateToken> certificatesAndIssuers) {
+		if (wrappedSource instanceof RevocationSourceBatchSupport) {
+			return ((RevocationSourceBatchSupport<T>) wrappedSource).getRevocationTokens(certificatesAndIssuers);
+		}
+		return Collections.emptyMap();
+	}
+
 }
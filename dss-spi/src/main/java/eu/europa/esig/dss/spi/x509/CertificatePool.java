@@ -20,33 +20,36 @@
  */
 package eu.europa.esig.dss.spi.x509;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.math.BigInteger;
 import java.security.PublicKey;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.security.auth.x500.X500Principal;
 
-import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.asn1.ASN1Encoding;
+import org.bouncycastle.asn1.x500.X500Name;
 import org.bouncycastle.cms.SignerId;
-import org.bouncycastle.util.CollectionStore;
-import org.bouncycastle.util.Store;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import eu.europa.esig.dss.enumerations.CertificateSourceType;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.identifier.EntityIdentifier;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.Token;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 
 /**
@@ -56,6 +59,17 @@ import eu.europa.esig.dss.utils.Utils;
  * by its issuer DN and serial number. This class allows to keep only one
  * occurrence of the certificate regardless its provenance. A CertificateSource
  * can be imported with the {@link #importCerts(CertificateSource)} method .
+ * 
+ * The pool can be read and filled concurrently. The lookups by public key, SKI,
+ * subject and SignerId (issuer/serial number or key identifier) go through
+ * hash indexes. The SKI and SignerId indexes are built on the first lookup
+ * which needs them and then maintained on each insertion.
+ * 
+ * A pool can be made immutable with {@link #makeImmutable()} and shared as the
+ * base of several overlay pools (see {@link #CertificatePool(CertificatePool)}).
+ * An overlay only stores the certificates which are not already known by its
+ * base; an entity of the base is copied in the overlay on the first change
+ * (new equivalent certificate or new source).
  */
 public class CertificatePool implements Serializable {
 
@@ -68,19 +82,102 @@ public class CertificatePool implements Serializable {
 	 * 
 	 * All entries share the same keypair
 	 */
-	private Map<String, CertificatePoolEntity> entriesByPublicKeyHash = new HashMap<String, CertificatePoolEntity>();
+	private final Map<String, CertificatePoolEntity> entriesByPublicKeyHash = new ConcurrentHashMap<String, CertificatePoolEntity>();
+
+	/*
+	 * Map of entries, the key is the hex encoded SKI computed from the public key
+	 */
+	private final Map<String, CertificatePoolEntity> entriesBySki = new ConcurrentHashMap<String, CertificatePoolEntity>();
+
+	/*
+	 * Map of entries, the key is the canonicalized issuer and the serial number of
+	 * one of the equivalent certificates
+	 */
+	private final Map<String, CertificatePoolEntity> entriesByIssuerSerial = new ConcurrentHashMap<String, CertificatePoolEntity>();
+
+	/*
+	 * Map of entries, the key is the hex encoded key identifier used in a
+	 * SignerId (SKI extension value or SHA-1 of the SubjectPublicKeyInfo)
+	 */
+	private final Map<String, CertificatePoolEntity> entriesBySignerKeyId = new ConcurrentHashMap<String, CertificatePoolEntity>();
+
+	/*
+	 * Map of public key hashes for the public keys of the pool certificates
+	 */
+	private final Map<PublicKey, String> publicKeyHashes = new ConcurrentHashMap<PublicKey, String>();
+
+	/*
+	 * true when the inserted certificates have to be added in the SKI/SignerId
+	 * indexes (set before the initial build)
+	 */
+	private volatile boolean indexing = false;
+
+	/*
+	 * true when the SKI/SignerId indexes are complete
+	 */
+	private volatile boolean indexed = false;
+
+	/*
+	 * true when the pool cannot be modified anymore
+	 */
+	private volatile boolean immutable = false;
+
+	/*
+	 * The immutable pool which is completed by this one (null if none)
+	 */
+	private final CertificatePool basePool;
 
 	/*
 	 * Map of tokens, the key is the canonicalized SubjectX500Principal
 	 * 
 	 * For a same SubjectX500Principal, different keypairs are possible
 	 */
-	private Map<String, Set<CertificateToken>> tokensBySubject = new HashMap<String, Set<CertificateToken>>();
+	private final Map<String, Set<CertificateToken>> tokensBySubject = new ConcurrentHashMap<String, Set<CertificateToken>>();
 
 	public CertificatePool() {
+		this.basePool = null;
 		LOG.debug("New CertificatePool created");
 	}
 
+	/**
+	 * Creates an overlay pool on top of an immutable pool. The content of the base
+	 * pool is visible from the new instance without being copied.
+	 *
+	 * @param basePool
+	 *                 the immutable pool to complete
+	 */
+	public CertificatePool(final CertificatePool basePool) {
+		Objects.requireNonNull(basePool, "The base pool must be set");
+		if (!basePool.isImmutable()) {
+			throw new DSSException("The base pool must be immutable");
+		}
+		this.basePool = basePool;
+		LOG.debug("New CertificatePool created on top of a base pool");
+	}
+
+	/**
+	 * Builds the indexes and forbids any further modification of this pool. An
+	 * immutable pool can be shared between threads and used as the base of
+	 * overlay pools.
+	 */
+	public void makeImmutable() {
+		ensureIndexes();
+		immutable = true;
+	}
+
+	public boolean isImmutable() {
+		return immutable;
+	}
+
+	/**
+	 * Returns the immutable pool completed by this instance
+	 * 
+	 * @return the base pool or null
+	 */
+	public CertificatePool getBasePool() {
+		return basePool;
+	}
+
 	/**
 	 * This method returns the instance of a {@link CertificateToken}.
 	 *
@@ -93,38 +190,118 @@ public class CertificatePool implements Serializable {
 	public CertificateToken getInstance(final CertificateToken certificateToAdd, final CertificateSourceType certSource) {
 		Objects.requireNonNull(certificateToAdd, "The certificate must be filled");
 		Objects.requireNonNull(certSource, "The certificate source type must be set.");
+		if (immutable) {
+			throw new UnsupportedOperationException("Cannot add a certificate to an immutable CertificatePool");
+		}
 
 		if (LOG.isTraceEnabled()) {
 			LOG.trace("Certificate to add: {} | {}", certificateToAdd.getIssuerX500Principal(), certificateToAdd.getSerialNumber());
 		}
 
-		synchronized (entriesByPublicKeyHash) {
-			final String entityKey = certificateToAdd.getEntityKey();
-			CertificatePoolEntity poolEntity = entriesByPublicKeyHash.get(entityKey);
+		final String entityKey = certificateToAdd.getEntityKey();
+		CertificatePoolEntity poolEntity = entriesByPublicKeyHash.get(entityKey);
+		boolean newEntity = false;
+		if (poolEntity == null) {
+			final CertificatePoolEntity baseEntity = (basePool != null) ? basePool.entriesByPublicKeyHash.get(entityKey) : null;
+			if (baseEntity != null && baseEntity.isKnown(certificateToAdd, certSource)) {
+				// nothing to copy, the base pool already contains this certificate for this source
+				return certificateToAdd;
+			}
+			final CertificatePoolEntity entityToAdd;
+			if (baseEntity != null) {
+				entityToAdd = new CertificatePoolEntity(baseEntity);
+				entityToAdd.addEquivalentCertificate(certificateToAdd);
+				entityToAdd.addSource(certSource);
+			} else {
+				entityToAdd = new CertificatePoolEntity(certificateToAdd, certSource);
+			}
+			poolEntity = entriesByPublicKeyHash.putIfAbsent(entityKey, entityToAdd);
 			if (poolEntity == null) {
 				LOG.trace("Public key {} is not in the pool", entityKey);
-				poolEntity = new CertificatePoolEntity(certificateToAdd, certSource);
-				entriesByPublicKeyHash.put(entityKey, poolEntity);
-			} else {
-				LOG.trace("Public key {} is already in the pool", entityKey);
-				poolEntity.addEquivalentCertificate(certificateToAdd);
-				poolEntity.addSource(certSource);
+				poolEntity = entityToAdd;
+				newEntity = true;
+				publicKeyHashes.putIfAbsent(certificateToAdd.getPublicKey(), entityKey);
+				if (indexing) {
+					indexAll(entityToAdd);
+				}
 			}
 		}
-		
-		synchronized (tokensBySubject) {
-			String canonicalizedSubject = certificateToAdd.getCanonicalizedSubject();
-			Set<CertificateToken> tokensSet = tokensBySubject.get(canonicalizedSubject);
-			if (tokensSet == null) {
-				tokensSet = new HashSet<CertificateToken>();
-				tokensBySubject.put(canonicalizedSubject, tokensSet);
+		if (!newEntity) {
+			LOG.trace("Public key {} is already in the pool", entityKey);
+			if (poolEntity.addEquivalentCertificate(certificateToAdd) && indexing) {
+				index(certificateToAdd, poolEntity);
 			}
+			poolEntity.addSource(certSource);
+		}
+
+		final String canonicalizedSubject = certificateToAdd.getCanonicalizedSubject();
+		if (basePool != null && basePool.getTokensBySubject(canonicalizedSubject).contains(certificateToAdd)) {
+			return certificateToAdd;
+		}
+		Set<CertificateToken> tokensSet = tokensBySubject.get(canonicalizedSubject);
+		if (tokensSet == null) {
+			tokensSet = tokensBySubject.computeIfAbsent(canonicalizedSubject, k -> ConcurrentHashMap.newKeySet());
+		}
+		// the lock-free read avoids the contention on the most frequent case
+		if (!tokensSet.contains(certificateToAdd)) {
 			tokensSet.add(certificateToAdd);
 		}
-		
+
 		return certificateToAdd;
 	}
 
+	/**
+	 * Builds the SKI/SignerId indexes with the current content of the pool. The
+	 * certificates inserted concurrently are indexed by the inserting thread
+	 * because {@code indexing} is set before the iteration.
+	 */
+	private void ensureIndexes() {
+		if (!indexed) {
+			synchronized (this) {
+				if (!indexed) {
+					indexing = true;
+					for (CertificatePoolEntity poolEntity : entriesByPublicKeyHash.values()) {
+						indexAll(poolEntity);
+					}
+					indexed = true;
+				}
+			}
+		}
+	}
+
+	private void indexAll(final CertificatePoolEntity poolEntity) {
+		index(poolEntity);
+		for (CertificateToken certificate : poolEntity.getEquivalentCertificates()) {
+			index(certificate, poolEntity);
+		}
+	}
+
+	private void index(final CertificatePoolEntity poolEntity) {
+		entriesBySki.putIfAbsent(Utils.toHex(poolEntity.getSki()), poolEntity);
+	}
+
+	private void index(final CertificateToken certificate, final CertificatePoolEntity poolEntity) {
+		entriesByIssuerSerial.putIfAbsent(getIssuerSerialKey(certificate.getIssuerX500Principal(), certificate.getSerialNumber()), poolEntity);
+		entriesBySignerKeyId.putIfAbsent(Utils.toHex(getSignerKeyIdentifier(certificate)), poolEntity);
+	}
+
+	/**
+	 * Returns the key identifier used by BouncyCastle to match a SignerId : the
+	 * SKI extension value or the SHA-1 of the SubjectPublicKeyInfo if the
+	 * extension is missing
+	 */
+	private byte[] getSignerKeyIdentifier(final CertificateToken certificate) {
+		final byte[] ski = DSSASN1Utils.getSki(certificate);
+		if (ski != null) {
+			return ski;
+		}
+		return DSSUtils.digest(DigestAlgorithm.SHA1, certificate.getPublicKey().getEncoded());
+	}
+
+	private String getIssuerSerialKey(final X500Principal issuer, final BigInteger serialNumber) {
+		return canonicalize(issuer) + ":" + serialNumber;
+	}
+
 	public boolean isTrusted(CertificateToken cert) {
 		final CertificatePoolEntity poolEntity = getPoolEntry(cert);
 		return poolEntity != null && poolEntity.isTrusted();
@@ -218,9 +395,26 @@ public class CertificatePool implements Serializable {
 	 * @return If no match is found then an empty list is returned.
 	 */
 	public Set<CertificateToken> get(final X500Principal x500Principal) {
-		final Set<CertificateToken> tokensSet = tokensBySubject.get(canonicalize(x500Principal));
+		final String canonicalizedSubject = canonicalize(x500Principal);
+		final Set<CertificateToken> tokensSet = getTokensBySubject(canonicalizedSubject);
+		if (basePool != null) {
+			final Set<CertificateToken> baseTokensSet = basePool.getTokensBySubject(canonicalizedSubject);
+			if (!baseTokensSet.isEmpty()) {
+				if (tokensSet.isEmpty()) {
+					return baseTokensSet;
+				}
+				final Set<CertificateToken> result = new HashSet<CertificateToken>(baseTokensSet);
+				result.addAll(tokensSet);
+				return Collections.unmodifiableSet(result);
+			}
+		}
+		return tokensSet;
+	}
+
+	private Set<CertificateToken> getTokensBySubject(final String canonicalizedSubject) {
+		final Set<CertificateToken> tokensSet = tokensBySubject.get(canonicalizedSubject);
 		if (tokensSet != null) {
-			return tokensSet;
+			return Collections.unmodifiableSet(tokensSet);
 		}
 		return Collections.emptySet();
 	}
@@ -233,11 +427,7 @@ public class CertificatePool implements Serializable {
 	 * @return If no match is found then an empty list is returned.
 	 */
 	public List<CertificateToken> get(PublicKey publicKey) {
-		final CertificatePoolEntity poolEntity = entriesByPublicKeyHash.get(getPublicKeyHash(publicKey));
-		if (poolEntity != null) {
-			return poolEntity.getEquivalentCertificates();
-		}
-		return Collections.emptyList();
+		return getEquivalentCertificates(getPoolEntry(publicKey));
 	}
 
 	/**
@@ -249,13 +439,16 @@ public class CertificatePool implements Serializable {
 	 * @return If no match is found then an empty list is returned.
 	 */
 	public List<CertificateToken> getBySki(final byte[] expectedSki) {
-		Collection<CertificatePoolEntity> values = entriesByPublicKeyHash.values();
-		for (CertificatePoolEntity entity : values) {
-			if (Arrays.equals(expectedSki, entity.getSki())) {
-				return entity.getEquivalentCertificates();
-			}
+		return getEquivalentCertificates(getBySki(Utils.toHex(expectedSki)));
+	}
+
+	private CertificatePoolEntity getBySki(final String hexSki) {
+		ensureIndexes();
+		CertificatePoolEntity poolEntity = entriesBySki.get(hexSki);
+		if (poolEntity == null && basePool != null) {
+			poolEntity = getOverlayEntity(basePool.getBySki(hexSki));
 		}
-		return Collections.emptyList();
+		return poolEntity;
 	}
 
 	/**
@@ -265,31 +458,91 @@ public class CertificatePool implements Serializable {
 	 *                 expected signerId.
 	 * @return If no match is found then an empty list is returned.
 	 */
-	@SuppressWarnings("unchecked")
 	public List<CertificateToken> getBySignerId(SignerId signerId) {
-		Collection<CertificatePoolEntity> values = entriesByPublicKeyHash.values();
-		for (CertificatePoolEntity entity : values) {
-			List<CertificateToken> equivalentCertificates = entity.getEquivalentCertificates();
-			CertificateToken token = equivalentCertificates.iterator().next();
-			X509CertificateHolder x509CertificateHolder = DSSASN1Utils.getX509CertificateHolder(token);
-			Store<X509CertificateHolder> store = new CollectionStore<X509CertificateHolder>(Collections.singleton(x509CertificateHolder));
-			Collection<X509CertificateHolder> matches = store.getMatches(signerId);
-			if (!matches.isEmpty()) {
-				return equivalentCertificates;
+		// same precedence as the BouncyCastle SignerId matching
+		if (signerId.getSerialNumber() != null) {
+			if (signerId.getIssuer() == null) {
+				return Collections.emptyList();
+			}
+			X500Principal issuer = toX500Principal(signerId.getIssuer());
+			return getEquivalentCertificates(getByIssuerSerial(getIssuerSerialKey(issuer, signerId.getSerialNumber())));
+		} else if (signerId.getSubjectKeyIdentifier() != null) {
+			return getEquivalentCertificates(getBySignerKeyId(Utils.toHex(signerId.getSubjectKeyIdentifier())));
+		}
+		return Collections.emptyList();
+	}
+
+	private CertificatePoolEntity getByIssuerSerial(final String issuerSerialKey) {
+		ensureIndexes();
+		CertificatePoolEntity poolEntity = entriesByIssuerSerial.get(issuerSerialKey);
+		if (poolEntity == null && basePool != null) {
+			poolEntity = getOverlayEntity(basePool.getByIssuerSerial(issuerSerialKey));
+		}
+		return poolEntity;
+	}
+
+	private CertificatePoolEntity getBySignerKeyId(final String hexKeyId) {
+		ensureIndexes();
+		CertificatePoolEntity poolEntity = entriesBySignerKeyId.get(hexKeyId);
+		if (poolEntity == null && basePool != null) {
+			poolEntity = getOverlayEntity(basePool.getBySignerKeyId(hexKeyId));
+		}
+		return poolEntity;
+	}
+
+	/**
+	 * Returns the copy of the given base entity if this overlay has changed it,
+	 * otherwise the base entity itself
+	 */
+	private CertificatePoolEntity getOverlayEntity(final CertificatePoolEntity baseEntity) {
+		if (baseEntity != null) {
+			final CertificatePoolEntity overlayEntity = entriesByPublicKeyHash.get(baseEntity.getId());
+			if (overlayEntity != null) {
+				return overlayEntity;
 			}
 		}
+		return baseEntity;
+	}
+
+	private X500Principal toX500Principal(X500Name x500Name) {
+		try {
+			return new X500Principal(x500Name.getEncoded(ASN1Encoding.DER));
+		} catch (IOException e) {
+			throw new DSSException("Unable to encode the issuer name", e);
+		}
+	}
+
+	private List<CertificateToken> getEquivalentCertificates(CertificatePoolEntity poolEntity) {
+		if (poolEntity != null) {
+			return poolEntity.getEquivalentCertificates();
+		}
 		return Collections.emptyList();
 	}
 
 	private CertificatePoolEntity getPoolEntry(CertificateToken cert) {
-		return entriesByPublicKeyHash.get(cert.getEntityKey());
+		return getPoolEntry(cert.getEntityKey());
 	}
 
 	private CertificatePoolEntity getPoolEntry(PublicKey pubKey) {
-		return entriesByPublicKeyHash.get(getPublicKeyHash(pubKey));
+		return getPoolEntry(getPublicKeyHash(pubKey));
+	}
+
+	private CertificatePoolEntity getPoolEntry(String entityKey) {
+		final CertificatePoolEntity poolEntity = entriesByPublicKeyHash.get(entityKey);
+		if (poolEntity == null && basePool != null) {
+			return basePool.entriesByPublicKeyHash.get(entityKey);
+		}
+		return poolEntity;
 	}
 
 	private String getPublicKeyHash(PublicKey pk) {
+		String publicKeyHash = publicKeyHashes.get(pk);
+		if (publicKeyHash == null && basePool != null) {
+			publicKeyHash = basePool.publicKeyHashes.get(pk);
+		}
+		if (publicKeyHash != null) {
+			return publicKeyHash;
+		}
 		EntityIdentifier id = new EntityIdentifier(pk);
 		return id.asXmlId();
 	}
@@ -323,7 +576,7 @@ public class CertificatePool implements Serializable {
 	 * @return the number of entities
 	 */
 	public int getNumberOfEntities() {
-		return entriesByPublicKeyHash.size();
+		return getEntities().size();
 	}
 
 	/**
@@ -333,7 +586,7 @@ public class CertificatePool implements Serializable {
 	 */
 	public int getNumberOfCertificates() {
 		int i = 0;
-		for (CertificatePoolEntity entity : entriesByPublicKeyHash.values()) {
+		for (CertificatePoolEntity entity : getEntities()) {
 			i += entity.getEquivalentCertificates().size();
 		}
 		return i;
@@ -341,10 +594,27 @@ public class CertificatePool implements Serializable {
 
 	public List<CertificateToken> getCertificateTokens() {
 		List<CertificateToken> certs = new ArrayList<CertificateToken>();
-		for (CertificatePoolEntity entity : entriesByPublicKeyHash.values()) {
+		for (CertificatePoolEntity entity : getEntities()) {
 			certs.addAll(entity.getEquivalentCertificates());
 		}
 		return certs;
 	}
 
+	/**
+	 * Returns the entities of this pool and the ones of the base pool which are not
+	 * overridden
+	 */
+	private Collection<CertificatePoolEntity> getEntities() {
+		if (basePool == null) {
+			return entriesByPublicKeyHash.values();
+		}
+		final List<CertificatePoolEntity> entities = new ArrayList<CertificatePoolEntity>(entriesByPublicKeyHash.values());
+		for (CertificatePoolEntity baseEntity : basePool.getEntities()) {
+			if (!entriesByPublicKeyHash.containsKey(baseEntity.getId())) {
+				entities.add(baseEntity);
+			}
+		}
+		return entities;
+	}
+
 }
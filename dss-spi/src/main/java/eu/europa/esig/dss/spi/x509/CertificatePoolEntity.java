@@ -21,12 +21,12 @@
 package eu.europa.esig.dss.spi.x509;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,7 +39,7 @@ import eu.europa.esig.dss.spi.DSSASN1Utils;
  * This class re-groups equivalent certificates.
  * 
  * All certificates for a given {@code CertificatePoolEntity} have the same
- * public key.
+ * public key. The entity can be read and updated concurrently.
  */
 class CertificatePoolEntity implements Serializable {
 	
@@ -60,12 +60,12 @@ class CertificatePoolEntity implements Serializable {
 	/**
 	 * Equivalent certificates (which have the same public key)
 	 */
-	private final List<CertificateToken> equivalentCertificates = new ArrayList<CertificateToken>();
+	private final List<CertificateToken> equivalentCertificates = new CopyOnWriteArrayList<CertificateToken>();
 
 	/**
 	 * This Set contains the different sources for this certificate.
 	 */
-	private final Set<CertificateSourceType> sources = new HashSet<CertificateSourceType>();
+	private final Set<CertificateSourceType> sources = ConcurrentHashMap.newKeySet();
 
 	CertificatePoolEntity(CertificateToken initialCert, CertificateSourceType source) {
 		id = initialCert.getEntityKey();
@@ -74,19 +74,64 @@ class CertificatePoolEntity implements Serializable {
 		sources.add(source);
 	}
 
-	void addEquivalentCertificate(CertificateToken token) {
-		if (!equivalentCertificates.contains(token)) {
-			LOG.trace("Certificate with same public key detected : {}", token.getAbbreviation());
-			// we manually recompute the SKI (we had cases with wrongly encoded value in the
-			// certificate)
-			final byte[] newSKI = DSSASN1Utils.computeSkiFromCert(token);
-			// This should never happen
-			if (!Arrays.equals(newSKI, ski)) {
-				LOG.warn("Token {} is skipped", token);
-			} else {
-				equivalentCertificates.add(token);
+	/**
+	 * Creates a copy of the given entity
+	 * 
+	 * @param entity
+	 *               the entity to copy
+	 */
+	CertificatePoolEntity(CertificatePoolEntity entity) {
+		id = entity.id;
+		ski = entity.ski;
+		equivalentCertificates.addAll(entity.equivalentCertificates);
+		sources.addAll(entity.sources);
+	}
+
+	String getId() {
+		return id;
+	}
+
+	/**
+	 * Checks if the certificate and the source are already known by this entity
+	 * 
+	 * @param token
+	 *               the certificate with the same public key
+	 * @param source
+	 *               the source of the certificate
+	 * @return true if nothing has to be added
+	 */
+	boolean isKnown(CertificateToken token, CertificateSourceType source) {
+		return sources.contains(source) && equivalentCertificates.contains(token);
+	}
+
+	/**
+	 * Adds the certificate to the equivalent certificates
+	 * 
+	 * @param token
+	 *              the certificate with the same public key
+	 * @return true if the certificate has been added (not yet present and
+	 *         accepted)
+	 */
+	boolean addEquivalentCertificate(CertificateToken token) {
+		if (equivalentCertificates.contains(token)) {
+			return false;
+		}
+		synchronized (equivalentCertificates) {
+			if (!equivalentCertificates.contains(token)) {
+				LOG.trace("Certificate with same public key detected : {}", token.getAbbreviation());
+				// we manually recompute the SKI (we had cases with wrongly encoded value in the
+				// certificate)
+				final byte[] newSKI = DSSASN1Utils.computeSkiFromCert(token);
+				// This should never happen
+				if (!Arrays.equals(newSKI, ski)) {
+					LOG.warn("Token {} is skipped", token);
+				} else {
+					equivalentCertificates.add(token);
+					return true;
+				}
 			}
 		}
+		return false;
 	}
 	
 	byte[] getSki() {
@@ -94,7 +139,9 @@ class CertificatePoolEntity implements Serializable {
 	}
 
 	void addSource(CertificateSourceType source) {
-		sources.add(source);
+		if (!sources.contains(source)) {
+			sources.add(source);
+		}
 	}
 
 	List<CertificateToken> getEquivalentCertificates() {
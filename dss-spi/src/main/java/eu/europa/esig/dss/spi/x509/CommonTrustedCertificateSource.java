@@ -23,6 +23,7 @@ package eu.europa.esig.dss.spi.x509;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import eu.europa.esig.dss.enumerations.CertificateSourceType;
 import eu.europa.esig.dss.model.x509.CertificateToken;
@@ -30,14 +31,123 @@ import eu.europa.esig.dss.spi.tsl.ServiceInfo;
 
 /**
  * This class represents the simple list of trusted certificates.
+ * 
+ * The trusted certificates are also exposed as an immutable and indexed
+ * {@code CertificatePool} (see {@link #getTrustAnchorPool()}) which is shared by
+ * the validation pools instead of being copied in each of them.
  *
  */
 @SuppressWarnings("serial")
 public class CommonTrustedCertificateSource extends CommonCertificateSource {
 
+	/**
+	 * Source of the trust anchor pool versions, unique in the JVM
+	 */
+	private static final AtomicLong TRUST_ANCHOR_POOL_VERSIONS = new AtomicLong();
+
+	/**
+	 * The immutable pool with the trusted certificates (built on demand)
+	 */
+	private transient volatile CertificatePool trustAnchorPool;
+
+	/**
+	 * true when the certificates have changed since the build of the trust
+	 * anchor pool
+	 */
+	private transient volatile boolean trustAnchorPoolOutdated = true;
+
+	/**
+	 * The version of the current trust anchor pool
+	 */
+	private transient volatile long trustAnchorPoolVersion;
+
 	public CommonTrustedCertificateSource() {
 	}
 
+	@Override
+	public CertificateToken addCertificate(final CertificateToken token) {
+		final CertificateToken certToken = super.addCertificate(token);
+		trustAnchorPoolOutdated = true;
+		return certToken;
+	}
+
+	@Override
+	public boolean removeCertificate(CertificateToken certificate) {
+		final boolean removed = super.removeCertificate(certificate);
+		trustAnchorPoolOutdated = true;
+		return removed;
+	}
+
+	/**
+	 * Returns the immutable pool which contains the certificates of this source.
+	 * The pool is built on the first call and rebuilt after a change of the
+	 * certificates (see {@link #isTrustAnchorPoolOutdated()}).
+	 * 
+	 * @return the shared {@code CertificatePool} with the trusted certificates
+	 */
+	public CertificatePool getTrustAnchorPool() {
+		CertificatePool pool = trustAnchorPool;
+		if (pool == null || isTrustAnchorPoolOutdated()) {
+			synchronized (this) {
+				pool = trustAnchorPool;
+				if (pool == null || isTrustAnchorPoolOutdated()) {
+					pool = refreshTrustAnchorPool();
+				}
+			}
+		}
+		return pool;
+	}
+
+	/**
+	 * Builds a new trust anchor pool with the current certificates and replaces
+	 * the previous one. The validations in progress keep the pool they started
+	 * with.
+	 * 
+	 * @return the new trust anchor pool
+	 */
+	public synchronized CertificatePool refreshTrustAnchorPool() {
+		trustAnchorPoolOutdated = false;
+		final CertificatePool pool = new CertificatePool();
+		pool.importCerts(this);
+		pool.makeImmutable();
+		trustAnchorPool = pool;
+		trustAnchorPoolVersion = nextTrustAnchorPoolVersion();
+		return pool;
+	}
+
+	/**
+	 * Returns the version of the trust anchor pool returned by
+	 * {@link #getTrustAnchorPool()}. A new version is assigned each time the
+	 * pool is rebuilt, so the version changes with the trusted content (e.g.
+	 * after a trusted lists synchronization) and never goes back to a previous
+	 * value in the JVM.
+	 * 
+	 * @return the version of the current trust anchor pool
+	 */
+	public long getTrustAnchorPoolVersion() {
+		getTrustAnchorPool();
+		return trustAnchorPoolVersion;
+	}
+
+	/**
+	 * Returns a new trust anchor pool version, unique in the JVM
+	 * 
+	 * @return the new version
+	 */
+	protected static long nextTrustAnchorPoolVersion() {
+		return TRUST_ANCHOR_POOL_VERSIONS.incrementAndGet();
+	}
+
+	/**
+	 * Checks if the trust anchor pool has to be rebuilt on the next call of
+	 * {@link #getTrustAnchorPool()}
+	 * 
+	 * @return true if the certificates have changed since the build of the pool
+	 */
+	protected boolean isTrustAnchorPoolOutdated() {
+		return trustAnchorPoolOutdated;
+	}
+
 	@Override
 	public CertificateSourceType getCertificateSourceType() {
 		return CertificateSourceType.TRUSTED_STORE;
@@ -0,0 +1,263 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+
+/**
+ * Abstract class to cache revocation tokens in memory. The cache is bounded by
+ * a maximum number of entries and optionally by a maximum weight (the sum of
+ * the encoded sizes of the revocation data). The least recently used entries
+ * are evicted first.
+ * 
+ * @param <T> - {@link CRLToken} or {@link OCSPToken}
+ */
+public abstract class MemoryRevocationSource<T extends RevocationToken> extends RepositoryRevocationSource<T> {
+
+	private static final Logger LOG = LoggerFactory.getLogger(MemoryRevocationSource.class);
+
+	private static final long serialVersionUID = -2416232867305466154L;
+
+	/**
+	 * Default maximum number of cached revocation tokens
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+	/**
+	 * Cached tokens by revocation token key (access ordered)
+	 */
+	private final LinkedHashMap<String, T> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+	private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+	/**
+	 * Maximum sum of the encoded revocation data sizes (in bytes), no limit if
+	 * not positive
+	 */
+	private long maximumWeight = -1;
+
+	private long weight;
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	/**
+	 * Builds a new {@link RevocationToken} for the given certificate from the
+	 * cached one
+	 * 
+	 * @param cachedToken
+	 *                               the cached {@link RevocationToken}
+	 * @param certificateToken
+	 *                               {@link CertificateToken} of certificate to
+	 *                               get revocation data for
+	 * @param issuerCertificateToken
+	 *                               {@link CertificateToken} if issuer of the
+	 *                               certificateToken
+	 * @return {@link RevocationToken} with the CACHED origin
+	 */
+	protected abstract T buildRevocationToken(T cachedToken, CertificateToken certificateToken, CertificateToken issuerCertificateToken);
+
+	/**
+	 * Sets the maximum number of cached revocation tokens (1000 by default)
+	 * 
+	 * @param maximumSize
+	 *                    the maximum number of entries
+	 */
+	public void setMaximumSize(int maximumSize) {
+		synchronized (cache) {
+			this.maximumSize = maximumSize;
+			evict();
+		}
+	}
+
+	/**
+	 * Sets the maximum sum of the encoded revocation data sizes in bytes. A
+	 * token bigger than this limit is never cached. Not limited by default.
+	 * 
+	 * @param maximumWeight
+	 *                      the maximum weight in bytes (not limited if not
+	 *                      positive)
+	 */
+	public void setMaximumWeight(long maximumWeight) {
+		synchronized (cache) {
+			this.maximumWeight = maximumWeight;
+			evict();
+		}
+	}
+
+	@Override
+	protected T findRevocation(String key, CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		T cachedToken;
+		synchronized (cache) {
+			cachedToken = cache.get(key);
+		}
+		if (cachedToken == null) {
+			return null;
+		}
+		return buildRevocationToken(cachedToken, certificateToken, issuerCertificateToken);
+	}
+
+	@Override
+	protected void cacheLookupCompleted(boolean hit) {
+		if (hit) {
+			hitCount.incrementAndGet();
+		} else {
+			missCount.incrementAndGet();
+		}
+	}
+
+	@Override
+	protected void insertRevocation(T token) {
+		put(token);
+	}
+
+	@Override
+	protected void updateRevocation(T token) {
+		put(token);
+	}
+
+	@Override
+	protected void removeRevocation(T token) {
+		synchronized (cache) {
+			T removed = cache.remove(token.getRevocationTokenKey());
+			if (removed != null) {
+				weight -= getWeight(removed);
+			}
+		}
+	}
+
+	private void put(T token) {
+		String key = token.getRevocationTokenKey();
+		if (key == null) {
+			LOG.debug("Revocation token without key cannot be cached");
+			return;
+		}
+		long tokenWeight = getWeight(token);
+		synchronized (cache) {
+			if (maximumWeight > 0 && tokenWeight > maximumWeight) {
+				LOG.info("Revocation token with key '{}' is too big to be cached ({} bytes)", key, tokenWeight);
+				T removed = cache.remove(key);
+				if (removed != null) {
+					weight -= getWeight(removed);
+				}
+				return;
+			}
+			T previous = cache.put(key, token);
+			if (previous != null) {
+				weight -= getWeight(previous);
+			}
+			weight += tokenWeight;
+			evict();
+		}
+	}
+
+	/* Must be called in a synchronized block on the cache */
+	private void evict() {
+		Iterator<Map.Entry<String, T>> iterator = cache.entrySet().iterator();
+		while (iterator.hasNext() && (cache.size() > maximumSize || (maximumWeight > 0 && weight > maximumWeight))) {
+			Map.Entry<String, T> eldest = iterator.next();
+			iterator.remove();
+			weight -= getWeight(eldest.getValue());
+			evictionCount.incrementAndGet();
+			LOG.debug("Revocation token with key '{}' is evicted from the cache", eldest.getKey());
+		}
+	}
+
+	private long getWeight(T token) {
+		byte[] encoded = token.getEncoded();
+		return encoded == null ? 0 : encoded.length;
+	}
+
+	/**
+	 * Removes all the cached revocation tokens
+	 */
+	public void clear() {
+		synchronized (cache) {
+			cache.clear();
+			weight = 0;
+		}
+	}
+
+	/**
+	 * Returns the number of cached revocation tokens
+	 * 
+	 * @return the number of entries
+	 */
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Returns the sum of the encoded sizes of the cached revocation data
+	 * 
+	 * @return the weight in bytes
+	 */
+	public long getWeight() {
+		synchronized (cache) {
+			return weight;
+		}
+	}
+
+	/**
+	 * Returns the number of lookups which returned a not expired revocation token
+	 * 
+	 * @return the hit count
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Returns the number of lookups without any revocation token or with an
+	 * expired one
+	 * 
+	 * @return the miss count
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Returns the number of revocation tokens evicted because of the size or the
+	 * weight limits
+	 * 
+	 * @return the eviction count
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+}
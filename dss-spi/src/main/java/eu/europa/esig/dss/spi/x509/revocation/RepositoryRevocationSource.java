@@ -2,7 +2,10 @@ package eu.europa.esig.dss.spi.x509.revocation;
 
 import java.util.Date;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,7 +14,7 @@ import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
 
-public abstract class RepositoryRevocationSource<T extends RevocationToken> implements RevocationSource<T> {
+public abstract class RepositoryRevocationSource<T extends RevocationToken> implements RevocationSourceBatchSupport<T> {
 
 	private static final Logger LOG = LoggerFactory.getLogger(RepositoryRevocationSource.class); 
 
@@ -167,6 +170,7 @@ public abstract class RepositoryRevocationSource<T extends RevocationToken> impl
 			LOG.info("Cache is skipped to retrieve the revocation token for certificate '{}'", certificateToken.getDSSIdAsString());
 		} else {
 			T cachedRevocationToken = extractRevocationFromCacheSource(certificateToken, issuerCertificateToken, keys);
+			cacheLookupCompleted(cachedRevocationToken != null);
 			if (cachedRevocationToken != null) {
 				return cachedRevocationToken;
 			}
@@ -174,6 +178,61 @@ public abstract class RepositoryRevocationSource<T extends RevocationToken> impl
 		return extractAndInsertRevocationTokenFromProxiedSource(certificateToken, issuerCertificateToken, keys);
 	}
 	
+	/**
+	 * Retrieves the cached revocation tokens, the missing ones are requested in
+	 * one batch to the proxied source (if it supports the batch requests) and
+	 * cached. Without batch support, only the cached tokens are returned.
+	 * 
+	 * @param certificatesAndIssuers
+	 *                               the {@link CertificateToken}s linked to their
+	 *                               issuer's {@link CertificateToken}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<CertificateToken, T> getRevocationTokens(final Map<CertificateToken, CertificateToken> certificatesAndIssuers) {
+		final Map<CertificateToken, T> result = new LinkedHashMap<CertificateToken, T>();
+		final Map<CertificateToken, CertificateToken> notCached = new LinkedHashMap<CertificateToken, CertificateToken>();
+		final Map<CertificateToken, List<String>> notCachedKeys = new LinkedHashMap<CertificateToken, List<String>>();
+		for (Entry<CertificateToken, CertificateToken> entry : certificatesAndIssuers.entrySet()) {
+			final CertificateToken certificateToken = entry.getKey();
+			final CertificateToken issuerCertificateToken = entry.getValue();
+			if ((certificateToken == null) || (issuerCertificateToken == null)) {
+				continue;
+			}
+			final List<String> keys = initRevocationTokenKey(certificateToken);
+			T cachedRevocationToken = extractRevocationFromCacheSource(certificateToken, issuerCertificateToken, keys);
+			cacheLookupCompleted(cachedRevocationToken != null);
+			if (cachedRevocationToken != null) {
+				result.put(certificateToken, cachedRevocationToken);
+			} else {
+				notCached.put(certificateToken, issuerCertificateToken);
+				notCachedKeys.put(certificateToken, keys);
+			}
+		}
+
+		if (!notCached.isEmpty() && proxiedSource instanceof RevocationSourceBatchSupport) {
+			final Map<CertificateToken, T> newTokens = ((RevocationSourceBatchSupport<T>) proxiedSource).getRevocationTokens(notCached);
+			for (Entry<CertificateToken, T> entry : newTokens.entrySet()) {
+				storeRevocationToken(entry.getKey(), entry.getValue(), notCachedKeys.get(entry.getKey()));
+				result.put(entry.getKey(), entry.getValue());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Called once per cache lookup of {@link #getRevocationToken} (or per
+	 * certificate of {@link #getRevocationTokens}), whatever the number of the
+	 * tried revocation keys
+	 * 
+	 * @param hit
+	 *            true if a not expired revocation token has been found in the
+	 *            cache
+	 */
+	protected void cacheLookupCompleted(boolean hit) {
+		// not used by default
+	}
+
 	/**
 	 * Extracts a {@link RevocationToken} from Cache Source if the relevant entry is stored, null otherwise
 	 * @param certificateToken {@link CertificateToken} to extract the revocation token for
@@ -219,8 +278,16 @@ public abstract class RepositoryRevocationSource<T extends RevocationToken> impl
 			return null;
 		}
 		final T newToken = proxiedSource.getRevocationToken(certificateToken, issuerCertificateToken);
+		storeRevocationToken(certificateToken, newToken, keys);
+		return newToken;
+	}
+
+	/**
+	 * Inserts/updates a {@link RevocationToken} from the proxiedSource in the cache Source if needed
+	 */
+	private void storeRevocationToken(final CertificateToken certificateToken, final T newToken, final List<String> keys) {
 		if ((newToken != null) && newToken.isValid()) {
-			if (!keys.contains(newToken.getRevocationTokenKey())) {
+			if (keys == null || !keys.contains(newToken.getRevocationTokenKey())) {
 				LOG.info("Revocation token for certificate '{}' is added into the cache", certificateToken.getDSSIdAsString());
 				insertRevocation(newToken);
 			} else {
@@ -228,7 +295,6 @@ public abstract class RepositoryRevocationSource<T extends RevocationToken> impl
 				updateRevocation(newToken);
 			}
 		}
-		return newToken;
 	}
 
 	/**
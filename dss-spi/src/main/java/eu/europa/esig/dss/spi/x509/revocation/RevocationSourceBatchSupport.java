@@ -0,0 +1,45 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import java.util.Map;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+
+/**
+ * This interface is implemented by the revocation sources which are able to retrieve the revocation data of several
+ * certificates (eg: a complete certificate chain) at once.
+ */
+public interface RevocationSourceBatchSupport<T extends RevocationToken> extends RevocationSource<T> {
+
+	/**
+	 * Retrieves the {@code RevocationToken}s for all the given certificate / issuer's certificate couples. The
+	 * requests are grouped (same OCSP responder, same CRL,...) and sent concurrently when possible.
+	 *
+	 * @param certificatesAndIssuers
+	 *                               the {@code CertificateToken}s for which the request is made, linked to their
+	 *                               issuer's {@code CertificateToken}
+	 * @return the {@code RevocationToken}s by certificate. A certificate without revocation data is not present in the
+	 *         result
+	 */
+	Map<CertificateToken, T> getRevocationTokens(Map<CertificateToken, CertificateToken> certificatesAndIssuers);
+
+}
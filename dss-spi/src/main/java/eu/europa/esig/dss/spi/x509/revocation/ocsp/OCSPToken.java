@@ -218,17 +218,19 @@ public class OCSPToken extends RevocationToken {
 		if (basicOCSPResp == null) {
 			return false;
 		}
-		try {
-			signatureInvalidityReason = "";
-			JcaContentVerifierProviderBuilder jcaContentVerifierProviderBuilder = new JcaContentVerifierProviderBuilder();
-			jcaContentVerifierProviderBuilder.setProvider(DSSSecurityProvider.getSecurityProvider());
-			ContentVerifierProvider contentVerifierProvider = jcaContentVerifierProviderBuilder.build(candidate.getPublicKey());
-			signatureValid = basicOCSPResp.isSignatureValid(contentVerifierProvider);
-		} catch (Exception e) {
-			LOG.error("An error occurred during in attempt to check signature owner : ", e);
-			signatureInvalidityReason = e.getClass().getSimpleName() + " - " + e.getMessage();
-			signatureValid = false;
-		}
+		signatureInvalidityReason = "";
+		signatureValid = verifySignature(candidate, () -> {
+			try {
+				JcaContentVerifierProviderBuilder jcaContentVerifierProviderBuilder = new JcaContentVerifierProviderBuilder();
+				jcaContentVerifierProviderBuilder.setProvider(DSSSecurityProvider.getSecurityProvider());
+				ContentVerifierProvider contentVerifierProvider = jcaContentVerifierProviderBuilder.build(candidate.getPublicKey());
+				return basicOCSPResp.isSignatureValid(contentVerifierProvider);
+			} catch (Exception e) {
+				LOG.error("An error occurred during in attempt to check signature owner : ", e);
+				signatureInvalidityReason = e.getClass().getSimpleName() + " - " + e.getMessage();
+				return false;
+			}
+		});
 		return signatureValid;
 	}
 
@@ -0,0 +1,225 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import eu.europa.esig.dss.model.DSSException;
+
+public class SingleFlightDataLoaderTest {
+
+	private static final int NB_THREADS = 10;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(NB_THREADS + 1);
+
+	private final BlockingDataLoader upstream = new BlockingDataLoader();
+
+	private final SingleFlightDataLoader dataLoader = new SingleFlightDataLoader(upstream);
+
+	@After
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void concurrentGets() throws Exception {
+		List<Future<byte[]>> futures = submitAll(() -> dataLoader.get("http://crl.example/ca.crl"));
+		upstream.release();
+
+		for (Future<byte[]> future : futures) {
+			assertArrayEquals("GET http://crl.example/ca.crl".getBytes(), future.get());
+		}
+		assertEquals(1, upstream.calls.get());
+		assertEquals(NB_THREADS - 1, dataLoader.getCoalescedRequests());
+	}
+
+	@Test
+	public void concurrentGetsWithUrlList() throws Exception {
+		List<String> urls = Arrays.asList("http://aia.example/ca.crt", "http://aia2.example/ca.crt");
+		List<Future<DataLoader.DataAndUrl>> futures = submitAll(() -> dataLoader.get(urls));
+		upstream.release();
+
+		for (Future<DataLoader.DataAndUrl> future : futures) {
+			assertEquals("http://aia.example/ca.crt", future.get().getUrlString());
+		}
+		assertEquals(1, upstream.calls.get());
+	}
+
+	@Test
+	public void concurrentPosts() throws Exception {
+		List<Future<byte[]>> futures = submitAll(() -> dataLoader.post("http://ocsp.example", new byte[] { 1, 2, 3 }));
+		Future<byte[]> otherContent = executor.submit(() -> dataLoader.post("http://ocsp.example", new byte[] { 4, 5, 6 }));
+		upstream.awaitCalls(2);
+		upstream.release();
+
+		for (Future<byte[]> future : futures) {
+			assertArrayEquals("POST http://ocsp.example 3".getBytes(), future.get());
+		}
+		assertArrayEquals("POST http://ocsp.example 3".getBytes(), otherContent.get());
+		assertEquals(2, upstream.calls.get());
+	}
+
+	@Test
+	public void sharedException() throws Exception {
+		upstream.failure = true;
+		List<Future<byte[]>> futures = submitAll(() -> dataLoader.get("http://crl.example/ca.crl"));
+		upstream.release();
+
+		for (Future<byte[]> future : futures) {
+			try {
+				future.get();
+				fail("DSSException expected");
+			} catch (ExecutionException e) {
+				assertTrue(e.getCause() instanceof DSSException);
+			}
+		}
+		assertEquals(1, upstream.calls.get());
+	}
+
+	@Test
+	public void sharedError() throws Exception {
+		upstream.error = true;
+		List<Future<byte[]>> futures = submitAll(() -> dataLoader.get("http://crl.example/ca.crl"));
+		upstream.release();
+
+		for (Future<byte[]> future : futures) {
+			try {
+				// the waiting callers are not blocked
+				future.get(10, TimeUnit.SECONDS);
+				fail("Error expected");
+			} catch (ExecutionException e) {
+				assertEquals(Error.class, e.getCause().getClass());
+			}
+		}
+		assertEquals(1, upstream.calls.get());
+
+		// the failed request is not in flight anymore
+		upstream.error = false;
+		assertArrayEquals("GET http://crl.example/ca.crl".getBytes(), dataLoader.get("http://crl.example/ca.crl"));
+		assertEquals(2, upstream.calls.get());
+	}
+
+	@Test
+	public void noCaching() {
+		upstream.release();
+		dataLoader.get("http://crl.example/ca.crl");
+		dataLoader.get("http://crl.example/ca.crl");
+		assertEquals(2, upstream.calls.get());
+		assertEquals(0, dataLoader.getCoalescedRequests());
+	}
+
+	private <T> List<Future<T>> submitAll(Callable<T> call) throws InterruptedException {
+		List<Future<T>> futures = new ArrayList<Future<T>>();
+		futures.add(executor.submit(call));
+		upstream.awaitCalls(1);
+		for (int i = 1; i < NB_THREADS; i++) {
+			futures.add(executor.submit(call));
+		}
+		// let the other threads reach the in-flight request
+		while (dataLoader.getCoalescedRequests() < NB_THREADS - 1) {
+			Thread.sleep(5);
+		}
+		return futures;
+	}
+
+	private static final class BlockingDataLoader implements DataLoader {
+
+		private static final long serialVersionUID = 1L;
+
+		private final CountDownLatch latch = new CountDownLatch(1);
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		private volatile boolean failure;
+
+		private volatile boolean error;
+
+		private void release() {
+			latch.countDown();
+		}
+
+		private void awaitCalls(int expected) throws InterruptedException {
+			while (calls.get() < expected) {
+				Thread.sleep(5);
+			}
+		}
+
+		private byte[] call(String request) {
+			calls.incrementAndGet();
+			try {
+				latch.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (failure) {
+				throw new DSSException("Unable to process " + request);
+			}
+			if (error) {
+				throw new Error("Unable to process " + request);
+			}
+			return request.getBytes();
+		}
+
+		@Override
+		public byte[] get(String url) {
+			return call("GET " + url);
+		}
+
+		@Override
+		public DataAndUrl get(List<String> urlStrings) {
+			return new DataAndUrl(get(urlStrings.get(0)), urlStrings.get(0));
+		}
+
+		@Override
+		public byte[] get(String url, boolean refresh) {
+			return get(url);
+		}
+
+		@Override
+		public byte[] post(String url, byte[] content) {
+			return call("POST " + url + " " + content.length);
+		}
+
+		@Override
+		public void setContentType(String contentType) {
+		}
+
+	}
+
+}
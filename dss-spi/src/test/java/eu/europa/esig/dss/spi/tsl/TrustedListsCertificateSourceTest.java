@@ -0,0 +1,66 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.tsl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.x509.KeyStoreCertificateSource;
+
+public class TrustedListsCertificateSourceTest {
+
+	@Test
+	public void addAndRemoveCertificates() throws IOException {
+		List<CertificateToken> certificates = new KeyStoreCertificateSource("src/test/resources/keystore.jks", "JKS", "dss-password")
+				.getCertificates();
+		assertTrue(certificates.size() > 1);
+
+		TrustedListsCertificateSource source = new TrustedListsCertificateSource();
+		for (CertificateToken certificate : certificates) {
+			source.addCertificate(certificate, Collections.<ServiceInfo> emptyList());
+			// added twice, kept once
+			source.addCertificate(certificate, Collections.<ServiceInfo> emptyList());
+		}
+		assertEquals(certificates.size(), source.getNumberOfCertificates());
+		long version = source.getTrustAnchorPoolVersion();
+
+		CertificateToken removed = certificates.get(0);
+		assertTrue(source.isTrusted(removed));
+		assertTrue(source.removeCertificate(removed));
+		assertFalse(source.removeCertificate(removed));
+
+		assertEquals(certificates.size() - 1, source.getNumberOfCertificates());
+		assertFalse(source.getCertificates().contains(removed));
+		assertFalse(source.isTrusted(removed));
+		assertTrue(source.isTrusted(certificates.get(1)));
+		assertNotEquals(version, source.getTrustAnchorPoolVersion());
+	}
+
+}
@@ -21,9 +21,13 @@
 package eu.europa.esig.dss.spi.x509;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -33,12 +37,16 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cms.SignerId;
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import eu.europa.esig.dss.enumerations.CertificateSourceType;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.CertificatePool;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
@@ -128,6 +136,97 @@ public class CertificatePoolTest {
 		assertTrue(correctNumberEntities && correctNumberCerts && foundCert);
 	}
 
+	@Test
+	public void testOverlay() {
+		CertificateToken citizenCA = DSSUtils.loadCertificate(new File("src/test/resources/citizen_ca.cer"));
+		CertificateToken skCA = DSSUtils.loadCertificate(new File("src/test/resources/sk_ca.cer"));
+		CertificateToken tsaBE = DSSUtils.loadCertificate(new File("src/test/resources/TSA_BE.cer"));
+		CertificateToken belgiumRs2 = DSSUtils.loadCertificate(new File("src/test/resources/belgiumrs2.crt"));
+		CertificateToken belgiumRs2Signed = DSSUtils.loadCertificate(new File("src/test/resources/belgiumrs2-signed.crt"));
+
+		CommonTrustedCertificateSource trustedSource = new CommonTrustedCertificateSource();
+		trustedSource.addCertificate(citizenCA);
+		trustedSource.addCertificate(belgiumRs2);
+
+		CertificatePool trustAnchorPool = trustedSource.getTrustAnchorPool();
+		assertTrue(trustAnchorPool.isImmutable());
+		assertSame(trustAnchorPool, trustedSource.getTrustAnchorPool());
+		assertEquals(2, trustAnchorPool.getNumberOfEntities());
+
+		CertificatePool overlay = new CertificatePool(trustAnchorPool);
+		assertSame(trustAnchorPool, overlay.getBasePool());
+		assertEquals(2, overlay.getNumberOfEntities());
+		assertTrue(overlay.isTrusted(belgiumRs2));
+		assertEquals(1, overlay.get(citizenCA.getSubjectX500Principal()).size());
+
+		// already known by the base pool
+		overlay.getInstance(citizenCA, CertificateSourceType.TRUSTED_STORE);
+		assertEquals(2, overlay.getNumberOfCertificates());
+
+		// same public key as a trusted certificate : the entity is copied in the overlay
+		overlay.getInstance(belgiumRs2Signed, CertificateSourceType.SIGNATURE);
+		overlay.getInstance(skCA, CertificateSourceType.SIGNATURE);
+		assertEquals(3, overlay.getNumberOfEntities());
+		assertEquals(4, overlay.getNumberOfCertificates());
+		assertEquals(2, overlay.get(belgiumRs2.getPublicKey()).size());
+		assertEquals(2, overlay.getBySki(DSSASN1Utils.computeSkiFromCert(belgiumRs2)).size());
+		assertTrue(overlay.isTrusted(belgiumRs2Signed));
+		assertTrue(overlay.getSources(belgiumRs2).contains(CertificateSourceType.SIGNATURE));
+		assertFalse(overlay.isTrusted(skCA));
+
+		// the base pool is unchanged
+		assertEquals(2, trustAnchorPool.getNumberOfEntities());
+		assertEquals(2, trustAnchorPool.getNumberOfCertificates());
+		assertEquals(1, trustAnchorPool.get(belgiumRs2.getPublicKey()).size());
+		assertFalse(trustAnchorPool.getSources(belgiumRs2).contains(CertificateSourceType.SIGNATURE));
+		assertTrue(trustAnchorPool.get(skCA.getPublicKey()).isEmpty());
+
+		// a change of the trusted certificates creates a new pool
+		trustedSource.addCertificate(tsaBE);
+		CertificatePool newTrustAnchorPool = trustedSource.getTrustAnchorPool();
+		assertNotSame(trustAnchorPool, newTrustAnchorPool);
+		assertEquals(3, newTrustAnchorPool.getNumberOfEntities());
+		assertEquals(2, trustAnchorPool.getNumberOfEntities());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testImmutable() {
+		CertificatePool pool = new CertificatePool();
+		pool.makeImmutable();
+		pool.getInstance(DSSUtils.loadCertificate(new File("src/test/resources/citizen_ca.cer")), CertificateSourceType.OTHER);
+	}
+
+	@Test
+	public void testIndexes() throws IOException {
+		CertificatePool pool = new CertificatePool();
+		pool.importCerts(initCertSource());
+
+		List<CertificateToken> certificates = initCertSource().getCertificates();
+		for (CertificateToken certificate : certificates) {
+			assertTrue(pool.getBySki(DSSASN1Utils.computeSkiFromCert(certificate)).contains(certificate));
+			assertTrue(pool.get(certificate.getPublicKey()).contains(certificate));
+
+			X509CertificateHolder holder = DSSASN1Utils.getX509CertificateHolder(certificate);
+			SignerId byIssuerSerial = new SignerId(holder.getIssuer(), holder.getSerialNumber());
+			assertTrue(pool.getBySignerId(byIssuerSerial).contains(certificate));
+
+			byte[] ski = DSSASN1Utils.getSki(certificate);
+			if (ski == null) {
+				ski = DSSUtils.digest(DigestAlgorithm.SHA1, holder.getSubjectPublicKeyInfo().getEncoded());
+			}
+			SignerId byKeyId = new SignerId(ski);
+			// same result as the BouncyCastle matching
+			assertTrue(byKeyId.match(holder));
+			assertTrue(pool.getBySignerId(byKeyId).contains(certificate));
+		}
+
+		CertificateToken unknown = DSSUtils.loadCertificate(new File("src/test/resources/good-user.crt"));
+		X509CertificateHolder holder = DSSASN1Utils.getX509CertificateHolder(unknown);
+		assertTrue(pool.getBySignerId(new SignerId(holder.getIssuer(), holder.getSerialNumber())).isEmpty());
+		assertTrue(pool.getBySki(DSSASN1Utils.computeSkiFromCert(unknown)).isEmpty());
+		assertTrue(pool.get(unknown.getPublicKey()).isEmpty());
+	}
+
 	private class CertPoolMergerRunnable implements Callable<Boolean> {
 
 		private final CertificatePool sharedPool;
@@ -0,0 +1,112 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLUtils;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.SignatureVerificationCache;
+import eu.europa.esig.dss.spi.DSSUtils;
+
+public class SignatureVerificationCacheTest {
+
+	@Before
+	public void enable() {
+		SignatureVerificationCache.enable(3);
+	}
+
+	@After
+	public void disable() {
+		SignatureVerificationCache.disable();
+	}
+
+	@Test
+	public void certificates() {
+		SignatureVerificationCache cache = SignatureVerificationCache.getInstance();
+		assertNotNull(cache);
+
+		CertificateToken tsa = DSSUtils.loadCertificate(new File("src/test/resources/TSA_BE.cer"));
+		CertificateToken rootCA = DSSUtils.loadCertificate(new File("src/test/resources/belgiumrca2-self-sign.crt"));
+		CertificateToken otherCA = DSSUtils.loadCertificate(new File("src/test/resources/sk_ca.cer"));
+
+		assertFalse(tsa.isSignedBy(otherCA));
+		assertTrue(tsa.isSignedBy(rootCA));
+		assertEquals(0, cache.getHits());
+		assertEquals(2, cache.getMisses());
+		assertEquals(2, cache.size());
+
+		// new instances of the same certificates (eg: next validation)
+		CertificateToken sameTsa = DSSUtils.loadCertificate(new File("src/test/resources/TSA_BE.cer"));
+		assertFalse(sameTsa.isSignedBy(otherCA));
+		assertFalse(sameTsa.isSignatureValid());
+		assertTrue(sameTsa.isSignedBy(rootCA));
+		assertTrue(sameTsa.isSignatureValid());
+		assertEquals(rootCA.getPublicKey(), sameTsa.getPublicKeyOfTheSigner());
+		assertEquals(2, cache.getHits());
+
+		// the least recently used result is removed
+		CertificateToken skUser = DSSUtils.loadCertificate(new File("src/test/resources/sk_user.cer"));
+		skUser.isSignedBy(otherCA);
+		rootCA.isSignedBy(rootCA);
+		assertEquals(3, cache.size());
+	}
+
+	@Test
+	public void crl() throws IOException {
+		SignatureVerificationCache cache = SignatureVerificationCache.getInstance();
+
+		FileDocument doc = new FileDocument("src/test/resources/crl/belgium2.crl");
+		CertificateToken caCert = DSSUtils.loadCertificate(new File("src/test/resources/belgiumrs2.crt"));
+		CertificateToken tsaCert = DSSUtils.loadCertificate(new File("src/test/resources/TSA_BE.cer"));
+
+		CRLBinary crlBinary = new CRLBinary(DSSUtils.toByteArray(doc));
+		CRLValidity crlValidity = CRLUtils.buildCRLValidity(crlBinary, caCert);
+		assertTrue(crlValidity.isSignatureIntact());
+		CRLValidity wrongValidity = CRLUtils.buildCRLValidity(crlBinary, tsaCert);
+		assertFalse(wrongValidity.isSignatureIntact());
+		assertEquals(0, cache.getHits());
+
+		crlValidity = CRLUtils.buildCRLValidity(new CRLBinary(DSSUtils.toByteArray(doc)), caCert);
+		assertTrue(crlValidity.isSignatureIntact());
+		assertTrue(crlValidity.isCrlSignKeyUsage());
+		assertEquals(caCert, crlValidity.getIssuerToken());
+
+		wrongValidity = CRLUtils.buildCRLValidity(new CRLBinary(DSSUtils.toByteArray(doc)), tsaCert);
+		assertFalse(wrongValidity.isSignatureIntact());
+		assertNotNull(wrongValidity.getSignatureInvalidityReason());
+		assertEquals(2, cache.getHits());
+	}
+
+}
@@ -26,6 +26,10 @@ import java.security.Signature;
 import java.security.spec.AlgorithmParameterSpec;
 import java.security.spec.MGF1ParameterSpec;
 import java.security.spec.PSSParameterSpec;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,6 +58,45 @@ public abstract class AbstractSignatureTokenConnection implements SignatureToken
 	@Override
 	public SignatureValue sign(ToBeSigned toBeSigned, DigestAlgorithm digestAlgorithm, MaskGenerationFunction mgf,
 			DSSPrivateKeyEntry keyEntry) throws DSSException {
+		return sign(toBeSigned, digestAlgorithm, mgf, keyEntry, new HashMap<String, Signature>());
+	}
+
+	@Override
+	public SignatureValue signDigest(Digest digest, DSSPrivateKeyEntry keyEntry) throws DSSException {
+		return signDigest(digest, null, keyEntry);
+	}
+
+	@Override
+	public SignatureValue signDigest(Digest digest, MaskGenerationFunction mgf, DSSPrivateKeyEntry keyEntry)
+			throws DSSException {
+		return signDigest(digest, mgf, keyEntry, new HashMap<String, Signature>());
+	}
+
+	@Override
+	public List<SignatureValue> sign(List<ToBeSigned> toBeSigned, DigestAlgorithm digestAlgorithm, MaskGenerationFunction mgf,
+			DSSPrivateKeyEntry keyEntry) throws DSSException {
+		// the signature engines are reused by the whole batch (executed by the current thread)
+		final Map<String, Signature> signatureEngines = new HashMap<String, Signature>();
+		final List<SignatureValue> result = new ArrayList<SignatureValue>(toBeSigned.size());
+		for (ToBeSigned data : toBeSigned) {
+			result.add(sign(data, digestAlgorithm, mgf, keyEntry, signatureEngines));
+		}
+		return result;
+	}
+
+	@Override
+	public List<SignatureValue> signDigests(List<Digest> digests, MaskGenerationFunction mgf, DSSPrivateKeyEntry keyEntry) throws DSSException {
+		// the signature engines are reused by the whole batch (executed by the current thread)
+		final Map<String, Signature> signatureEngines = new HashMap<String, Signature>();
+		final List<SignatureValue> result = new ArrayList<SignatureValue>(digests.size());
+		for (Digest digest : digests) {
+			result.add(signDigest(digest, mgf, keyEntry, signatureEngines));
+		}
+		return result;
+	}
+
+	private SignatureValue sign(ToBeSigned toBeSigned, DigestAlgorithm digestAlgorithm, MaskGenerationFunction mgf, DSSPrivateKeyEntry keyEntry,
+			Map<String, Signature> signatureEngines) throws DSSException {
 		final EncryptionAlgorithm encryptionAlgorithm = keyEntry.getEncryptionAlgorithm();
 		final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.getAlgorithm(encryptionAlgorithm,
 				digestAlgorithm, mgf);
@@ -65,7 +108,8 @@ public abstract class AbstractSignatureTokenConnection implements SignatureToken
 		}
 
 		try {
-			final byte[] signatureValue = sign(bytes, javaSignatureAlgorithm, param, keyEntry);
+			final Signature signature = getSignatureEngine(javaSignatureAlgorithm, digestAlgorithm, param, keyEntry, signatureEngines);
+			final byte[] signatureValue = sign(bytes, signature, signatureEngines);
 			SignatureValue value = new SignatureValue();
 			value.setAlgorithm(signatureAlgorithm);
 			value.setValue(signatureValue);
@@ -75,14 +119,8 @@ public abstract class AbstractSignatureTokenConnection implements SignatureToken
 		}
 	}
 
-	@Override
-	public SignatureValue signDigest(Digest digest, DSSPrivateKeyEntry keyEntry) throws DSSException {
-		return signDigest(digest, null, keyEntry);
-	}
-
-	@Override
-	public SignatureValue signDigest(Digest digest, MaskGenerationFunction mgf, DSSPrivateKeyEntry keyEntry)
-			throws DSSException {
+	private SignatureValue signDigest(Digest digest, MaskGenerationFunction mgf, DSSPrivateKeyEntry keyEntry,
+			Map<String, Signature> signatureEngines) throws DSSException {
 		final EncryptionAlgorithm encryptionAlgorithm = keyEntry.getEncryptionAlgorithm();
 		final SignatureAlgorithm signatureAlgorithmNONE = SignatureAlgorithm.getAlgorithm(encryptionAlgorithm, null,
 				mgf);
@@ -94,7 +132,8 @@ public abstract class AbstractSignatureTokenConnection implements SignatureToken
 		}
 
 		try {
-			final byte[] signatureValue = sign(digestedBytes, javaSignatureAlgorithm, param, keyEntry);
+			final Signature signature = getSignatureEngine(javaSignatureAlgorithm, digest.getAlgorithm(), param, keyEntry, signatureEngines);
+			final byte[] signatureValue = sign(digestedBytes, signature, signatureEngines);
 			SignatureValue value = new SignatureValue();
 			value.setAlgorithm(SignatureAlgorithm.getAlgorithm(encryptionAlgorithm, digest.getAlgorithm(), mgf));
 			value.setValue(signatureValue);
@@ -104,19 +143,41 @@ public abstract class AbstractSignatureTokenConnection implements SignatureToken
 		}
 	}
 
-	private byte[] sign(final byte[] bytes, final String javaSignatureAlgorithm, final AlgorithmParameterSpec param,
-			final DSSPrivateKeyEntry keyEntry) throws GeneralSecurityException {
+	/**
+	 * Returns the signature engine initialized with the private key. The engines are cached by algorithm (and
+	 * parameters) : a {@code Signature} is reset to its initialized state after each signature.
+	 */
+	private Signature getSignatureEngine(final String javaSignatureAlgorithm, final DigestAlgorithm digestAlgorithm, final AlgorithmParameterSpec param,
+			final DSSPrivateKeyEntry keyEntry, final Map<String, Signature> signatureEngines) throws GeneralSecurityException {
 		if (!(keyEntry instanceof KSPrivateKeyEntry)) {
 			throw new IllegalArgumentException("Only KSPrivateKeyEntry are supported");
 		}
-		LOG.info("Signature algorithm : {}", javaSignatureAlgorithm);
-		final Signature signature = getSignatureInstance(javaSignatureAlgorithm);
-		if (param != null) {
-			signature.setParameter(param);
+		final String key = (param == null) ? javaSignatureAlgorithm : javaSignatureAlgorithm + "/" + digestAlgorithm;
+		Signature signature = signatureEngines.get(key);
+		if (signature == null) {
+			LOG.info("Signature algorithm : {}", javaSignatureAlgorithm);
+			signature = getSignatureInstance(javaSignatureAlgorithm);
+			if (param != null) {
+				signature.setParameter(param);
+			}
+			signature.initSign(((KSPrivateKeyEntry) keyEntry).getPrivateKey());
+			signatureEngines.put(key, signature);
+		}
+		return signature;
+	}
+
+	/**
+	 * Signs the bytes with the engine. A failed engine is in an unknown state : it is dropped from the cached engines,
+	 * the next signature of the batch initializes a new one.
+	 */
+	private byte[] sign(final byte[] bytes, final Signature signature, final Map<String, Signature> signatureEngines) throws GeneralSecurityException {
+		try {
+			signature.update(bytes);
+			return signature.sign();
+		} catch (GeneralSecurityException | RuntimeException e) {
+			signatureEngines.values().remove(signature);
+			throw e;
 		}
-		signature.initSign(((KSPrivateKeyEntry) keyEntry).getPrivateKey());
-		signature.update(bytes);
-		return signature.sign();
 	}
 	
 	protected Signature getSignatureInstance(final String javaSignatureAlgorithm) throws NoSuchAlgorithmException {
@@ -41,6 +41,10 @@ import eu.europa.esig.dss.model.DSSException;
 
 /**
  * PKCS11 token with callback
+ * 
+ * The SunPKCS11 provider stays logged in until {@link #close()}. The batch signatures reuse the same initialized
+ * signature engines, but each signature still takes an operation session from the provider pool : the JCA API does
+ * not allow to bind one PKCS#11 session to a whole batch.
  */
 public class Pkcs11SignatureToken extends AbstractKeyStoreTokenConnection {
 
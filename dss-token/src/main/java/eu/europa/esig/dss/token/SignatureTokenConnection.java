@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.token;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import eu.europa.esig.dss.model.DSSException;
@@ -114,4 +115,88 @@ public interface SignatureTokenConnection extends AutoCloseable {
 	 */
 	SignatureValue signDigest(Digest digest, MaskGenerationFunction mgf, DSSPrivateKeyEntry keyEntry) throws DSSException;
 
+	/**
+	 * This method signs a batch of {@code toBeSigned} data with the digest {@code digestAlgorithm} and the given
+	 * {@code keyEntry}. By default, the data are signed one by one; implementations may create and initialize the
+	 * signature engine once for the whole batch.
+	 * 
+	 * @param toBeSigned
+	 *            The list of data that need to be signed
+	 * @param digestAlgorithm
+	 *            The digest algorithm to be used before signing
+	 * @param keyEntry
+	 *            The private key to be used
+	 * @return the signature values (in the same order as the {@code toBeSigned} list)
+	 * @throws DSSException
+	 *             If there is any problem during the signature process
+	 */
+	default List<SignatureValue> sign(List<ToBeSigned> toBeSigned, DigestAlgorithm digestAlgorithm, DSSPrivateKeyEntry keyEntry) throws DSSException {
+		return sign(toBeSigned, digestAlgorithm, null, keyEntry);
+	}
+
+	/**
+	 * This method signs a batch of {@code toBeSigned} data with the digest {@code digestAlgorithm}, the mask
+	 * {@code mgf} and the given {@code keyEntry}. By default, the data are signed one by one; implementations may
+	 * create and initialize the signature engine once for the whole batch.
+	 * 
+	 * @param toBeSigned
+	 *            The list of data that need to be signed
+	 * @param digestAlgorithm
+	 *            The digest algorithm to be used before signing
+	 * @param mgf
+	 *            the mask generation function
+	 * @param keyEntry
+	 *            The private key to be used
+	 * @return the signature values (in the same order as the {@code toBeSigned} list)
+	 * @throws DSSException
+	 *             If there is any problem during the signature process
+	 */
+	default List<SignatureValue> sign(List<ToBeSigned> toBeSigned, DigestAlgorithm digestAlgorithm, MaskGenerationFunction mgf,
+			DSSPrivateKeyEntry keyEntry) throws DSSException {
+		final List<SignatureValue> result = new ArrayList<SignatureValue>(toBeSigned.size());
+		for (ToBeSigned data : toBeSigned) {
+			result.add(sign(data, digestAlgorithm, mgf, keyEntry));
+		}
+		return result;
+	}
+
+	/**
+	 * This method signs a batch of {@code digests} with the given {@code keyEntry}. By default, the digests are
+	 * signed one by one; implementations may create and initialize the signature engines once for the whole batch.
+	 * 
+	 * @param digests
+	 *                 The list of digested data that need to be signed
+	 * @param keyEntry
+	 *                 The private key to be used
+	 * @return the signature values (in the same order as the {@code digests} list)
+	 * @throws DSSException
+	 *                      If there is any problem during the signature process
+	 */
+	default List<SignatureValue> signDigests(List<Digest> digests, DSSPrivateKeyEntry keyEntry) throws DSSException {
+		return signDigests(digests, null, keyEntry);
+	}
+
+	/**
+	 * This method signs a batch of {@code digests} with the mask {@code mgf} and the given {@code keyEntry}. By
+	 * default, the digests are signed one by one; implementations may create and initialize the signature engines
+	 * once for the whole batch.
+	 * 
+	 * @param digests
+	 *                 The list of digested data that need to be signed
+	 * @param mgf
+	 *            the mask generation function
+	 * @param keyEntry
+	 *                 The private key to be used
+	 * @return the signature values (in the same order as the {@code digests} list)
+	 * @throws DSSException
+	 *                      If there is any problem during the signature process
+	 */
+	default List<SignatureValue> signDigests(List<Digest> digests, MaskGenerationFunction mgf, DSSPrivateKeyEntry keyEntry) throws DSSException {
+		final List<SignatureValue> result = new ArrayList<SignatureValue>(digests.size());
+		for (Digest digest : digests) {
+			result.add(signDigest(digest, mgf, keyEntry));
+		}
+		return result;
+	}
+
 }
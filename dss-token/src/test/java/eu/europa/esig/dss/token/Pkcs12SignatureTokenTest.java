@@ -20,22 +20,37 @@
  */
 package eu.europa.esig.dss.token;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.security.GeneralSecurityException;
 import java.security.KeyStore.PasswordProtection;
+import java.security.Security;
+import java.security.Signature;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Test;
 
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.MaskGenerationFunction;
+import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.SignatureValue;
 import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.spi.DSSSecurityProvider;
+import eu.europa.esig.dss.spi.DSSUtils;
 
 public class Pkcs12SignatureTokenTest {
 
+	static {
+		Security.addProvider(DSSSecurityProvider.getSecurityProvider());
+	}
+
 	@Test
 	public void testPkcs12() throws IOException {
 		try (Pkcs12SignatureToken signatureToken = new Pkcs12SignatureToken("src/test/resources/user_a_rsa.p12",
@@ -63,6 +78,44 @@ public class Pkcs12SignatureTokenTest {
 		}
 	}
 
+	@Test
+	public void testBatch() throws IOException, GeneralSecurityException {
+		try (Pkcs12SignatureToken signatureToken = new Pkcs12SignatureToken("src/test/resources/user_a_rsa.p12",
+				new PasswordProtection("password".toCharArray()))) {
+			DSSPrivateKeyEntry entry = signatureToken.getKeys().get(0);
+
+			List<ToBeSigned> toBeSigned = new ArrayList<ToBeSigned>();
+			List<Digest> digests = new ArrayList<Digest>();
+			for (int i = 0; i < 5; i++) {
+				byte[] bytes = ("Hello world " + i).getBytes("UTF-8");
+				toBeSigned.add(new ToBeSigned(bytes));
+				byte[] digest = DSSUtils.digest(DigestAlgorithm.SHA256, bytes);
+				digests.add(new Digest(DigestAlgorithm.SHA256, DSSUtils.encodeRSADigest(DigestAlgorithm.SHA256, digest)));
+			}
+
+			List<SignatureValue> signatureValues = signatureToken.sign(toBeSigned, DigestAlgorithm.SHA256, entry);
+			List<SignatureValue> digestSignatureValues = signatureToken.signDigests(digests, entry);
+			assertEquals(toBeSigned.size(), signatureValues.size());
+			assertEquals(digests.size(), digestSignatureValues.size());
+			for (int i = 0; i < toBeSigned.size(); i++) {
+				// RSA PKCS#1 v1.5 signatures are deterministic
+				SignatureValue signatureValue = signatureToken.sign(toBeSigned.get(i), DigestAlgorithm.SHA256, entry);
+				assertEquals(signatureValue.getAlgorithm(), signatureValues.get(i).getAlgorithm());
+				assertArrayEquals(signatureValue.getValue(), signatureValues.get(i).getValue());
+				assertArrayEquals(signatureValue.getValue(), digestSignatureValues.get(i).getValue());
+			}
+
+			List<SignatureValue> pssSignatureValues = signatureToken.sign(toBeSigned, DigestAlgorithm.SHA256, MaskGenerationFunction.MGF1, entry);
+			for (int i = 0; i < toBeSigned.size(); i++) {
+				SignatureValue signatureValue = pssSignatureValues.get(i);
+				Signature sig = Signature.getInstance(signatureValue.getAlgorithm().getJCEId());
+				sig.initVerify(entry.getCertificate().getPublicKey());
+				sig.update(toBeSigned.get(i).getBytes());
+				assertTrue(sig.verify(signatureValue.getValue()));
+			}
+		}
+	}
+
 	@Test(expected = DSSException.class)
 	public void wrongPassword() throws IOException {
 		try (Pkcs12SignatureToken signatureToken = new Pkcs12SignatureToken("src/test/resources/user_a_rsa.p12",
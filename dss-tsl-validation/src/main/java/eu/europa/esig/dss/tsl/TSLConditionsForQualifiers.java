@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.tsl;
 
+import java.io.Serializable;
 import java.util.List;
 
 import eu.europa.esig.dss.spi.tsl.Condition;
@@ -28,7 +29,9 @@ import eu.europa.esig.dss.spi.tsl.Condition;
  * This class is a DTO representation for qualifier and conditions
  *
  */
-public class TSLConditionsForQualifiers {
+public class TSLConditionsForQualifiers implements Serializable {
+
+	private static final long serialVersionUID = 3029725224666682730L;
 
 	private List<String> qualifiers;
 	private Condition condition;
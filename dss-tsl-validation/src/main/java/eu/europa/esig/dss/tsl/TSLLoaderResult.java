@@ -29,6 +29,9 @@ public class TSLLoaderResult {
 	private String countryCode;
 	private String url;
 	private byte[] content;
+	private boolean notModified;
+	private String eTag;
+	private String lastModified;
 
 	public String getCountryCode() {
 		return countryCode;
@@ -54,4 +57,34 @@ public class TSLLoaderResult {
 		this.content = content;
 	}
 
+	/**
+	 * Returns true if the server answered to a conditional request that the trusted list has not been modified (no
+	 * content)
+	 * 
+	 * @return true if the previous version is still valid
+	 */
+	public boolean isNotModified() {
+		return notModified;
+	}
+
+	public void setNotModified(boolean notModified) {
+		this.notModified = notModified;
+	}
+
+	public String getETag() {
+		return eTag;
+	}
+
+	public void setETag(String eTag) {
+		this.eTag = eTag;
+	}
+
+	public String getLastModified() {
+		return lastModified;
+	}
+
+	public void setLastModified(String lastModified) {
+		this.lastModified = lastModified;
+	}
+
 }
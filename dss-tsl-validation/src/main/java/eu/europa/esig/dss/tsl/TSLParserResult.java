@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.tsl;
 
+import java.io.Serializable;
 import java.util.Date;
 import java.util.List;
 
@@ -27,7 +28,9 @@ import java.util.List;
  * This class is a DTO result for TSLParser Callable
  *
  */
-public class TSLParserResult {
+public class TSLParserResult implements Serializable {
+
+	private static final long serialVersionUID = 9040392317651504078L;
 
 	private int sequenceNumber;
 	private int version;
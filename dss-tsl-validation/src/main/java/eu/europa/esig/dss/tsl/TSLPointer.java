@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.tsl;
 
+import java.io.Serializable;
 import java.util.List;
 
 import eu.europa.esig.dss.model.x509.CertificateToken;
@@ -28,7 +29,9 @@ import eu.europa.esig.dss.model.x509.CertificateToken;
  * This class is a DTO representation for a TSL pointer
  *
  */
-public class TSLPointer {
+public class TSLPointer implements Serializable {
+
+	private static final long serialVersionUID = 4356779369085817922L;
 
 	private String url;
 	private String territory;
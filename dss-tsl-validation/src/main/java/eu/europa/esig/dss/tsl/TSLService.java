@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.tsl;
 
+import java.io.Serializable;
 import java.util.List;
 
 import eu.europa.esig.dss.model.x509.CertificateToken;
@@ -28,7 +29,9 @@ import eu.europa.esig.dss.spi.util.TimeDependentValues;
 /**
  * This class is a DTO representation for a TSL service
  */
-public class TSLService {
+public class TSLService implements Serializable {
+
+	private static final long serialVersionUID = 8449515503755068001L;
 
 	private List<CertificateToken> certificates;
 	private TimeDependentValues<TSLServiceStatusAndInformationExtensions> status;
@@ -20,12 +20,15 @@
  */
 package eu.europa.esig.dss.tsl;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * This class is a DTO representation for a TSL service provider
  */
-public class TSLServiceProvider {
+public class TSLServiceProvider implements Serializable {
+
+	private static final long serialVersionUID = 6194539283115008150L;
 
 	private String name;
 	private String tradeName;
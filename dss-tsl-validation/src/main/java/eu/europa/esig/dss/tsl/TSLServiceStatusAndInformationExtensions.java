@@ -27,6 +27,8 @@ import eu.europa.esig.dss.spi.util.BaseTimeDependent;
 
 public class TSLServiceStatusAndInformationExtensions extends BaseTimeDependent {
 
+	private static final long serialVersionUID = 7367952854640790569L;
+
 	private String name;
 	private String type;
 	private String status;
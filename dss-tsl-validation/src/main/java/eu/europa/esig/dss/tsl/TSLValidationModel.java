@@ -37,6 +37,10 @@ public class TSLValidationModel {
 	private boolean certificateSourceSynchronized;
 	private Date loadedDate;
 
+	/* HTTP validators of the downloaded version (used for the conditional requests) */
+	private String eTag;
+	private String lastModified;
+
 	private TSLParserResult parseResult;
 	private TSLValidationResult validationResult;
 
@@ -88,6 +92,22 @@ public class TSLValidationModel {
 		this.loadedDate = loadedDate;
 	}
 
+	public String getETag() {
+		return eTag;
+	}
+
+	public void setETag(String eTag) {
+		this.eTag = eTag;
+	}
+
+	public String getLastModified() {
+		return lastModified;
+	}
+
+	public void setLastModified(String lastModified) {
+		this.lastModified = lastModified;
+	}
+
 	public TSLParserResult getParseResult() {
 		return parseResult;
 	}
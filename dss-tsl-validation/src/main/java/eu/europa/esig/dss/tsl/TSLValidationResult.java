@@ -20,17 +20,23 @@
  */
 package eu.europa.esig.dss.tsl;
 
+import java.io.Serializable;
+import java.util.Date;
+
 import eu.europa.esig.dss.enumerations.Indication;
 import eu.europa.esig.dss.enumerations.SubIndication;
 
 /**
  * This class is a DTO result for TSLValidator Callable.
  */
-public class TSLValidationResult {
+public class TSLValidationResult implements Serializable {
+
+	private static final long serialVersionUID = 493403801454853391L;
 
 	private String countryCode;
 	private Indication indication;
 	private SubIndication subIndication;
+	private Date validationDate;
 
 	public String getCountryCode() {
 		return countryCode;
@@ -56,6 +62,19 @@ public class TSLValidationResult {
 		this.subIndication = subIndication;
 	}
 
+	/**
+	 * Returns the time of the validation
+	 * 
+	 * @return the validation time
+	 */
+	public Date getValidationDate() {
+		return validationDate;
+	}
+
+	public void setValidationDate(Date validationDate) {
+		this.validationDate = validationDate;
+	}
+
 	public boolean isValid() {
 		return Indication.TOTAL_PASSED.equals(indication);
 	}
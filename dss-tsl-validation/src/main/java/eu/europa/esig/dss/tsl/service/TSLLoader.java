@@ -25,11 +25,16 @@ import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import eu.europa.esig.dss.spi.client.http.ConditionalDataLoader;
+import eu.europa.esig.dss.spi.client.http.ConditionalDataLoader.ConditionalResponse;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.tsl.TSLLoaderResult;
 
 /**
  * This class allows to load binaries from an url with a DataLoader. It can be executed as a Callable.
+ * 
+ * With a {@code ConditionalDataLoader}, the validators (ETag / Last-Modified) of the previous download can be sent : an
+ * unchanged trusted list is not transferred again.
  *
  */
 public class TSLLoader implements Callable<TSLLoaderResult> {
@@ -39,11 +44,39 @@ public class TSLLoader implements Callable<TSLLoaderResult> {
 	private final DataLoader dataLoader;
 	private final String countryCode;
 	private final String urlToLoad;
+	private final boolean conditional;
+	private final String eTag;
+	private final String lastModified;
 
 	public TSLLoader(DataLoader dataLoader, String countryCode, String urlToLoad) {
+		this(dataLoader, countryCode, urlToLoad, false, null, null);
+	}
+
+	/**
+	 * Creates a loader which sends a conditional request
+	 * 
+	 * @param dataLoader
+	 *            the data loader
+	 * @param countryCode
+	 *            the country code
+	 * @param urlToLoad
+	 *            the trusted list url
+	 * @param eTag
+	 *            the ETag of the previous download (can be null)
+	 * @param lastModified
+	 *            the Last-Modified value of the previous download (can be null)
+	 */
+	public TSLLoader(ConditionalDataLoader dataLoader, String countryCode, String urlToLoad, String eTag, String lastModified) {
+		this(dataLoader, countryCode, urlToLoad, true, eTag, lastModified);
+	}
+
+	private TSLLoader(DataLoader dataLoader, String countryCode, String urlToLoad, boolean conditional, String eTag, String lastModified) {
 		this.dataLoader = dataLoader;
 		this.countryCode= countryCode;
 		this.urlToLoad = urlToLoad;
+		this.conditional = conditional;
+		this.eTag = eTag;
+		this.lastModified = lastModified;
 	}
 
 	@Override
@@ -52,8 +85,16 @@ public class TSLLoader implements Callable<TSLLoaderResult> {
 		result.setCountryCode(countryCode);
 		result.setUrl(urlToLoad);
 		try {
-			byte[] byteArray = dataLoader.get(urlToLoad);
-			result.setContent(byteArray);
+			if (conditional) {
+				ConditionalResponse response = ((ConditionalDataLoader) dataLoader).conditionalGet(urlToLoad, eTag, lastModified);
+				result.setContent(response.getData());
+				result.setNotModified(response.isNotModified());
+				result.setETag(response.getETag());
+				result.setLastModified(response.getLastModified());
+			} else {
+				byte[] byteArray = dataLoader.get(urlToLoad);
+				result.setContent(byteArray);
+			}
 		} catch (Exception e) {
 			if (LOG.isDebugEnabled()) {
 				LOG.debug("Unable to load '{}' : \n{}", urlToLoad, e.getMessage(), e);
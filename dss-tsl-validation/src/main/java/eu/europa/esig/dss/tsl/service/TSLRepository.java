@@ -30,10 +30,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.DatatypeConverter;
 
@@ -71,12 +73,19 @@ public class TSLRepository {
 
 	private String cacheDirectoryPath = System.getProperty("java.io.tmpdir") + File.separator + "dss-cache-tsl" + File.separator;
 
-	private Map<String, TSLValidationModel> tsls = new HashMap<String, TSLValidationModel>();
-	private Map<String, TSLValidationModel> pivots = new HashMap<String, TSLValidationModel>();
+	/* Concurrent maps : the trusted lists of the different countries are processed in parallel */
+	private Map<String, TSLValidationModel> tsls = new ConcurrentHashMap<String, TSLValidationModel>();
+	private Map<String, TSLValidationModel> pivots = new ConcurrentHashMap<String, TSLValidationModel>();
 	private String ojActualUrl;
 
 	private TrustedListsCertificateSource trustedListsCertificateSource;
 
+	/* The trust services of the last synchronization, by country code */
+	private final Map<String, CountryServices> servicesByCountry = new HashMap<String, CountryServices>();
+
+	private volatile long lastSynchronizationDuration = -1;
+	private volatile List<String> lastSynchronizationChangedTLs = Collections.emptyList();
+
 	public void setCacheDirectoryPath(String cacheDirectoryPath) {
 		this.cacheDirectoryPath = cacheDirectoryPath;
 	}
@@ -90,11 +99,11 @@ public class TSLRepository {
 	}
 
 	public TSLValidationModel getByCountry(String countryIsoCode) {
-		return tsls.get(countryIsoCode);
+		return countryIsoCode == null ? null : tsls.get(countryIsoCode);
 	}
 
 	public TSLValidationModel getPivotByUrl(String pivotUrl) {
-		return pivots.get(pivotUrl);
+		return pivotUrl == null ? null : pivots.get(pivotUrl);
 	}
 	
 	public String getActualOjUrl() {
@@ -105,6 +114,25 @@ public class TSLRepository {
 		this.ojActualUrl = ojActualUrl;
 	}
 
+	/**
+	 * Returns the duration of the last synchronization of the trustedListsCertificateSource
+	 * 
+	 * @return the duration in milliseconds or -1 if no synchronization happened
+	 */
+	public long getLastSynchronizationDuration() {
+		return lastSynchronizationDuration;
+	}
+
+	/**
+	 * Returns the trusted lists which were new, changed or removed at the last synchronization of the
+	 * trustedListsCertificateSource
+	 * 
+	 * @return the sorted list of country codes
+	 */
+	public List<String> getLastSynchronizationChangedTLs() {
+		return lastSynchronizationChangedTLs;
+	}
+
 	public Map<String, TSLValidationModel> getAllMapTSLValidationModels() {
 		return Collections.unmodifiableMap(new TreeMap<String, TSLValidationModel>(tsls));
 	}
@@ -127,6 +155,12 @@ public class TSLRepository {
 	private boolean isLastVersion(TSLValidationModel validationModel, TSLLoaderResult resultLoader) {
 		if (validationModel == null) {
 			return false;
+		} else if (resultLoader.isNotModified()) {
+			// conditional request : the previous version is still the current one (neither transferred nor hashed)
+			validationModel.setUrl(resultLoader.getUrl());
+			validationModel.setLoadedDate(new Date());
+			setHttpValidators(validationModel, resultLoader);
+			return true;
 		} else {
 			// TODO Best place ? Download didn't work, we use previous version
 			if (Utils.isArrayEmpty(resultLoader.getContent())) {
@@ -135,10 +169,19 @@ public class TSLRepository {
 			validationModel.setUrl(resultLoader.getUrl());
 			validationModel.setLoadedDate(new Date());
 			String lastSha256 = getSHA256(resultLoader.getContent());
-			return Utils.areStringsEqual(lastSha256, validationModel.getSha256FileContent());
+			boolean lastVersion = Utils.areStringsEqual(lastSha256, validationModel.getSha256FileContent());
+			if (lastVersion) {
+				setHttpValidators(validationModel, resultLoader);
+			}
+			return lastVersion;
 		}
 	}
 
+	private void setHttpValidators(TSLValidationModel validationModel, TSLLoaderResult resultLoader) {
+		validationModel.setETag(resultLoader.getETag());
+		validationModel.setLastModified(resultLoader.getLastModified());
+	}
+
 	void updateParseResult(TSLParserResult tslParserResult) {
 		TSLValidationModel validationModel = getByCountry(tslParserResult.getTerritory());
 		if (validationModel != null) {
@@ -161,6 +204,7 @@ public class TSLRepository {
 			validationModel.setLoadedDate(new Date());
 			validationModel.setSha256FileContent(getSHA256(resultLoader.getContent()));
 			validationModel.setFilepath(storeOnFileSystem(resultLoader.getCountryCode(), resultLoader));
+			setHttpValidators(validationModel, resultLoader);
 			LOG.info("New version of {} TSL is stored in cache", resultLoader.getCountryCode());
 		}
 		tsls.put(resultLoader.getCountryCode(), validationModel);
@@ -176,6 +220,7 @@ public class TSLRepository {
 			String filename = resultLoader.getUrl();
 			filename = filename.replaceAll("\\W", "_");
 			validationModel.setFilepath(storeOnFileSystem(filename, resultLoader));
+			setHttpValidators(validationModel, resultLoader);
 			LOG.info("New version of the pivot LOTL '{}' is stored in cache", resultLoader.getUrl());
 		}
 		pivots.put(resultLoader.getUrl(), validationModel);
@@ -183,16 +228,14 @@ public class TSLRepository {
 	}
 
 	void addParsedResultFromCacheToMap(TSLParserResult tslParserResult) {
+		addParsedResultFromCacheToMap(tslParserResult, getSHA256(new File(getFilePath(tslParserResult.getTerritory()))));
+	}
+
+	void addParsedResultFromCacheToMap(TSLParserResult tslParserResult, String sha256FileContent) {
 		TSLValidationModel validationModel = new TSLValidationModel();
 		String countryCode = tslParserResult.getTerritory();
-		String filePath = getFilePath(countryCode);
-		validationModel.setFilepath(filePath);
-		try (FileInputStream fis = new FileInputStream(filePath)) {
-			byte[] data = Utils.toByteArray(fis);
-			validationModel.setSha256FileContent(getSHA256(data));
-		} catch (Exception e) {
-			LOG.error("Unable to read '{}' : {}", filePath, e.getMessage());
-		}
+		validationModel.setFilepath(getFilePath(countryCode));
+		validationModel.setSha256FileContent(sha256FileContent);
 		validationModel.setParseResult(tslParserResult);
 		validationModel.setCertificateSourceSynchronized(false);
 		tsls.put(countryCode, validationModel);
@@ -225,6 +268,25 @@ public class TSLRepository {
 		return DatatypeConverter.printBase64Binary(DSSUtils.digest(DigestAlgorithm.SHA256, data));
 	}
 
+	String getSHA256(File file) {
+		try (FileInputStream fis = new FileInputStream(file)) {
+			return getSHA256(Utils.toByteArray(fis));
+		} catch (Exception e) {
+			LOG.error("Unable to read '{}' : {}", file.getPath(), e.getMessage());
+			return null;
+		}
+	}
+
+	TSLSnapshot loadSnapshot() {
+		return TSLSnapshot.read(new File(cacheDirectoryPath, TSLSnapshot.FILENAME));
+	}
+
+	void storeSnapshot(TSLSnapshot snapshot) {
+		ensureCacheDirectoryExists();
+		snapshot.write(new File(cacheDirectoryPath, TSLSnapshot.FILENAME));
+		LOG.debug("TSL snapshot with {} entries is stored in cache", snapshot.size());
+	}
+
 	List<File> getStoredFiles() {
 		ensureCacheDirectoryExists();
 		File cacheDir = new File(cacheDirectoryPath);
@@ -233,37 +295,40 @@ public class TSLRepository {
 		return Arrays.asList(listFiles);
 	}
 
-	void synchronize() {
+	synchronized void synchronize() {
 		if (trustedListsCertificateSource != null) {
 			Map<String, TSLValidationModel> allMapTSLValidationModels = getAllMapTSLValidationModels();
 
-			// We (re)-synchronize all countries. There're cases with certificates in more
-			// than one TL (eg: First certification authority, a.s. in CZ/SK)
+			// Only the changed countries are converted again but the complete content is given to the certificate
+			// source. There're cases with certificates in more than one TL (eg: First certification authority, a.s. in
+			// CZ/SK)
 			if (isRefreshRequired()) {
 				LOG.info("Synchronizing the trustedListsCertificateSource...");
+				long start = System.currentTimeMillis();
 
-				Map<CertificateToken, List<ServiceInfo>> servicesByCertMap = getServicesByCert(allMapTSLValidationModels.values());
-
-				trustedListsCertificateSource.reinit();
-
-				for (Entry<CertificateToken, List<ServiceInfo>> servicesByCertEntry : servicesByCertMap.entrySet()) {
-					trustedListsCertificateSource.addCertificate(servicesByCertEntry.getKey(), servicesByCertEntry.getValue());
-				}
+				List<String> changedTLs = updateServicesByCountry(allMapTSLValidationModels);
+				Map<CertificateToken, List<ServiceInfo>> servicesByCertMap = getServicesByCert();
 
+				Map<String, TLInfo> tlInfos = new HashMap<String, TLInfo>();
 				for (Entry<String, TSLValidationModel> entry : allMapTSLValidationModels.entrySet()) {
 					String countryCode = entry.getKey();
 					TSLValidationModel model = entry.getValue();
 
 					model.setCertificateSourceSynchronized(true);
-					// Synchronize tlInfos
-					trustedListsCertificateSource.updateTlInfo(countryCode, getTlInfo(countryCode, model));
+					tlInfos.put(countryCode, getTlInfo(countryCode, model));
 				}
 
 				for (TSLValidationModel model : pivots.values()) {
 					model.setCertificateSourceSynchronized(true);
 				}
 
-				LOG.info("Synchronization of the trustedListsCertificateSource : done");
+				// the validations use the new content and trusted certificates from now on
+				trustedListsCertificateSource.synchronize(servicesByCertMap, tlInfos);
+
+				lastSynchronizationDuration = System.currentTimeMillis() - start;
+				lastSynchronizationChangedTLs = Collections.unmodifiableList(changedTLs);
+				LOG.info("Synchronization of the trustedListsCertificateSource : done in {} ms (changed TLs : {})", lastSynchronizationDuration,
+						changedTLs);
 			}
 
 			LOG.info("Nb of loaded trusted lists : {}/{}", getNbParsed(allMapTSLValidationModels.values()), allMapTSLValidationModels.size());
@@ -272,6 +337,37 @@ public class TSLRepository {
 		}
 	}
 
+	/**
+	 * Converts the trusted lists with a new content (SHA-256) and forgets the removed ones
+	 * 
+	 * @return the country codes of the new, changed and removed trusted lists
+	 */
+	private List<String> updateServicesByCountry(Map<String, TSLValidationModel> models) {
+		List<String> changedTLs = new ArrayList<String>();
+
+		Iterator<String> itr = servicesByCountry.keySet().iterator();
+		while (itr.hasNext()) {
+			String countryCode = itr.next();
+			if (!models.containsKey(countryCode)) {
+				itr.remove();
+				changedTLs.add(countryCode);
+			}
+		}
+
+		for (Entry<String, TSLValidationModel> entry : models.entrySet()) {
+			String countryCode = entry.getKey();
+			TSLValidationModel model = entry.getValue();
+			CountryServices countryServices = servicesByCountry.get(countryCode);
+			if (countryServices == null || !countryServices.isSameContent(model)) {
+				servicesByCountry.put(countryCode, new CountryServices(model, getServicesByCert(model)));
+				changedTLs.add(countryCode);
+			}
+		}
+
+		Collections.sort(changedTLs);
+		return changedTLs;
+	}
+
 	private int getNbParsed(Collection<TSLValidationModel> models) {
 		int counter = 0;
 		for (TSLValidationModel model : models) {
@@ -298,29 +394,42 @@ public class TSLRepository {
 		return false;
 	}
 
-	private Map<CertificateToken, List<ServiceInfo>> getServicesByCert(Collection<TSLValidationModel> models) {
+	private Map<CertificateToken, List<ServiceInfo>> getServicesByCert() {
 		Map<CertificateToken, List<ServiceInfo>> servicesByCert = new HashMap<CertificateToken, List<ServiceInfo>>();
-		for (TSLValidationModel model : models) {
-			TSLParserResult parseResult = model.getParseResult();
-			if (parseResult != null) {
-				List<TSLServiceProvider> serviceProviders = parseResult.getServiceProviders();
-				String countryCode = parseResult.getTerritory();
-				for (TSLServiceProvider serviceProvider : serviceProviders) {
-					for (TSLService service : serviceProvider.getServices()) {
-						ServiceInfo serviceInfo = getServiceInfo(serviceProvider, service, countryCode);
-						for (CertificateToken certificate : service.getCertificates()) {
-							List<ServiceInfo> currentCertServices = servicesByCert.get(certificate);
-							if (currentCertServices == null) {
-								currentCertServices = new ArrayList<ServiceInfo>();
-								servicesByCert.put(certificate, currentCertServices);
-							}
-							currentCertServices.add(serviceInfo);
+		for (CountryServices countryServices : servicesByCountry.values()) {
+			for (Entry<CertificateToken, List<ServiceInfo>> entry : countryServices.servicesByCert.entrySet()) {
+				List<ServiceInfo> currentCertServices = servicesByCert.get(entry.getKey());
+				if (currentCertServices == null) {
+					currentCertServices = new ArrayList<ServiceInfo>();
+					servicesByCert.put(entry.getKey(), currentCertServices);
+				}
+				currentCertServices.addAll(entry.getValue());
+			}
+		}
+		return servicesByCert;
+	}
+
+	private Map<CertificateToken, List<ServiceInfo>> getServicesByCert(TSLValidationModel model) {
+		Map<CertificateToken, List<ServiceInfo>> servicesByCert = new HashMap<CertificateToken, List<ServiceInfo>>();
+		TSLParserResult parseResult = model.getParseResult();
+		if (parseResult != null) {
+			List<TSLServiceProvider> serviceProviders = parseResult.getServiceProviders();
+			String countryCode = parseResult.getTerritory();
+			for (TSLServiceProvider serviceProvider : serviceProviders) {
+				for (TSLService service : serviceProvider.getServices()) {
+					ServiceInfo serviceInfo = getServiceInfo(serviceProvider, service, countryCode);
+					for (CertificateToken certificate : service.getCertificates()) {
+						List<ServiceInfo> currentCertServices = servicesByCert.get(certificate);
+						if (currentCertServices == null) {
+							currentCertServices = new ArrayList<ServiceInfo>();
+							servicesByCert.put(certificate, currentCertServices);
 						}
+						currentCertServices.add(serviceInfo);
 					}
 				}
-			} else {
-				LOG.warn("Url '{}' is not synchronized", model.getUrl());
 			}
+		} else {
+			LOG.warn("Url '{}' is not synchronized", model.getUrl());
 		}
 		return servicesByCert;
 	}
@@ -424,4 +533,26 @@ public class TSLRepository {
 		}
 	}
 
+	/**
+	 * The converted trust services of a trusted list, reused while its content does not change
+	 */
+	private static class CountryServices {
+
+		private final String sha256FileContent;
+		private final boolean parsed;
+		private final Map<CertificateToken, List<ServiceInfo>> servicesByCert;
+
+		private CountryServices(TSLValidationModel model, Map<CertificateToken, List<ServiceInfo>> servicesByCert) {
+			this.sha256FileContent = model.getSha256FileContent();
+			this.parsed = model.getParseResult() != null;
+			this.servicesByCert = servicesByCert;
+		}
+
+		private boolean isSameContent(TSLValidationModel model) {
+			return sha256FileContent != null && sha256FileContent.equals(model.getSha256FileContent())
+					&& parsed == (model.getParseResult() != null);
+		}
+
+	}
+
 }
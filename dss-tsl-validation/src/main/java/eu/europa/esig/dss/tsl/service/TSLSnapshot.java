@@ -0,0 +1,358 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.tsl.TSLParserResult;
+import eu.europa.esig.dss.tsl.TSLValidationModel;
+import eu.europa.esig.dss.tsl.TSLValidationResult;
+import eu.europa.esig.dss.utils.Utils;
+
+/**
+ * Binary snapshot of the parsed and validated trusted lists, stored in the cache directory.
+ * 
+ * Entries are keyed by the SHA-256 of the trusted list file : at startup, a cached file with a known digest reuses
+ * the stored results instead of being parsed and validated again. A validation result is only reused if it was
+ * obtained with the same signing certificates and if it is still up to date (see
+ * {@link Entry#getValidationResult(List, Date)}).
+ * 
+ * The file is located in a writable directory : only the classes of the trusted list model are accepted at the
+ * deserialization and the certificates are stored as DER encoded binaries.
+ */
+class TSLSnapshot {
+
+	private static final Logger LOG = LoggerFactory.getLogger(TSLSnapshot.class);
+
+	static final String FILENAME = "tsl-snapshot.bin";
+
+	/* "DSST" */
+	static final int MAGIC = 0x44535354;
+
+	/* To be increased when the serialized DTOs change in an incompatible way */
+	static final int FORMAT_VERSION = 2;
+
+	/* The packages of the trusted list model (enumerations, conditions, time dependent values,...) */
+	private static final List<String> ALLOWED_PACKAGES = Arrays.asList("eu.europa.esig.dss.tsl.", "eu.europa.esig.dss.spi.tsl.",
+			"eu.europa.esig.dss.spi.util.", "eu.europa.esig.dss.enumerations.", "eu.europa.esig.trustedlist.enums.");
+
+	private static final Set<String> ALLOWED_CLASSES = new HashSet<String>(Arrays.asList(String.class.getName(),
+			Boolean.class.getName(), Integer.class.getName(), Number.class.getName(), Enum.class.getName(),
+			Date.class.getName(), HashMap.class.getName(), ArrayList.class.getName(), LinkedList.class.getName(),
+			"java.util.Collections$UnmodifiableList", "java.util.Collections$UnmodifiableRandomAccessList",
+			"java.util.Collections$UnmodifiableCollection", "java.util.Collections$EmptyList", byte[].class.getName()));
+
+	private final Map<String, Entry> entries;
+
+	TSLSnapshot() {
+		this(new HashMap<String, Entry>());
+	}
+
+	private TSLSnapshot(Map<String, Entry> entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Returns the snapshot entry for a trusted list file
+	 * 
+	 * @param sha256
+	 *            the base64 encoded SHA-256 of the file content
+	 * @return the entry or null
+	 */
+	Entry get(String sha256) {
+		return entries.get(sha256);
+	}
+
+	void put(String sha256, String signersDigest, TSLParserResult parseResult, TSLValidationResult validationResult) {
+		entries.put(sha256, new Entry(signersDigest, parseResult, validationResult));
+	}
+
+	void put(String sha256, String signersDigest, TSLValidationModel model) {
+		Entry entry = new Entry(signersDigest, model.getParseResult(), model.getValidationResult());
+		entry.url = model.getUrl();
+		entry.eTag = model.getETag();
+		entry.lastModified = model.getLastModified();
+		entries.put(sha256, entry);
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Reads a snapshot. A missing, corrupted or outdated file results in an empty snapshot (full parsing).
+	 * 
+	 * @param file
+	 *            the snapshot file
+	 * @return the snapshot (never null)
+	 */
+	@SuppressWarnings("unchecked")
+	static TSLSnapshot read(File file) {
+		if (!file.isFile()) {
+			return new TSLSnapshot();
+		}
+		try (DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (dis.readInt() != MAGIC || dis.readInt() != FORMAT_VERSION) {
+				LOG.info("TSL snapshot '{}' has an unsupported format and is ignored", file);
+				return new TSLSnapshot();
+			}
+			try (ObjectInputStream ois = new SnapshotInputStream(dis)) {
+				return new TSLSnapshot((Map<String, Entry>) ois.readObject());
+			}
+		} catch (Exception e) {
+			LOG.warn("Unable to read the TSL snapshot '{}' : {}", file, e.getMessage());
+			return new TSLSnapshot();
+		}
+	}
+
+	/**
+	 * Writes the snapshot. The content is written in a temporary file which replaces the previous snapshot, a
+	 * concurrent reader never sees a partial file.
+	 * 
+	 * @param file
+	 *            the snapshot file
+	 */
+	void write(File file) {
+		File tmpFile = new File(file.getParentFile(), file.getName() + ".tmp");
+		try {
+			try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+				dos.writeInt(MAGIC);
+				dos.writeInt(FORMAT_VERSION);
+				try (ObjectOutputStream oos = new SnapshotOutputStream(dos)) {
+					oos.writeObject(entries);
+				}
+			}
+			Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			tmpFile.delete();
+			throw new DSSException("Unable to write the TSL snapshot : " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Computes an order-independent digest of the certificates used to validate a trusted list
+	 * 
+	 * @param signers
+	 *            the allowed signing certificates
+	 * @return the base64 encoded SHA-256
+	 */
+	static String getSignersDigest(List<CertificateToken> signers) {
+		List<String> ids = new ArrayList<String>();
+		if (Utils.isCollectionNotEmpty(signers)) {
+			for (CertificateToken certificateToken : signers) {
+				ids.add(certificateToken.getDSSIdAsString());
+			}
+		}
+		Collections.sort(ids);
+		StringBuilder sb = new StringBuilder();
+		for (String id : ids) {
+			sb.append(id).append(';');
+		}
+		byte[] digest = DSSUtils.digest(DigestAlgorithm.SHA256, sb.toString().getBytes(StandardCharsets.UTF_8));
+		return DatatypeConverter.printBase64Binary(digest);
+	}
+
+	/**
+	 * Writes the certificates as DER encoded binaries (no serialized key or provider classes)
+	 */
+	private static class SnapshotOutputStream extends ObjectOutputStream {
+
+		SnapshotOutputStream(OutputStream out) throws IOException {
+			super(out);
+			enableReplaceObject(true);
+		}
+
+		@Override
+		protected Object replaceObject(Object obj) throws IOException {
+			if (obj instanceof CertificateToken) {
+				return new EncodedCertificate(((CertificateToken) obj).getEncoded());
+			}
+			return obj;
+		}
+
+	}
+
+	/**
+	 * Only accepts the classes of the trusted list model and rebuilds the certificates from their DER encoding
+	 */
+	private static class SnapshotInputStream extends ObjectInputStream {
+
+		SnapshotInputStream(InputStream in) throws IOException {
+			super(in);
+			enableResolveObject(true);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			if (!isAllowed(desc.getName())) {
+				throw new InvalidClassException(desc.getName(), "Not allowed in a TSL snapshot");
+			}
+			return super.resolveClass(desc);
+		}
+
+		@Override
+		protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+			throw new InvalidClassException("Proxy classes are not allowed in a TSL snapshot");
+		}
+
+		@Override
+		protected Object resolveObject(Object obj) throws IOException {
+			if (obj instanceof EncodedCertificate) {
+				return DSSUtils.loadCertificate(((EncodedCertificate) obj).encoded);
+			}
+			return obj;
+		}
+
+		private static boolean isAllowed(String className) {
+			if (ALLOWED_CLASSES.contains(className)) {
+				return true;
+			}
+			for (String allowedPackage : ALLOWED_PACKAGES) {
+				if (className.startsWith(allowedPackage)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+	}
+
+	private static class EncodedCertificate implements Serializable {
+
+		private static final long serialVersionUID = 6173514592718341032L;
+
+		private final byte[] encoded;
+
+		EncodedCertificate(byte[] encoded) {
+			this.encoded = encoded;
+		}
+
+	}
+
+	static class Entry implements Serializable {
+
+		private static final long serialVersionUID = -6350734590519263829L;
+
+		private final String signersDigest;
+		private final TSLParserResult parseResult;
+		private final TSLValidationResult validationResult;
+
+		/* Download information, to keep on using conditional requests after a restart */
+		private String url;
+		private String eTag;
+		private String lastModified;
+
+		Entry(String signersDigest, TSLParserResult parseResult, TSLValidationResult validationResult) {
+			this.signersDigest = signersDigest;
+			this.parseResult = parseResult;
+			this.validationResult = validationResult;
+		}
+
+		TSLParserResult getParseResult() {
+			return parseResult;
+		}
+
+		String getUrl() {
+			return url;
+		}
+
+		String getETag() {
+			return eTag;
+		}
+
+		String getLastModified() {
+			return lastModified;
+		}
+
+		/**
+		 * Returns the stored validation result if it was obtained with the given signers and if it is still up to
+		 * date : the next update of the trusted list is not reached and the validity of the signers did not change
+		 * since the validation (eg : the signing certificate expired).
+		 * 
+		 * @param signers
+		 *            the allowed signing certificates
+		 * @param currentTime
+		 *            the current time
+		 * @return the validation result or null
+		 */
+		TSLValidationResult getValidationResult(List<CertificateToken> signers, Date currentTime) {
+			if (validationResult == null || !Utils.areStringsEqual(signersDigest, getSignersDigest(signers))) {
+				return null;
+			}
+			Date validationDate = validationResult.getValidationDate();
+			if (validationDate == null || currentTime.before(validationDate)) {
+				return null;
+			}
+			Date nextUpdate = parseResult.getNextUpdateDate();
+			if (nextUpdate != null && !currentTime.before(nextUpdate)) {
+				LOG.debug("The next update of the trusted list '{}' is reached, the validation result is not reused", parseResult.getTerritory());
+				return null;
+			}
+			if (Utils.isCollectionNotEmpty(signers)) {
+				for (CertificateToken signer : signers) {
+					if (signer.isValidOn(validationDate) != signer.isValidOn(currentTime)) {
+						LOG.debug("The validity of the signer '{}' changed, the validation result is not reused", signer.getDSSIdAsString());
+						return null;
+					}
+				}
+			}
+			return validationResult;
+		}
+
+	}
+
+}
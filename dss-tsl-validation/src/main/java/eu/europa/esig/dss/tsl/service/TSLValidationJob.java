@@ -25,11 +25,15 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -41,6 +45,7 @@ import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.client.http.ConditionalDataLoader;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.x509.KeyStoreCertificateSource;
 import eu.europa.esig.dss.tsl.OtherTrustedList;
@@ -59,6 +64,8 @@ public class TSLValidationJob {
 
 	private static final Logger LOG = LoggerFactory.getLogger(TSLValidationJob.class);
 
+	private static final int DEFAULT_MAX_PARALLEL_TRUSTED_LISTS = 8;
+
 	private ExecutorService executorService = Executors.newCachedThreadPool();
 
 	private DataLoader dataLoader;
@@ -80,6 +87,12 @@ public class TSLValidationJob {
 
 	private List<OtherTrustedList> otherTrustedLists;
 
+	private boolean useSnapshot = true;
+
+	private boolean conditionalRequests = false;
+
+	private int maxParallelTrustedLists = DEFAULT_MAX_PARALLEL_TRUSTED_LISTS;
+
 	public void setExecutorService(ExecutorService executorService) {
 		if (this.executorService != null && !this.executorService.isShutdown()) {
 			this.executorService.shutdownNow();
@@ -171,15 +184,65 @@ public class TSLValidationJob {
 		this.otherTrustedLists = otherTrustedLists;
 	}
 
+	/**
+	 * This parameter allows to store a binary snapshot of the parsing/validation results after each refresh. At
+	 * startup, the cached trusted lists which did not change since the snapshot are neither parsed nor validated again.
+	 * 
+	 * @param useSnapshot
+	 *            true to store and reuse the snapshot (default)
+	 */
+	public void setUseSnapshot(boolean useSnapshot) {
+		this.useSnapshot = useSnapshot;
+	}
+
+	/**
+	 * This parameter allows to download the LOTL and the trusted lists with HTTP conditional requests (ETag /
+	 * Last-Modified) : an unchanged trusted list is neither transferred nor hashed again. The dataLoader must be a
+	 * {@code ConditionalDataLoader} (eg : CommonsDataLoader).
+	 * 
+	 * @param conditionalRequests
+	 *            true to send conditional requests (default : false)
+	 */
+	public void setConditionalRequests(boolean conditionalRequests) {
+		this.conditionalRequests = conditionalRequests;
+	}
+
+	/**
+	 * This parameter allows to limit the number of trusted lists which are downloaded, parsed and validated at the
+	 * same time.
+	 * 
+	 * @param maxParallelTrustedLists
+	 *            the maximum number of trusted lists in progress (default : 8)
+	 */
+	public void setMaxParallelTrustedLists(int maxParallelTrustedLists) {
+		if (maxParallelTrustedLists < 1) {
+			throw new DSSException("The maximum number of parallel trusted lists must be positive");
+		}
+		this.maxParallelTrustedLists = maxParallelTrustedLists;
+	}
+
 	public void initRepository() {
 		LOG.info("Initialization of the TSL repository ...");
 		int loadedTSL = 0;
 		List<File> cachedFiles = repository.getStoredFiles();
 		if (Utils.isCollectionNotEmpty(cachedFiles)) {
+			TSLSnapshot snapshot = useSnapshot ? repository.loadSnapshot() : new TSLSnapshot();
 			List<Future<TSLParserResult>> futureParseResults = new ArrayList<Future<TSLParserResult>>();
 			for (File file : cachedFiles) {
 				try {
-					futureParseResults.add(executorService.submit(new TSLParser(new FileDocument(file))));
+					String sha256 = repository.getSHA256(file);
+					TSLSnapshot.Entry snapshotEntry = snapshot.get(sha256);
+					if (snapshotEntry != null) {
+						TSLParserResult snapshotParseResult = snapshotEntry.getParseResult();
+						repository.addParsedResultFromCacheToMap(snapshotParseResult, sha256);
+						TSLValidationModel model = repository.getByCountry(snapshotParseResult.getTerritory());
+						model.setUrl(snapshotEntry.getUrl());
+						model.setETag(snapshotEntry.getETag());
+						model.setLastModified(snapshotEntry.getLastModified());
+						loadedTSL++;
+					} else {
+						futureParseResults.add(executorService.submit(new TSLParser(new FileDocument(file))));
+					}
 				} catch (Exception e) {
 					LOG.error("Unable to parse file '" + file.getAbsolutePath() + "' : " + e.getMessage(), e);
 				}
@@ -199,7 +262,13 @@ public class TSLValidationJob {
 			if (checkLOTLSignature && (europeanModel != null)) {
 				try {
 					// pivot is not handled in the cache loading
-					TSLValidationResult europeanValidationResult = validateLOTL(europeanModel, ojContentKeyStore.getCertificates());
+					List<CertificateToken> lotlSigners = getAllowedSigners(lotlCode, null);
+					TSLValidationResult europeanValidationResult = getValidationResultFromSnapshot(snapshot, europeanModel, lotlSigners);
+					if (europeanValidationResult != null) {
+						europeanModel.setLotl(true);
+					} else {
+						europeanValidationResult = validateLOTL(europeanModel, lotlSigners);
+					}
 					europeanModel.setValidationResult(europeanValidationResult);
 				} catch (Exception e) {
 					LOG.error("Unable to validate the LOTL : " + e.getMessage(), e);
@@ -215,15 +284,14 @@ public class TSLValidationJob {
 
 					if (!lotlCode.equals(countryCode)) {
 						TSLValidationModel countryModel = entry.getValue();
-						OtherTrustedList otherTL = getNonEUTrustedList(countryCode);
-						List<CertificateToken> potentialSigners = null;
-						if (otherTL != null) {
-							potentialSigners = otherTL.getTrustStore().getCertificates();
+						List<CertificateToken> potentialSigners = getAllowedSigners(countryCode, lotlPointers);
+						TSLValidationResult countryValidationResult = getValidationResultFromSnapshot(snapshot, countryModel, potentialSigners);
+						if (countryValidationResult != null) {
+							countryModel.setValidationResult(countryValidationResult);
 						} else {
-							potentialSigners = getPotentialSigners(lotlPointers, countryCode);
+							TSLValidator tslValidator = new TSLValidator(new FileDocument(countryModel.getFilepath()), countryCode, potentialSigners);
+							futureValidationResults.add(executorService.submit(tslValidator));
 						}
-						TSLValidator tslValidator = new TSLValidator(new FileDocument(countryModel.getFilepath()), countryCode, potentialSigners);
-						futureValidationResults.add(executorService.submit(tslValidator));
 					}
 				}
 
@@ -235,6 +303,55 @@ public class TSLValidationJob {
 		LOG.info("{} loaded TSL from cached files in the repository", loadedTSL);
 	}
 
+	private TSLValidationResult getValidationResultFromSnapshot(TSLSnapshot snapshot, TSLValidationModel model,
+			List<CertificateToken> allowedSigners) {
+		TSLSnapshot.Entry snapshotEntry = snapshot.get(model.getSha256FileContent());
+		if (snapshotEntry != null) {
+			return snapshotEntry.getValidationResult(allowedSigners, new Date());
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the certificates allowed to sign the trusted list of the given country, as used at the cache loading
+	 */
+	private List<CertificateToken> getAllowedSigners(String countryCode, List<TSLPointer> lotlPointers) {
+		if (Utils.areStringsEqual(lotlCode, countryCode)) {
+			if (ojContentKeyStore == null) {
+				return Collections.emptyList();
+			}
+			return ojContentKeyStore.getCertificates();
+		}
+		OtherTrustedList otherTL = getNonEUTrustedList(countryCode);
+		if (otherTL != null) {
+			return otherTL.getTrustStore().getCertificates();
+		}
+		return getPotentialSigners(lotlPointers, countryCode);
+	}
+
+	private void storeSnapshot() {
+		List<TSLPointer> lotlPointers = null;
+		TSLValidationModel europeanModel = repository.getByCountry(lotlCode);
+		if (europeanModel != null && europeanModel.getParseResult() != null) {
+			lotlPointers = europeanModel.getParseResult().getPointers();
+		}
+
+		TSLSnapshot snapshot = new TSLSnapshot();
+		for (Entry<String, TSLValidationModel> entry : repository.getAllMapTSLValidationModels().entrySet()) {
+			TSLValidationModel model = entry.getValue();
+			if (model.getSha256FileContent() != null && model.getParseResult() != null) {
+				String signersDigest = TSLSnapshot.getSignersDigest(getAllowedSigners(entry.getKey(), lotlPointers));
+				snapshot.put(model.getSha256FileContent(), signersDigest, model);
+			}
+		}
+
+		try {
+			repository.storeSnapshot(snapshot);
+		} catch (Exception e) {
+			LOG.warn("Unable to store the TSL snapshot : {}", e.getMessage());
+		}
+	}
+
 	private OtherTrustedList getNonEUTrustedList(String countryCode) {
 		if (Utils.isCollectionNotEmpty(otherTrustedLists)) {
 			for (OtherTrustedList otherTrustedList : otherTrustedLists) {
@@ -255,6 +372,10 @@ public class TSLValidationJob {
 
 		repository.synchronize();
 
+		if (useSnapshot) {
+			storeSnapshot();
+		}
+
 		LOG.debug("TSL Validation Job is finishing ...");
 	}
 
@@ -265,7 +386,7 @@ public class TSLValidationJob {
 		}
 
 		TSLLoaderResult resultLoaderLOTL = null;
-		Future<TSLLoaderResult> result = executorService.submit(new TSLLoader(dataLoader, lotlCode, lotlUrl));
+		Future<TSLLoaderResult> result = executorService.submit(getTSLLoader(lotlCode, lotlUrl));
 		try {
 			resultLoaderLOTL = result.get();
 		} catch (Exception e) {
@@ -446,52 +567,99 @@ public class TSLValidationJob {
 		return pivotUris;
 	}
 
-	private void analyzeCountryPointers(List<TSLPointer> pointers, boolean newLotl) {
-		List<Future<TSLLoaderResult>> futureLoaderResults = new ArrayList<Future<TSLLoaderResult>>();
-		for (TSLPointer tslPointer : pointers) {
+	/**
+	 * Each trusted list is downloaded, parsed and validated independently. At most maxParallelTrustedLists trusted
+	 * lists are in progress at the same time.
+	 */
+	private void analyzeCountryPointers(final List<TSLPointer> pointers, final boolean newLotl) {
+		Iterator<TSLPointer> itr = pointers.iterator();
+		CompletionService<Void> completionService = new ExecutorCompletionService<Void>(executorService);
+		int running = 0;
+		while (running < maxParallelTrustedLists && submitNextCountry(completionService, itr, pointers, newLotl)) {
+			running++;
+		}
+		while (running > 0) {
+			try {
+				completionService.take().get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DSSException("Interrupted while analyzing the trusted lists", e);
+			} catch (ExecutionException e) {
+				LOG.error("Unable to load/parse TSL : " + e.getMessage(), e);
+			}
+			running--;
+			if (submitNextCountry(completionService, itr, pointers, newLotl)) {
+				running++;
+			}
+		}
+	}
+
+	private boolean submitNextCountry(CompletionService<Void> completionService, Iterator<TSLPointer> itr, final List<TSLPointer> pointers,
+			final boolean newLotl) {
+		while (itr.hasNext()) {
+			final TSLPointer tslPointer = itr.next();
 			if (Utils.isCollectionEmpty(filterTerritories) || filterTerritories.contains(tslPointer.getTerritory())) {
-				TSLLoader tslLoader = new TSLLoader(dataLoader, tslPointer.getTerritory(), tslPointer.getUrl());
-				futureLoaderResults.add(executorService.submit(tslLoader));
+				completionService.submit(() -> {
+					analyzeCountryPointer(tslPointer, pointers, newLotl);
+					return null;
+				});
+				return true;
 			}
 		}
+		return false;
+	}
 
-		List<Future<TSLParserResult>> futureParseResults = new ArrayList<Future<TSLParserResult>>();
-		List<Future<TSLValidationResult>> futureValidationResults = new ArrayList<Future<TSLValidationResult>>();
-		for (Future<TSLLoaderResult> futureLoaderResult : futureLoaderResults) {
-			try {
-				TSLLoaderResult loaderResult = futureLoaderResult.get();
-				if (loaderResult != null) {
-					TSLValidationModel countryModel = null;
-					if (!repository.isLastCountryVersion(loaderResult)) {
-						countryModel = repository.storeInCache(loaderResult);
-					} else {
-						countryModel = repository.getByCountry(loaderResult.getCountryCode());
-					}
+	private void analyzeCountryPointer(TSLPointer tslPointer, List<TSLPointer> pointers, boolean newLotl) throws Exception {
+		TSLLoaderResult loaderResult = getTSLLoader(tslPointer.getTerritory(), tslPointer.getUrl()).call();
+		String countryCode = loaderResult.getCountryCode();
 
-					if (countryModel.getFilepath() == null) {
-						LOG.warn("No file found for url '{}'", loaderResult.getUrl());
-						continue;
-					}
-					DSSDocument trustedList = new FileDocument(countryModel.getFilepath());
+		TSLValidationModel countryModel = null;
+		if (!repository.isLastCountryVersion(loaderResult)) {
+			countryModel = repository.storeInCache(loaderResult);
+		} else {
+			countryModel = repository.getByCountry(countryCode);
+		}
 
-					TSLParserResult countryParseResult = countryModel.getParseResult();
-					if (countryParseResult == null) {
-						futureParseResults.add(executorService.submit(new TSLParser(trustedList)));
-					}
+		if (countryModel.getFilepath() == null) {
+			LOG.warn("No file found for url '{}'", loaderResult.getUrl());
+			return;
+		}
+		DSSDocument trustedList = new FileDocument(countryModel.getFilepath());
 
-					if (checkTSLSignatures && (countryModel.getValidationResult() == null || newLotl)) {
-						TSLValidator tslValidator = new TSLValidator(trustedList, loaderResult.getCountryCode(),
-								getPotentialSigners(pointers, loaderResult.getCountryCode()));
-						futureValidationResults.add(executorService.submit(tslValidator));
-					}
-				}
+		if (countryModel.getParseResult() == null) {
+			try {
+				repository.updateParseResult(new TSLParser(trustedList).call());
 			} catch (Exception e) {
-				LOG.error("Unable to load/parse TSL : " + e.getMessage(), e);
+				LOG.error("Unable to get parsing result : " + e.getMessage(), e);
 			}
 		}
 
-		storeParseResults(futureParseResults);
-		storeValidationResults(futureValidationResults);
+		if (checkTSLSignatures && (countryModel.getValidationResult() == null || newLotl)) {
+			TSLValidator tslValidator = new TSLValidator(trustedList, countryCode, getPotentialSigners(pointers, countryCode));
+			try {
+				repository.updateValidationResult(tslValidator.call());
+			} catch (Exception e) {
+				LOG.error("Unable to get validation result : " + e.getMessage(), e);
+			}
+		}
+	}
+
+	private TSLLoader getTSLLoader(String countryCode, String url) {
+		if (conditionalRequests) {
+			if (dataLoader instanceof ConditionalDataLoader) {
+				String eTag = null;
+				String lastModified = null;
+				TSLValidationModel previousModel = repository.getByCountry(countryCode);
+				// the validators are only relevant for the same url and if the previous version is still in the cache
+				if (previousModel != null && previousModel.getFilepath() != null && Utils.areStringsEqual(url, previousModel.getUrl())) {
+					eTag = previousModel.getETag();
+					lastModified = previousModel.getLastModified();
+				}
+				return new TSLLoader((ConditionalDataLoader) dataLoader, countryCode, url, eTag, lastModified);
+			}
+			LOG.warn("The dataLoader does not support the conditional requests");
+		}
+		return new TSLLoader(dataLoader, countryCode, url);
 	}
 
 	private void analyzeOtherTrustedLists() {
@@ -508,17 +676,6 @@ public class TSLValidationJob {
 		}
 	}
 
-	private void storeParseResults(List<Future<TSLParserResult>> futureParseResults) {
-		for (Future<TSLParserResult> futureParseResult : futureParseResults) {
-			try {
-				TSLParserResult tslParserResult = futureParseResult.get();
-				repository.updateParseResult(tslParserResult);
-			} catch (Exception e) {
-				LOG.error("Unable to get parsing result : " + e.getMessage(), e);
-			}
-		}
-	}
-
 	private void storeValidationResults(List<Future<TSLValidationResult>> futureValidationResults) {
 		for (Future<TSLValidationResult> futureValidationResult : futureValidationResults) {
 			try {
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.tsl.service;
 
+import java.util.Date;
 import java.util.List;
 import java.util.concurrent.Callable;
 
@@ -70,6 +71,7 @@ public class TSLValidator implements Callable<TSLValidationResult> {
 
 	@Override
 	public TSLValidationResult call() throws Exception {
+		Date validationDate = new Date();
 		CertificateVerifier certificateVerifier = new CommonCertificateVerifier(true);
 		certificateVerifier.setTrustedCertSource(buildTrustedCertificateSource(potentialSigners));
 
@@ -92,6 +94,7 @@ public class TSLValidator implements Callable<TSLValidationResult> {
 		result.setCountryCode(countryCode);
 		result.setIndication(indication);
 		result.setSubIndication(simpleReport.getSubIndication(simpleReport.getFirstSignatureId()));
+		result.setValidationDate(validationDate);
 
 		if (!isValid) {
 			LOG.info("The TSL signature is not valid : \n{}", reports.getXmlSimpleReport());
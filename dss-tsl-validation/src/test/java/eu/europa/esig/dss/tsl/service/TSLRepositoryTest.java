@@ -21,17 +21,33 @@
 package eu.europa.esig.dss.tsl.service;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
+import eu.europa.esig.dss.spi.x509.CertificatePool;
+import eu.europa.esig.dss.tsl.TSLParserResult;
+import eu.europa.esig.dss.tsl.TSLService;
+import eu.europa.esig.dss.tsl.TSLServiceProvider;
+
 public class TSLRepositoryTest {
 
 	@Rule
@@ -58,6 +74,76 @@ public class TSLRepositoryTest {
 		repo.clearRepository();
 	}
 
+	@Test
+	public void incrementalSynchronization() throws Exception {
+		File cacheDir = folder.newFolder("cache");
+		File eeFile = new File(cacheDir, "EE.xml");
+		File ptFile = new File(cacheDir, "PT.xml");
+		Files.copy(new File("src/test/resources/tsls/EE.xml").toPath(), eeFile.toPath());
+		Files.copy(new File("src/test/resources/tsls/PT.xml").toPath(), ptFile.toPath());
+
+		TrustedListsCertificateSource certificateSource = new TrustedListsCertificateSource();
+		TSLRepository repo = new TSLRepository();
+		repo.setCacheDirectoryPath(cacheDir.getAbsolutePath() + File.separator);
+		repo.setTrustedListsCertificateSource(certificateSource);
+		assertEquals(-1, repo.getLastSynchronizationDuration());
+
+		TSLParserResult eeParseResult = new TSLParser(new FileDocument(eeFile)).call();
+		TSLParserResult ptParseResult = new TSLParser(new FileDocument(ptFile)).call();
+		repo.addParsedResultFromCacheToMap(eeParseResult);
+		repo.addParsedResultFromCacheToMap(ptParseResult);
+		repo.synchronize();
+
+		assertEquals(Arrays.asList("EE", "PT"), repo.getLastSynchronizationChangedTLs());
+		assertTrue(repo.getLastSynchronizationDuration() >= 0);
+		assertEquals(2, certificateSource.getSummary().size());
+		int nbCertificates = certificateSource.getNumberOfCertificates();
+		assertTrue(nbCertificates > 0);
+
+		CertificateToken eeCertificate = eeParseResult.getServiceProviders().get(0).getServices().get(0).getCertificates().get(0);
+		assertFalse(certificateSource.getTrustServices(eeCertificate).isEmpty());
+		assertTrue(certificateSource.getTrustAnchorPool().isTrusted(eeCertificate));
+
+		// same content : nothing to convert
+		repo.addParsedResultFromCacheToMap(new TSLParser(new FileDocument(eeFile)).call());
+		repo.synchronize();
+		assertEquals(Collections.emptyList(), repo.getLastSynchronizationChangedTLs());
+		assertEquals(nbCertificates, certificateSource.getNumberOfCertificates());
+		assertFalse(certificateSource.getTrustServices(eeCertificate).isEmpty());
+
+		// the content seen by a validation in progress is never modified
+		List<CertificateToken> previousCertificates = certificateSource.getCertificates();
+		CertificatePool previousPool = certificateSource.getTrustAnchorPool();
+		long previousVersion = certificateSource.getTrustAnchorPoolVersion();
+
+		// new PT content without any service : only PT is converted, its certificates are removed
+		TSLParserResult emptyPtParseResult = new TSLParserResult();
+		emptyPtParseResult.setTerritory("PT");
+		emptyPtParseResult.setServiceProviders(new ArrayList<TSLServiceProvider>());
+		repo.addParsedResultFromCacheToMap(emptyPtParseResult, "new-sha256");
+		repo.synchronize();
+		assertEquals(Collections.singletonList("PT"), repo.getLastSynchronizationChangedTLs());
+		assertEquals(2, certificateSource.getSummary().size());
+		assertNotNull(certificateSource.getTlInfo("PT"));
+		assertEquals(0, certificateSource.getTlInfo("PT").getNbCertificates());
+
+		int nbEECertificates = 0;
+		for (TSLServiceProvider serviceProvider : eeParseResult.getServiceProviders()) {
+			for (TSLService service : serviceProvider.getServices()) {
+				nbEECertificates += service.getCertificates().size();
+			}
+		}
+		assertTrue(certificateSource.getNumberOfCertificates() <= nbEECertificates);
+		assertTrue(certificateSource.getNumberOfCertificates() < nbCertificates);
+		assertTrue(certificateSource.getTrustAnchorPool().isTrusted(eeCertificate));
+		assertFalse(certificateSource.getTrustServices(eeCertificate).isEmpty());
+
+		assertEquals(nbCertificates, previousCertificates.size());
+		assertEquals(nbCertificates, previousPool.getNumberOfCertificates());
+		assertNotEquals(previousVersion, certificateSource.getTrustAnchorPoolVersion());
+		assertEquals(certificateSource.getNumberOfCertificates(), certificateSource.getTrustAnchorPool().getNumberOfCertificates());
+	}
+
 	private void createFile(File folder, String name) throws IOException {
 		File file = new File(folder, name);
 		try (FileOutputStream fos = new FileOutputStream(file)) {
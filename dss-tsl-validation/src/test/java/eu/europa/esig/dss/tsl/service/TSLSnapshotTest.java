@@ -0,0 +1,226 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import eu.europa.esig.dss.enumerations.Indication;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.tsl.TSLParserResult;
+import eu.europa.esig.dss.tsl.TSLService;
+import eu.europa.esig.dss.tsl.TSLServiceProvider;
+import eu.europa.esig.dss.tsl.TSLValidationResult;
+
+public class TSLSnapshotTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void writeAndRead() throws Exception {
+		TSLParserResult parseResult = new TSLParser(new FileDocument("src/test/resources/tsls/EE.xml")).call();
+		TSLValidationResult validationResult = new TSLValidationResult();
+		validationResult.setCountryCode("EE");
+		validationResult.setIndication(Indication.TOTAL_PASSED);
+		validationResult.setValidationDate(parseResult.getIssueDate());
+
+		TSLService firstService = parseResult.getServiceProviders().get(0).getServices().get(0);
+		List<CertificateToken> signers = firstService.getCertificates();
+
+		TSLSnapshot snapshot = new TSLSnapshot();
+		snapshot.put("sha256", TSLSnapshot.getSignersDigest(signers), parseResult, validationResult);
+		File file = new File(folder.getRoot(), TSLSnapshot.FILENAME);
+		snapshot.write(file);
+
+		TSLSnapshot read = TSLSnapshot.read(file);
+		assertEquals(1, read.size());
+		assertNull(read.get("other"));
+
+		TSLSnapshot.Entry entry = read.get("sha256");
+		assertNotNull(entry);
+		TSLParserResult readParseResult = entry.getParseResult();
+		assertEquals(parseResult.getTerritory(), readParseResult.getTerritory());
+		assertEquals(parseResult.getSequenceNumber(), readParseResult.getSequenceNumber());
+		assertEquals(parseResult.getNextUpdateDate(), readParseResult.getNextUpdateDate());
+		assertEquals(parseResult.getPointers().size(), readParseResult.getPointers().size());
+		assertEquals(parseResult.getServiceProviders().size(), readParseResult.getServiceProviders().size());
+
+		TSLServiceProvider readServiceProvider = readParseResult.getServiceProviders().get(0);
+		TSLService readService = readServiceProvider.getServices().get(0);
+		assertEquals(firstService.getCertificates(), readService.getCertificates());
+		assertEquals(firstService.getStatusAndInformationExtensions().getLatest().getStatus(), readService.getStatusAndInformationExtensions().getLatest().getStatus());
+		assertEquals(firstService.getStatusAndInformationExtensions().getLatest().getStartDate(), readService.getStatusAndInformationExtensions().getLatest().getStartDate());
+
+		Date currentTime = new Date(parseResult.getIssueDate().getTime() + 3600000);
+		TSLValidationResult readValidationResult = entry.getValidationResult(signers, currentTime);
+		assertNotNull(readValidationResult);
+		assertEquals(Indication.TOTAL_PASSED, readValidationResult.getIndication());
+		assertNull(entry.getValidationResult(Collections.<CertificateToken> emptyList(), currentTime));
+	}
+
+	@Test
+	public void outdatedValidationResult() throws Exception {
+		TSLParserResult parseResult = new TSLParser(new FileDocument("src/test/resources/tsls/EE.xml")).call();
+		List<CertificateToken> signers = new ArrayList<CertificateToken>();
+		for (TSLServiceProvider serviceProvider : parseResult.getServiceProviders()) {
+			for (TSLService service : serviceProvider.getServices()) {
+				for (CertificateToken certificate : service.getCertificates()) {
+					if (signers.isEmpty() && certificate.isValidOn(parseResult.getIssueDate())) {
+						signers.add(certificate);
+					}
+				}
+			}
+		}
+		CertificateToken signer = signers.get(0);
+
+		TSLValidationResult validationResult = new TSLValidationResult();
+		validationResult.setIndication(Indication.TOTAL_PASSED);
+		validationResult.setValidationDate(parseResult.getIssueDate());
+		TSLSnapshot.Entry entry = new TSLSnapshot.Entry(TSLSnapshot.getSignersDigest(signers), parseResult, validationResult);
+
+		assertNotNull(entry.getValidationResult(signers, parseResult.getIssueDate()));
+		// the next update is reached
+		assertNull(entry.getValidationResult(signers, parseResult.getNextUpdateDate()));
+		// the clock went back
+		assertNull(entry.getValidationResult(signers, new Date(parseResult.getIssueDate().getTime() - 1000)));
+
+		// the signer was not yet valid at the validation time
+		validationResult.setValidationDate(new Date(signer.getNotBefore().getTime() - 1000));
+		assertNull(entry.getValidationResult(signers, parseResult.getIssueDate()));
+
+		// unknown validation time
+		validationResult.setValidationDate(null);
+		assertNull(entry.getValidationResult(signers, parseResult.getIssueDate()));
+	}
+
+	@Test
+	public void allTrustedListsAreAccepted() throws Exception {
+		TSLSnapshot snapshot = new TSLSnapshot();
+		File[] files = new File("src/test/resources/tsls").listFiles();
+		for (File tslFile : files) {
+			TSLParserResult parseResult = new TSLParser(new FileDocument(tslFile)).call();
+			snapshot.put(tslFile.getName(), null, parseResult, null);
+		}
+		File file = new File(folder.getRoot(), TSLSnapshot.FILENAME);
+		snapshot.write(file);
+
+		TSLSnapshot read = TSLSnapshot.read(file);
+		assertEquals(files.length, read.size());
+		for (File tslFile : files) {
+			assertNotNull(read.get(tslFile.getName()).getParseResult());
+		}
+	}
+
+	@Test
+	public void unexpectedClassIsRejected() throws IOException {
+		Map<String, Object> entries = new HashMap<String, Object>();
+		entries.put("sha256", new File("unexpected"));
+
+		File file = folder.newFile(TSLSnapshot.FILENAME);
+		try (DataOutputStream dos = new DataOutputStream(new FileOutputStream(file))) {
+			dos.writeInt(TSLSnapshot.MAGIC);
+			dos.writeInt(TSLSnapshot.FORMAT_VERSION);
+			try (ObjectOutputStream oos = new ObjectOutputStream(dos)) {
+				oos.writeObject(entries);
+			}
+		}
+		assertEquals(0, TSLSnapshot.read(file).size());
+	}
+
+	@Test
+	public void readInvalidFile() throws IOException {
+		assertEquals(0, TSLSnapshot.read(new File(folder.getRoot(), "missing.bin")).size());
+
+		File file = folder.newFile(TSLSnapshot.FILENAME);
+		try (FileOutputStream fos = new FileOutputStream(file)) {
+			fos.write(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 });
+		}
+		assertEquals(0, TSLSnapshot.read(file).size());
+	}
+
+	@Test
+	public void initRepositoryFromSnapshot() throws Exception {
+		File cacheDir = folder.newFolder("cache");
+		File eeFile = new File(cacheDir, "EE.xml");
+		Files.copy(new File("src/test/resources/tsls/EE.xml").toPath(), eeFile.toPath());
+		Files.copy(new File("src/test/resources/tsls/PT.xml").toPath(), new File(cacheDir, "PT.xml").toPath());
+
+		TSLRepository repository = new TSLRepository();
+		repository.setCacheDirectoryPath(cacheDir.getAbsolutePath() + File.separator);
+
+		// marker to detect that the snapshot is used instead of the parsing
+		TSLParserResult eeParseResult = new TSLParser(new FileDocument(eeFile)).call();
+		eeParseResult.setSequenceNumber(-1);
+		TSLSnapshot snapshot = new TSLSnapshot();
+		snapshot.put(repository.getSHA256(eeFile), null, eeParseResult, null);
+		repository.storeSnapshot(snapshot);
+
+		TSLValidationJob job = new TSLValidationJob();
+		job.setRepository(repository);
+		job.initRepository();
+
+		assertEquals(-1, repository.getByCountry("EE").getParseResult().getSequenceNumber());
+		assertNotEquals(-1, repository.getByCountry("PT").getParseResult().getSequenceNumber());
+
+		// the file changed : full parsing
+		Files.write(eeFile.toPath(), " ".getBytes(), StandardOpenOption.APPEND);
+		repository = new TSLRepository();
+		repository.setCacheDirectoryPath(cacheDir.getAbsolutePath() + File.separator);
+		job.setRepository(repository);
+		job.initRepository();
+
+		assertNotEquals(-1, repository.getByCountry("EE").getParseResult().getSequenceNumber());
+
+		// snapshot disabled : full parsing
+		Files.copy(new File("src/test/resources/tsls/EE.xml").toPath(), eeFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		repository = new TSLRepository();
+		repository.setCacheDirectoryPath(cacheDir.getAbsolutePath() + File.separator);
+		job.setRepository(repository);
+		job.setUseSnapshot(false);
+		job.initRepository();
+
+		assertNotEquals(-1, repository.getByCountry("EE").getParseResult().getSequenceNumber());
+	}
+
+}
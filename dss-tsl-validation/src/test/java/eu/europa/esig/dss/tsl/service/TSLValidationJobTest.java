@@ -20,9 +20,11 @@
  */
 package eu.europa.esig.dss.tsl.service;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
@@ -32,16 +34,21 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.service.http.commons.CommonsDataLoader;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.ConditionalDataLoader;
 import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
 import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
 import eu.europa.esig.dss.spi.x509.KeyStoreCertificateSource;
@@ -49,6 +56,7 @@ import eu.europa.esig.dss.tsl.OtherTrustedList;
 import eu.europa.esig.dss.tsl.TSLParserResult;
 import eu.europa.esig.dss.tsl.TSLValidationModel;
 import eu.europa.esig.dss.tsl.TSLValidationResult;
+import eu.europa.esig.dss.utils.Utils;
 
 public class TSLValidationJobTest {
 
@@ -58,6 +66,9 @@ public class TSLValidationJobTest {
 	private static final String LOTL_URL = "https://ec.europa.eu/tools/lotl/eu-lotl.xml";
 	private KeyStoreCertificateSource dssKeyStore;
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	@Before
 	public void init() throws IOException {
 		dssKeyStore = new KeyStoreCertificateSource(new File("src/test/resources/keystore.p12"), "PKCS12", "dss-password");
@@ -191,6 +202,94 @@ public class TSLValidationJobTest {
 		assertTrue(validationResult.isValid());
 	}
 
+	@Test
+	public void testConditionalRequests() throws IOException {
+
+		TSLRepository repository = new TSLRepository();
+		repository.setCacheDirectoryPath(folder.newFolder("cache").getAbsolutePath() + File.separator);
+		repository.setTrustedListsCertificateSource(new TrustedListsCertificateSource());
+
+		Map<String, byte[]> dataMap = new HashMap<String, byte[]>();
+		dataMap.put("url-pe", DSSUtils.toByteArray(new FileDocument("src/test/resources/tsl-pe.xml")));
+		dataMap.put("url-uk", DSSUtils.toByteArray(new FileDocument("src/test/resources/brexit.xml")));
+		ConditionalMemoryDataLoader dataLoader = new ConditionalMemoryDataLoader(dataMap);
+
+		TSLValidationJob job = new TSLValidationJob();
+		job.setCheckTSLSignatures(true);
+		job.setDataLoader(dataLoader);
+		job.setRepository(repository);
+		job.setConditionalRequests(true);
+		job.setMaxParallelTrustedLists(1);
+
+		List<OtherTrustedList> otherTrustedLists = new ArrayList<OtherTrustedList>();
+		otherTrustedLists.add(getOtherTrustedList("PE", "url-pe"));
+		otherTrustedLists.add(getOtherTrustedList("UK", "url-uk"));
+		job.setOtherTrustedLists(otherTrustedLists);
+
+		job.refresh();
+
+		assertEquals(2, dataLoader.transfers.get());
+		assertEquals(0, dataLoader.notModified.get());
+		TSLValidationModel peru = repository.getByCountry("PE");
+		assertEquals("etag-url-pe", peru.getETag());
+		TSLParserResult parseResult = peru.getParseResult();
+		assertNotNull(parseResult);
+		assertTrue(peru.getValidationResult().isValid());
+		assertNotNull(repository.getByCountry("UK").getParseResult());
+
+		job.refresh();
+
+		// nothing has been transferred again
+		assertEquals(2, dataLoader.transfers.get());
+		assertEquals(2, dataLoader.notModified.get());
+		peru = repository.getByCountry("PE");
+		assertSame(parseResult, peru.getParseResult());
+		assertTrue(peru.getValidationResult().isValid());
+		assertTrue(peru.isCertificateSourceSynchronized());
+
+		// without conditional requests, the trusted lists are transferred again
+		job.setConditionalRequests(false);
+		job.refresh();
+		assertEquals(2, dataLoader.notModified.get());
+		assertSame(parseResult, repository.getByCountry("PE").getParseResult());
+	}
+
+	@Test(expected = DSSException.class)
+	public void testWrongMaxParallelTrustedLists() {
+		new TSLValidationJob().setMaxParallelTrustedLists(0);
+	}
+
+	private OtherTrustedList getOtherTrustedList(String countryCode, String url) {
+		OtherTrustedList otl = new OtherTrustedList();
+		otl.setCountryCode(countryCode);
+		otl.setUrl(url);
+		otl.setTrustStore(new PEKS());
+		return otl;
+	}
+
+	private static class ConditionalMemoryDataLoader extends MemoryDataLoader implements ConditionalDataLoader {
+
+		private static final long serialVersionUID = -5539227384357127562L;
+
+		private final AtomicInteger transfers = new AtomicInteger();
+		private final AtomicInteger notModified = new AtomicInteger();
+
+		public ConditionalMemoryDataLoader(Map<String, byte[]> dataMap) {
+			super(dataMap);
+		}
+
+		@Override
+		public ConditionalResponse conditionalGet(String url, String eTag, String lastModified) {
+			if (Utils.areStringsEqual("etag-" + url, eTag)) {
+				notModified.incrementAndGet();
+				return new ConditionalResponse(null, true, eTag, null);
+			}
+			transfers.incrementAndGet();
+			return new ConditionalResponse(get(url), false, "etag-" + url, null);
+		}
+
+	}
+
 	private class PEKS extends KeyStoreCertificateSource {
 
 		private static final long serialVersionUID = 7724428818822120973L;
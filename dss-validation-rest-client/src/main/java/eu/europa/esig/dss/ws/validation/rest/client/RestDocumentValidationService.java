@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.ws.validation.rest.client;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.List;
 
@@ -27,6 +28,7 @@ import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
@@ -57,6 +59,25 @@ public interface RestDocumentValidationService extends Serializable {
 	@Path("validateSignature")
 	WSReportsDTO validateSignature(DataToValidateDTO dataToValidate);
 
+	/**
+	 * This method returns the result of the validation of the signed file sent as
+	 * a raw binary body. Unlike {@link #validateSignature(DataToValidateDTO)}, the
+	 * document is not base64 encoded in a JSON message : the server spools the
+	 * stream to a temporary file, so huge documents can be validated without being
+	 * loaded in memory.
+	 * 
+	 * @param signedDocument
+	 *                       the content of the signed file
+	 * @param name
+	 *                       the optional name of the signed file
+	 * @return a {@code ReportsDTO} with  4 reports : the diagnostic data, the
+	 *         detailed report, the simple report and the ETSI validation report
+	 */
+	@POST
+	@Path("validateSignatureStream")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	WSReportsDTO validateSignatureStream(InputStream signedDocument, @QueryParam("name") String name);
+
 	/**
 	 * This method returns the original document(s) for the given signed file and
 	 * optionally the signatureId.
@@ -20,8 +20,11 @@
  */
 package eu.europa.esig.dss.ws.validation.rest;
 
+import java.io.InputStream;
 import java.util.List;
 
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.ws.converter.RemoteDocumentConverter;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.validation.common.RemoteDocumentValidationService;
 import eu.europa.esig.dss.ws.validation.dto.DataToValidateDTO;
@@ -42,6 +45,16 @@ public class RestDocumentValidationServiceImpl implements RestDocumentValidation
 		return validationService.validateDocument(dataToValidate.getSignedDocument(), dataToValidate.getOriginalDocuments(), dataToValidate.getPolicy());
 	}
 
+	@Override
+	public WSReportsDTO validateSignatureStream(InputStream signedDocument, String name) {
+		FileDocument fileDocument = RemoteDocumentConverter.toFileDocument(signedDocument, name);
+		try {
+			return validationService.validateDocument(fileDocument, null, null);
+		} finally {
+			RemoteDocumentConverter.deleteTemporaryFile(fileDocument);
+		}
+	}
+
 	@Override
 	public List<RemoteDocument> getOriginalDocuments(DataToValidateDTO dataToValidate) {
 		return validationService.getOriginalDocuments(dataToValidate.getSignedDocument(), dataToValidate.getOriginalDocuments(),
@@ -0,0 +1,100 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.validation.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
+import eu.europa.esig.dss.ws.validation.common.RemoteDocumentValidationService;
+import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
+
+public class RestDocumentValidationServiceImplTest {
+
+	private RestDocumentValidationServiceImpl restService;
+
+	@Before
+	public void init() {
+		RemoteDocumentValidationService validationService = new RemoteDocumentValidationService();
+		validationService.setVerifier(new CommonCertificateVerifier());
+		restService = new RestDocumentValidationServiceImpl();
+		restService.setValidationService(validationService);
+	}
+
+	@Test
+	public void testValidateSignatureStream() throws Exception {
+		Set<String> temporaryFiles = getTemporaryFiles();
+		WSReportsDTO result;
+		try (InputStream is = new FileInputStream("../dss-validation-server-common/src/test/resources/xadesLTA.xml")) {
+			result = restService.validateSignatureStream(is, "xadesLTA.xml");
+		}
+
+		assertNotNull(result.getDiagnosticData());
+		assertNotNull(result.getSimpleReport());
+		assertEquals(1, result.getSimpleReport().getSignature().size());
+		assertEquals(SignatureLevel.XAdES_BASELINE_LTA, result.getSimpleReport().getSignature().get(0).getSignatureFormat());
+
+		// the spooled document is deleted
+		assertEquals(temporaryFiles, getTemporaryFiles());
+	}
+
+	@Test(expected = DSSRemoteServiceException.class)
+	public void testValidateNullStream() {
+		restService.validateSignatureStream(null, "null.xml");
+	}
+
+	@Test
+	public void testValidateInvalidStream() throws Exception {
+		Set<String> temporaryFiles = getTemporaryFiles();
+		try {
+			restService.validateSignatureStream(new ByteArrayInputStream("Hello world".getBytes("UTF-8")), "hello.txt");
+			fail("Not a signed document");
+		} catch (DSSException e) {
+			// the spooled document is deleted even if the validation fails
+			assertEquals(temporaryFiles, getTemporaryFiles());
+		}
+	}
+
+	private Set<String> getTemporaryFiles() {
+		Set<String> result = new HashSet<String>();
+		String[] names = new File(System.getProperty("java.io.tmpdir")).list((dir, name) -> name.startsWith("dss-remote-"));
+		if (names != null) {
+			result.addAll(Arrays.asList(names));
+		}
+		return result;
+	}
+
+}
@@ -29,6 +29,8 @@ import org.slf4j.LoggerFactory;
 
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.spi.x509.CertificateSource;
+import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.AdvancedSignature;
 import eu.europa.esig.dss.validation.CertificateVerifier;
@@ -45,13 +47,57 @@ public class RemoteDocumentValidationService {
 
 	private CertificateVerifier verifier;
 
+	/**
+	 * The optional cache of the validation results
+	 */
+	private ValidationResultCache resultCache;
+
 	public void setVerifier(CertificateVerifier verifier) {
 		this.verifier = verifier;
 	}
 
+	/**
+	 * Sets the cache of the validation results. If null (by default), each
+	 * document is validated again on each call.
+	 * 
+	 * @param resultCache
+	 *                    the {@code ValidationResultCache} to use
+	 */
+	public void setResultCache(ValidationResultCache resultCache) {
+		this.resultCache = resultCache;
+	}
+
 	public WSReportsDTO validateDocument(RemoteDocument signedFile, List<RemoteDocument> originalFiles, RemoteDocument policy) {
+		return validateDocument(RemoteDocumentConverter.toDSSDocument(signedFile), originalFiles, policy);
+	}
+
+	/**
+	 * Validates an already converted signed document. This method is used by the streaming transports, which provide
+	 * a file backed document instead of a {@code RemoteDocument} holding the whole content in memory.
+	 * 
+	 * @param signedDocument
+	 *                       the signed document to validate
+	 * @param originalFiles
+	 *                       the optional original document(s)
+	 * @param policy
+	 *                       the optional validation policy
+	 * @return the reports
+	 */
+	public WSReportsDTO validateDocument(DSSDocument signedDocument, List<RemoteDocument> originalFiles, RemoteDocument policy) {
 		LOG.info("ValidateDocument in process...");
-		DocumentValidator validator = initValidator(signedFile, originalFiles);
+		String cacheKey = null;
+		if (resultCache != null) {
+			long trustStoreVersion = getTrustStoreVersion();
+			resultCache.checkTrustStoreVersion(trustStoreVersion);
+			cacheKey = resultCache.getKey(signedDocument, originalFiles, policy, trustStoreVersion);
+			WSReportsDTO cachedReports = resultCache.get(cacheKey);
+			if (cachedReports != null) {
+				LOG.info("ValidateDocument is finished (cached result)");
+				return cachedReports;
+			}
+		}
+
+		DocumentValidator validator = initValidator(signedDocument, originalFiles);
 
 		Reports reports = null;
 		if (policy == null) {
@@ -66,13 +112,16 @@ public class RemoteDocumentValidationService {
 
 		WSReportsDTO reportsDTO = new WSReportsDTO(reports.getDiagnosticDataJaxb(), reports.getSimpleReportJaxb(), 
 				reports.getDetailedReportJaxb(), reports.getEtsiValidationReportJaxb());
+		if (cacheKey != null) {
+			resultCache.put(cacheKey, reportsDTO);
+		}
 		LOG.info("ValidateDocument is finished");
 		return reportsDTO;
 	}
 
 	public List<RemoteDocument> getOriginalDocuments(RemoteDocument signedFile, List<RemoteDocument> originalFiles, String signatureId) {
 		LOG.info("GetOriginalDocuments in process...");
-		DocumentValidator validator = initValidator(signedFile, originalFiles);
+		DocumentValidator validator = initValidator(RemoteDocumentConverter.toDSSDocument(signedFile), originalFiles);
 
 		if (signatureId == null) {
 			List<AdvancedSignature> signatures = validator.getSignatures();
@@ -88,8 +137,15 @@ public class RemoteDocumentValidationService {
 		return remoteDocuments;
 	}
 
-	private DocumentValidator initValidator(RemoteDocument signedFile, List<RemoteDocument> originalFiles) {
-		DSSDocument signedDocument = RemoteDocumentConverter.toDSSDocument(signedFile);
+	private long getTrustStoreVersion() {
+		CertificateSource trustedCertSource = verifier.getTrustedCertSource();
+		if (trustedCertSource instanceof CommonTrustedCertificateSource) {
+			return ((CommonTrustedCertificateSource) trustedCertSource).getTrustAnchorPoolVersion();
+		}
+		return 0;
+	}
+
+	private DocumentValidator initValidator(DSSDocument signedDocument, List<RemoteDocument> originalFiles) {
 		SignedDocumentValidator signedDocValidator = SignedDocumentValidator.fromDocument(signedDocument);
 		signedDocValidator.setCertificateVerifier(verifier);
 		if (Utils.isCollectionNotEmpty(originalFiles)) {
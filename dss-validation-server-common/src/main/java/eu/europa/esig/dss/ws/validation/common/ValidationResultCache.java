@@ -0,0 +1,475 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.validation.common;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.europa.esig.dss.detailedreport.DetailedReportFacade;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlDetailedReport;
+import eu.europa.esig.dss.diagnostic.DiagnosticDataFacade;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.simplereport.SimpleReportFacade;
+import eu.europa.esig.dss.simplereport.jaxb.XmlSimpleReport;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
+import eu.europa.esig.validationreport.ValidationReportFacade;
+import eu.europa.esig.validationreport.jaxb.ValidationReportType;
+
+/**
+ * This class caches the validation results (the diagnostic data and the reports) of the
+ * {@code RemoteDocumentValidationService}, so a document which is validated again with the same context is not
+ * processed twice.
+ * 
+ * A result is identified by the digest and the name of the signed document and of the original documents, the digest
+ * of the validation policy, the validation time bucket (see {@link #setTimeBucketDuration(long)}) and the version of
+ * the trust store. All the results are removed when the trust store changes (see
+ * {@link #checkTrustStoreVersion(long)}).
+ * 
+ * The results are kept in memory in a bounded LRU map. Optionally, the evicted results are written in a directory
+ * (see {@link #setSpillDirectory(File, int)}) and reloaded on demand. The spilled files are only used by the
+ * instance which wrote them : the results left in the directory (e.g. by a previous run) are deleted when the spill
+ * tier is configured, so the directory must not be shared by several instances.
+ * 
+ * The returned {@code WSReportsDTO} instances are shared and must not be modified.
+ */
+public class ValidationResultCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ValidationResultCache.class);
+
+	/**
+	 * Default maximum number of results in memory
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 100;
+
+	/**
+	 * Default duration of a validation time bucket (one hour)
+	 */
+	public static final long DEFAULT_TIME_BUCKET_DURATION = 60 * 60 * 1000L;
+
+	private static final String DIAGNOSTIC_DATA_FILENAME = "diagnostic-data.xml";
+
+	private static final String SIMPLE_REPORT_FILENAME = "simple-report.xml";
+
+	private static final String DETAILED_REPORT_FILENAME = "detailed-report.xml";
+
+	private static final String VALIDATION_REPORT_FILENAME = "validation-report.xml";
+
+	/**
+	 * The name of a result directory (a key)
+	 */
+	private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+	/**
+	 * Cached results by key (access ordered)
+	 */
+	private final LinkedHashMap<String, WSReportsDTO> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Spilled results by key (access ordered), guarded by the cache lock
+	 */
+	private final LinkedHashMap<String, File> spilled = new LinkedHashMap<>(16, 0.75f, true);
+
+	private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+	private long timeBucketDuration = DEFAULT_TIME_BUCKET_DURATION;
+
+	private File spillDirectory;
+
+	private int maximumSpilledSize;
+
+	/**
+	 * The version of the trust store used by the cached results (null before the first check)
+	 */
+	private Long trustStoreVersion;
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	/**
+	 * Sets the maximum number of results kept in memory (100 by default)
+	 * 
+	 * @param maximumSize
+	 *                    the maximum number of entries in memory
+	 */
+	public void setMaximumSize(int maximumSize) {
+		List<Map.Entry<String, WSReportsDTO>> evicted;
+		synchronized (cache) {
+			this.maximumSize = maximumSize;
+			evicted = evict();
+		}
+		spill(evicted);
+	}
+
+	/**
+	 * Sets the duration of the validation time buckets in milliseconds (one hour by default). A result is reused
+	 * only in the bucket of its validation time, so this duration bounds the age of the returned results (e.g. of
+	 * their revocation data).
+	 * 
+	 * @param timeBucketDuration
+	 *                           the duration in milliseconds
+	 */
+	public void setTimeBucketDuration(long timeBucketDuration) {
+		if (timeBucketDuration <= 0) {
+			throw new IllegalArgumentException("The time bucket duration must be positive");
+		}
+		this.timeBucketDuration = timeBucketDuration;
+	}
+
+	/**
+	 * Enables the spill tier : the results evicted from memory are written in the given directory (one sub-directory
+	 * per result) instead of being dropped. Disabled by default.
+	 * 
+	 * The results already present in the directory (orphaned by a previous run) and the results spilled in the
+	 * previously configured directory are deleted.
+	 * 
+	 * @param spillDirectory
+	 *                           the directory where the results are written
+	 * @param maximumSpilledSize
+	 *                           the maximum number of results on disk
+	 */
+	public void setSpillDirectory(File spillDirectory, int maximumSpilledSize) {
+		if (!spillDirectory.exists() && !spillDirectory.mkdirs()) {
+			throw new IllegalArgumentException(String.format("Unable to create the directory '%s'", spillDirectory.getAbsolutePath()));
+		}
+		List<File> removed;
+		synchronized (cache) {
+			// the spill tier is disabled during the cleanup : the results being written are dropped
+			this.spillDirectory = null;
+			removed = new ArrayList<>(spilled.values());
+			spilled.clear();
+		}
+		File[] orphans = spillDirectory.listFiles(file -> file.isDirectory() && KEY_PATTERN.matcher(file.getName()).matches());
+		if (orphans != null) {
+			if (orphans.length > 0) {
+				LOG.info("{} orphaned validation results are deleted from '{}'", orphans.length, spillDirectory.getAbsolutePath());
+			}
+			removed.addAll(Arrays.asList(orphans));
+		}
+		for (File file : removed) {
+			delete(file);
+		}
+		synchronized (cache) {
+			this.spillDirectory = spillDirectory;
+			this.maximumSpilledSize = maximumSpilledSize;
+		}
+	}
+
+	/**
+	 * Returns the key of the result of the validation of the given documents at the current time
+	 * 
+	 * @param signedDocument
+	 *                          the signed document
+	 * @param originalFiles
+	 *                          the original documents (can be null)
+	 * @param policy
+	 *                          the validation policy (null for the default one)
+	 * @param trustStoreVersion
+	 *                          the version of the trust store
+	 * @return the key (an hexadecimal SHA-256 digest)
+	 */
+	public String getKey(DSSDocument signedDocument, List<RemoteDocument> originalFiles, RemoteDocument policy, long trustStoreVersion) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(signedDocument.getDigest(DigestAlgorithm.SHA256)).append('|').append(signedDocument.getName());
+		if (Utils.isCollectionNotEmpty(originalFiles)) {
+			for (RemoteDocument originalFile : originalFiles) {
+				sb.append('|').append(getDigest(originalFile)).append('|').append(originalFile.getName());
+			}
+		}
+		sb.append('|').append(policy == null ? "default" : getDigest(policy));
+		sb.append('|').append(System.currentTimeMillis() / timeBucketDuration);
+		sb.append('|').append(trustStoreVersion);
+		return Utils.toHex(DSSUtils.digest(DigestAlgorithm.SHA256, sb.toString().getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private String getDigest(RemoteDocument remoteDocument) {
+		if (remoteDocument.getBytes() == null) {
+			return "";
+		}
+		if (remoteDocument.getDigestAlgorithm() != null) {
+			return remoteDocument.getDigestAlgorithm().getName() + ":" + Utils.toBase64(remoteDocument.getBytes());
+		}
+		return Utils.toBase64(DSSUtils.digest(DigestAlgorithm.SHA256, remoteDocument.getBytes()));
+	}
+
+	/**
+	 * Removes all the results if the trust store version differs from the one of the previous call
+	 * 
+	 * @param version
+	 *                the current version of the trust store
+	 */
+	public void checkTrustStoreVersion(long version) {
+		synchronized (cache) {
+			if (trustStoreVersion != null && trustStoreVersion != version) {
+				LOG.info("The trust store has changed, the validation results are invalidated");
+				clear();
+			}
+			trustStoreVersion = version;
+		}
+	}
+
+	/**
+	 * Returns the cached result for the given key
+	 * 
+	 * @param key
+	 *            the key (see {@link #getKey(DSSDocument, List, RemoteDocument, long)})
+	 * @return the cached result or null
+	 */
+	public WSReportsDTO get(String key) {
+		WSReportsDTO reports;
+		File spilledResult = null;
+		synchronized (cache) {
+			reports = cache.get(key);
+			if (reports == null) {
+				spilledResult = spilled.remove(key);
+			}
+		}
+		if (spilledResult != null) {
+			reports = load(spilledResult);
+			delete(spilledResult);
+			if (reports != null) {
+				put(key, reports);
+			}
+		}
+		if (reports != null) {
+			hitCount.incrementAndGet();
+		} else {
+			missCount.incrementAndGet();
+		}
+		return reports;
+	}
+
+	/**
+	 * Caches the result for the given key
+	 * 
+	 * @param key
+	 *                the key (see {@link #getKey(DSSDocument, List, RemoteDocument, long)})
+	 * @param reports
+	 *                the result of the validation
+	 */
+	public void put(String key, WSReportsDTO reports) {
+		List<Map.Entry<String, WSReportsDTO>> evicted;
+		synchronized (cache) {
+			cache.put(key, reports);
+			evicted = evict();
+		}
+		spill(evicted);
+	}
+
+	/* Must be called in a synchronized block on the cache */
+	private List<Map.Entry<String, WSReportsDTO>> evict() {
+		List<Map.Entry<String, WSReportsDTO>> evicted = new ArrayList<>();
+		Iterator<Map.Entry<String, WSReportsDTO>> iterator = cache.entrySet().iterator();
+		while (iterator.hasNext() && cache.size() > maximumSize) {
+			Map.Entry<String, WSReportsDTO> eldest = iterator.next();
+			iterator.remove();
+			evicted.add(eldest);
+			evictionCount.incrementAndGet();
+			LOG.debug("Validation result with key '{}' is evicted from memory", eldest.getKey());
+		}
+		return evicted;
+	}
+
+	/* The files are written out of the lock, then registered */
+	private void spill(List<Map.Entry<String, WSReportsDTO>> evicted) {
+		File directory;
+		Long version;
+		synchronized (cache) {
+			directory = spillDirectory;
+			version = trustStoreVersion;
+		}
+		if (directory == null || evicted.isEmpty()) {
+			return;
+		}
+		for (Map.Entry<String, WSReportsDTO> entry : evicted) {
+			File resultDirectory = new File(directory, entry.getKey());
+			if (!write(resultDirectory, entry.getValue())) {
+				delete(resultDirectory);
+				continue;
+			}
+			List<File> removed = new ArrayList<>();
+			synchronized (cache) {
+				if (spillDirectory == null || !equals(version, trustStoreVersion) || cache.containsKey(entry.getKey())) {
+					// the cache has been reconfigured, cleared or the result has been reloaded meanwhile
+					removed.add(resultDirectory);
+				} else {
+					spilled.put(entry.getKey(), resultDirectory);
+					Iterator<File> iterator = spilled.values().iterator();
+					while (iterator.hasNext() && spilled.size() > maximumSpilledSize) {
+						removed.add(iterator.next());
+						iterator.remove();
+					}
+				}
+			}
+			for (File file : removed) {
+				delete(file);
+			}
+		}
+	}
+
+	private boolean equals(Long version1, Long version2) {
+		return version1 == null ? version2 == null : version1.equals(version2);
+	}
+
+	private boolean write(File resultDirectory, WSReportsDTO reports) {
+		if (!resultDirectory.exists() && !resultDirectory.mkdirs()) {
+			LOG.warn("Unable to create the directory '{}'", resultDirectory.getAbsolutePath());
+			return false;
+		}
+		try {
+			try (OutputStream os = new FileOutputStream(new File(resultDirectory, DIAGNOSTIC_DATA_FILENAME))) {
+				DiagnosticDataFacade.newFacade().marshall(reports.getDiagnosticData(), os, false);
+			}
+			try (OutputStream os = new FileOutputStream(new File(resultDirectory, SIMPLE_REPORT_FILENAME))) {
+				SimpleReportFacade.newFacade().marshall(reports.getSimpleReport(), os, false);
+			}
+			try (OutputStream os = new FileOutputStream(new File(resultDirectory, DETAILED_REPORT_FILENAME))) {
+				DetailedReportFacade.newFacade().marshall(reports.getDetailedReport(), os, false);
+			}
+			ValidationReportType validationReport = reports.getValidationReport();
+			if (validationReport != null) {
+				try (OutputStream os = new FileOutputStream(new File(resultDirectory, VALIDATION_REPORT_FILENAME))) {
+					ValidationReportFacade.newFacade().marshall(validationReport, os, false);
+				}
+			}
+			return true;
+		} catch (Exception e) {
+			LOG.warn("Unable to spill the validation result in '{}' : {}", resultDirectory.getAbsolutePath(), e.getMessage());
+			return false;
+		}
+	}
+
+	private WSReportsDTO load(File resultDirectory) {
+		try {
+			XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(new File(resultDirectory, DIAGNOSTIC_DATA_FILENAME), false);
+			XmlSimpleReport simpleReport = SimpleReportFacade.newFacade().unmarshall(new File(resultDirectory, SIMPLE_REPORT_FILENAME), false);
+			XmlDetailedReport detailedReport = DetailedReportFacade.newFacade().unmarshall(new File(resultDirectory, DETAILED_REPORT_FILENAME), false);
+			File validationReportFile = new File(resultDirectory, VALIDATION_REPORT_FILENAME);
+			if (validationReportFile.exists()) {
+				ValidationReportType validationReport = ValidationReportFacade.newFacade().unmarshall(validationReportFile, false);
+				return new WSReportsDTO(diagnosticData, simpleReport, detailedReport, validationReport);
+			}
+			return new WSReportsDTO(diagnosticData, simpleReport, detailedReport);
+		} catch (Exception e) {
+			LOG.warn("Unable to load the validation result from '{}' : {}", resultDirectory.getAbsolutePath(), e.getMessage());
+			return null;
+		}
+	}
+
+	private void delete(File resultDirectory) {
+		File[] files = resultDirectory.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				if (!file.delete()) {
+					LOG.debug("Unable to delete the file '{}'", file.getAbsolutePath());
+				}
+			}
+		}
+		if (resultDirectory.exists() && !resultDirectory.delete()) {
+			LOG.debug("Unable to delete the directory '{}'", resultDirectory.getAbsolutePath());
+		}
+	}
+
+	/**
+	 * Removes all the cached results (in memory and on disk)
+	 */
+	public void clear() {
+		List<File> removed;
+		synchronized (cache) {
+			cache.clear();
+			removed = new ArrayList<>(spilled.values());
+			spilled.clear();
+		}
+		for (File file : removed) {
+			delete(file);
+		}
+	}
+
+	/**
+	 * Returns the number of results in memory
+	 * 
+	 * @return the number of entries in memory
+	 */
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Returns the number of results on disk
+	 * 
+	 * @return the number of spilled entries
+	 */
+	public int getSpilledSize() {
+		synchronized (cache) {
+			return spilled.size();
+		}
+	}
+
+	/**
+	 * Returns the number of lookups which returned a result (from memory or from disk)
+	 * 
+	 * @return the hit count
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Returns the number of lookups without result
+	 * 
+	 * @return the miss count
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Returns the number of results evicted from memory (spilled or dropped)
+	 * 
+	 * @return the eviction count
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+}
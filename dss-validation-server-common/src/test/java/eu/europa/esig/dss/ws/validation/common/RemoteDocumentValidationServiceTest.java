@@ -5,6 +5,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.FileInputStream;
 import java.util.Arrays;
 import java.util.List;
 
@@ -44,6 +45,20 @@ public class RemoteDocumentValidationServiceTest {
 		validateReports(result);
 	}
 
+	@Test
+	public void testStreamedDocument() throws Exception {
+		FileDocument signedFile = null;
+		try (FileInputStream fis = new FileInputStream("src/test/resources/xades-detached.xml")) {
+			signedFile = RemoteDocumentConverter.toFileDocument(fis, "xades-detached.xml");
+			RemoteDocument originalFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/sample.png"));
+
+			WSReportsDTO result = validationService.validateDocument(signedFile, Arrays.asList(originalFile), null);
+			validateReports(result);
+		} finally {
+			RemoteDocumentConverter.deleteTemporaryFile(signedFile);
+		}
+	}
+
 	@Test
 	public void testWithNoPolicyAndOriginalFile() throws Exception {
 		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
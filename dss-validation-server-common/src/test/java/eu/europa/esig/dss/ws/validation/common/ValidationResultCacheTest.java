@@ -0,0 +1,180 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.validation.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import eu.europa.esig.dss.ws.converter.RemoteDocumentConverter;
+import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
+
+public class ValidationResultCacheTest {
+
+	private RemoteDocumentValidationService validationService;
+
+	private CommonTrustedCertificateSource trustedCertSource;
+
+	private ValidationResultCache resultCache;
+
+	@Before
+	public void init() {
+		trustedCertSource = new CommonTrustedCertificateSource();
+		CommonCertificateVerifier verifier = new CommonCertificateVerifier();
+		verifier.setTrustedCertSource(trustedCertSource);
+
+		resultCache = new ValidationResultCache();
+		validationService = new RemoteDocumentValidationService();
+		validationService.setVerifier(verifier);
+		validationService.setResultCache(resultCache);
+	}
+
+	@Test
+	public void testSameDocumentAndContext() {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
+		RemoteDocument originalFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/sample.png"));
+
+		WSReportsDTO first = validationService.validateDocument(signedFile, Arrays.asList(originalFile), null);
+		WSReportsDTO second = validationService.validateDocument(signedFile, Arrays.asList(originalFile), null);
+		assertSame(first, second);
+		assertEquals(1, resultCache.getHitCount());
+		assertEquals(1, resultCache.getMissCount());
+
+		// another context : no original document, a custom policy
+		WSReportsDTO withoutOriginal = validationService.validateDocument(signedFile, null, null);
+		assertNotSame(first, withoutOriginal);
+		RemoteDocument policy = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/constraint.xml"));
+		WSReportsDTO withPolicy = validationService.validateDocument(signedFile, Arrays.asList(originalFile), policy);
+		assertNotSame(first, withPolicy);
+		assertEquals(3, resultCache.size());
+	}
+
+	@Test
+	public void testTimeBucket() {
+		FileDocument signedDocument = new FileDocument("src/test/resources/xadesLTA.xml");
+		String key = resultCache.getKey(signedDocument, null, null, 1);
+		assertEquals(key, resultCache.getKey(signedDocument, null, null, 1));
+		assertNotEquals(key, resultCache.getKey(signedDocument, null, null, 2));
+
+		resultCache.setTimeBucketDuration(1);
+		String firstBucketKey = resultCache.getKey(signedDocument, null, null, 1);
+		long start = System.currentTimeMillis();
+		while (System.currentTimeMillis() == start) {
+			Thread.yield();
+		}
+		assertNotEquals(firstBucketKey, resultCache.getKey(signedDocument, null, null, 1));
+	}
+
+	@Test
+	public void testTrustStoreChange() {
+		FileDocument signedDocument = new FileDocument("src/test/resources/xadesLTA.xml");
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(signedDocument);
+
+		WSReportsDTO first = validationService.validateDocument(signedFile, null, null);
+		assertSame(first, validationService.validateDocument(signedFile, null, null));
+
+		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(signedDocument);
+		validator.setCertificateVerifier(new CommonCertificateVerifier());
+		CertificateToken certificate = validator.getSignatures().get(0).getCertificates().get(0);
+		trustedCertSource.addCertificate(certificate);
+
+		WSReportsDTO afterChange = validationService.validateDocument(signedFile, null, null);
+		assertNotSame(first, afterChange);
+		assertEquals(1, resultCache.size());
+	}
+
+	@Test
+	public void testSpill() throws Exception {
+		File spillDirectory = Files.createTempDirectory("dss-validation-cache").toFile();
+		try {
+			resultCache.setMaximumSize(1);
+			resultCache.setSpillDirectory(spillDirectory, 10);
+
+			RemoteDocument lta = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
+			RemoteDocument detached = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
+
+			WSReportsDTO first = validationService.validateDocument(lta, null, null);
+			validationService.validateDocument(detached, null, null);
+			assertEquals(1, resultCache.size());
+			assertEquals(1, resultCache.getSpilledSize());
+			assertEquals(1, resultCache.getEvictionCount());
+
+			WSReportsDTO reloaded = validationService.validateDocument(lta, null, null);
+			assertEquals(1, resultCache.getHitCount());
+			assertNotNull(reloaded.getValidationReport());
+			assertEquals(first.getDiagnosticData().getSignatures().get(0).getId(), reloaded.getDiagnosticData().getSignatures().get(0).getId());
+			assertEquals(first.getSimpleReport().getSignature().get(0).getIndication(),
+					reloaded.getSimpleReport().getSignature().get(0).getIndication());
+			// the detached signature result is spilled in turn
+			assertEquals(1, resultCache.getSpilledSize());
+
+			resultCache.clear();
+			assertEquals(0, resultCache.getSpilledSize());
+			assertEquals(0, spillDirectory.listFiles().length);
+		} finally {
+			resultCache.clear();
+			spillDirectory.delete();
+		}
+	}
+
+	@Test
+	public void testOrphanedSpilledResults() throws Exception {
+		File spillDirectory = Files.createTempDirectory("dss-validation-cache").toFile();
+		File otherFile = new File(spillDirectory, "other.txt");
+		try {
+			// a result spilled by a previous run
+			ValidationResultCache previousCache = new ValidationResultCache();
+			previousCache.setMaximumSize(0);
+			previousCache.setSpillDirectory(spillDirectory, 10);
+			WSReportsDTO reports = validationService.validateDocument(
+					RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml")), null, null);
+			previousCache.put(resultCache.getKey(new FileDocument("src/test/resources/xadesLTA.xml"), null, null, 1), reports);
+			assertEquals(1, previousCache.getSpilledSize());
+			assertTrue(otherFile.createNewFile());
+			assertEquals(2, spillDirectory.listFiles().length);
+
+			resultCache.setSpillDirectory(spillDirectory, 10);
+			// only the orphaned result is deleted
+			assertEquals(1, spillDirectory.listFiles().length);
+			assertTrue(otherFile.exists());
+		} finally {
+			otherFile.delete();
+			spillDirectory.delete();
+		}
+	}
+
+}
@@ -23,9 +23,11 @@ package eu.europa.esig.dss.ws.validation.soap.client;
 import java.io.Serializable;
 import java.util.List;
 
+import javax.activation.DataHandler;
 import javax.jws.WebParam;
 import javax.jws.WebResult;
 import javax.jws.WebService;
+import javax.xml.bind.annotation.XmlMimeType;
 
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.validation.dto.DataToValidateDTO;
@@ -54,6 +56,24 @@ public interface SoapDocumentValidationService extends Serializable {
 	@WebResult(name = "WSReportsDTO")
 	WSReportsDTO validateSignature(@WebParam(name = "dataToValidateDTO") DataToValidateDTO dataToValidate);
 
+	/**
+	 * This method returns the result of the validation of the signed file sent as
+	 * an MTOM attachment. Unlike {@link #validateSignature(DataToValidateDTO)}, the
+	 * document is not base64 encoded in the XML message : the server spools the
+	 * attachment to a temporary file, so huge documents can be validated without
+	 * being loaded in memory.
+	 * 
+	 * @param signedDocument
+	 *                       the content of the signed file
+	 * @param name
+	 *                       the optional name of the signed file
+	 * @return a {@code WSReportsDTO} with the 4 reports : the diagnostic data, the
+	 *         detailed report, the simple report and the ETSI validation report
+	 */
+	@WebResult(name = "WSReportsDTO")
+	WSReportsDTO validateSignatureStream(@WebParam(name = "signedDocument") @XmlMimeType("application/octet-stream") DataHandler signedDocument,
+			@WebParam(name = "name") String name);
+
 	/**
 	 * This method returns the original document(s) for the given signed file and
 	 * optionally the signatureId.
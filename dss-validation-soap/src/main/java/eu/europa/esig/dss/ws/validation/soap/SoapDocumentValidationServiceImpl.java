@@ -20,14 +20,23 @@
  */
 package eu.europa.esig.dss.ws.validation.soap;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
+import javax.activation.DataHandler;
+import javax.xml.ws.soap.MTOM;
+
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.ws.converter.RemoteDocumentConverter;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
 import eu.europa.esig.dss.ws.validation.common.RemoteDocumentValidationService;
 import eu.europa.esig.dss.ws.validation.dto.DataToValidateDTO;
 import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
 import eu.europa.esig.dss.ws.validation.soap.client.SoapDocumentValidationService;
 
+@MTOM
 @SuppressWarnings("serial")
 public class SoapDocumentValidationServiceImpl implements SoapDocumentValidationService {
 
@@ -44,6 +53,19 @@ public class SoapDocumentValidationServiceImpl implements SoapDocumentValidation
 		return reportsDTO;
 	}
 
+	@Override
+	public WSReportsDTO validateSignatureStream(DataHandler signedDocument, String name) {
+		FileDocument fileDocument = null;
+		try (InputStream is = signedDocument.getInputStream()) {
+			fileDocument = RemoteDocumentConverter.toFileDocument(is, name);
+			return validationService.validateDocument(fileDocument, null, null);
+		} catch (IOException e) {
+			throw new DSSRemoteServiceException(e);
+		} finally {
+			RemoteDocumentConverter.deleteTemporaryFile(fileDocument);
+		}
+	}
+
 	@Override
 	public List<RemoteDocument> getOriginalDocuments(DataToValidateDTO dataToValidate) {
 		return validationService.getOriginalDocuments(dataToValidate.getSignedDocument(), dataToValidate.getOriginalDocuments(),
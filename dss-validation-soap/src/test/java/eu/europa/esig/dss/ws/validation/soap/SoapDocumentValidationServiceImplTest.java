@@ -0,0 +1,100 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.validation.soap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.activation.DataHandler;
+import javax.activation.FileDataSource;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.ws.validation.common.RemoteDocumentValidationService;
+import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
+
+public class SoapDocumentValidationServiceImplTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private SoapDocumentValidationServiceImpl soapService;
+
+	@Before
+	public void init() {
+		RemoteDocumentValidationService validationService = new RemoteDocumentValidationService();
+		validationService.setVerifier(new CommonCertificateVerifier());
+		soapService = new SoapDocumentValidationServiceImpl();
+		soapService.setValidationService(validationService);
+	}
+
+	@Test
+	public void testValidateSignatureStream() throws Exception {
+		Set<String> temporaryFiles = getTemporaryFiles();
+		DataHandler signedDocument = new DataHandler(new FileDataSource("../dss-validation-server-common/src/test/resources/xadesLTA.xml"));
+		WSReportsDTO result = soapService.validateSignatureStream(signedDocument, "xadesLTA.xml");
+
+		assertNotNull(result.getDiagnosticData());
+		assertNotNull(result.getSimpleReport());
+		assertEquals(1, result.getSimpleReport().getSignature().size());
+		assertEquals(SignatureLevel.XAdES_BASELINE_LTA, result.getSimpleReport().getSignature().get(0).getSignatureFormat());
+
+		// the spooled document is deleted
+		assertEquals(temporaryFiles, getTemporaryFiles());
+	}
+
+	@Test
+	public void testValidateInvalidStream() throws Exception {
+		File notSigned = folder.newFile("hello.txt");
+		Files.write(notSigned.toPath(), "Hello world".getBytes("UTF-8"));
+		Set<String> temporaryFiles = getTemporaryFiles();
+		try {
+			soapService.validateSignatureStream(new DataHandler(new FileDataSource(notSigned)), "hello.txt");
+			fail("Not a signed document");
+		} catch (DSSException e) {
+			// the spooled document is deleted even if the validation fails
+			assertEquals(temporaryFiles, getTemporaryFiles());
+		}
+	}
+
+	private Set<String> getTemporaryFiles() {
+		Set<String> result = new HashSet<String>();
+		String[] names = new File(System.getProperty("java.io.tmpdir")).list((dir, name) -> name.startsWith("dss-remote-"));
+		if (names != null) {
+			result.addAll(Arrays.asList(names));
+		}
+		return result;
+	}
+
+}
@@ -272,6 +272,15 @@ public class XAdESSignature extends DefaultAdvancedSignature {
 		return signatureElement;
 	}
 
+	/**
+	 * The signatures of a same XML document share its DOM, which is modified
+	 * during the checks (ID attributes registration) and is not thread-safe.
+	 */
+	@Override
+	public Object getSharedStructure() {
+		return signatureElement.getOwnerDocument();
+	}
+
 	@Override
 	public SignatureForm getSignatureForm() {
 		return SignatureForm.XAdES;
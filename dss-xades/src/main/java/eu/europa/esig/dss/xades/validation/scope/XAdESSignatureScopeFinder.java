@@ -146,19 +146,19 @@ public class XAdESSignatureScopeFinder extends AbstractSignatureScopeFinder<XAdE
 
 				} else if (Utils.isCollectionNotEmpty(transformations)) {
 					detachedSignatureScopes.add(new XmlFullSignatureScope(fileName, transformations,
-							getDigest(DSSUtils.toByteArray(detachedDocument))));
+							getDigest(detachedDocument)));
 
 				} else if (isASiCSArchive(xadesSignature, detachedDocument)) {
-					detachedSignatureScopes.add(new ContainerSignatureScope(DSSUtils.decodeUrl(uri), getDigest(DSSUtils.toByteArray(detachedDocument))));
+					detachedSignatureScopes.add(new ContainerSignatureScope(DSSUtils.decodeUrl(uri), getDigest(detachedDocument)));
 					for (DSSDocument archivedDocument : xadesSignature.getContainerContents()) {
 						detachedSignatureScopes.add(
 								new ContainerContentSignatureScope(DSSUtils.decodeUrl(archivedDocument.getName()),
-										getDigest(DSSUtils.toByteArray(archivedDocument))));
+										getDigest(archivedDocument)));
 					}
 					
 				} else {
 					detachedSignatureScopes
-							.add(new FullSignatureScope(fileName, getDigest(DSSUtils.toByteArray(detachedDocument))));
+							.add(new FullSignatureScope(fileName, getDigest(detachedDocument)));
 
 				}
 			}
@@ -0,0 +1,107 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.xades.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticData;
+import eu.europa.esig.dss.diagnostic.SignatureWrapper;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.validation.AdvancedSignature;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import eu.europa.esig.dss.validation.reports.Reports;
+
+public class XAdESParallelSignatureValidationTest {
+
+	@Test
+	public void doubleSignatureTest() {
+		validateInParallel(new FileDocument("src/test/resources/validation/doubleSignedTest.xml"), 2);
+	}
+
+	@Test
+	public void counterSignatureTest() {
+		validateInParallel(new FileDocument("src/test/resources/validation/TEST_S1a_C1a_InTL_VALID.xml"), 2);
+	}
+
+	private void validateInParallel(DSSDocument document, int expectedNumberOfSignatures) {
+		// the signatures share the same DOM : they must be checked in the same task
+		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(document);
+		validator.setCertificateVerifier(new CommonCertificateVerifier());
+		List<AdvancedSignature> signatures = new ArrayList<AdvancedSignature>();
+		for (AdvancedSignature signature : validator.getSignatures()) {
+			signatures.add(signature);
+			signatures.addAll(signature.getCounterSignatures());
+		}
+		assertEquals(expectedNumberOfSignatures, signatures.size());
+		for (AdvancedSignature signature : signatures) {
+			assertNotNull(signature.getSharedStructure());
+			assertSame(signatures.get(0).getSharedStructure(), signature.getSharedStructure());
+		}
+
+		DiagnosticData sequential = validate(document, null);
+
+		ThreadPoolExecutor executorService = new ThreadPoolExecutor(4, 4, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>());
+		DiagnosticData parallel = null;
+		try {
+			for (int i = 0; i < 10; i++) {
+				parallel = validate(document, executorService);
+			}
+		} finally {
+			executorService.shutdown();
+		}
+
+		List<String> signatureIdList = sequential.getSignatureIdList();
+		assertEquals(expectedNumberOfSignatures, signatureIdList.size());
+		assertEquals(signatureIdList, parallel.getSignatureIdList());
+
+		for (String signatureId : signatureIdList) {
+			SignatureWrapper expected = sequential.getSignatureById(signatureId);
+			SignatureWrapper actual = parallel.getSignatureById(signatureId);
+			assertNotNull(actual);
+			assertEquals(expected.isSignatureIntact(), actual.isSignatureIntact());
+			assertEquals(expected.isSignatureValid(), actual.isSignatureValid());
+			assertEquals(expected.isBLevelTechnicallyValid(), actual.isBLevelTechnicallyValid());
+			assertEquals(expected.isSigningCertificateIdentified(), actual.isSigningCertificateIdentified());
+		}
+	}
+
+	private DiagnosticData validate(DSSDocument document, ThreadPoolExecutor executorService) {
+		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(document);
+		validator.setCertificateVerifier(new CommonCertificateVerifier());
+		validator.setExecutorService(executorService);
+		Reports reports = validator.validateDocument();
+		assertNotNull(reports);
+		return reports.getDiagnosticData();
+	}
+
+}